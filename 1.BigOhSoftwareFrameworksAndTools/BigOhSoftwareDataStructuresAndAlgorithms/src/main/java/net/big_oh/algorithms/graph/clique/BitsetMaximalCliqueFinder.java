@@ -0,0 +1,469 @@
+package net.big_oh.algorithms.graph.clique;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.big_oh.common.utils.Duration;
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.Vertex;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A {@link MaximalCliqueFinder} for dense graphs that runs the Bron-Kerbosch
+ * algorithm with Tomita pivoting over bitsets.<br/>
+ * <br/>
+ * Vertices are remapped to dense int indexes (in ascending order of degree)
+ * and each vertex's neighborhood is stored as a <code>long[]</code> bitset, so
+ * that every P &#x2229; N(v) and X &#x2229; N(v) is a word-wise AND. The P, X
+ * and branch sets of each recursion depth live in scratch rows that are reused
+ * by every sub-problem at that depth; a row is allocated the first time its
+ * depth is reached and the recursion allocates nothing afterwards except the
+ * <code>Set&lt;V&gt;</code> handed out for each maximal clique.<br/>
+ * <br/>
+ * The adjacency matrix takes n<sup>2</sup>/8 bytes for a graph with n
+ * vertices, so this finder suits graphs of a few thousand vertices with
+ * moderate to high density. For large sparse graphs, prefer
+ * {@link PivotingBronKerboschMaximalCliqueFinder}. One step is signaled to
+ * listeners per vertex of the graph.<br/>
+ * <br/>
+ * Cliques may also be streamed to a {@link MaximalCliqueVisitor}, in which
+ * case they are reported through a single reused {@link CliqueView} and
+ * nothing is retained.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public class BitsetMaximalCliqueFinder<V extends Vertex> implements StreamingMaximalCliqueFinder<V>
+{
+
+	private static final Log logger = LogFactory.getLog(BitsetMaximalCliqueFinder.class);
+
+	private final Collection<MaximalCliqueFinderEventListener<V>> eventListeners;
+
+	public BitsetMaximalCliqueFinder()
+	{
+		// Use CopyOnWriteArrayList to support dynamic listeners w/o incurring
+		// synchronization overhead
+		eventListeners = new CopyOnWriteArrayList<MaximalCliqueFinderEventListener<V>>();
+	}
+
+	public void addListener(MaximalCliqueFinderEventListener<V> listener)
+	{
+		// Note, no need to synchronize since eventListeners is an instance of
+		// CopyOnWriteArrayList
+		eventListeners.add(listener);
+	}
+
+	public Set<Set<V>> findMaximalCliques(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+
+		Set<Set<V>> maximalCliques = new HashSet<Set<V>>();
+		search(g, minCliqueSize, maximalCliques, null, "findMaximalCliques");
+		return maximalCliques;
+	}
+
+	public long enumerateMaximalCliques(Graph<V> g, int minCliqueSize, MaximalCliqueVisitor<V> visitor) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		return search(g, minCliqueSize, null, visitor, "enumerateMaximalCliques");
+	}
+
+	private void validateArguments(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		if (g == null)
+		{
+			throw new IllegalArgumentException("The Graph argument must not be null.");
+		}
+		if (minCliqueSize < 2)
+		{
+			throw new IllegalArgumentException("The minCliqueSize argument must not be less than two.");
+		}
+	}
+
+	/**
+	 * Reports every maximal clique to maximalCliques (unless null), to
+	 * registered listeners and to visitor (unless null).
+	 * 
+	 * @return Returns the number of cliques reported.
+	 */
+	private long search(Graph<V> g, int minCliqueSize, Set<Set<V>> maximalCliques, MaximalCliqueVisitor<V> visitor, String operationName)
+	{
+
+		Duration d = new Duration(this.getClass());
+
+		// read each neighborhood exactly once
+		final Map<V, Set<V>> neighborhoods = new HashMap<V, Set<V>>();
+		for (Iterator<V> vertexIter = g.getAllVerticesIterator(); vertexIter.hasNext();)
+		{
+			V v = vertexIter.next();
+			if (!neighborhoods.containsKey(v))
+			{
+				neighborhoods.put(v, g.getAllNeighbors(v));
+			}
+		}
+
+		// number the vertices in ascending order of degree, so that low degree
+		// vertices are branched upon first and with few later neighbors
+		List<V> vertices = new ArrayList<V>(neighborhoods.keySet());
+		Collections.sort(vertices, new Comparator<V>()
+		{
+			public int compare(V v1, V v2)
+			{
+				int degree1 = neighborhoods.get(v1).size();
+				int degree2 = neighborhoods.get(v2).size();
+				return (degree1 < degree2) ? -1 : ((degree1 == degree2) ? 0 : 1);
+			}
+		});
+
+		Map<V, Integer> vertexIndexes = new HashMap<V, Integer>();
+		for (int i = 0; i < vertices.size(); i++)
+		{
+			vertexIndexes.put(vertices.get(i), Integer.valueOf(i));
+		}
+
+		Search search = new Search(vertices, minCliqueSize, maximalCliques, visitor);
+		for (int v = 0; v < vertices.size(); v++)
+		{
+			long[] row = search.adjacency[v];
+			for (V neighbor : neighborhoods.get(vertices.get(v)))
+			{
+				Integer u = vertexIndexes.get(neighbor);
+				if (u != null && u.intValue() != v)
+				{
+					setBit(row, u.intValue());
+				}
+			}
+		}
+		neighborhoods.clear();
+		vertexIndexes = null;
+
+		long numVertices = vertices.size();
+		int completedVertexCounter = 0;
+		for (int v = 0; v < vertices.size() && !search.stopped; v++)
+		{
+
+			// P := neighbors of v numbered after v, X := those numbered before
+			search.beginVertex(v);
+			search.expand(1);
+
+			// count the completion of a step in the algorithm
+			completedVertexCounter++;
+
+			// signal step completion to listeners
+			for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+			{
+				try
+				{
+					listener.stepCompleted(completedVertexCounter, numVertices);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+
+			// log current progress of the operation?
+			if (completedVertexCounter % Math.max(1, (numVertices / 100)) == 0)
+			{
+				logger.info("Executing " + this.getClass().getSimpleName() + "." + operationName + "(..) ... " + (int) ((double) completedVertexCounter / (double) numVertices * 100.0) + "% complete.");
+			}
+		}
+
+		d.stop(operationName);
+
+		logger.info("Discovered " + search.numCliques + " maximal cliques with size of at least " + minCliqueSize + ".");
+
+		return search.numCliques;
+
+	}
+
+	private static void setBit(long[] bits, int index)
+	{
+		bits[index >>> 6] |= 1L << index;
+	}
+
+	private static void clearBit(long[] bits, int index)
+	{
+		bits[index >>> 6] &= ~(1L << index);
+	}
+
+	private static int cardinality(long[] bits)
+	{
+		int cardinality = 0;
+		for (long word : bits)
+		{
+			cardinality += Long.bitCount(word);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * The adjacency matrix and per-depth scratch rows of a single
+	 * findMaximalCliques(..) invocation.
+	 */
+	private final class Search
+	{
+		private final List<V> vertices;
+		private final int minCliqueSize;
+		private final int numWords;
+
+		private final long[][] adjacency;
+
+		/** R, as a stack of vertex indexes */
+		private final int[] r;
+
+		/** P, X and branch candidates for each recursion depth */
+		private final long[][] p;
+		private final long[][] x;
+		private final long[][] branch;
+
+		private final Set<Set<V>> maximalCliques;
+		private final MaximalCliqueVisitor<V> visitor;
+		private final CliqueView<V> view;
+
+		private long numCliques;
+
+		/** set once the visitor asks to stop */
+		private boolean stopped;
+
+		private Search(List<V> vertices, int minCliqueSize, Set<Set<V>> maximalCliques, MaximalCliqueVisitor<V> visitor)
+		{
+			this.vertices = vertices;
+			this.minCliqueSize = minCliqueSize;
+			this.maximalCliques = maximalCliques;
+			this.visitor = visitor;
+			this.view = new CliqueView<V>(vertices);
+
+			int n = vertices.size();
+			this.numWords = (n + 63) >>> 6;
+			this.adjacency = new long[n][numWords];
+			this.r = new int[n + 1];
+			this.p = new long[n + 1][];
+			this.x = new long[n + 1][];
+			this.branch = new long[n + 1][];
+		}
+
+		/**
+		 * Seeds depth 1 with the sub-problem rooted at vertex v.
+		 */
+		private void beginVertex(int v)
+		{
+			ensureDepth(1);
+			long[] neighbors = adjacency[v];
+			long[] p1 = p[1];
+			long[] x1 = x[1];
+			int vWord = v >>> 6;
+			for (int w = 0; w < numWords; w++)
+			{
+				// bits strictly above v within its word, all bits in later words
+				long later = (w < vWord) ? 0L : ((w > vWord) ? -1L : ((v & 63) == 63 ? 0L : (-1L << ((v & 63) + 1))));
+				p1[w] = neighbors[w] & later;
+				x1[w] = neighbors[w] & ~later;
+			}
+			r[0] = v;
+		}
+
+		private void ensureDepth(int depth)
+		{
+			if (p[depth] == null)
+			{
+				p[depth] = new long[numWords];
+				x[depth] = new long[numWords];
+				branch[depth] = new long[numWords];
+			}
+		}
+
+		/**
+		 * Reports all maximal cliques that extend R[0..depth) with vertices of
+		 * p[depth] and none of x[depth].
+		 */
+		private void expand(int depth)
+		{
+			long[] pd = p[depth];
+			long[] xd = x[depth];
+
+			int pSize = cardinality(pd);
+
+			// base case ...
+			// if P and X are both empty, then R is a maximal clique
+			if (pSize == 0)
+			{
+				if (depth >= minCliqueSize && cardinality(xd) == 0)
+				{
+					reportClique(depth);
+				}
+				return;
+			}
+
+			// no clique extending R can reach the minimum size
+			if (depth + pSize < minCliqueSize)
+			{
+				return;
+			}
+
+			// branch only on candidates that are not neighbors of the pivot
+			long[] pivotNeighbors = adjacency[choosePivot(pd, xd, pSize)];
+			long[] bd = branch[depth];
+			for (int w = 0; w < numWords; w++)
+			{
+				bd[w] = pd[w] & ~pivotNeighbors[w];
+			}
+
+			ensureDepth(depth + 1);
+			long[] pNext = p[depth + 1];
+			long[] xNext = x[depth + 1];
+
+			for (int w = 0; w < numWords; w++)
+			{
+				long word = bd[w];
+				while (word != 0L)
+				{
+					int v = (w << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+
+					// P' = P ⋂ N(v), X' = X ⋂ N(v)
+					long[] neighbors = adjacency[v];
+					for (int i = 0; i < numWords; i++)
+					{
+						pNext[i] = pd[i] & neighbors[i];
+						xNext[i] = xd[i] & neighbors[i];
+					}
+
+					r[depth] = v;
+					expand(depth + 1);
+					if (stopped)
+					{
+						return;
+					}
+
+					// P := P \ {v}, X := X ⋃ {v}
+					clearBit(pd, v);
+					setBit(xd, v);
+
+					if (depth + --pSize < minCliqueSize)
+					{
+						return;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Tomita pivot selection: the vertex of P ⋃ X with the most neighbors
+		 * in P.
+		 */
+		private int choosePivot(long[] pd, long[] xd, int pSize)
+		{
+			int pivot = -1;
+			int maxNeighborsInP = -1;
+			for (int w = 0; w < numWords; w++)
+			{
+				long word = pd[w] | xd[w];
+				while (word != 0L)
+				{
+					int u = (w << 6) + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+
+					long[] neighbors = adjacency[u];
+					int neighborsInP = 0;
+					for (int i = 0; i < numWords; i++)
+					{
+						neighborsInP += Long.bitCount(pd[i] & neighbors[i]);
+					}
+					if (neighborsInP > maxNeighborsInP)
+					{
+						maxNeighborsInP = neighborsInP;
+						pivot = u;
+						if (maxNeighborsInP == pSize)
+						{
+							// no better pivot is possible
+							return pivot;
+						}
+					}
+				}
+			}
+			return pivot;
+		}
+
+		private void reportClique(int rSize)
+		{
+			numCliques++;
+			view.reset(r, 0, rSize);
+
+			// only materialize the clique if it is collected or listened for
+			Set<V> clique = null;
+			if (maximalCliques != null)
+			{
+				clique = view.toSet();
+				maximalCliques.add(clique);
+			}
+
+			// each maximal clique is reported exactly once, so listeners can be
+			// notified immediately
+			for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+			{
+				if (clique == null)
+				{
+					clique = view.toSet();
+				}
+				try
+				{
+					listener.cliqueFound(clique);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+
+			if (visitor != null && !visitor.visit(view))
+			{
+				stopped = true;
+			}
+		}
+	}
+
+}
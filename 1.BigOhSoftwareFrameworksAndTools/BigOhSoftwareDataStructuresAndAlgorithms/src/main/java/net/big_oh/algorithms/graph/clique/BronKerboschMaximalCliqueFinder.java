@@ -1,14 +1,16 @@
 package net.big_oh.algorithms.graph.clique;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import net.big_oh.common.utils.Duration;
 import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
 import net.big_oh.datastructures.graph.Vertex;
 
 import org.apache.commons.logging.Log;
@@ -100,6 +102,10 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 		// P collections.
 		Set<Set<V>> maximalCliques = new HashSet<Set<V>>();
 
+		// neighborhoods are read through a single cursor rather than copied
+		// into new sets
+		NeighborCursor<V> cursor = g.newNeighborCursor();
+
 		long numVertices = g.getVertexCount();
 		int completedVertexCounter = 0;
 		for (Iterator<V> vertexIter = g.getAllVerticesIterator(); vertexIter.hasNext();)
@@ -109,12 +115,16 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 			Set<V> r = new HashSet<V>();
 			r.add(v);
 
-			Set<V> p = g.getAllNeighbors(v);
+			Set<V> p = new HashSet<V>(Math.max(16, (int) (g.getDegree(v) / 0.75f) + 1));
+			for (cursor.reset(v); cursor.hasNext();)
+			{
+				p.add(cursor.next());
+			}
 
-			Set<V> x = g.getAllNeighbors(v);
+			Set<V> x = new HashSet<V>(p);
 
 			// process maximal cliques discovered for Vertex v
-			processMaximalCliqueDiscoveries(maximalCliques, bronKerbosch1(r, p, x, g, minCliqueSize, 1));
+			bronKerbosch1(r, p, x, g, cursor, minCliqueSize, 1, maximalCliques);
 
 			// count the completion of a step in the algorithm
 			completedVertexCounter++;
@@ -147,7 +157,12 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 
 	}
 
-	private Set<Set<V>> bronKerbosch1(Set<V> r, Set<V> p, Set<V> x, Graph<V> g, int minCliqueSize, int searchDepth)
+	/**
+	 * Claims every maximal clique that extends r with members of p and none of
+	 * x into the set of well known maximal cliques. Discoveries go straight
+	 * into that one set, so no intermediate sets of cliques are built.
+	 */
+	private void bronKerbosch1(Set<V> r, Set<V> p, Set<V> x, Graph<V> g, NeighborCursor<V> cursor, int minCliqueSize, int searchDepth, Set<Set<V>> wellKnownMaximalCliques)
 	{
 
 		if (logger.isDebugEnabled())
@@ -162,19 +177,14 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 			if (r.size() >= minCliqueSize)
 			{
 				// the maximal clique contained in r is big enough to report
-				return Collections.singleton(r);
-			}
-			else
-			{
-				// the maximal clique contained in r is too small
-				return Collections.emptySet();
+				processMaximalCliqueDiscovery(wellKnownMaximalCliques, r);
 			}
+			return;
 		}
 
 		// recursive case ...
-		Set<Set<V>> maximalCliques = new HashSet<Set<V>>();
 
-		Set<V> pCopy = new HashSet<V>(p);
+		List<V> pCopy = new ArrayList<V>(p);
 		for (V v : pCopy)
 		{
 
@@ -183,14 +193,12 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 			rPrime.add(v);
 
 			// pPrime = P ⋂ N(v)
-			Set<V> pPrime = new HashSet<V>(p);
-			pPrime.retainAll(g.getAllNeighbors(v));
+			Set<V> pPrime = intersectNeighbors(p, v, g, cursor);
 
 			// xPrime = X ⋂ N(v)
-			Set<V> xPrime = new HashSet<V>(x);
-			xPrime.retainAll(g.getAllNeighbors(v));
+			Set<V> xPrime = intersectNeighbors(x, v, g, cursor);
 
-			maximalCliques.addAll(bronKerbosch1(rPrime, pPrime, xPrime, g, minCliqueSize, searchDepth + 1));
+			bronKerbosch1(rPrime, pPrime, xPrime, g, cursor, minCliqueSize, searchDepth + 1, wellKnownMaximalCliques);
 
 			// P := P \ {v}
 			p.remove(v);
@@ -200,41 +208,66 @@ public class BronKerboschMaximalCliqueFinder<V extends Vertex> implements Maxima
 
 		}
 
-		return maximalCliques;
+	}
 
+	/**
+	 * @return Returns a new set holding the members of s that are neighbors to
+	 *         v. Whichever of s and N(v) is smaller gets scanned, and N(v) is
+	 *         never copied.
+	 */
+	private Set<V> intersectNeighbors(Set<V> s, V v, Graph<V> g, NeighborCursor<V> cursor)
+	{
+		Set<V> intersection = new HashSet<V>();
+		if (s.size() <= g.getDegree(v))
+		{
+			for (V u : s)
+			{
+				if (g.containsEdge(v, u))
+				{
+					intersection.add(u);
+				}
+			}
+		}
+		else
+		{
+			for (cursor.reset(v); cursor.hasNext();)
+			{
+				V u = cursor.next();
+				if (s.contains(u))
+				{
+					intersection.add(u);
+				}
+			}
+		}
+		return intersection;
 	}
 
 	/**
-	 * This helper method merges two sets of maximal cliques, claiming newly
-	 * discovered maximal cliques and adding them to the set of well known
-	 * maximal cliques.
+	 * This helper method claims a newly discovered maximal clique, adding it
+	 * to the set of well known maximal cliques unless it was discovered
+	 * before.
 	 * 
 	 * @param wellKnownMaximalCliques
-	 * @param maximalCliqueDiscoveries
+	 * @param maximalCliqueDiscovery
 	 */
-	private void processMaximalCliqueDiscoveries(Set<Set<V>> wellKnownMaximalCliques, Set<Set<V>> maximalCliqueDiscoveries)
+	private void processMaximalCliqueDiscovery(Set<Set<V>> wellKnownMaximalCliques, Set<V> maximalCliqueDiscovery)
 	{
-		for (Set<V> maximalCliqueDiscovery : maximalCliqueDiscoveries)
+		if (wellKnownMaximalCliques.add(maximalCliqueDiscovery))
 		{
+			// this is the first discovery of the maximal clique ...
 
-			if (wellKnownMaximalCliques.add(maximalCliqueDiscovery))
+			// notify listeners
+			for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
 			{
-				// this is the first discovery of the maximal clique ...
-
-				// notify listeners
-				for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+				try
+				{
+					listener.cliqueFound(maximalCliqueDiscovery);
+				}
+				catch (RuntimeException re)
 				{
-					try
-					{
-						listener.cliqueFound(maximalCliqueDiscovery);
-					}
-					catch (RuntimeException re)
-					{
-						logger.error(re.getMessage(), re);
-					}
+					logger.error(re.getMessage(), re);
 				}
 			}
-
 		}
 	}
 
@@ -0,0 +1,200 @@
+package net.big_oh.algorithms.graph.clique;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A read-only view of one maximal clique, handed to a
+ * {@link MaximalCliqueVisitor}.<br/>
+ * <br/>
+ * To avoid allocating a collection per clique, a finder reuses a single view
+ * (backed by its own working arrays) for every clique it reports. The view is
+ * therefore only valid for the duration of the
+ * {@link MaximalCliqueVisitor#visit(CliqueView)} call that received it; use
+ * {@link #toSet()} or a {@link CompactCliqueList} to retain its contents.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public final class CliqueView<V extends Vertex> implements Iterable<V>
+{
+
+	private final List<V> vertices;
+
+	private int[] vertexIndexes;
+	private int offset;
+	private int size;
+
+	/**
+	 * @param vertices
+	 *            The finder's vertex numbering.
+	 */
+	CliqueView(List<V> vertices)
+	{
+		this.vertices = vertices;
+	}
+
+	/**
+	 * Points the view at the clique whose members are
+	 * vertexIndexes[offset] through vertexIndexes[offset+size-1].
+	 */
+	CliqueView<V> reset(int[] vertexIndexes, int offset, int size)
+	{
+		this.vertexIndexes = vertexIndexes;
+		this.offset = offset;
+		this.size = size;
+		return this;
+	}
+
+	/**
+	 * @return Returns the finder's vertex numbering, which maps the results of
+	 *         {@link #getVertexIndex(int)} back to vertices.
+	 */
+	List<V> getVertices()
+	{
+		return vertices;
+	}
+
+	/**
+	 * @return Returns the number of vertices in the clique.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @param i
+	 * @return Returns the i-th member of the clique. Members are in no
+	 *         particular order.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if i is negative or not less than size().
+	 */
+	public V get(int i) throws IndexOutOfBoundsException
+	{
+		return vertices.get(getVertexIndex(i));
+	}
+
+	/**
+	 * @param i
+	 * @return Returns the finder's index for the i-th member of the clique.
+	 *         Indexes are dense, starting from zero, and stable for the
+	 *         duration of one enumeration.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if i is negative or not less than size().
+	 */
+	public int getVertexIndex(int i) throws IndexOutOfBoundsException
+	{
+		if (i < 0 || i >= size)
+		{
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+		}
+		return vertexIndexes[offset + i];
+	}
+
+	/**
+	 * @param v
+	 * @return Returns true if v is a member of the clique.
+	 */
+	public boolean contains(V v)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			// test identity first, as the collections framework does
+			V member = vertices.get(vertexIndexes[offset + i]);
+			if (member == v || (member != null && member.equals(v)))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return Returns a new, independent set holding the members of the
+	 *         clique.
+	 */
+	public Set<V> toSet()
+	{
+		Set<V> clique = new HashSet<V>(size * 2);
+		for (int i = 0; i < size; i++)
+		{
+			clique.add(vertices.get(vertexIndexes[offset + i]));
+		}
+		return clique;
+	}
+
+	public Iterator<V> iterator()
+	{
+		return new Iterator<V>()
+		{
+			private int next = 0;
+
+			public boolean hasNext()
+			{
+				return next < size;
+			}
+
+			public V next()
+			{
+				if (next >= size)
+				{
+					throw new NoSuchElementException();
+				}
+				return vertices.get(vertexIndexes[offset + next++]);
+			}
+
+			public void remove()
+			{
+				throw new UnsupportedOperationException("A CliqueView is read only.");
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++)
+		{
+			if (i > 0)
+			{
+				sb.append(", ");
+			}
+			sb.append(vertices.get(vertexIndexes[offset + i]));
+		}
+		return sb.append("]").toString();
+	}
+
+}
@@ -0,0 +1,233 @@
+package net.big_oh.algorithms.graph.clique;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A {@link MaximalCliqueVisitor} that retains every clique it visits in
+ * compact form: the members of all cliques are stored as vertex indexes in one
+ * shared <code>int[]</code> buffer, delimited by a second array of offsets.
+ * Retaining a clique of k vertices costs about 4(k + 1) bytes, compared to
+ * several hundred bytes for a <code>HashSet</code> of the same size.<br/>
+ * <br/>
+ * All visited cliques must come from the same enumeration, since indexes are
+ * only meaningful relative to the vertex numbering of the finder that produced
+ * them. This class is not thread safe; streaming finders never call a visitor
+ * concurrently.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public class CompactCliqueList<V extends Vertex> implements MaximalCliqueVisitor<V>, Iterable<CliqueView<V>>
+{
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+	/** The largest array length that every JVM can allocate */
+	static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private List<V> vertices;
+
+	/** The members of all cliques, back to back */
+	private int[] members;
+
+	/** Clique i occupies members[offsets[i]] through members[offsets[i+1]-1] */
+	private int[] offsets;
+
+	private int size;
+
+	public CompactCliqueList()
+	{
+		members = new int[DEFAULT_INITIAL_CAPACITY];
+		offsets = new int[DEFAULT_INITIAL_CAPACITY + 1];
+	}
+
+	/**
+	 * Appends a copy of the clique.
+	 * 
+	 * @return Always returns true.
+	 * @throws IllegalStateException
+	 *             Thrown if the clique comes from a different enumeration than
+	 *             the cliques already in the list, or if the list cannot hold
+	 *             any more cliques or members.
+	 */
+	public boolean visit(CliqueView<V> clique) throws IllegalStateException
+	{
+		if (vertices == null)
+		{
+			vertices = clique.getVertices();
+		}
+		else if (vertices != clique.getVertices())
+		{
+			throw new IllegalStateException("All cliques in a " + getClass().getSimpleName() + " must come from the same enumeration.");
+		}
+
+		int start = offsets[size];
+		int cliqueSize = clique.size();
+		if ((long) start + cliqueSize > members.length)
+		{
+			members = grow(members, (long) start + cliqueSize);
+		}
+		if (size + 2L > offsets.length)
+		{
+			offsets = grow(offsets, size + 2L);
+		}
+
+		for (int i = 0; i < cliqueSize; i++)
+		{
+			members[start + i] = clique.getVertexIndex(i);
+		}
+		offsets[++size] = start + cliqueSize;
+
+		return true;
+	}
+
+	/**
+	 * @return Returns the number of cliques in the list.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * @param i
+	 * @return Returns the number of vertices in the i-th clique.
+	 */
+	public int getCliqueSize(int i)
+	{
+		checkIndex(i);
+		return offsets[i + 1] - offsets[i];
+	}
+
+	/**
+	 * @param i
+	 * @return Returns a new set holding the members of the i-th clique.
+	 */
+	public Set<V> getClique(int i)
+	{
+		checkIndex(i);
+		return new CliqueView<V>(vertices).reset(members, offsets[i], offsets[i + 1] - offsets[i]).toSet();
+	}
+
+	/**
+	 * Iterates over the cliques in the order they were visited. To avoid
+	 * allocation, the iterator returns the same view for every clique,
+	 * repositioned by each call to next().
+	 */
+	public Iterator<CliqueView<V>> iterator()
+	{
+		return new Iterator<CliqueView<V>>()
+		{
+			private final CliqueView<V> view = new CliqueView<V>(vertices);
+			private int next = 0;
+
+			public boolean hasNext()
+			{
+				return next < size;
+			}
+
+			public CliqueView<V> next()
+			{
+				if (next >= size)
+				{
+					throw new NoSuchElementException();
+				}
+				int i = next++;
+				return view.reset(members, offsets[i], offsets[i + 1] - offsets[i]);
+			}
+
+			public void remove()
+			{
+				throw new UnsupportedOperationException("A " + CompactCliqueList.class.getSimpleName() + " is append only.");
+			}
+		};
+	}
+
+	/**
+	 * Trims the shared buffers to the space actually used.
+	 */
+	public void trimToSize()
+	{
+		int numMembers = offsets[size];
+		if (numMembers < members.length)
+		{
+			int[] trimmed = new int[numMembers];
+			System.arraycopy(members, 0, trimmed, 0, numMembers);
+			members = trimmed;
+		}
+		if (size + 1 < offsets.length)
+		{
+			int[] trimmed = new int[size + 1];
+			System.arraycopy(offsets, 0, trimmed, 0, size + 1);
+			offsets = trimmed;
+		}
+	}
+
+	private void checkIndex(int i)
+	{
+		if (i < 0 || i >= size)
+		{
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+		}
+	}
+
+	private static int[] grow(int[] array, long minCapacity) throws IllegalStateException
+	{
+		int[] grown = new int[calculateNewCapacity(array.length, minCapacity)];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	/**
+	 * @return Returns the length to grow an array of the given length to,
+	 *         which is at least minCapacity and at most MAX_ARRAY_SIZE.
+	 * @throws IllegalStateException
+	 *             Thrown if minCapacity exceeds MAX_ARRAY_SIZE.
+	 */
+	static int calculateNewCapacity(int length, long minCapacity) throws IllegalStateException
+	{
+		if (minCapacity > MAX_ARRAY_SIZE)
+		{
+			throw new IllegalStateException("A " + CompactCliqueList.class.getSimpleName() + " cannot hold more than " + MAX_ARRAY_SIZE + " clique members or cliques.");
+		}
+		long newCapacity = Math.max(minCapacity, (long) length + (length >> 1) + 1);
+		return (int) Math.min(newCapacity, MAX_ARRAY_SIZE);
+	}
+
+}
@@ -55,8 +55,9 @@ public interface MaximalCliqueFinder<V extends Vertex>
 	 *             Thrown if Graph g is null or if minCliqueSize is less than 2.
 	 * 
 	 * @see MaximalCliqueFinderEventListener#cliqueFound(Set)
+	 * @see StreamingMaximalCliqueFinder#enumerateMaximalCliques(Graph, int,
+	 *      MaximalCliqueVisitor)
 	 */
-	// TODO Return a more expressive data structure
 	public Set<Set<V>> findMaximalCliques(Graph<V> g, int minCliqueSize) throws IllegalArgumentException;
 
 	/**
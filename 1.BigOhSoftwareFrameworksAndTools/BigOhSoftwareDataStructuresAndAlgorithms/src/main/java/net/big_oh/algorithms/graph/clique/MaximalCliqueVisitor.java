@@ -0,0 +1,54 @@
+package net.big_oh.algorithms.graph.clique;
+
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Receives the maximal cliques enumerated by a
+ * {@link StreamingMaximalCliqueFinder}, one at a time and each exactly once.<br/>
+ * <br/>
+ * A finder calls {@link #visit(CliqueView)} synchronously and never
+ * concurrently, and does not resume its search until the call returns. A slow
+ * visitor therefore throttles the enumeration rather than letting unconsumed
+ * cliques pile up in memory.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public interface MaximalCliqueVisitor<V extends Vertex>
+{
+	/**
+	 * Handles one maximal clique. The view is reused for later cliques, so it
+	 * must not be retained after this method returns.
+	 * 
+	 * @param clique
+	 * @return Returns true to continue the enumeration, or false to stop it
+	 *         without visiting any further cliques.
+	 */
+	public boolean visit(CliqueView<V> clique);
+}
@@ -0,0 +1,810 @@
+package net.big_oh.algorithms.graph.clique;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import net.big_oh.common.utils.Duration;
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.Vertex;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A parallel {@link MaximalCliqueFinder} that runs the same pivoting,
+ * degeneracy-ordered Bron-Kerbosch search as
+ * {@link PivotingBronKerboschMaximalCliqueFinder} on several worker
+ * threads.<br/>
+ * <br/>
+ * Workers claim the sub-problems of the outer loop (one per vertex, in
+ * degeneracy order) from a shared atomic cursor. Once the outer loop is
+ * exhausted and some worker runs out of work, busy workers split the remaining
+ * branches of their current sub-problem into tasks. Each worker keeps those
+ * tasks on a private deque: the owner takes the newest task (staying depth
+ * first) and idle workers steal the oldest, which is usually the largest.
+ * Only the owner and at most one thief contend for a deque's lock.<br/>
+ * <br/>
+ * Each worker collects its cliques in a private list and the lists are merged
+ * once all workers finish, so reporting a clique takes no shared lock. Listener
+ * callbacks are delivered from the worker threads but are serialized, so
+ * listeners written for the sequential finders need not be thread safe. A step
+ * is signaled once the outer-loop sub-problem of a vertex has completed,
+ * including every task split from it, so stepCompleted(..) counts are exact
+ * and increase monotonically.<br/>
+ * <br/>
+ * When cliques are streamed to a {@link MaximalCliqueVisitor}, each worker
+ * hands the visitor a view over its own working array, under the same lock as
+ * listener callbacks. A worker that finds a clique while the visitor is busy
+ * waits for it, so the visitor throttles all workers. Once the visitor asks to
+ * stop, every worker abandons its search.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public class ParallelBronKerboschMaximalCliqueFinder<V extends Vertex> implements StreamingMaximalCliqueFinder<V>
+{
+
+	private static final Log logger = LogFactory.getLog(ParallelBronKerboschMaximalCliqueFinder.class);
+
+	/**
+	 * How long an idle worker sleeps before looking for work again.
+	 */
+	private static final long IDLE_PARK_NANOS = 50000L;
+
+	/**
+	 * Sub-problems with fewer candidates than this are never split, since they
+	 * finish faster than they could be handed off.
+	 */
+	private static final int MIN_CANDIDATES_TO_SPLIT = 8;
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Collection<MaximalCliqueFinderEventListener<V>> eventListeners;
+
+	private final int numWorkers;
+
+	/**
+	 * Builds a finder that uses one worker per available processor.
+	 */
+	public ParallelBronKerboschMaximalCliqueFinder()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param numWorkers
+	 * @throws IllegalArgumentException
+	 *             Thrown if numWorkers is less than one.
+	 */
+	public ParallelBronKerboschMaximalCliqueFinder(int numWorkers) throws IllegalArgumentException
+	{
+		if (numWorkers < 1)
+		{
+			throw new IllegalArgumentException("The numWorkers argument must not be less than one.");
+		}
+
+		this.numWorkers = numWorkers;
+
+		// Use CopyOnWriteArrayList to support dynamic listeners w/o incurring
+		// synchronization overhead
+		eventListeners = new CopyOnWriteArrayList<MaximalCliqueFinderEventListener<V>>();
+	}
+
+	public void addListener(MaximalCliqueFinderEventListener<V> listener)
+	{
+		// Note, no need to synchronize since eventListeners is an instance of
+		// CopyOnWriteArrayList
+		eventListeners.add(listener);
+	}
+
+	public int getNumWorkers()
+	{
+		return numWorkers;
+	}
+
+	public Set<Set<V>> findMaximalCliques(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+
+		Duration d = new Duration(this.getClass());
+
+		SearchContext context = search(g, minCliqueSize, null);
+
+		// merge the cliques found by each worker; no clique is found twice
+		int numMaximalCliques = 0;
+		for (Worker worker : context.workers)
+		{
+			numMaximalCliques += worker.maximalCliques.size();
+		}
+		Set<Set<V>> maximalCliques = new HashSet<Set<V>>(Math.max(16, (int) (numMaximalCliques / 0.75f) + 1));
+		for (Worker worker : context.workers)
+		{
+			maximalCliques.addAll(worker.maximalCliques);
+		}
+
+		d.stop("findMaximalCliques");
+
+		logger.info("Discovered " + maximalCliques.size() + " maximal cliques with size of at least " + minCliqueSize + ".");
+
+		return maximalCliques;
+	}
+
+	public long enumerateMaximalCliques(Graph<V> g, int minCliqueSize, MaximalCliqueVisitor<V> visitor) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		Duration d = new Duration(this.getClass());
+
+		SearchContext context = search(g, minCliqueSize, visitor);
+
+		d.stop("enumerateMaximalCliques");
+
+		logger.info("Discovered " + context.numCliquesVisited + " maximal cliques with size of at least " + minCliqueSize + ".");
+
+		return context.numCliquesVisited;
+	}
+
+	private void validateArguments(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		if (g == null)
+		{
+			throw new IllegalArgumentException("The Graph argument must not be null.");
+		}
+		if (minCliqueSize < 2)
+		{
+			throw new IllegalArgumentException("The minCliqueSize argument must not be less than two.");
+		}
+	}
+
+	/**
+	 * Runs the workers to completion. If visitor is null, each worker collects
+	 * its cliques in a private list; otherwise cliques are streamed to the
+	 * visitor.
+	 * 
+	 * @return Returns the finished search.
+	 */
+	private SearchContext search(Graph<V> g, int minCliqueSize, MaximalCliqueVisitor<V> visitor)
+	{
+		// number the vertices and read the adjacency structure exactly once
+		List<V> vertices = new ArrayList<V>();
+		int[][] adjacency = PivotingBronKerboschMaximalCliqueFinder.buildAdjacency(g, vertices);
+
+		SearchContext context = new SearchContext(vertices, adjacency, minCliqueSize, visitor);
+
+		Thread[] threads = new Thread[numWorkers];
+		for (int i = 0; i < numWorkers; i++)
+		{
+			threads[i] = new Thread(context.workers.get(i), getClass().getSimpleName() + "-worker-" + i);
+			threads[i].start();
+		}
+
+		try
+		{
+			for (Thread thread : threads)
+			{
+				thread.join();
+			}
+		}
+		catch (InterruptedException ie)
+		{
+			context.done = true;
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the maximal clique workers to finish.", ie);
+		}
+
+		if (context.failure.get() != null)
+		{
+			throw new RuntimeException("A maximal clique worker failed.", context.failure.get());
+		}
+
+		if (logger.isDebugEnabled())
+		{
+			for (Worker worker : context.workers)
+			{
+				logger.debug("Worker " + worker.id + " completed " + worker.numTasksCompleted + " tasks, " + worker.numTasksStolen + " of them stolen, and split " + worker.numTasksSplit + " tasks.");
+			}
+		}
+
+		return context;
+
+	}
+
+	/**
+	 * The state shared by all workers of a single findMaximalCliques(..)
+	 * invocation.
+	 */
+	private final class SearchContext
+	{
+		private final List<V> vertices;
+		private final int[][] adjacency;
+		private final int minCliqueSize;
+		private final MaximalCliqueVisitor<V> visitor;
+
+		private final int[] ordering;
+		private final int[] rank;
+		private final int maxDegree;
+
+		private final List<Worker> workers;
+
+		/** The position in the ordering of the next outer-loop vertex to claim */
+		private final AtomicInteger nextRoot = new AtomicInteger();
+
+		/**
+		 * The number of unfinished tasks, counting each outer-loop vertex
+		 * (claimed or not) as one task. Once this count reaches zero, the
+		 * search is complete.
+		 */
+		private final AtomicLong outstandingWork;
+
+		/** The number of workers currently looking for work */
+		private final AtomicInteger numIdleWorkers = new AtomicInteger();
+
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+		private volatile boolean done;
+
+		/** set once the visitor asks to stop; workers then abandon their tasks */
+		private volatile boolean stopped;
+
+		/**
+		 * Serializes listener and visitor callbacks; guards numStepsCompleted
+		 * and numCliquesVisited
+		 */
+		private final Object listenerLock = new Object();
+		private long numStepsCompleted;
+		private long numCliquesVisited;
+
+		private SearchContext(List<V> vertices, int[][] adjacency, int minCliqueSize, MaximalCliqueVisitor<V> visitor)
+		{
+			this.vertices = vertices;
+			this.adjacency = adjacency;
+			this.minCliqueSize = minCliqueSize;
+			this.visitor = visitor;
+
+			ordering = PivotingBronKerboschMaximalCliqueFinder.computeDegeneracyOrdering(adjacency);
+			rank = new int[ordering.length];
+			for (int i = 0; i < ordering.length; i++)
+			{
+				rank[ordering[i]] = i;
+			}
+
+			int maxDegree = 0;
+			for (int[] neighbors : adjacency)
+			{
+				maxDegree = Math.max(maxDegree, neighbors.length);
+			}
+			this.maxDegree = maxDegree;
+
+			outstandingWork = new AtomicLong(ordering.length);
+			done = (ordering.length == 0);
+
+			workers = new ArrayList<Worker>(numWorkers);
+			for (int i = 0; i < numWorkers; i++)
+			{
+				workers.add(new Worker(this, i));
+			}
+		}
+
+		private void cliqueFound(Set<V> clique)
+		{
+			if (eventListeners.isEmpty())
+			{
+				return;
+			}
+			synchronized (listenerLock)
+			{
+				for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+				{
+					try
+					{
+						listener.cliqueFound(clique);
+					}
+					catch (RuntimeException re)
+					{
+						logger.error(re.getMessage(), re);
+					}
+				}
+			}
+		}
+
+		private void visit(CliqueView<V> clique)
+		{
+			synchronized (listenerLock)
+			{
+				if (stopped)
+				{
+					return;
+				}
+				numCliquesVisited++;
+
+				if (!eventListeners.isEmpty())
+				{
+					Set<V> copy = clique.toSet();
+					for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+					{
+						try
+						{
+							listener.cliqueFound(copy);
+						}
+						catch (RuntimeException re)
+						{
+							logger.error(re.getMessage(), re);
+						}
+					}
+				}
+
+				if (!visitor.visit(clique))
+				{
+					stopped = true;
+					done = true;
+				}
+			}
+		}
+
+		private void stepCompleted()
+		{
+			long numVertices = ordering.length;
+			synchronized (listenerLock)
+			{
+				// count the completion of a step in the algorithm
+				numStepsCompleted++;
+
+				// signal step completion to listeners
+				for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+				{
+					try
+					{
+						listener.stepCompleted(numStepsCompleted, numVertices);
+					}
+					catch (RuntimeException re)
+					{
+						logger.error(re.getMessage(), re);
+					}
+				}
+
+				// log current progress of the operation?
+				if (numStepsCompleted % Math.max(1, (numVertices / 100)) == 0)
+				{
+					logger.info("Executing " + ParallelBronKerboschMaximalCliqueFinder.this.getClass().getSimpleName() + ".findMaximalCliques(..) ... " + (int) ((double) numStepsCompleted / (double) numVertices * 100.0) + "% complete.");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tracks the unfinished tasks belonging to the sub-problem of one
+	 * outer-loop vertex.
+	 */
+	private static final class Root
+	{
+		private final AtomicInteger numPendingTasks = new AtomicInteger(1);
+	}
+
+	/**
+	 * A sub-problem: report every maximal clique that extends R with vertices
+	 * of P and none of X.
+	 */
+	private static final class Task
+	{
+		private final Root root;
+		private final int[] r;
+		private final int[] p;
+		private final int pSize;
+		private final int[] x;
+		private final int xSize;
+
+		private Task(Root root, int[] r, int[] p, int pSize, int[] x, int xSize)
+		{
+			this.root = root;
+			this.r = r;
+			this.p = p;
+			this.pSize = pSize;
+			this.x = x;
+			this.xSize = xSize;
+		}
+	}
+
+	private final class Worker implements Runnable
+	{
+		private final SearchContext context;
+		private final int id;
+		private final int[][] adjacency;
+
+		/** Tasks split by this worker; guarded by itself */
+		private final LinkedList<Task> deque = new LinkedList<Task>();
+
+		/** R, as a stack of vertex indexes */
+		private final int[] r;
+
+		private final List<Set<V>> maximalCliques = new ArrayList<Set<V>>();
+		private final CliqueView<V> view;
+
+		// statistics, published to the coordinating thread by Thread.join()
+		private long numTasksCompleted;
+		private long numTasksStolen;
+		private long numTasksSplit;
+
+		private Worker(SearchContext context, int id)
+		{
+			this.context = context;
+			this.id = id;
+			this.adjacency = context.adjacency;
+			this.r = new int[context.maxDegree + 1];
+			this.view = new CliqueView<V>(context.vertices);
+		}
+
+		public void run()
+		{
+			try
+			{
+				boolean idle = false;
+				while (!context.done)
+				{
+					Task task = findTask();
+					if (task != null)
+					{
+						if (idle)
+						{
+							idle = false;
+							context.numIdleWorkers.decrementAndGet();
+						}
+						runTask(task);
+					}
+					else if (context.outstandingWork.get() == 0)
+					{
+						context.done = true;
+					}
+					else
+					{
+						if (!idle)
+						{
+							idle = true;
+							context.numIdleWorkers.incrementAndGet();
+						}
+						LockSupport.parkNanos(IDLE_PARK_NANOS);
+					}
+				}
+			}
+			catch (Throwable t)
+			{
+				context.failure.compareAndSet(null, t);
+				context.done = true;
+			}
+		}
+
+		/**
+		 * @return Returns this worker's newest task, else the next outer-loop
+		 *         sub-problem, else the oldest task stolen from another worker,
+		 *         else null.
+		 */
+		private Task findTask()
+		{
+			synchronized (deque)
+			{
+				if (!deque.isEmpty())
+				{
+					return deque.removeLast();
+				}
+			}
+
+			// claim a root only while any remain, so that idle polling cannot
+			// overflow the counter
+			for (int position = context.nextRoot.get(); position < context.ordering.length; position = context.nextRoot.get())
+			{
+				if (context.nextRoot.compareAndSet(position, position + 1))
+				{
+					return buildRootTask(context.ordering[position]);
+				}
+			}
+
+			for (int i = 1; i < numWorkers; i++)
+			{
+				Worker victim = context.workers.get((id + i) % numWorkers);
+				synchronized (victim.deque)
+				{
+					if (!victim.deque.isEmpty())
+					{
+						numTasksStolen++;
+						return victim.deque.removeFirst();
+					}
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * P := later neighbors of v, X := earlier neighbors of v
+		 */
+		private Task buildRootTask(int v)
+		{
+			int[] neighbors = adjacency[v];
+			int[] p = new int[neighbors.length];
+			int[] x = new int[neighbors.length];
+			int pSize = 0;
+			int xSize = 0;
+			for (int u : neighbors)
+			{
+				if (context.rank[u] > context.rank[v])
+				{
+					p[pSize++] = u;
+				}
+				else
+				{
+					x[xSize++] = u;
+				}
+			}
+			return new Task(new Root(), new int[] { v }, p, pSize, x, xSize);
+		}
+
+		private void runTask(Task task)
+		{
+			System.arraycopy(task.r, 0, r, 0, task.r.length);
+			expand(task.root, task.r.length, task.p, task.pSize, task.x, task.xSize);
+
+			numTasksCompleted++;
+			if (task.root.numPendingTasks.decrementAndGet() == 0 && !context.stopped)
+			{
+				context.stepCompleted();
+			}
+			context.outstandingWork.decrementAndGet();
+		}
+
+		/**
+		 * Reports all maximal cliques that extend R[0..rSize) with vertices of
+		 * P and none of X. The array x must have room for xSize + pSize
+		 * entries, since candidates move from P to X as they are exhausted.
+		 */
+		private void expand(Root root, int rSize, int[] p, int pSize, int[] x, int xSize)
+		{
+
+			// base case ...
+			// if P and X are both empty, then R is a maximal clique
+			if (pSize == 0)
+			{
+				if (xSize == 0 && rSize >= context.minCliqueSize)
+				{
+					reportClique(rSize);
+				}
+				return;
+			}
+
+			// no clique extending R can reach the minimum size
+			if (rSize + pSize < context.minCliqueSize)
+			{
+				return;
+			}
+
+			// branch only on candidates that are not neighbors of the pivot
+			int pivot = choosePivot(p, pSize, x, xSize);
+			int[] branchVertices = new int[pSize];
+			int numBranchVertices = 0;
+			for (int i = 0; i < pSize; i++)
+			{
+				if (!isAdjacent(pivot, p[i]))
+				{
+					branchVertices[numBranchVertices++] = p[i];
+				}
+			}
+
+			for (int b = 0; b < numBranchVertices; b++)
+			{
+				if (numBranchVertices - b > 1 && pSize >= MIN_CANDIDATES_TO_SPLIT && shouldSplit())
+				{
+					// another worker is hungry: hand off the remaining branches
+					split(root, rSize, p, pSize, x, xSize, branchVertices, b, numBranchVertices);
+					return;
+				}
+
+				int v = branchVertices[b];
+
+				// pPrime = P ⋂ N(v), xPrime = X ⋂ N(v)
+				int[] pPrime = (pSize > 1) ? new int[pSize - 1] : EMPTY;
+				int pPrimeSize = intersectNeighbors(v, p, pSize, pPrime);
+				int[] xPrime = new int[xSize + pPrimeSize];
+				int xPrimeSize = intersectNeighbors(v, x, xSize, xPrime);
+
+				r[rSize] = v;
+				expand(root, rSize + 1, pPrime, pPrimeSize, xPrime, xPrimeSize);
+				if (context.stopped)
+				{
+					return;
+				}
+
+				// P := P \ {v}, X := X ⋃ {v}
+				pSize = removeVertex(v, p, pSize);
+				x[xSize++] = v;
+
+				if (rSize + pSize < context.minCliqueSize)
+				{
+					return;
+				}
+			}
+
+		}
+
+		/**
+		 * @return Returns true if another worker is looking for work and this
+		 *         worker has none left to be stolen.
+		 */
+		private boolean shouldSplit()
+		{
+			if (context.numIdleWorkers.get() == 0)
+			{
+				return false;
+			}
+			synchronized (deque)
+			{
+				return deque.isEmpty();
+			}
+		}
+
+		/**
+		 * Turns branches [first, last) of the current sub-problem into tasks
+		 * on this worker's deque, exactly as the sequential loop in
+		 * expand(..) would have visited them.
+		 */
+		private void split(Root root, int rSize, int[] p, int pSize, int[] x, int xSize, int[] branchVertices, int first, int last)
+		{
+			List<Task> tasks = new ArrayList<Task>(last - first);
+			for (int b = first; b < last && rSize + pSize >= context.minCliqueSize; b++)
+			{
+				int v = branchVertices[b];
+
+				int[] pPrime = (pSize > 1) ? new int[pSize - 1] : EMPTY;
+				int pPrimeSize = intersectNeighbors(v, p, pSize, pPrime);
+				int[] xPrime = new int[xSize + pPrimeSize];
+				int xPrimeSize = intersectNeighbors(v, x, xSize, xPrime);
+
+				int[] rPrime = new int[rSize + 1];
+				System.arraycopy(r, 0, rPrime, 0, rSize);
+				rPrime[rSize] = v;
+				tasks.add(new Task(root, rPrime, pPrime, pPrimeSize, xPrime, xPrimeSize));
+
+				pSize = removeVertex(v, p, pSize);
+				x[xSize++] = v;
+			}
+
+			// count the tasks before they become visible to thieves
+			root.numPendingTasks.addAndGet(tasks.size());
+			context.outstandingWork.addAndGet(tasks.size());
+			numTasksSplit += tasks.size();
+
+			// push in reverse, so the owner continues with the first branch
+			synchronized (deque)
+			{
+				for (int i = tasks.size() - 1; i >= 0; i--)
+				{
+					deque.addLast(tasks.get(i));
+				}
+			}
+		}
+
+		private int removeVertex(int v, int[] set, int setSize)
+		{
+			for (int i = 0; i < setSize; i++)
+			{
+				if (set[i] == v)
+				{
+					set[i] = set[--setSize];
+					break;
+				}
+			}
+			return setSize;
+		}
+
+		/**
+		 * Tomita pivot selection: the vertex of P ⋃ X with the most neighbors
+		 * in P.
+		 */
+		private int choosePivot(int[] p, int pSize, int[] x, int xSize)
+		{
+			int pivot = p[0];
+			int maxNeighborsInP = -1;
+			for (int i = 0; i < pSize + xSize && maxNeighborsInP < pSize; i++)
+			{
+				int u = (i < pSize) ? p[i] : x[i - pSize];
+				if (adjacency[u].length <= maxNeighborsInP)
+				{
+					continue;
+				}
+				int neighborsInP = 0;
+				for (int j = 0; j < pSize; j++)
+				{
+					if (isAdjacent(u, p[j]))
+					{
+						neighborsInP++;
+					}
+				}
+				if (neighborsInP > maxNeighborsInP)
+				{
+					maxNeighborsInP = neighborsInP;
+					pivot = u;
+				}
+			}
+			return pivot;
+		}
+
+		/**
+		 * Copies the members of set that are neighbors of v into result.
+		 * 
+		 * @return Returns the number of members copied.
+		 */
+		private int intersectNeighbors(int v, int[] set, int setSize, int[] result)
+		{
+			int resultSize = 0;
+			for (int i = 0; i < setSize; i++)
+			{
+				if (isAdjacent(v, set[i]))
+				{
+					result[resultSize++] = set[i];
+				}
+			}
+			return resultSize;
+		}
+
+		private boolean isAdjacent(int u, int v)
+		{
+			// search the shorter of the two sorted neighbor lists
+			int[] uNeighbors = adjacency[u];
+			int[] vNeighbors = adjacency[v];
+			return (uNeighbors.length <= vNeighbors.length) ? Arrays.binarySearch(uNeighbors, v) >= 0 : Arrays.binarySearch(vNeighbors, u) >= 0;
+		}
+
+		private void reportClique(int rSize)
+		{
+			view.reset(r, 0, rSize);
+			if (context.visitor != null)
+			{
+				context.visit(view);
+			}
+			else
+			{
+				Set<V> clique = view.toSet();
+				maximalCliques.add(clique);
+				context.cliqueFound(clique);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,559 @@
+package net.big_oh.algorithms.graph.clique;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.big_oh.common.utils.Duration;
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.Vertex;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A {@link MaximalCliqueFinder} implementing the Bron-Kerbosch algorithm with
+ * Tomita pivot selection, driven by an outer loop over a degeneracy ordering of
+ * the graph (Eppstein, L&ouml;ffler &amp; Strash, 2010).<br/>
+ * <br/>
+ * For each vertex v in degeneracy order, the search is seeded with the
+ * neighbors of v that come later in the ordering as candidates (P) and the
+ * neighbors that come earlier as exclusions (X). Within each sub-problem, the
+ * pivot u maximizing |P &#x2229; N(u)| is chosen and only candidates that are
+ * not adjacent to u are branched upon. As a result, every maximal clique is
+ * reported exactly once and the running time is O(d n 3<sup>d/3</sup>) for a
+ * graph with n vertices and degeneracy d.<br/>
+ * <br/>
+ * The graph's adjacency is read once (one call to
+ * {@link Graph#getAllNeighbors(Vertex)} per vertex) into sorted int arrays, so
+ * the recursion itself allocates no collections until a clique is reported.
+ * One step is signaled to listeners per vertex of the graph.<br/>
+ * <br/>
+ * Cliques may also be streamed to a {@link MaximalCliqueVisitor}, in which
+ * case they are reported through a single reused {@link CliqueView} over the
+ * search's working array and nothing is retained.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public class PivotingBronKerboschMaximalCliqueFinder<V extends Vertex> implements StreamingMaximalCliqueFinder<V>
+{
+
+	private static final Log logger = LogFactory.getLog(PivotingBronKerboschMaximalCliqueFinder.class);
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Collection<MaximalCliqueFinderEventListener<V>> eventListeners;
+
+	public PivotingBronKerboschMaximalCliqueFinder()
+	{
+		// Use CopyOnWriteArrayList to support dynamic listeners w/o incurring
+		// synchronization overhead
+		eventListeners = new CopyOnWriteArrayList<MaximalCliqueFinderEventListener<V>>();
+	}
+
+	public void addListener(MaximalCliqueFinderEventListener<V> listener)
+	{
+		// Note, no need to synchronize since eventListeners is an instance of
+		// CopyOnWriteArrayList
+		eventListeners.add(listener);
+	}
+
+	public Set<Set<V>> findMaximalCliques(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+
+		Set<Set<V>> maximalCliques = new HashSet<Set<V>>();
+		search(g, minCliqueSize, maximalCliques, null, "findMaximalCliques");
+		return maximalCliques;
+	}
+
+	public long enumerateMaximalCliques(Graph<V> g, int minCliqueSize, MaximalCliqueVisitor<V> visitor) throws IllegalArgumentException
+	{
+		validateArguments(g, minCliqueSize);
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		return search(g, minCliqueSize, null, visitor, "enumerateMaximalCliques");
+	}
+
+	private void validateArguments(Graph<V> g, int minCliqueSize) throws IllegalArgumentException
+	{
+		if (g == null)
+		{
+			throw new IllegalArgumentException("The Graph argument must not be null.");
+		}
+		if (minCliqueSize < 2)
+		{
+			throw new IllegalArgumentException("The minCliqueSize argument must not be less than two.");
+		}
+	}
+
+	/**
+	 * Reports every maximal clique to maximalCliques (unless null), to
+	 * registered listeners and to visitor (unless null).
+	 * 
+	 * @return Returns the number of cliques reported.
+	 */
+	private long search(Graph<V> g, int minCliqueSize, Set<Set<V>> maximalCliques, MaximalCliqueVisitor<V> visitor, String operationName)
+	{
+
+		Duration d = new Duration(this.getClass());
+
+		// number the vertices and read the adjacency structure exactly once
+		List<V> vertices = new ArrayList<V>();
+		int[][] adjacency = buildAdjacency(g, vertices);
+
+		int[] ordering = computeDegeneracyOrdering(adjacency);
+		int[] rank = new int[ordering.length];
+		for (int i = 0; i < ordering.length; i++)
+		{
+			rank[ordering[i]] = i;
+		}
+
+		Search search = new Search(vertices, adjacency, minCliqueSize, maximalCliques, visitor);
+
+		long numVertices = ordering.length;
+		int completedVertexCounter = 0;
+		for (int v : ordering)
+		{
+			if (search.stopped)
+			{
+				break;
+			}
+
+			// P := later neighbors of v, X := earlier neighbors of v
+			int[] neighbors = adjacency[v];
+			int[] p = new int[neighbors.length];
+			int[] x = new int[neighbors.length];
+			int pSize = 0;
+			int xSize = 0;
+			for (int u : neighbors)
+			{
+				if (rank[u] > rank[v])
+				{
+					p[pSize++] = u;
+				}
+				else
+				{
+					x[xSize++] = u;
+				}
+			}
+
+			search.r[0] = v;
+			search.expand(1, p, pSize, x, xSize);
+
+			// count the completion of a step in the algorithm
+			completedVertexCounter++;
+
+			// signal step completion to listeners
+			for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+			{
+				try
+				{
+					listener.stepCompleted(completedVertexCounter, numVertices);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+
+			// log current progress of the operation?
+			if (completedVertexCounter % Math.max(1, (numVertices / 100)) == 0)
+			{
+				logger.info("Executing " + this.getClass().getSimpleName() + "." + operationName + "(..) ... " + (int) ((double) completedVertexCounter / (double) numVertices * 100.0) + "% complete.");
+			}
+		}
+
+		d.stop(operationName);
+
+		logger.info("Discovered " + search.numCliques + " maximal cliques with size of at least " + minCliqueSize + ".");
+
+		return search.numCliques;
+
+	}
+
+	/**
+	 * Numbers the vertices of g and reads each neighborhood exactly once.
+	 * 
+	 * @param g
+	 * @param vertices
+	 *            An empty list, to which the vertices of g are added in index
+	 *            order.
+	 * @return Returns, for each vertex index, the sorted indexes of its
+	 *         neighbors. Self loops and neighbors that are not vertices of the
+	 *         graph are dropped.
+	 */
+	static <V extends Vertex> int[][] buildAdjacency(Graph<V> g, List<V> vertices)
+	{
+		Map<V, Integer> vertexIndexes = new HashMap<V, Integer>();
+		for (Iterator<V> vertexIter = g.getAllVerticesIterator(); vertexIter.hasNext();)
+		{
+			V v = vertexIter.next();
+			if (!vertexIndexes.containsKey(v))
+			{
+				vertexIndexes.put(v, Integer.valueOf(vertices.size()));
+				vertices.add(v);
+			}
+		}
+
+		int[][] adjacency = new int[vertices.size()][];
+		for (int v = 0; v < adjacency.length; v++)
+		{
+			Set<V> neighbors = g.getAllNeighbors(vertices.get(v));
+			int[] neighborIndexes = new int[neighbors.size()];
+			int numNeighbors = 0;
+			for (V neighbor : neighbors)
+			{
+				Integer u = vertexIndexes.get(neighbor);
+				if (u != null && u.intValue() != v)
+				{
+					neighborIndexes[numNeighbors++] = u.intValue();
+				}
+			}
+			if (numNeighbors < neighborIndexes.length)
+			{
+				int[] trimmed = new int[numNeighbors];
+				System.arraycopy(neighborIndexes, 0, trimmed, 0, numNeighbors);
+				neighborIndexes = trimmed;
+			}
+			Arrays.sort(neighborIndexes);
+			adjacency[v] = neighborIndexes;
+		}
+		return adjacency;
+	}
+
+	/**
+	 * Computes a degeneracy ordering by repeatedly removing a vertex of minimum
+	 * remaining degree, using the O(n + m) bucket algorithm of Batagelj &amp;
+	 * Zaversnik. Every vertex has at most d neighbors later in the ordering,
+	 * where d is the degeneracy of the graph.
+	 * 
+	 * @return Returns the vertex indexes in degeneracy order.
+	 */
+	static int[] computeDegeneracyOrdering(int[][] adjacency)
+	{
+		int n = adjacency.length;
+		int[] degree = new int[n];
+		int maxDegree = 0;
+		for (int v = 0; v < n; v++)
+		{
+			degree[v] = adjacency[v].length;
+			maxDegree = Math.max(maxDegree, degree[v]);
+		}
+
+		// bin[k] is the position of the first vertex with degree k in vert
+		int[] bin = new int[maxDegree + 1];
+		for (int v = 0; v < n; v++)
+		{
+			bin[degree[v]]++;
+		}
+		int start = 0;
+		for (int k = 0; k <= maxDegree; k++)
+		{
+			int count = bin[k];
+			bin[k] = start;
+			start += count;
+		}
+
+		int[] vert = new int[n];
+		int[] pos = new int[n];
+		for (int v = 0; v < n; v++)
+		{
+			pos[v] = bin[degree[v]];
+			vert[pos[v]] = v;
+			bin[degree[v]]++;
+		}
+		for (int k = maxDegree; k > 0; k--)
+		{
+			bin[k] = bin[k - 1];
+		}
+		bin[0] = 0;
+
+		int degeneracy = 0;
+		for (int i = 0; i < n; i++)
+		{
+			int v = vert[i];
+			degeneracy = Math.max(degeneracy, degree[v]);
+			for (int u : adjacency[v])
+			{
+				if (degree[u] > degree[v])
+				{
+					// move u to the front of its bucket, then shrink it
+					int du = degree[u];
+					int pu = pos[u];
+					int pw = bin[du];
+					int w = vert[pw];
+					if (u != w)
+					{
+						pos[u] = pw;
+						vert[pu] = w;
+						pos[w] = pu;
+						vert[pw] = u;
+					}
+					bin[du]++;
+					degree[u]--;
+				}
+			}
+		}
+
+		if (logger.isDebugEnabled())
+		{
+			logger.debug("Graph with " + n + " vertices has degeneracy " + degeneracy + ".");
+		}
+
+		return vert;
+	}
+
+	/**
+	 * The recursive state shared by all sub-problems of a single
+	 * findMaximalCliques(..) invocation.
+	 */
+	private final class Search
+	{
+		private final List<V> vertices;
+		private final int[][] adjacency;
+		private final int minCliqueSize;
+
+		/** R, as a stack of vertex indexes */
+		private final int[] r;
+
+		private final Set<Set<V>> maximalCliques;
+		private final MaximalCliqueVisitor<V> visitor;
+		private final CliqueView<V> view;
+
+		private long numCliques;
+
+		/** set once the visitor asks to stop */
+		private boolean stopped;
+
+		private Search(List<V> vertices, int[][] adjacency, int minCliqueSize, Set<Set<V>> maximalCliques, MaximalCliqueVisitor<V> visitor)
+		{
+			this.vertices = vertices;
+			this.adjacency = adjacency;
+			this.minCliqueSize = minCliqueSize;
+			this.maximalCliques = maximalCliques;
+			this.visitor = visitor;
+			this.view = new CliqueView<V>(vertices);
+
+			int maxDegree = 0;
+			for (int[] neighbors : adjacency)
+			{
+				maxDegree = Math.max(maxDegree, neighbors.length);
+			}
+			this.r = new int[maxDegree + 1];
+		}
+
+		/**
+		 * Reports all maximal cliques that extend R[0..rSize) with vertices of
+		 * P and none of X. The array x must have room for xSize + pSize
+		 * entries, since candidates move from P to X as they are exhausted.
+		 */
+		private void expand(int rSize, int[] p, int pSize, int[] x, int xSize)
+		{
+
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("Depth:" + rSize + " - P:" + pSize + " - X:" + xSize);
+			}
+
+			// base case ...
+			// if P and X are both empty, then R is a maximal clique
+			if (pSize == 0)
+			{
+				if (xSize == 0 && rSize >= minCliqueSize)
+				{
+					reportClique(rSize);
+				}
+				return;
+			}
+
+			// no clique extending R can reach the minimum size
+			if (rSize + pSize < minCliqueSize)
+			{
+				return;
+			}
+
+			// branch only on candidates that are not neighbors of the pivot
+			int pivot = choosePivot(p, pSize, x, xSize);
+			int[] branchVertices = new int[pSize];
+			int numBranchVertices = 0;
+			for (int i = 0; i < pSize; i++)
+			{
+				if (!isAdjacent(pivot, p[i]))
+				{
+					branchVertices[numBranchVertices++] = p[i];
+				}
+			}
+
+			for (int b = 0; b < numBranchVertices; b++)
+			{
+				int v = branchVertices[b];
+
+				// pPrime = P ⋂ N(v), xPrime = X ⋂ N(v)
+				int[] pPrime = (pSize > 1) ? new int[pSize - 1] : EMPTY;
+				int pPrimeSize = intersectNeighbors(v, p, pSize, pPrime);
+				int[] xPrime = new int[xSize + pPrimeSize];
+				int xPrimeSize = intersectNeighbors(v, x, xSize, xPrime);
+
+				r[rSize] = v;
+				expand(rSize + 1, pPrime, pPrimeSize, xPrime, xPrimeSize);
+				if (stopped)
+				{
+					return;
+				}
+
+				// P := P \ {v}
+				for (int i = 0; i < pSize; i++)
+				{
+					if (p[i] == v)
+					{
+						p[i] = p[--pSize];
+						break;
+					}
+				}
+
+				// X := X ⋃ {v}
+				x[xSize++] = v;
+
+				if (rSize + pSize < minCliqueSize)
+				{
+					return;
+				}
+			}
+
+		}
+
+		/**
+		 * Tomita pivot selection: the vertex of P ⋃ X with the most neighbors
+		 * in P.
+		 */
+		private int choosePivot(int[] p, int pSize, int[] x, int xSize)
+		{
+			int pivot = p[0];
+			int maxNeighborsInP = -1;
+			for (int i = 0; i < pSize + xSize && maxNeighborsInP < pSize; i++)
+			{
+				int u = (i < pSize) ? p[i] : x[i - pSize];
+				if (adjacency[u].length <= maxNeighborsInP)
+				{
+					continue;
+				}
+				int neighborsInP = 0;
+				for (int j = 0; j < pSize; j++)
+				{
+					if (isAdjacent(u, p[j]))
+					{
+						neighborsInP++;
+					}
+				}
+				if (neighborsInP > maxNeighborsInP)
+				{
+					maxNeighborsInP = neighborsInP;
+					pivot = u;
+				}
+			}
+			return pivot;
+		}
+
+		/**
+		 * Copies the members of set that are neighbors of v into result.
+		 * 
+		 * @return Returns the number of members copied.
+		 */
+		private int intersectNeighbors(int v, int[] set, int setSize, int[] result)
+		{
+			int resultSize = 0;
+			for (int i = 0; i < setSize; i++)
+			{
+				if (isAdjacent(v, set[i]))
+				{
+					result[resultSize++] = set[i];
+				}
+			}
+			return resultSize;
+		}
+
+		private boolean isAdjacent(int u, int v)
+		{
+			// search the shorter of the two sorted neighbor lists
+			int[] uNeighbors = adjacency[u];
+			int[] vNeighbors = adjacency[v];
+			return (uNeighbors.length <= vNeighbors.length) ? Arrays.binarySearch(uNeighbors, v) >= 0 : Arrays.binarySearch(vNeighbors, u) >= 0;
+		}
+
+		private void reportClique(int rSize)
+		{
+			numCliques++;
+			view.reset(r, 0, rSize);
+
+			// only materialize the clique if it is collected or listened for
+			Set<V> clique = null;
+			if (maximalCliques != null)
+			{
+				clique = view.toSet();
+				maximalCliques.add(clique);
+			}
+
+			// each maximal clique is reported exactly once, so listeners can be
+			// notified immediately
+			for (MaximalCliqueFinderEventListener<V> listener : eventListeners)
+			{
+				if (clique == null)
+				{
+					clique = view.toSet();
+				}
+				try
+				{
+					listener.cliqueFound(clique);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+
+			if (visitor != null && !visitor.visit(view))
+			{
+				stopped = true;
+			}
+		}
+	}
+
+}
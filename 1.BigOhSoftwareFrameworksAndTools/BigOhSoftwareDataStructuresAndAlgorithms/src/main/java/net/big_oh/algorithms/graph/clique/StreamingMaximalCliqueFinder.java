@@ -0,0 +1,61 @@
+package net.big_oh.algorithms.graph.clique;
+
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A {@link MaximalCliqueFinder} that can also stream maximal cliques to a
+ * {@link MaximalCliqueVisitor} instead of collecting them into a
+ * <code>Set&lt;Set&lt;V&gt;&gt;</code>, so that graphs with very many maximal
+ * cliques can be processed in constant memory.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public interface StreamingMaximalCliqueFinder<V extends Vertex> extends MaximalCliqueFinder<V>
+{
+	/**
+	 * Visits every maximal clique in the graph of size minCliqueSize or
+	 * greater exactly once, until the visitor asks to stop. Registered
+	 * {@link MaximalCliqueFinderEventListener} objects are notified as they
+	 * would be by {@link #findMaximalCliques(Graph, int)}; note that each
+	 * cliqueFound(..) notification requires a copy of the clique.
+	 * 
+	 * @param g
+	 * @param minCliqueSize
+	 * @param visitor
+	 * @return Returns the number of cliques visited.
+	 * @throws IllegalArgumentException
+	 *             Thrown if Graph g or visitor is null or if minCliqueSize is
+	 *             less than 2.
+	 * 
+	 * @see CompactCliqueList
+	 */
+	public long enumerateMaximalCliques(Graph<V> g, int minCliqueSize, MaximalCliqueVisitor<V> visitor) throws IllegalArgumentException;
+}
@@ -0,0 +1,471 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.NoSuchElementException;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The open list (a.k.a. frontier) of an A* search, implemented as an
+ * array-backed d-ary heap.<br/>
+ * <br/>
+ * The ordering is fixed at construction time by the {@link AStarSearchType}:
+ * a MIN open list surfaces the node with the lowest f value, a MAX open list
+ * surfaces the node with the highest f value. Nodes with equal f values are
+ * never collapsed into one entry. Instead, ties are broken in favor of the node
+ * with the lower h value (i.e. the node that has made the most progress toward
+ * a goal state) and, failing that, in favor of the node that was added first.<br/>
+ * <br/>
+ * Each node records its own position in the heap, which allows
+ * {@link #contains(AStarSearchNode)}, {@link #remove(AStarSearchNode)} and
+ * {@link #decreaseKey(AStarSearchNode, double, double)} to run without
+ * searching the heap. As a consequence, a search node may reside in at most one
+ * open list at a time.<br/>
+ * <br/>
+ * This class is not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class AStarOpenList<SearchNodeType extends AStarSearchNode>
+{
+
+	/**
+	 * A 4-ary heap is shallower than a binary heap and keeps the children of a
+	 * node on the same cache line, which makes it faster for the push-heavy
+	 * workload of an A* search.
+	 */
+	public static final int DEFAULT_ARITY = 4;
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+	private final AStarSearchType searchType;
+	private final int arity;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	// parallel arrays describing the heap entries
+	private Object[] nodes;
+	private double[] keys;
+	private double[] hValues;
+	private long[] sequenceNumbers;
+
+	private int size;
+	private long nextSequenceNumber;
+
+	public AStarOpenList(AStarSearchType searchType)
+	{
+		this(searchType, DEFAULT_ARITY, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * @param searchType
+	 * @param arity
+	 *            The number of children per heap node. Must be at least 2.
+	 * @param initialCapacity
+	 *            The number of nodes that can be held before the backing
+	 *            arrays must grow.
+	 * @throws IllegalArgumentException
+	 *             Thrown if searchType is null, if arity is less than 2 or if
+	 *             initialCapacity is less than 1.
+	 */
+	public AStarOpenList(AStarSearchType searchType, int arity, int initialCapacity) throws IllegalArgumentException
+	{
+		if (searchType == null)
+		{
+			throw new IllegalArgumentException("The searchType argument must not be null.");
+		}
+		if (arity < 2)
+		{
+			throw new IllegalArgumentException("The arity argument must not be less than two.");
+		}
+		if (initialCapacity < 1)
+		{
+			throw new IllegalArgumentException("The initialCapacity argument must not be less than one.");
+		}
+
+		this.searchType = searchType;
+		this.arity = arity;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+
+		nodes = new Object[initialCapacity];
+		keys = new double[initialCapacity];
+		hValues = new double[initialCapacity];
+		sequenceNumbers = new long[initialCapacity];
+	}
+
+	/**
+	 * Adds a node to the open list.
+	 * 
+	 * @param node
+	 * @param f
+	 *            The f value (g + h) of the node.
+	 * @param h
+	 *            The h value of the node, used to break ties between nodes
+	 *            with equal f values.
+	 * @throws IllegalArgumentException
+	 *             Thrown if node is null.
+	 * @throws IllegalStateException
+	 *             Thrown if node already resides in an open list.
+	 */
+	public void add(SearchNodeType node, double f, double h) throws IllegalArgumentException, IllegalStateException
+	{
+		if (node == null)
+		{
+			throw new IllegalArgumentException("The node argument must not be null.");
+		}
+		if (node.getOpenListIndex() >= 0)
+		{
+			throw new IllegalStateException("The node already resides in an open list.");
+		}
+
+		if (size == nodes.length)
+		{
+			grow();
+		}
+
+		siftUp(size++, node, sign * f, h, nextSequenceNumber++);
+	}
+
+	/**
+	 * Removes and returns the best node in the open list.
+	 * 
+	 * @return Returns the best node in the open list.
+	 * @throws NoSuchElementException
+	 *             Thrown if the open list is empty.
+	 */
+	public SearchNodeType poll() throws NoSuchElementException
+	{
+		if (size == 0)
+		{
+			throw new NoSuchElementException("The open list is empty.");
+		}
+
+		SearchNodeType best = nodeAt(0);
+		removeAt(0);
+		return best;
+	}
+
+	/**
+	 * @return Returns the best node in the open list without removing it.
+	 * @throws NoSuchElementException
+	 *             Thrown if the open list is empty.
+	 */
+	public SearchNodeType peek() throws NoSuchElementException
+	{
+		if (size == 0)
+		{
+			throw new NoSuchElementException("The open list is empty.");
+		}
+
+		return nodeAt(0);
+	}
+
+	/**
+	 * @return Returns the f value of the best node in the open list.
+	 * @throws NoSuchElementException
+	 *             Thrown if the open list is empty.
+	 */
+	public double peekF() throws NoSuchElementException
+	{
+		if (size == 0)
+		{
+			throw new NoSuchElementException("The open list is empty.");
+		}
+
+		return sign * keys[0];
+	}
+
+	/**
+	 * @param node
+	 * @return Returns true if the node resides in this open list.
+	 */
+	public boolean contains(SearchNodeType node)
+	{
+		return indexOf(node) >= 0;
+	}
+
+	/**
+	 * @param node
+	 * @return Returns the f value with which the node was queued.
+	 * @throws NoSuchElementException
+	 *             Thrown if the node does not reside in this open list.
+	 */
+	public double getF(SearchNodeType node) throws NoSuchElementException
+	{
+		return sign * keys[requireIndexOf(node)];
+	}
+
+	/**
+	 * Removes a node from the open list.
+	 * 
+	 * @param node
+	 * @return Returns true if the node was removed, false if the node did not
+	 *         reside in this open list.
+	 */
+	public boolean remove(SearchNodeType node)
+	{
+		int index = indexOf(node);
+		if (index < 0)
+		{
+			return false;
+		}
+
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Improves the priority of a node that already resides in the open list,
+	 * e.g. because a cheaper path to the node's state has been discovered. For
+	 * a MIN open list the new f value must not be greater than the current f
+	 * value; for a MAX open list it must not be less. The node keeps its
+	 * original insertion order for tie-breaking purposes.
+	 * 
+	 * @param node
+	 * @param f
+	 * @param h
+	 * @throws NoSuchElementException
+	 *             Thrown if the node does not reside in this open list.
+	 * @throws IllegalArgumentException
+	 *             Thrown if f would worsen the priority of the node.
+	 */
+	public void decreaseKey(SearchNodeType node, double f, double h) throws NoSuchElementException, IllegalArgumentException
+	{
+		int index = requireIndexOf(node);
+
+		double key = sign * f;
+		if (key > keys[index])
+		{
+			throw new IllegalArgumentException("The new f value (" + f + ") would worsen the priority of the node in a " + searchType + " open list.");
+		}
+
+		siftUp(index, node, key, h, sequenceNumbers[index]);
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Removes all nodes from the open list.
+	 */
+	public void clear()
+	{
+		for (int i = 0; i < size; i++)
+		{
+			((AStarSearchNode) nodes[i]).setOpenListIndex(-1);
+			nodes[i] = null;
+		}
+		size = 0;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public int getArity()
+	{
+		return arity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private SearchNodeType nodeAt(int index)
+	{
+		return (SearchNodeType) nodes[index];
+	}
+
+	private int indexOf(SearchNodeType node)
+	{
+		if (node == null)
+		{
+			return -1;
+		}
+
+		int index = node.getOpenListIndex();
+		return (index >= 0 && index < size && nodes[index] == node) ? index : -1;
+	}
+
+	private int requireIndexOf(SearchNodeType node) throws NoSuchElementException
+	{
+		int index = indexOf(node);
+		if (index < 0)
+		{
+			throw new NoSuchElementException("The node does not reside in this open list.");
+		}
+		return index;
+	}
+
+	private void removeAt(int index)
+	{
+		((AStarSearchNode) nodes[index]).setOpenListIndex(-1);
+
+		int last = --size;
+		if (index == last)
+		{
+			nodes[last] = null;
+			return;
+		}
+
+		// move the last entry into the hole and restore the heap property
+		AStarSearchNode moved = (AStarSearchNode) nodes[last];
+		double movedKey = keys[last];
+		double movedH = hValues[last];
+		long movedSequenceNumber = sequenceNumbers[last];
+		nodes[last] = null;
+
+		siftDown(index, moved, movedKey, movedH, movedSequenceNumber);
+		if (nodes[index] == moved)
+		{
+			siftUp(index, moved, movedKey, movedH, movedSequenceNumber);
+		}
+	}
+
+	/**
+	 * Moves the hole at index up toward the root until the given entry may be
+	 * placed there.
+	 */
+	private void siftUp(int index, AStarSearchNode node, double key, double h, long sequenceNumber)
+	{
+		while (index > 0)
+		{
+			int parent = (index - 1) / arity;
+			if (!precedes(key, h, sequenceNumber, parent))
+			{
+				break;
+			}
+			moveEntry(parent, index);
+			index = parent;
+		}
+		setEntry(index, node, key, h, sequenceNumber);
+	}
+
+	/**
+	 * Moves the hole at index down toward the leaves until the given entry may
+	 * be placed there.
+	 */
+	private void siftDown(int index, AStarSearchNode node, double key, double h, long sequenceNumber)
+	{
+		while (true)
+		{
+			int firstChild = index * arity + 1;
+			if (firstChild >= size)
+			{
+				break;
+			}
+
+			// find the best child
+			int bestChild = firstChild;
+			int lastChild = Math.min(firstChild + arity, size);
+			for (int child = firstChild + 1; child < lastChild; child++)
+			{
+				if (precedes(keys[child], hValues[child], sequenceNumbers[child], bestChild))
+				{
+					bestChild = child;
+				}
+			}
+
+			if (!precedes(keys[bestChild], hValues[bestChild], sequenceNumbers[bestChild], key, h, sequenceNumber))
+			{
+				break;
+			}
+			moveEntry(bestChild, index);
+			index = bestChild;
+		}
+		setEntry(index, node, key, h, sequenceNumber);
+	}
+
+	private boolean precedes(double key, double h, long sequenceNumber, int index)
+	{
+		return precedes(key, h, sequenceNumber, keys[index], hValues[index], sequenceNumbers[index]);
+	}
+
+	private static boolean precedes(double key1, double h1, long sequenceNumber1, double key2, double h2, long sequenceNumber2)
+	{
+		if (key1 != key2)
+		{
+			return key1 < key2;
+		}
+		if (h1 != h2)
+		{
+			return h1 < h2;
+		}
+		return sequenceNumber1 < sequenceNumber2;
+	}
+
+	private void moveEntry(int from, int to)
+	{
+		nodes[to] = nodes[from];
+		keys[to] = keys[from];
+		hValues[to] = hValues[from];
+		sequenceNumbers[to] = sequenceNumbers[from];
+		((AStarSearchNode) nodes[to]).setOpenListIndex(to);
+	}
+
+	private void setEntry(int index, AStarSearchNode node, double key, double h, long sequenceNumber)
+	{
+		nodes[index] = node;
+		keys[index] = key;
+		hValues[index] = h;
+		sequenceNumbers[index] = sequenceNumber;
+		node.setOpenListIndex(index);
+	}
+
+	private void grow()
+	{
+		int newCapacity = nodes.length + (nodes.length >> 1) + 1;
+
+		Object[] newNodes = new Object[newCapacity];
+		System.arraycopy(nodes, 0, newNodes, 0, size);
+		nodes = newNodes;
+
+		double[] newKeys = new double[newCapacity];
+		System.arraycopy(keys, 0, newKeys, 0, size);
+		keys = newKeys;
+
+		double[] newHValues = new double[newCapacity];
+		System.arraycopy(hValues, 0, newHValues, 0, size);
+		hValues = newHValues;
+
+		long[] newSequenceNumbers = new long[newCapacity];
+		System.arraycopy(sequenceNumbers, 0, newSequenceNumbers, 0, size);
+		sequenceNumbers = newSequenceNumbers;
+	}
+
+}
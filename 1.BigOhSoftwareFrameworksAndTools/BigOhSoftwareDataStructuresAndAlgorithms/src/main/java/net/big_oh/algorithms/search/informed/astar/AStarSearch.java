@@ -1,11 +1,13 @@
 package net.big_oh.algorithms.search.informed.astar;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.SortedSet;
-import java.util.TreeSet;
-
-import net.big_oh.common.utils.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -51,58 +53,238 @@ public class AStarSearch<SearchNodeType extends AStarSearchNode>
 	private final AStarSearchType searchType;
 	private final Heuristic<SearchNodeType> heuristic;
 	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final AStarSearchMode searchMode;
+	private final AStarEvaluationMode evaluationMode;
+	private final ExecutorService heuristicExecutor;
+	private final Collection<AStarSearchListener<SearchNodeType>> eventListeners = new CopyOnWriteArrayList<AStarSearchListener<SearchNodeType>>();
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
 
 	public AStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator)
+	{
+		this(searchType, heuristic, nextNodesGenerator, AStarSearchMode.TREE);
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param searchMode
+	 *            Use {@link AStarSearchMode#GRAPH} to detect duplicate states;
+	 *            this requires search nodes that implement
+	 *            {@link AStarSearchNode#getStateHash()} and
+	 *            {@link AStarSearchNode#isSameState(AStarSearchNode)}.
+	 */
+	public AStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchMode searchMode)
+	{
+		this(searchType, heuristic, nextNodesGenerator, searchMode, AStarEvaluationMode.EAGER, null);
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param searchMode
+	 * @param evaluationMode
+	 *            Use {@link AStarEvaluationMode#LAZY} to defer calculating h
+	 *            values until nodes reach the front of the open list.
+	 * @param heuristicExecutor
+	 *            If not null, the h values of the nodes generated by a single
+	 *            expansion are calculated concurrently on this executor, in
+	 *            which case the heuristic must be thread safe. Only used in
+	 *            {@link AStarEvaluationMode#EAGER} mode.
+	 */
+	public AStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchMode searchMode, AStarEvaluationMode evaluationMode, ExecutorService heuristicExecutor)
 	{
 		this.searchType = searchType;
 		this.heuristic = heuristic;
 		this.nextNodesGenerator = nextNodesGenerator;
+		this.searchMode = searchMode;
+		this.evaluationMode = evaluationMode;
+		this.heuristicExecutor = heuristicExecutor;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
 	}
 
-	public AStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	public void addListener(AStarSearchListener<SearchNodeType> listener)
 	{
+		// Note, no need to synchronize since eventListeners is an instance of
+		// CopyOnWriteArrayList
+		eventListeners.add(listener);
+	}
 
-		Duration searchDuration = new Duration();
+	public AStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	{
+		return doSearch(startNode, AStarSearchBudget.UNLIMITED);
+	}
 
-		// create priority queue
-		SortedSet<SearchNodeType> prioritySet = new TreeSet<SearchNodeType>(new Comparator<SearchNodeType>()
+	/**
+	 * Searches until a goal node is found, the search space is exhausted or
+	 * the budget is used up, whichever happens first.
+	 * 
+	 * @param startNode
+	 * @param budget
+	 * @return Returns the results of the search. If no goal node was found,
+	 *         {@link AStarSearchResult#getBestNode()} returns the expanded node
+	 *         with the best h value (ties are broken by f value).
+	 * @throws IllegalArgumentException
+	 *             Thrown if budget is null.
+	 */
+	public AStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode, AStarSearchBudget budget) throws IllegalArgumentException
+	{
+		if (budget == null)
 		{
+			throw new IllegalArgumentException("The budget argument must not be null.");
+		}
 
-			public int compare(SearchNodeType o1, SearchNodeType o2)
-			{
-				switch (searchType)
-				{
-				case MIN:
-					return Double.compare(getF(o1), getF(o2));
-				case MAX:
-					return -1 * Double.compare(getF(o1), getF(o2));
-				default:
-					throw new RuntimeException("Unexpected search type: " + searchType);
-				}
-			}
+		long searchStartNanos = System.nanoTime();
+		long maxExpansions = budget.getMaxExpansions();
+		int maxOpenListSize = budget.getMaxOpenListSize();
+		long maxDurationNanos = budget.getMaxDurationNanos();
+		AStarCancellationToken cancellationToken = budget.getCancellationToken();
+
+		// iterating over an empty CopyOnWriteArrayList still allocates an
+		// iterator, so look the listeners up once per search
+		boolean notifyListeners = !eventListeners.isEmpty();
+
+		// create priority queue
+		AStarOpenList<SearchNodeType> openList = new AStarOpenList<SearchNodeType>(searchType);
 
-		});
+		// in graph search mode, track the best g value and closed status of
+		// every state reached so far
+		AStarStateTable<SearchNodeType> stateTable = (searchMode == AStarSearchMode.GRAPH) ? new AStarStateTable<SearchNodeType>() : null;
 
 		// enqueue the start node
-		prioritySet.add(startNode);
+		if (stateTable != null)
+		{
+			stateTable.insert(startNode, startNode.getG());
+		}
+		double startH = heuristic.getH(startNode);
+		openList.add(startNode, startNode.getG() + startH, startH);
+
+		if (notifyListeners)
+		{
+			fireSearchStarted(startNode);
+		}
 
 		// declare tracking member variables
 		int numSearchNodesGenerated = 0;
 		int numSearchNodesConsidered = 0;
 		int maxPossibleBranchingFactor = 1;
+		int numDuplicateNodesPruned = 0;
+		int numNodesReopened = 0;
+		int numNodesRequeued = 0;
+		int peakOpenListSize = 1;
+		long heuristicNanos = 0;
+		long successorGenerationNanos = 0;
+		long queueNanos = 0;
+		int numFBounds = 0;
+		double[] fBounds = new double[16];
+		long[] fBoundExpansions = new long[16];
 
 		// search for a goal state
 		SearchNodeType goalNode = null;
-		while (!prioritySet.isEmpty())
+		SearchNodeType bestNode = startNode;
+		double bestNodeH = Double.POSITIVE_INFINITY;
+		double bestNodeF = Double.NaN;
+		AStarStopReason stopReason = AStarStopReason.SEARCH_SPACE_EXHAUSTED;
+		List<SearchNodeType> acceptedSearchNodes = new ArrayList<SearchNodeType>();
+		double[] acceptedHValues = new double[16];
+		while (!openList.isEmpty())
 		{
 
+			// enforce the budget
+			long nanos = System.nanoTime();
+			if (cancellationToken != null && cancellationToken.isCancelled())
+			{
+				stopReason = AStarStopReason.CANCELLED;
+				break;
+			}
+			if (numSearchNodesConsidered >= maxExpansions)
+			{
+				stopReason = AStarStopReason.EXPANSION_LIMIT_REACHED;
+				break;
+			}
+			if (nanos - searchStartNanos >= maxDurationNanos)
+			{
+				stopReason = AStarStopReason.DEADLINE_REACHED;
+				break;
+			}
+
 			// Remove the best candidate node from the queue
-			SearchNodeType candidateSearchNode = prioritySet.first();
-			prioritySet.remove(candidateSearchNode);
+			double candidateF = openList.peekF();
+			SearchNodeType candidateSearchNode = openList.poll();
+			long now = System.nanoTime();
+			queueNanos += now - nanos;
+
+			if (evaluationMode == AStarEvaluationMode.LAZY && Double.isNaN(candidateSearchNode.getH(heuristic)))
+			{
+				// the node was queued under a bound; calculate its real f value
+				// and put it back if it no longer belongs at the front. A real f
+				// value better than the key (possible with an inconsistent
+				// heuristic) is ignored, i.e. pathmax is applied.
+				nanos = now;
+				double g = candidateSearchNode.getG();
+				double f = g + heuristic.getH(candidateSearchNode);
+				now = System.nanoTime();
+				heuristicNanos += now - nanos;
+				if (isBetter(candidateF, f))
+				{
+					candidateF = f;
+					if (!openList.isEmpty() && isBetter(openList.peekF(), candidateF))
+					{
+						openList.add(candidateSearchNode, candidateF, candidateF - g);
+						numNodesRequeued++;
+						queueNanos += System.nanoTime() - now;
+						continue;
+					}
+				}
+			}
+
+			if (numFBounds == 0 || isBetter(fBounds[numFBounds - 1], candidateF))
+			{
+				if (numFBounds == fBounds.length)
+				{
+					fBounds = resize(fBounds, numFBounds << 1);
+					fBoundExpansions = resize(fBoundExpansions, numFBounds << 1);
+				}
+				fBounds[numFBounds] = candidateF;
+				fBoundExpansions[numFBounds] = numSearchNodesConsidered;
+				numFBounds++;
+				if (notifyListeners)
+				{
+					fireFBoundRaised(candidateF, numSearchNodesConsidered);
+				}
+			}
+
 			numSearchNodesConsidered++;
 
+			double candidateH = heuristic.getH(candidateSearchNode);
+			if (candidateH < bestNodeH || (candidateH == bestNodeH && isBetter(candidateF, bestNodeF)))
+			{
+				bestNode = candidateSearchNode;
+				bestNodeH = candidateH;
+				bestNodeF = candidateF;
+			}
+
+			if (notifyListeners)
+			{
+				fireNodeExpanded(candidateSearchNode, candidateF, openList.size());
+			}
+
+			if (stateTable != null)
+			{
+				stateTable.setClosed(stateTable.indexOf(candidateSearchNode), true);
+			}
+
 			// get the next search node candidates
+			nanos = System.nanoTime();
 			Collection<SearchNodeType> nextSearchNodes = nextNodesGenerator.getNextSearchNodes(candidateSearchNode);
+			now = System.nanoTime();
+			successorGenerationNanos += now - nanos;
 
 			// do some record keeping
 			numSearchNodesGenerated += nextSearchNodes.size();
@@ -115,35 +297,308 @@ public class AStarSearch<SearchNodeType extends AStarSearchNode>
 
 				// found an optimal solution
 				goalNode = candidateSearchNode;
+				bestNode = candidateSearchNode;
+				stopReason = AStarStopReason.GOAL_FOUND;
 				break;
 			}
+
+			// filter out duplicates
+			nanos = now;
+			acceptedSearchNodes.clear();
+			for (SearchNodeType nextSearchNode : nextSearchNodes)
+			{
+				if (stateTable == null)
+				{
+					acceptedSearchNodes.add(nextSearchNode);
+					continue;
+				}
+
+				double g = nextSearchNode.getG();
+				int slot = stateTable.indexOf(nextSearchNode);
+				if (slot < 0)
+				{
+					// first time this state has been reached
+					stateTable.insert(nextSearchNode, g);
+					acceptedSearchNodes.add(nextSearchNode);
+					continue;
+				}
+
+				if (!isBetterG(g, stateTable.getBestG(slot)) || (stateTable.isClosed(slot) && heuristic.isConsistent()))
+				{
+					// a path to this state that is at least as good is already
+					// known
+					numDuplicateNodesPruned++;
+					continue;
+				}
+
+				if (stateTable.isClosed(slot))
+				{
+					// an inconsistent heuristic closed the state too early
+					stateTable.setClosed(slot, false);
+					numNodesReopened++;
+				}
+				else
+				{
+					openList.remove(stateTable.getNode(slot));
+				}
+				stateTable.update(slot, nextSearchNode, g);
+				acceptedSearchNodes.add(nextSearchNode);
+			}
+			int numAccepted = acceptedSearchNodes.size();
+
+			// enqueue all accepted search nodes
+			if (evaluationMode == AStarEvaluationMode.LAZY)
+			{
+				for (int i = 0; i < numAccepted; i++)
+				{
+					enqueueLazily(openList, acceptedSearchNodes.get(i), candidateF);
+				}
+				queueNanos += System.nanoTime() - nanos;
+			}
 			else
 			{
-				// enqueue all next search nodes
-				Duration enqueueDuration = new Duration();
+				now = System.nanoTime();
+				queueNanos += now - nanos;
 
-				prioritySet.addAll(nextSearchNodes);
+				nanos = now;
+				if (heuristicExecutor != null)
+				{
+					calculateHValuesConcurrently(acceptedSearchNodes);
+				}
+				if (acceptedHValues.length < numAccepted)
+				{
+					acceptedHValues = new double[Math.max(numAccepted, acceptedHValues.length << 1)];
+				}
+				for (int i = 0; i < numAccepted; i++)
+				{
+					acceptedHValues[i] = heuristic.getH(acceptedSearchNodes.get(i));
+				}
+				now = System.nanoTime();
+				heuristicNanos += now - nanos;
 
-				if (logger.isDebugEnabled())
+				nanos = now;
+				for (int i = 0; i < numAccepted; i++)
 				{
-					logger.debug("Enqueued " + nextSearchNodes.size() + " A* search nodes in " + enqueueDuration.stop() + " milliseconds.");
+					SearchNodeType acceptedSearchNode = acceptedSearchNodes.get(i);
+					openList.add(acceptedSearchNode, acceptedSearchNode.getG() + acceptedHValues[i], acceptedHValues[i]);
 				}
+				queueNanos += System.nanoTime() - nanos;
+			}
+
+			peakOpenListSize = Math.max(peakOpenListSize, openList.size());
+			if (openList.size() > maxOpenListSize)
+			{
+				stopReason = AStarStopReason.OPEN_LIST_LIMIT_REACHED;
+				break;
 			}
 
 		}
 
+		AStarSearchStatistics statistics = new AStarSearchStatistics(numSearchNodesConsidered, peakOpenListSize, System.nanoTime() - searchStartNanos, heuristicNanos, successorGenerationNanos, queueNanos, resize(fBoundExpansions, numFBounds), resize(fBounds, numFBounds));
+
 		// return the search results
-		AStarSearchResult<SearchNodeType> results = new AStarSearchResult<SearchNodeType>(goalNode, numSearchNodesGenerated, calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), numSearchNodesConsidered, maxPossibleBranchingFactor));
+		// without a goal node, measure the branching factor along the path to
+		// the best node
+		int solutionDepth = bestNode.getNodeDepth();
+		double effectiveBranchingFactor = (solutionDepth < numSearchNodesConsidered) ? calculateEffectiveBranchingFactor(solutionDepth, numSearchNodesConsidered, maxPossibleBranchingFactor) : 1.0;
+		AStarSearchResult<SearchNodeType> results = new AStarSearchResult<SearchNodeType>(goalNode, numSearchNodesGenerated, effectiveBranchingFactor, statistics, stopReason, bestNode);
+
+		if (logger.isDebugEnabled())
+		{
+			logger.debug("Completed an A* search (" + stopReason + "): " + statistics);
+			logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated() + ", depth of best node: " + solutionDepth + ", effective branching factor: " + results.getEfectiveBranchingFactor());
+			if (stateTable != null)
+			{
+				logger.debug("Distinct states reached: " + stateTable.size() + ", duplicates pruned: " + numDuplicateNodesPruned + ", states reopened: " + numNodesReopened);
+			}
+			if (evaluationMode == AStarEvaluationMode.LAZY)
+			{
+				logger.debug("Nodes re-queued after lazy evaluation: " + numNodesRequeued);
+			}
+		}
 
-		logger.debug("Completed an A* search in " + searchDuration.stop() + " milliseconds.");
-		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
-		logger.debug("Depth of goal node: " + results.getGoalNode().getNodeDepth());
-		logger.debug("Effective branching factor: " + results.getEfectiveBranchingFactor());
+		if (notifyListeners)
+		{
+			fireSearchCompleted(results);
+		}
 
 		return results;
 
 	}
 
+	private void fireSearchStarted(SearchNodeType startNode)
+	{
+		for (AStarSearchListener<SearchNodeType> listener : eventListeners)
+		{
+			try
+			{
+				listener.searchStarted(startNode);
+			}
+			catch (RuntimeException re)
+			{
+				logger.error(re.getMessage(), re);
+			}
+		}
+	}
+
+	private void fireNodeExpanded(SearchNodeType searchNode, double f, int openListSize)
+	{
+		for (AStarSearchListener<SearchNodeType> listener : eventListeners)
+		{
+			try
+			{
+				listener.nodeExpanded(searchNode, f, openListSize);
+			}
+			catch (RuntimeException re)
+			{
+				logger.error(re.getMessage(), re);
+			}
+		}
+	}
+
+	private void fireFBoundRaised(double f, long numNodesExpanded)
+	{
+		for (AStarSearchListener<SearchNodeType> listener : eventListeners)
+		{
+			try
+			{
+				listener.fBoundRaised(f, numNodesExpanded);
+			}
+			catch (RuntimeException re)
+			{
+				logger.error(re.getMessage(), re);
+			}
+		}
+	}
+
+	private void fireSearchCompleted(AStarSearchResult<SearchNodeType> result)
+	{
+		for (AStarSearchListener<SearchNodeType> listener : eventListeners)
+		{
+			try
+			{
+				listener.searchCompleted(result);
+			}
+			catch (RuntimeException re)
+			{
+				logger.error(re.getMessage(), re);
+			}
+		}
+	}
+
+	/**
+	 * Adds a search node to the open list without calculating its h value. The
+	 * node is keyed by the f value of its parent or, if the heuristic offers a
+	 * tighter cheap estimate, by g plus that estimate.<br/>
+	 * <br/>
+	 * Only a consistent heuristic guarantees that either key is a bound on the
+	 * node's real f value. With an inconsistent (but admissible) heuristic the
+	 * key may be worse than the real f value. The key is then kept, which
+	 * applies the pathmax rule: every solution through the node also passes
+	 * through its parent, so the parent's f value still bounds the cost of
+	 * any solution through the node, and the search remains optimal. Such
+	 * nodes may be expanded later than an eager search would expand them.
+	 */
+	private void enqueueLazily(AStarOpenList<SearchNodeType> openList, SearchNodeType searchNode, double parentF)
+	{
+		double g = searchNode.getG();
+		double f = parentF;
+		double cheapH = heuristic.calculateCheapH(searchNode);
+		if (!Double.isNaN(cheapH) && isBetter(f, g + cheapH))
+		{
+			f = g + cheapH;
+		}
+		openList.add(searchNode, f, f - g);
+	}
+
+	/**
+	 * Calculates (and caches) the h values of a batch of search nodes on the
+	 * heuristic executor. The calling thread scores the first node itself
+	 * rather than waiting idly.
+	 */
+	private void calculateHValuesConcurrently(List<SearchNodeType> searchNodes)
+	{
+		if (searchNodes.size() < 2)
+		{
+			return;
+		}
+
+		List<Future<Double>> futures = new ArrayList<Future<Double>>(searchNodes.size() - 1);
+		try
+		{
+			for (int i = 1; i < searchNodes.size(); i++)
+			{
+				final SearchNodeType searchNode = searchNodes.get(i);
+				futures.add(heuristicExecutor.submit(new Callable<Double>()
+				{
+					public Double call()
+					{
+						return heuristic.getH(searchNode);
+					}
+				}));
+			}
+
+			heuristic.getH(searchNodes.get(0));
+
+			for (Future<Double> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while calculating h values.", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException("Failed to calculate an h value.", e.getCause());
+		}
+		finally
+		{
+			for (Future<Double> future : futures)
+			{
+				future.cancel(true);
+			}
+		}
+	}
+
+	private static double[] resize(double[] values, int length)
+	{
+		double[] resized = new double[length];
+		System.arraycopy(values, 0, resized, 0, Math.min(values.length, length));
+		return resized;
+	}
+
+	private static long[] resize(long[] values, int length)
+	{
+		long[] resized = new long[length];
+		System.arraycopy(values, 0, resized, 0, Math.min(values.length, length));
+		return resized;
+	}
+
+	/**
+	 * @return Returns true if f1 is strictly better than f2 for this search's
+	 *         {@link AStarSearchType}.
+	 */
+	private boolean isBetter(double f1, double f2)
+	{
+		return sign * f1 < sign * f2;
+	}
+
+	/**
+	 * @return Returns true if g1 is a strictly better path value than g2 for
+	 *         this search's {@link AStarSearchType}.
+	 */
+	private boolean isBetterG(double g1, double g2)
+	{
+		return (searchType == AStarSearchType.MAX) ? g1 > g2 : g1 < g2;
+	}
+
 	public Heuristic<SearchNodeType> getHeuristic()
 	{
 		return heuristic;
@@ -154,6 +609,21 @@ public class AStarSearch<SearchNodeType extends AStarSearchNode>
 		return searchType;
 	}
 
+	public AStarSearchMode getSearchMode()
+	{
+		return searchMode;
+	}
+
+	public AStarEvaluationMode getEvaluationMode()
+	{
+		return evaluationMode;
+	}
+
+	public ExecutorService getHeuristicExecutor()
+	{
+		return heuristicExecutor;
+	}
+
 	public double getF(SearchNodeType searchNode)
 	{
 		return searchNode.getG() + heuristic.getH(searchNode);
@@ -182,4 +652,27 @@ public class AStarSearch<SearchNodeType extends AStarSearchNode>
 		MIN, MAX;
 	}
 
+	/**
+	 * A TREE search expands every node it generates, even if the node's state
+	 * has already been reached along a different path. A GRAPH search
+	 * recognizes repeated states, expanding each state only along the best
+	 * known path to it.
+	 */
+	public static enum AStarSearchMode
+	{
+		TREE, GRAPH;
+	}
+
+	/**
+	 * An EAGER search calculates the h value of every node as it is queued. A
+	 * LAZY search queues nodes under a cheap bound (see
+	 * {@link Heuristic#calculateCheapH(AStarSearchNode)}) and calculates the
+	 * real h value only once a node reaches the front of the open list, which
+	 * saves heuristic evaluations for the many nodes that are never expanded.
+	 */
+	public static enum AStarEvaluationMode
+	{
+		EAGER, LAZY;
+	}
+
 }
@@ -0,0 +1,112 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Hard limits on the resources an {@link AStarSearch} may consume. A search
+ * that hits any of its limits stops and reports the best node it found so
+ * far; see {@link AStarSearchResult#getStopReason()}. Limits are checked once
+ * per expansion, so a search stops within the time it takes to expand a
+ * single node.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class AStarSearchBudget
+{
+	/**
+	 * A budget that never stops a search.
+	 */
+	public static final AStarSearchBudget UNLIMITED = new AStarSearchBudget(Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, null);
+
+	private final long maxExpansions;
+	private final int maxOpenListSize;
+	private final long maxDurationMillis;
+	private final AStarCancellationToken cancellationToken;
+
+	/**
+	 * @param maxExpansions
+	 *            The maximum number of nodes to expand.
+	 * @param maxOpenListSize
+	 *            The maximum number of nodes the open list may hold.
+	 * @param maxDurationMillis
+	 *            The maximum wall-clock duration of the search.
+	 * @param cancellationToken
+	 *            May be null if the search will never be cancelled.
+	 * @throws IllegalArgumentException
+	 *             Thrown if a limit is negative or maxOpenListSize is zero.
+	 */
+	public AStarSearchBudget(long maxExpansions, int maxOpenListSize, long maxDurationMillis, AStarCancellationToken cancellationToken) throws IllegalArgumentException
+	{
+		if (maxExpansions < 0)
+		{
+			throw new IllegalArgumentException("The maxExpansions argument must not be negative.");
+		}
+		if (maxOpenListSize < 1)
+		{
+			throw new IllegalArgumentException("The maxOpenListSize argument must be positive.");
+		}
+		if (maxDurationMillis < 0)
+		{
+			throw new IllegalArgumentException("The maxDurationMillis argument must not be negative.");
+		}
+
+		this.maxExpansions = maxExpansions;
+		this.maxOpenListSize = maxOpenListSize;
+		this.maxDurationMillis = maxDurationMillis;
+		this.cancellationToken = cancellationToken;
+	}
+
+	public long getMaxExpansions()
+	{
+		return maxExpansions;
+	}
+
+	public int getMaxOpenListSize()
+	{
+		return maxOpenListSize;
+	}
+
+	public long getMaxDurationMillis()
+	{
+		return maxDurationMillis;
+	}
+
+	public AStarCancellationToken getCancellationToken()
+	{
+		return cancellationToken;
+	}
+
+	/**
+	 * @return Returns the maximum duration in nanoseconds, saturating at
+	 *         Long.MAX_VALUE.
+	 */
+	long getMaxDurationNanos()
+	{
+		return (maxDurationMillis >= Long.MAX_VALUE / 1000000L) ? Long.MAX_VALUE : maxDurationMillis * 1000000L;
+	}
+
+}
@@ -0,0 +1,80 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.EventListener;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * This interface defines listener methods for events that transpire while an
+ * {@link AStarSearch} is running. Listeners are notified on the thread
+ * executing the search, once per expansion in the case of
+ * {@link #nodeExpanded(AStarSearchNode, double, int)}, so implementations must
+ * be quick.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public interface AStarSearchListener<SearchNodeType extends AStarSearchNode> extends EventListener
+{
+	/**
+	 * Signaled once the start node has been queued, before any node is
+	 * expanded.
+	 * 
+	 * @param startNode
+	 */
+	public void searchStarted(SearchNodeType startNode);
+
+	/**
+	 * Signaled each time a node is removed from the open list for expansion.
+	 * 
+	 * @param searchNode
+	 * @param f
+	 *            The f value under which searchNode was expanded.
+	 * @param openListSize
+	 *            The number of nodes left on the open list.
+	 */
+	public void nodeExpanded(SearchNodeType searchNode, double f, int openListSize);
+
+	/**
+	 * Signaled each time the search expands a node whose f value is worse than
+	 * that of every node expanded before it. With an admissible heuristic, f
+	 * is a bound on the cost of the best solution, so this event tracks the
+	 * progress of the search toward that solution.
+	 * 
+	 * @param f
+	 * @param numNodesExpanded
+	 *            The number of nodes expanded before the node carrying f.
+	 */
+	public void fBoundRaised(double f, long numNodesExpanded);
+
+	/**
+	 * Signaled once the search is over, whether or not a goal node was found.
+	 * 
+	 * @param result
+	 */
+	public void searchCompleted(AStarSearchResult<SearchNodeType> result);
+}
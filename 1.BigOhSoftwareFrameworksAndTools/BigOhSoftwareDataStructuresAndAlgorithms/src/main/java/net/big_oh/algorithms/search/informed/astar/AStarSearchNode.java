@@ -1,8 +1,5 @@
 package net.big_oh.algorithms.search.informed.astar;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 /*
@@ -31,7 +28,20 @@ import org.apache.commons.lang.builder.ToStringBuilder;
  */
 
 /**
- * An abstraction of a single search node in the A* algorithm.
+ * An abstraction of a single search node in the A* algorithm.<br/>
+ * <br/>
+ * Search nodes are created in very large numbers, so lazily calculated
+ * values are cached in primitive fields rather than in boxed objects or
+ * per-node collections. The h value of the first heuristic to evaluate a node
+ * is stored in a single field; h values of further heuristics are stored as
+ * (slot, h) pairs, keyed by the slot each {@link Heuristic} is assigned by the
+ * {@link HeuristicRegistry}, and searched linearly. A node's size therefore
+ * depends only on how many heuristics have evaluated it, never on how many
+ * heuristics the process has created.<br/>
+ * <br/>
+ * A node caches the h values of at most {@value #MAX_EXTRA_H_VALUES} heuristics
+ * besides the first; the values of any further heuristics are recalculated on
+ * every request.
  * 
  * @author davewingate
  * @version Nov 29, 2009
@@ -39,17 +49,50 @@ import org.apache.commons.lang.builder.ToStringBuilder;
 public abstract class AStarSearchNode
 {
 
+	private static final byte G_CALCULATED = 1;
+	private static final byte GOAL_STATE_CALCULATED = 2;
+	private static final byte GOAL_STATE = 4;
+
+	/**
+	 * The maximum number of h values cached for heuristics other than the
+	 * first one to evaluate a node.
+	 */
+	static final int MAX_EXTRA_H_VALUES = 8;
+
 	private final int nodeDepth;
-	private final Map<Heuristic<?>, Double> hMap;
 
-	private Boolean goalState;
-	private Double g;
+	/**
+	 * Records which lazily calculated values are known, and the goal state
+	 * flag itself.
+	 */
+	private byte flags;
+	private double g;
+
+	/**
+	 * The heuristic slot whose h value is held in the h field, or -1 if no h
+	 * value has been calculated.
+	 */
+	private int hSlot = -1;
+	private double h;
+
+	/**
+	 * The slots and h values of heuristics other than the one in hSlot, as
+	 * parallel arrays that are exactly as long as the number of such values.
+	 * Allocated only for nodes evaluated by more than one heuristic.
+	 */
+	private int[] extraHSlots;
+	private double[] extraHValues;
+
+	/**
+	 * The position of this node within the {@link AStarOpenList} that
+	 * currently holds it, or -1 if the node is not queued.
+	 */
+	private int openListIndex = -1;
 
 	public AStarSearchNode(int nodeDepth)
 	{
 		super();
 		this.nodeDepth = nodeDepth;
-		hMap = new HashMap<Heuristic<?>, Double>();
 	}
 
 	@Override
@@ -63,14 +106,14 @@ public abstract class AStarSearchNode
 		return nodeDepth;
 	}
 
-	public Boolean isGoalState()
+	public boolean isGoalState()
 	{
-		if (goalState == null)
+		if ((flags & GOAL_STATE_CALCULATED) == 0)
 		{
-			goalState = calculateGoalState();
+			flags |= calculateGoalState() ? (GOAL_STATE_CALCULATED | GOAL_STATE) : GOAL_STATE_CALCULATED;
 		}
 
-		return goalState;
+		return (flags & GOAL_STATE) != 0;
 	}
 
 	/**
@@ -79,11 +122,12 @@ public abstract class AStarSearchNode
 	 */
 	protected abstract boolean calculateGoalState();
 
-	public Double getG()
+	public double getG()
 	{
-		if (g == null)
+		if ((flags & G_CALCULATED) == 0)
 		{
 			g = calculateG();
+			flags |= G_CALCULATED;
 		}
 
 		return g;
@@ -95,21 +139,118 @@ public abstract class AStarSearchNode
 	 */
 	protected abstract double calculateG();
 
-	public Double getH(Heuristic<? extends AStarSearchNode> heuristic)
+	/**
+	 * Returns a 64-bit hash of the problem state represented by this node. Two
+	 * nodes that represent the same state (regardless of the path taken to
+	 * reach it) must return the same hash. Implementing this method, together
+	 * with {@link #isSameState(AStarSearchNode)}, is optional; it is only
+	 * required when the node is used in a graph search.
+	 * 
+	 * @return Returns a hash of the problem state represented by this node.
+	 * @throws UnsupportedOperationException
+	 *             if this node type does not define a notion of state identity.
+	 * @see AStarSearch.AStarSearchMode#GRAPH
+	 */
+	public long getStateHash() throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException(getClass().getName() + " does not define a notion of state identity.");
+	}
+
+	/**
+	 * @param other
+	 * @return Returns true if this node and the other node represent the same
+	 *         problem state.
+	 * @throws UnsupportedOperationException
+	 *             if this node type does not define a notion of state identity.
+	 * @see #getStateHash()
+	 */
+	public boolean isSameState(AStarSearchNode other) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException(getClass().getName() + " does not define a notion of state identity.");
+	}
+
+	/**
+	 * @param heuristic
+	 * @return Returns the h value calculated for this node by heuristic, or
+	 *         NaN if heuristic has not yet evaluated this node.
+	 */
+	public double getH(Heuristic<? extends AStarSearchNode> heuristic)
 	{
-		return hMap.get(heuristic);
+		return getH(heuristic.getSlot());
+	}
+
+	double getH(int slot)
+	{
+		if (slot == hSlot)
+		{
+			return h;
+		}
+		if (extraHSlots != null)
+		{
+			for (int i = 0; i < extraHSlots.length; i++)
+			{
+				if (extraHSlots[i] == slot)
+				{
+					return extraHValues[i];
+				}
+			}
+		}
+		return Double.NaN;
 	}
 
 	/**
 	 * A package visible setter method that will allow a Heuristic to set the
 	 * calculated h value for this node.
 	 * 
-	 * @param heuristic
+	 * @param slot
+	 *            The slot of the heuristic that calculated the h value.
 	 * @param h
 	 */
-	void setH(Heuristic<? extends AStarSearchNode> heuristic, Double h)
+	void setH(int slot, double h)
+	{
+		if (hSlot < 0 || hSlot == slot)
+		{
+			this.hSlot = slot;
+			this.h = h;
+			return;
+		}
+
+		int numExtraHValues = (extraHSlots == null) ? 0 : extraHSlots.length;
+		for (int i = 0; i < numExtraHValues; i++)
+		{
+			if (extraHSlots[i] == slot)
+			{
+				extraHValues[i] = h;
+				return;
+			}
+		}
+		if (numExtraHValues == MAX_EXTRA_H_VALUES)
+		{
+			// not cached; the heuristic recalculates the value when asked again
+			return;
+		}
+
+		int[] newExtraHSlots = new int[numExtraHValues + 1];
+		double[] newExtraHValues = new double[numExtraHValues + 1];
+		if (numExtraHValues > 0)
+		{
+			System.arraycopy(extraHSlots, 0, newExtraHSlots, 0, numExtraHValues);
+			System.arraycopy(extraHValues, 0, newExtraHValues, 0, numExtraHValues);
+		}
+		newExtraHSlots[numExtraHValues] = slot;
+		newExtraHValues[numExtraHValues] = h;
+		extraHSlots = newExtraHSlots;
+		extraHValues = newExtraHValues;
+	}
+
+	int getOpenListIndex()
+	{
+		return openListIndex;
+	}
+
+	void setOpenListIndex(int openListIndex)
 	{
-		hMap.put(heuristic, h);
+		this.openListIndex = openListIndex;
 	}
 
 }
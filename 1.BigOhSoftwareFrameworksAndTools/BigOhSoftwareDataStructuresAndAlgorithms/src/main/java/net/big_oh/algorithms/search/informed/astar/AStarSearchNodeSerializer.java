@@ -0,0 +1,62 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.nio.ByteBuffer;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Converts search nodes to and from the binary records in which an
+ * {@link ExternalMemoryAStarSearch} stores them on disk. A node read back must
+ * represent the same state, with the same g value and depth, as the node that
+ * was written; anything else the caller needs from a goal node (e.g. the path
+ * that led to it) must be serialized as well.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public abstract class AStarSearchNodeSerializer<SearchNodeType extends AStarSearchNode>
+{
+
+	/**
+	 * @return Returns an upper bound on the number of bytes written by
+	 *         {@link #write(AStarSearchNode, ByteBuffer)} for any node.
+	 */
+	public abstract int getMaxRecordSize();
+
+	/**
+	 * Writes searchNode at the current position of buffer, which has at least
+	 * {@link #getMaxRecordSize()} bytes remaining.
+	 */
+	public abstract void write(SearchNodeType searchNode, ByteBuffer buffer);
+
+	/**
+	 * Reads a node written by {@link #write(AStarSearchNode, ByteBuffer)} from
+	 * the current position of buffer.
+	 */
+	public abstract SearchNodeType read(ByteBuffer buffer);
+
+}
@@ -37,13 +37,24 @@ public class AStarSearchResult<SearchNodeType extends AStarSearchNode>
 	private final SearchNodeType goalNode;
 	private final long numSearchNodesGenerated;
 	private final double efectiveBranchingFactor;
+	private final AStarSearchStatistics statistics;
+	private final AStarStopReason stopReason;
+	private final SearchNodeType bestNode;
 
 	public AStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor)
+	{
+		this(goalNode, numSearchNodesGenerated, efectiveBranchingFactor, null, (goalNode == null) ? AStarStopReason.SEARCH_SPACE_EXHAUSTED : AStarStopReason.GOAL_FOUND, goalNode);
+	}
+
+	public AStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, AStarSearchStatistics statistics, AStarStopReason stopReason, SearchNodeType bestNode)
 	{
 		super();
 		this.goalNode = goalNode;
 		this.numSearchNodesGenerated = numSearchNodesGenerated;
 		this.efectiveBranchingFactor = efectiveBranchingFactor;
+		this.statistics = statistics;
+		this.stopReason = stopReason;
+		this.bestNode = bestNode;
 	}
 
 	/**
@@ -75,4 +86,35 @@ public class AStarSearchResult<SearchNodeType extends AStarSearchNode>
 		return numSearchNodesGenerated;
 	}
 
+	/**
+	 * 
+	 * @return Returns run-time measurements for the search operation, or null
+	 *         if the search engine does not collect them.
+	 */
+	public AStarSearchStatistics getStatistics()
+	{
+		return statistics;
+	}
+
+	/**
+	 * 
+	 * @return Returns the reason the search operation stopped.
+	 */
+	public AStarStopReason getStopReason()
+	{
+		return stopReason;
+	}
+
+	/**
+	 * 
+	 * @return Returns the goal node if one was found. Otherwise, returns the
+	 *         node that appeared closest to a goal state among the nodes that
+	 *         were expanded (as judged by the search engine), or null if the
+	 *         engine does not track such a node.
+	 */
+	public SearchNodeType getBestNode()
+	{
+		return bestNode;
+	}
+
 }
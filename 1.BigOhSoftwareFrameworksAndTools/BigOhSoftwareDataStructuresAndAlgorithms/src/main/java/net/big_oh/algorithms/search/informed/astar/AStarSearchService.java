@@ -0,0 +1,240 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Runs many independent {@link AStarSearch} queries against one search domain
+ * on a fixed number of worker threads. All queries share a
+ * {@link MemoizingHeuristic}, so an h value calculated for one query is
+ * reused by every later query that reaches the same state.<br/>
+ * <br/>
+ * The heuristic and the next nodes generator are called from several threads
+ * at once and must be thread safe. A service should be shut down once it is
+ * no longer needed; its worker threads are daemon threads, so a service that
+ * is never shut down does not keep the virtual machine alive.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class AStarSearchService<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final AtomicInteger nextServiceNumber = new AtomicInteger();
+
+	private final AStarSearchType searchType;
+	private final MemoizingHeuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final AStarSearchMode searchMode;
+	private final int numThreads;
+	private final ExecutorService executor;
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param searchMode
+	 * @param numThreads
+	 *            The number of queries that may run at the same time. Further
+	 *            queries wait for a thread to become available.
+	 * @param heuristicMemoSize
+	 *            The maximum number of h values shared between queries.
+	 * @throws IllegalArgumentException
+	 *             Thrown if any argument is null or if numThreads or
+	 *             heuristicMemoSize is less than one.
+	 */
+	public AStarSearchService(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchMode searchMode, int numThreads, int heuristicMemoSize) throws IllegalArgumentException
+	{
+		if (searchType == null)
+		{
+			throw new IllegalArgumentException("The searchType argument must not be null.");
+		}
+		if (nextNodesGenerator == null)
+		{
+			throw new IllegalArgumentException("The nextNodesGenerator argument must not be null.");
+		}
+		if (searchMode == null)
+		{
+			throw new IllegalArgumentException("The searchMode argument must not be null.");
+		}
+		if (numThreads < 1)
+		{
+			throw new IllegalArgumentException("The numThreads argument must not be less than one.");
+		}
+
+		this.searchType = searchType;
+		this.heuristic = new MemoizingHeuristic<SearchNodeType>(heuristic, heuristicMemoSize);
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.searchMode = searchMode;
+		this.numThreads = numThreads;
+
+		final String threadNamePrefix = getClass().getSimpleName() + "-" + nextServiceNumber.getAndIncrement() + "-worker-";
+		this.executor = Executors.newFixedThreadPool(numThreads, new ThreadFactory()
+		{
+			private final AtomicInteger nextThreadNumber = new AtomicInteger();
+
+			public Thread newThread(Runnable runnable)
+			{
+				Thread thread = new Thread(runnable, threadNamePrefix + nextThreadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Queues a search from startNode.
+	 * 
+	 * @param startNode
+	 * @return Returns a future holding the results of the search.
+	 * @throws java.util.concurrent.RejectedExecutionException
+	 *             Thrown if the service has been shut down.
+	 */
+	public Future<AStarSearchResult<SearchNodeType>> submit(SearchNodeType startNode)
+	{
+		return submit(startNode, AStarSearchBudget.UNLIMITED);
+	}
+
+	/**
+	 * Queues a search from startNode that is limited by budget. The budget's
+	 * deadline is measured from the moment the search starts running, not from
+	 * the moment it is queued.
+	 * 
+	 * @param startNode
+	 * @param budget
+	 * @return Returns a future holding the results of the search.
+	 * @throws IllegalArgumentException
+	 *             Thrown if startNode or budget is null.
+	 * @throws java.util.concurrent.RejectedExecutionException
+	 *             Thrown if the service has been shut down.
+	 */
+	public Future<AStarSearchResult<SearchNodeType>> submit(final SearchNodeType startNode, final AStarSearchBudget budget) throws IllegalArgumentException
+	{
+		if (startNode == null)
+		{
+			throw new IllegalArgumentException("The startNode argument must not be null.");
+		}
+		if (budget == null)
+		{
+			throw new IllegalArgumentException("The budget argument must not be null.");
+		}
+
+		return executor.submit(new Callable<AStarSearchResult<SearchNodeType>>()
+		{
+			public AStarSearchResult<SearchNodeType> call()
+			{
+				return new AStarSearch<SearchNodeType>(searchType, heuristic, nextNodesGenerator, searchMode).doSearch(startNode, budget);
+			}
+		});
+	}
+
+	/**
+	 * Queues a search from each of startNodes.
+	 * 
+	 * @param startNodes
+	 * @return Returns one future per start node, in iteration order.
+	 * @throws IllegalArgumentException
+	 *             Thrown if startNodes is null or contains null.
+	 */
+	public List<Future<AStarSearchResult<SearchNodeType>>> submitAll(Collection<? extends SearchNodeType> startNodes) throws IllegalArgumentException
+	{
+		if (startNodes == null)
+		{
+			throw new IllegalArgumentException("The startNodes argument must not be null.");
+		}
+
+		List<Future<AStarSearchResult<SearchNodeType>>> futures = new ArrayList<Future<AStarSearchResult<SearchNodeType>>>(startNodes.size());
+		for (SearchNodeType startNode : startNodes)
+		{
+			futures.add(submit(startNode));
+		}
+		return futures;
+	}
+
+	/**
+	 * Stops accepting queries. Queries already submitted still run.
+	 */
+	public void shutdown()
+	{
+		executor.shutdown();
+	}
+
+	/**
+	 * Blocks until all submitted queries have completed after a shutdown, or
+	 * the timeout elapses.
+	 * 
+	 * @return Returns true if all queries completed.
+	 * @throws InterruptedException
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	public boolean isShutdown()
+	{
+		return executor.isShutdown();
+	}
+
+	/**
+	 * @return Returns the heuristic shared by all queries, whose counters
+	 *         report how effective the shared memo is.
+	 */
+	public MemoizingHeuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public AStarSearchMode getSearchMode()
+	{
+		return searchMode;
+	}
+
+	public int getNumThreads()
+	{
+		return numThreads;
+	}
+
+}
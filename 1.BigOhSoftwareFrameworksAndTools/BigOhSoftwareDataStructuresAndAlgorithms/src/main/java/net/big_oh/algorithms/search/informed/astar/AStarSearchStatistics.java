@@ -0,0 +1,175 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Run-time measurements collected by an {@link AStarSearch}. Collection costs
+ * a handful of {@link System#nanoTime()} calls per expansion, so statistics
+ * are always gathered.<br/>
+ * <br/>
+ * Times are wall-clock times measured on the searching thread. Heuristic time
+ * covers the calculation of real h values (including time spent waiting on a
+ * heuristic executor); the cheap bounds used by a lazy search are counted as
+ * queue time, which otherwise covers open list and duplicate detection
+ * operations.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class AStarSearchStatistics
+{
+	private final long numNodesExpanded;
+	private final int maxOpenListSize;
+	private final long elapsedNanos;
+	private final long heuristicNanos;
+	private final long successorGenerationNanos;
+	private final long queueNanos;
+	private final long[] fBoundExpansions;
+	private final double[] fBounds;
+
+	AStarSearchStatistics(long numNodesExpanded, int maxOpenListSize, long elapsedNanos, long heuristicNanos, long successorGenerationNanos, long queueNanos, long[] fBoundExpansions, double[] fBounds)
+	{
+		this.numNodesExpanded = numNodesExpanded;
+		this.maxOpenListSize = maxOpenListSize;
+		this.elapsedNanos = elapsedNanos;
+		this.heuristicNanos = heuristicNanos;
+		this.successorGenerationNanos = successorGenerationNanos;
+		this.queueNanos = queueNanos;
+		this.fBoundExpansions = fBoundExpansions;
+		this.fBounds = fBounds;
+	}
+
+	/**
+	 * @return Returns the number of nodes removed from the open list and
+	 *         expanded, including the goal node.
+	 */
+	public long getNumNodesExpanded()
+	{
+		return numNodesExpanded;
+	}
+
+	/**
+	 * @return Returns the largest number of nodes held by the open list at any
+	 *         point during the search.
+	 */
+	public int getMaxOpenListSize()
+	{
+		return maxOpenListSize;
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	public long getHeuristicNanos()
+	{
+		return heuristicNanos;
+	}
+
+	public long getSuccessorGenerationNanos()
+	{
+		return successorGenerationNanos;
+	}
+
+	public long getQueueNanos()
+	{
+		return queueNanos;
+	}
+
+	/**
+	 * @return Returns the average number of nodes expanded per second of
+	 *         elapsed search time.
+	 */
+	public double getExpansionsPerSecond()
+	{
+		return (elapsedNanos == 0) ? 0.0 : numNodesExpanded * 1e9 / elapsedNanos;
+	}
+
+	/**
+	 * @return Returns every f value that was worse than all f values expanded
+	 *         before it, in the order the values were reached.
+	 * @see AStarSearchListener#fBoundRaised(double, long)
+	 */
+	public List<FBound> getFProgression()
+	{
+		return new AbstractList<FBound>()
+		{
+			@Override
+			public FBound get(int index)
+			{
+				return new FBound(fBounds[index], fBoundExpansions[index]);
+			}
+
+			@Override
+			public int size()
+			{
+				return fBounds.length;
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		return "expanded " + numNodesExpanded + " nodes in " + (elapsedNanos / 1000000) + " ms (" + Math.round(getExpansionsPerSecond()) + "/s); peak open list size " + maxOpenListSize + "; heuristic " + (heuristicNanos / 1000000) + " ms, successors " + (successorGenerationNanos / 1000000) + " ms, queue " + (queueNanos / 1000000) + " ms; " + fBounds.length + " f bounds";
+	}
+
+	/**
+	 * An f value reached by the search and the number of nodes that had been
+	 * expanded when it was reached.
+	 */
+	public static final class FBound
+	{
+		private final double f;
+		private final long numNodesExpanded;
+
+		FBound(double f, long numNodesExpanded)
+		{
+			this.f = f;
+			this.numNodesExpanded = numNodesExpanded;
+		}
+
+		public double getF()
+		{
+			return f;
+		}
+
+		public long getNumNodesExpanded()
+		{
+			return numNodesExpanded;
+		}
+
+		@Override
+		public String toString()
+		{
+			return f + "@" + numNodesExpanded;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.Arrays;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An open-addressing hash table that records, for every distinct search state
+ * reached by a graph search, the best node found so far, that node's g value
+ * and whether the state has been closed (i.e. expanded).<br/>
+ * <br/>
+ * States are identified through {@link AStarSearchNode#getStateHash()} and
+ * {@link AStarSearchNode#isSameState(AStarSearchNode)}. Hashes, g values and
+ * flags are kept in parallel primitive arrays and collisions are resolved by
+ * linear probing, so no per-entry objects are allocated.<br/>
+ * <br/>
+ * Slot indices returned by this table are only valid until the next call to
+ * {@link #insert(AStarSearchNode, double)}, which may rehash the table. This
+ * class is not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+final class AStarStateTable<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+	private static final double MAX_LOAD_FACTOR = 0.6;
+
+	private long[] stateHashes;
+	private Object[] nodes;
+	private double[] bestGValues;
+	private boolean[] closed;
+
+	private int size;
+	private int mask;
+	private int resizeThreshold;
+
+	AStarStateTable()
+	{
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	AStarStateTable(int expectedSize)
+	{
+		int capacity = 16;
+		while (capacity * MAX_LOAD_FACTOR < expectedSize)
+		{
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	/**
+	 * @param node
+	 * @return Returns the slot holding the state represented by node, or -1 if
+	 *         the state has not been recorded.
+	 */
+	int indexOf(AStarSearchNode node)
+	{
+		long stateHash = node.getStateHash();
+		for (int slot = spread(stateHash) & mask; nodes[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (stateHashes[slot] == stateHash && node.isSameState((AStarSearchNode) nodes[slot]))
+			{
+				return slot;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Records a state that is not yet contained in the table. The state is
+	 * recorded as open.
+	 * 
+	 * @param node
+	 * @param g
+	 * @return Returns the slot now holding the state.
+	 */
+	int insert(SearchNodeType node, double g)
+	{
+		if (size >= resizeThreshold)
+		{
+			rehash(nodes.length << 1);
+		}
+
+		long stateHash = node.getStateHash();
+		int slot = spread(stateHash) & mask;
+		while (nodes[slot] != null)
+		{
+			slot = (slot + 1) & mask;
+		}
+
+		stateHashes[slot] = stateHash;
+		nodes[slot] = node;
+		bestGValues[slot] = g;
+		closed[slot] = false;
+		size++;
+
+		return slot;
+	}
+
+	@SuppressWarnings("unchecked")
+	SearchNodeType getNode(int slot)
+	{
+		return (SearchNodeType) nodes[slot];
+	}
+
+	double getBestG(int slot)
+	{
+		return bestGValues[slot];
+	}
+
+	/**
+	 * Replaces the best known node for the state held in slot.
+	 */
+	void update(int slot, SearchNodeType node, double g)
+	{
+		nodes[slot] = node;
+		bestGValues[slot] = g;
+	}
+
+	boolean isClosed(int slot)
+	{
+		return closed[slot];
+	}
+
+	void setClosed(int slot, boolean isClosed)
+	{
+		closed[slot] = isClosed;
+	}
+
+	/**
+	 * Re-opens every state in the table without forgetting best g values.
+	 */
+	void clearClosed()
+	{
+		Arrays.fill(closed, false);
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Scrambles the bits of a state hash so that hashes differing only in their
+	 * high bits still land in different slots (the MurmurHash3 finalizer).
+	 */
+	static int spread(long stateHash)
+	{
+		long h = stateHash;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	private void allocate(int capacity)
+	{
+		stateHashes = new long[capacity];
+		nodes = new Object[capacity];
+		bestGValues = new double[capacity];
+		closed = new boolean[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * MAX_LOAD_FACTOR);
+	}
+
+	private void rehash(int newCapacity)
+	{
+		long[] oldStateHashes = stateHashes;
+		Object[] oldNodes = nodes;
+		double[] oldBestGValues = bestGValues;
+		boolean[] oldClosed = closed;
+
+		allocate(newCapacity);
+
+		for (int oldSlot = 0; oldSlot < oldNodes.length; oldSlot++)
+		{
+			if (oldNodes[oldSlot] != null)
+			{
+				int slot = spread(oldStateHashes[oldSlot]) & mask;
+				while (nodes[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+				stateHashes[slot] = oldStateHashes[oldSlot];
+				nodes[slot] = oldNodes[oldSlot];
+				bestGValues[slot] = oldBestGValues[oldSlot];
+				closed[slot] = oldClosed[oldSlot];
+			}
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The reasons for which an A* search may stop.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @see AStarSearchBudget
+ */
+public enum AStarStopReason
+{
+	/**
+	 * A goal node was found.
+	 */
+	GOAL_FOUND,
+
+	/**
+	 * The open list ran empty without yielding a goal node, so no goal node is
+	 * reachable from the start node.
+	 */
+	SEARCH_SPACE_EXHAUSTED,
+
+	/**
+	 * The budgeted number of expansions was used up.
+	 */
+	EXPANSION_LIMIT_REACHED,
+
+	/**
+	 * The open list grew beyond its budgeted size.
+	 */
+	OPEN_LIST_LIMIT_REACHED,
+
+	/**
+	 * The budgeted wall-clock duration passed.
+	 */
+	DEADLINE_REACHED,
+
+	/**
+	 * The search's cancellation token was cancelled.
+	 */
+	CANCELLED;
+}
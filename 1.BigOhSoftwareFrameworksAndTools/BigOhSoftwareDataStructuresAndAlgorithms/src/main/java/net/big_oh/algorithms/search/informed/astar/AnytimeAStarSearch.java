@@ -0,0 +1,510 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An anytime implementation of the A* algorithm based on Anytime Repairing A*
+ * (ARA*).<br/>
+ * <br/>
+ * The search starts with an inflated heuristic weight, which makes it greedy
+ * and lets it find a first goal node quickly. Each goal node better than the
+ * ones before it is published to registered
+ * {@link AnytimeAStarSearchListener} objects along with its suboptimality
+ * bound. The weight is then lowered toward 1.0 and the search resumes from its
+ * current open list rather than starting over, so the effort spent at higher
+ * weights is reused. Once the weight reaches 1.0 (or the remaining search
+ * space cannot contain a better goal node), the best goal node found is
+ * optimal.<br/>
+ * <br/>
+ * In a MIN search the heuristic is multiplied by the weight; in a MAX search
+ * it is divided by the weight. Either way, a weight of w guarantees a goal node
+ * whose cost differs from the optimal cost by at most a factor of w, provided
+ * the heuristic is admissible and costs are positive.<br/>
+ * <br/>
+ * A search may be given a wall-clock time limit, in which case it returns the
+ * best goal node found when the limit passes.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class AnytimeAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(AnytimeAStarSearch.class);
+
+	public static final double DEFAULT_INITIAL_WEIGHT = 2.5;
+	public static final double DEFAULT_WEIGHT_DECREMENT = 0.5;
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final AStarSearchMode searchMode;
+	private final double initialWeight;
+	private final double weightDecrement;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	private final Collection<AnytimeAStarSearchListener<SearchNodeType>> eventListeners;
+
+	public AnytimeAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator)
+	{
+		this(searchType, heuristic, nextNodesGenerator, AStarSearchMode.TREE, DEFAULT_INITIAL_WEIGHT, DEFAULT_WEIGHT_DECREMENT);
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param searchMode
+	 *            In {@link AStarSearchMode#GRAPH} mode, a state that is
+	 *            reached again through a better path after being expanded is
+	 *            not expanded again until the weight is next lowered. The
+	 *            suboptimality bounds reported at weights above 1.0 then
+	 *            assume a consistent heuristic.
+	 * @param initialWeight
+	 *            The heuristic weight of the first iteration.
+	 * @param weightDecrement
+	 *            The amount by which the weight is lowered after each
+	 *            iteration.
+	 * @throws IllegalArgumentException
+	 *             Thrown if initialWeight is less than 1.0 or weightDecrement
+	 *             is not positive.
+	 */
+	public AnytimeAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchMode searchMode, double initialWeight, double weightDecrement) throws IllegalArgumentException
+	{
+		if (searchMode == null)
+		{
+			throw new IllegalArgumentException("The searchMode argument must not be null.");
+		}
+		if (!(initialWeight >= 1.0))
+		{
+			throw new IllegalArgumentException("The initialWeight argument must not be less than 1.0.");
+		}
+		if (!(weightDecrement > 0.0))
+		{
+			throw new IllegalArgumentException("The weightDecrement argument must be positive.");
+		}
+
+		this.searchType = searchType;
+		this.heuristic = heuristic;
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.searchMode = searchMode;
+		this.initialWeight = initialWeight;
+		this.weightDecrement = weightDecrement;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+
+		// Use CopyOnWriteArrayList to support dynamic listeners w/o incurring
+		// synchronization overhead
+		eventListeners = new CopyOnWriteArrayList<AnytimeAStarSearchListener<SearchNodeType>>();
+	}
+
+	/**
+	 * Registers a listener that should be notified of improved goal nodes and
+	 * completed iterations.
+	 * 
+	 * @param listener
+	 */
+	public void addListener(AnytimeAStarSearchListener<SearchNodeType> listener)
+	{
+		// Note, no need to synchronize since eventListeners is an instance of
+		// CopyOnWriteArrayList
+		eventListeners.add(listener);
+	}
+
+	/**
+	 * Searches until an optimal goal node is found or the search space is
+	 * exhausted.
+	 * 
+	 * @param startNode
+	 * @return Returns the results of the search.
+	 */
+	public AnytimeAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	{
+		return doSearch(startNode, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Searches until an optimal goal node is found, the search space is
+	 * exhausted or maxDurationMillis milliseconds have passed.
+	 * 
+	 * @param startNode
+	 * @param maxDurationMillis
+	 * @return Returns the results of the search, holding the best goal node
+	 *         found.
+	 * @throws IllegalArgumentException
+	 *             Thrown if maxDurationMillis is negative.
+	 */
+	public AnytimeAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode, long maxDurationMillis) throws IllegalArgumentException
+	{
+		if (maxDurationMillis < 0)
+		{
+			throw new IllegalArgumentException("The maxDurationMillis argument must not be negative.");
+		}
+
+		Duration searchDuration = new Duration();
+
+		Search search = new Search(startNode, maxDurationMillis);
+		search.run();
+
+		SearchNodeType goalNode = search.incumbent;
+		double effectiveBranchingFactor = (goalNode == null) ? search.maxPossibleBranchingFactor : AStarSearch.calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), search.numSearchNodesConsidered, search.maxPossibleBranchingFactor);
+
+		AnytimeAStarSearchResult<SearchNodeType> results = new AnytimeAStarSearchResult<SearchNodeType>(goalNode, search.numSearchNodesGenerated, effectiveBranchingFactor, search.suboptimalityBound, search.weight, search.numSolutionsFound, search.numIterations, search.deadlineReached);
+
+		logger.debug("Completed an anytime A* search in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Solutions found: " + results.getNumSolutionsFound() + ", suboptimality bound: " + results.getSuboptimalityBound() + ", final weight: " + results.getFinalWeight());
+
+		return results;
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public AStarSearchMode getSearchMode()
+	{
+		return searchMode;
+	}
+
+	public double getInitialWeight()
+	{
+		return initialWeight;
+	}
+
+	public double getWeightDecrement()
+	{
+		return weightDecrement;
+	}
+
+	/**
+	 * The state of a single doSearch(..) invocation.
+	 */
+	private final class Search
+	{
+		private final AStarOpenList<SearchNodeType> openList = new AStarOpenList<SearchNodeType>(searchType);
+
+		/**
+		 * In graph search mode, the best g value and closed status of every
+		 * state reached so far.
+		 */
+		private final AStarStateTable<SearchNodeType> stateTable = (searchMode == AStarSearchMode.GRAPH) ? new AStarStateTable<SearchNodeType>() : null;
+
+		/**
+		 * In graph search mode, nodes whose state was reached through a better
+		 * path after being closed during the current iteration. They are
+		 * returned to the open list when the weight is next lowered.
+		 */
+		private final List<SearchNodeType> inconsistentNodes = new ArrayList<SearchNodeType>();
+
+		private final long startNanos = System.nanoTime();
+		private final long maxDurationNanos;
+
+		private double weight = initialWeight;
+		private SearchNodeType incumbent;
+		private double suboptimalityBound = Double.POSITIVE_INFINITY;
+
+		private long numSearchNodesGenerated;
+		private long numSearchNodesConsidered;
+		private int maxPossibleBranchingFactor = 1;
+		private int numSolutionsFound;
+		private int numIterations;
+		private boolean deadlineReached;
+
+		private Search(SearchNodeType startNode, long maxDurationMillis)
+		{
+			this.maxDurationNanos = (maxDurationMillis >= Long.MAX_VALUE / 1000000L) ? Long.MAX_VALUE : maxDurationMillis * 1000000L;
+
+			if (stateTable != null)
+			{
+				stateTable.insert(startNode, startNode.getG());
+			}
+			enqueue(startNode);
+		}
+
+		private void run()
+		{
+			while (improvePath())
+			{
+				numIterations++;
+
+				// collect the nodes that remain to be searched
+				List<SearchNodeType> remainingNodes = new ArrayList<SearchNodeType>(openList.size() + inconsistentNodes.size());
+				while (!openList.isEmpty())
+				{
+					remainingNodes.add(openList.poll());
+				}
+				for (SearchNodeType inconsistentNode : inconsistentNodes)
+				{
+					if (stateTable.getNode(stateTable.indexOf(inconsistentNode)) == inconsistentNode)
+					{
+						remainingNodes.add(inconsistentNode);
+					}
+				}
+				inconsistentNodes.clear();
+
+				tightenSuboptimalityBound(remainingNodes);
+				fireIterationCompleted();
+
+				if (weight == 1.0 || suboptimalityBound == 1.0 || remainingNodes.isEmpty())
+				{
+					return;
+				}
+
+				// lower the weight and resume from the remaining nodes
+				weight = Math.max(1.0, weight - weightDecrement);
+				if (stateTable != null)
+				{
+					stateTable.clearClosed();
+				}
+				for (SearchNodeType remainingNode : remainingNodes)
+				{
+					if (canImproveIncumbent(remainingNode))
+					{
+						enqueue(remainingNode);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Searches at the current weight until a better goal node is found,
+		 * the open list can no longer yield one, or the deadline passes.
+		 * 
+		 * @return Returns false if the deadline passed.
+		 */
+		private boolean improvePath()
+		{
+			while (!openList.isEmpty())
+			{
+				if (System.nanoTime() - startNanos >= maxDurationNanos)
+				{
+					deadlineReached = true;
+					return false;
+				}
+
+				// a goal node's weighted f value is its g value, so once the
+				// incumbent would be dequeued next this iteration is done
+				if (incumbent != null && !isBetter(openList.peekF(), incumbent.getG()))
+				{
+					return true;
+				}
+
+				SearchNodeType candidateSearchNode = openList.poll();
+				numSearchNodesConsidered++;
+
+				if (stateTable != null)
+				{
+					stateTable.setClosed(stateTable.indexOf(candidateSearchNode), true);
+				}
+
+				if (!canImproveIncumbent(candidateSearchNode))
+				{
+					continue;
+				}
+
+				if (candidateSearchNode.isGoalState())
+				{
+					incumbent = candidateSearchNode;
+					numSolutionsFound++;
+					suboptimalityBound = Math.min(suboptimalityBound, weight);
+					fireImprovedSolutionFound();
+					return true;
+				}
+
+				Collection<SearchNodeType> nextSearchNodes = nextNodesGenerator.getNextSearchNodes(candidateSearchNode);
+				numSearchNodesGenerated += nextSearchNodes.size();
+				maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, nextSearchNodes.size());
+
+				for (SearchNodeType nextSearchNode : nextSearchNodes)
+				{
+					if (canImproveIncumbent(nextSearchNode))
+					{
+						offer(nextSearchNode);
+					}
+				}
+			}
+
+			return true;
+		}
+
+		private void offer(SearchNodeType searchNode)
+		{
+			if (stateTable == null)
+			{
+				enqueue(searchNode);
+				return;
+			}
+
+			double g = searchNode.getG();
+			int slot = stateTable.indexOf(searchNode);
+			if (slot < 0)
+			{
+				// first time this state has been reached
+				stateTable.insert(searchNode, g);
+				enqueue(searchNode);
+				return;
+			}
+
+			if (!isBetter(g, stateTable.getBestG(slot)))
+			{
+				// a path to this state that is at least as good is already
+				// known
+				return;
+			}
+
+			SearchNodeType previousNode = stateTable.getNode(slot);
+			stateTable.update(slot, searchNode, g);
+			if (stateTable.isClosed(slot) && weight > 1.0)
+			{
+				// defer re-expansion until the weight is next lowered
+				inconsistentNodes.add(searchNode);
+			}
+			else if (stateTable.isClosed(slot))
+			{
+				// at weight 1.0 the search behaves exactly like AStarSearch
+				stateTable.setClosed(slot, false);
+				enqueue(searchNode);
+			}
+			else
+			{
+				openList.remove(previousNode);
+				enqueue(searchNode);
+			}
+		}
+
+		private void enqueue(SearchNodeType searchNode)
+		{
+			double h = heuristic.getH(searchNode);
+			double weightedH = (searchType == AStarSearchType.MAX) ? h / weight : h * weight;
+			openList.add(searchNode, searchNode.getG() + weightedH, h);
+		}
+
+		private boolean canImproveIncumbent(SearchNodeType searchNode)
+		{
+			return incumbent == null || isBetter(searchNode.getG() + heuristic.getH(searchNode), incumbent.getG());
+		}
+
+		/**
+		 * Compares the incumbent against the best unweighted f value among the
+		 * nodes that remain to be searched, which bounds the cost of an
+		 * optimal goal node.
+		 */
+		private void tightenSuboptimalityBound(List<SearchNodeType> remainingNodes)
+		{
+			if (incumbent == null)
+			{
+				return;
+			}
+
+			double bestF = Double.NaN;
+			for (SearchNodeType remainingNode : remainingNodes)
+			{
+				double f = remainingNode.getG() + heuristic.getH(remainingNode);
+				if (canImproveIncumbent(remainingNode) && (Double.isNaN(bestF) || isBetter(f, bestF)))
+				{
+					bestF = f;
+				}
+			}
+
+			if (Double.isNaN(bestF))
+			{
+				// no remaining node can lead to a better goal node
+				suboptimalityBound = 1.0;
+				return;
+			}
+
+			double ratio = (searchType == AStarSearchType.MAX) ? bestF / incumbent.getG() : incumbent.getG() / bestF;
+			if (ratio > 0)
+			{
+				suboptimalityBound = Math.min(suboptimalityBound, Math.max(1.0, ratio));
+			}
+		}
+
+		private void fireImprovedSolutionFound()
+		{
+			for (AnytimeAStarSearchListener<SearchNodeType> listener : eventListeners)
+			{
+				try
+				{
+					listener.improvedSolutionFound(incumbent, suboptimalityBound);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+		}
+
+		private void fireIterationCompleted()
+		{
+			for (AnytimeAStarSearchListener<SearchNodeType> listener : eventListeners)
+			{
+				try
+				{
+					listener.iterationCompleted(weight, suboptimalityBound);
+				}
+				catch (RuntimeException re)
+				{
+					logger.error(re.getMessage(), re);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return Returns true if value1 is strictly better than value2 for this
+	 *         search's type.
+	 */
+	private boolean isBetter(double value1, double value2)
+	{
+		return sign * value1 < sign * value2;
+	}
+
+}
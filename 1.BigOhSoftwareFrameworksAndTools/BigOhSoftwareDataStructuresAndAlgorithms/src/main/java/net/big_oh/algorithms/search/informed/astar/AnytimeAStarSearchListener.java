@@ -0,0 +1,63 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.EventListener;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * This interface defines listener methods for events that transpire while an
+ * {@link AnytimeAStarSearch} is running. Listeners are notified on the thread
+ * executing the search, so long-running work should be handed off elsewhere.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public interface AnytimeAStarSearchListener<SearchNodeType extends AStarSearchNode> extends EventListener
+{
+	/**
+	 * This listener method handles the discovery of a goal node that is better
+	 * than every goal node found before it during the same search.
+	 * 
+	 * @param goalNode
+	 * @param suboptimalityBound
+	 *            The factor by which the cost of goalNode may at most differ
+	 *            from the cost of an optimal goal node. A bound of 1.0 means
+	 *            that goalNode is optimal.
+	 */
+	public void improvedSolutionFound(SearchNodeType goalNode, double suboptimalityBound);
+
+	/**
+	 * Signaled upon completing the search at a given heuristic weight, just
+	 * before the weight is lowered.
+	 * 
+	 * @param weight
+	 * @param suboptimalityBound
+	 *            The suboptimality bound of the best goal node found so far, or
+	 *            positive infinity if no goal node has been found.
+	 */
+	public void iterationCompleted(double weight, double suboptimalityBound);
+}
@@ -0,0 +1,112 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The result of an {@link AnytimeAStarSearch}. The goal node is the best one
+ * found before the search completed or its deadline passed.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see AnytimeAStarSearch
+ */
+public class AnytimeAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final double suboptimalityBound;
+	private final double finalWeight;
+	private final int numSolutionsFound;
+	private final int numIterations;
+	private final boolean deadlineReached;
+
+	public AnytimeAStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, double suboptimalityBound, double finalWeight, int numSolutionsFound, int numIterations, boolean deadlineReached)
+	{
+		super(goalNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.suboptimalityBound = suboptimalityBound;
+		this.finalWeight = finalWeight;
+		this.numSolutionsFound = numSolutionsFound;
+		this.numIterations = numIterations;
+		this.deadlineReached = deadlineReached;
+	}
+
+	/**
+	 * 
+	 * @return Returns the factor by which the cost of the goal node may at
+	 *         most differ from the cost of an optimal goal node, or positive
+	 *         infinity if no goal node was found.
+	 */
+	public double getSuboptimalityBound()
+	{
+		return suboptimalityBound;
+	}
+
+	/**
+	 * 
+	 * @return Returns true if the goal node is known to be optimal.
+	 */
+	public boolean isOptimal()
+	{
+		return suboptimalityBound == 1.0;
+	}
+
+	/**
+	 * 
+	 * @return Returns the heuristic weight in effect when the search stopped.
+	 */
+	public double getFinalWeight()
+	{
+		return finalWeight;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of successively better goal nodes found.
+	 */
+	public int getNumSolutionsFound()
+	{
+		return numSolutionsFound;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of heuristic weights the search was completed
+	 *         for.
+	 */
+	public int getNumIterations()
+	{
+		return numIterations;
+	}
+
+	/**
+	 * 
+	 * @return Returns true if the search was cut short by its deadline.
+	 */
+	public boolean isDeadlineReached()
+	{
+		return deadlineReached;
+	}
+
+}
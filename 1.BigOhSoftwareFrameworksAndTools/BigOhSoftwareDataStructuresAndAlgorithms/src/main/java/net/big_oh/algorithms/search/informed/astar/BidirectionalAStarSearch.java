@@ -0,0 +1,334 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.Collection;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A bidirectional, front-to-end implementation of the A* algorithm.<br/>
+ * <br/>
+ * Two A* searches run in alternation: a forward search from the start node
+ * toward the goal node and a backward search from the goal node toward the
+ * start node. The backward search is driven by a {@link NextNodesGenerator}
+ * that enumerates the predecessors of a node, and each direction has its own
+ * heuristic estimating the remaining cost to the opposite end. Whenever a
+ * search reaches a state already reached by the other one, a complete path
+ * has been found. The search stops once no remaining node in either direction
+ * can lead to a better path than the best one found, which proves that path
+ * optimal when both heuristics are admissible.<br/>
+ * <br/>
+ * States are identified through {@link AStarSearchNode#getStateHash()} and
+ * {@link AStarSearchNode#isSameState(AStarSearchNode)}, which must be
+ * implemented. A backward node's g value must be the cost of the path from
+ * the goal node to it, i.e. the cost of the same path traversed forward. The
+ * goal is defined by the goal node passed to
+ * {@link #doSearch(AStarSearchNode, AStarSearchNode)} rather than by
+ * {@link AStarSearchNode#isGoalState()}, so both heuristics are evaluated for
+ * every node, including nodes whose isGoalState() returns true. Their h values
+ * are not cached in the nodes.<br/>
+ * <br/>
+ * Each step expands a node from the direction with the smaller open list, so
+ * the search spends its effort on the side with the narrower frontier.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class BidirectionalAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(BidirectionalAStarSearch.class);
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> forwardHeuristic;
+	private final Heuristic<SearchNodeType> backwardHeuristic;
+	private final NextNodesGenerator<SearchNodeType> forwardNodesGenerator;
+	private final NextNodesGenerator<SearchNodeType> backwardNodesGenerator;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying a cost by this
+	 * sign yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * @param searchType
+	 * @param forwardHeuristic
+	 *            Estimates the remaining cost from a forward node to the goal
+	 *            node.
+	 * @param forwardNodesGenerator
+	 *            Generates the successors of a forward node.
+	 * @param backwardHeuristic
+	 *            Estimates the remaining cost from a backward node to the start
+	 *            node.
+	 * @param backwardNodesGenerator
+	 *            Generates the predecessors of a backward node.
+	 */
+	public BidirectionalAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> forwardHeuristic, NextNodesGenerator<SearchNodeType> forwardNodesGenerator, Heuristic<SearchNodeType> backwardHeuristic, NextNodesGenerator<SearchNodeType> backwardNodesGenerator)
+	{
+		super();
+		this.searchType = searchType;
+		this.forwardHeuristic = forwardHeuristic;
+		this.forwardNodesGenerator = forwardNodesGenerator;
+		this.backwardHeuristic = backwardHeuristic;
+		this.backwardNodesGenerator = backwardNodesGenerator;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	/**
+	 * @param startNode
+	 * @param goalNode
+	 * @return Returns the results of the search. The goal node of the results
+	 *         is null if no path from startNode to goalNode exists.
+	 * @throws IllegalArgumentException
+	 *             Thrown if startNode or goalNode is null.
+	 */
+	public BidirectionalAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode, SearchNodeType goalNode) throws IllegalArgumentException
+	{
+		if (startNode == null)
+		{
+			throw new IllegalArgumentException("The startNode argument must not be null.");
+		}
+		if (goalNode == null)
+		{
+			throw new IllegalArgumentException("The goalNode argument must not be null.");
+		}
+
+		Duration searchDuration = new Duration();
+
+		Frontier forward = new Frontier(forwardHeuristic, forwardNodesGenerator, startNode);
+		Frontier backward = new Frontier(backwardHeuristic, backwardNodesGenerator, goalNode);
+		forward.opposite = backward;
+		backward.opposite = forward;
+
+		Meeting meeting = new Meeting();
+		if (startNode.isSameState(goalNode))
+		{
+			meeting.offer(startNode, goalNode);
+		}
+
+		while (!forward.openList.isEmpty() && !backward.openList.isEmpty())
+		{
+			// no remaining node can lie on a better path than the best one
+			// found so far
+			if (meeting.forwardNode != null && (!isBetter(forward.openList.peekF(), meeting.cost) || !isBetter(backward.openList.peekF(), meeting.cost)))
+			{
+				break;
+			}
+
+			Frontier frontier = (forward.openList.size() <= backward.openList.size()) ? forward : backward;
+			frontier.expandNext(meeting, frontier == forward);
+		}
+
+		SearchNodeType forwardMeetingNode = meeting.forwardNode;
+		SearchNodeType backwardMeetingNode = meeting.backwardNode;
+
+		long numSearchNodesGenerated = forward.numSearchNodesGenerated + backward.numSearchNodesGenerated;
+		long numSearchNodesConsidered = forward.numExpansions + backward.numExpansions;
+		int maxPossibleBranchingFactor = Math.max(forward.maxPossibleBranchingFactor, backward.maxPossibleBranchingFactor);
+		double effectiveBranchingFactor = maxPossibleBranchingFactor;
+		if (forwardMeetingNode != null)
+		{
+			int pathDepth = forwardMeetingNode.getNodeDepth() + backwardMeetingNode.getNodeDepth();
+			if (pathDepth < numSearchNodesConsidered)
+			{
+				effectiveBranchingFactor = AStarSearch.calculateEffectiveBranchingFactor(pathDepth, numSearchNodesConsidered, maxPossibleBranchingFactor);
+			}
+		}
+
+		BidirectionalAStarSearchResult<SearchNodeType> results = new BidirectionalAStarSearchResult<SearchNodeType>(forwardMeetingNode, backwardMeetingNode, meeting.cost, numSearchNodesGenerated, effectiveBranchingFactor, forward.numExpansions, backward.numExpansions);
+
+		logger.debug("Completed a bidirectional A* search in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Nodes expanded forward: " + results.getNumForwardExpansions() + ", backward: " + results.getNumBackwardExpansions());
+
+		return results;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public Heuristic<SearchNodeType> getForwardHeuristic()
+	{
+		return forwardHeuristic;
+	}
+
+	public Heuristic<SearchNodeType> getBackwardHeuristic()
+	{
+		return backwardHeuristic;
+	}
+
+	/**
+	 * The best path found so far, represented by the forward and backward
+	 * nodes that reached its meeting state.
+	 */
+	private final class Meeting
+	{
+		private SearchNodeType forwardNode;
+		private SearchNodeType backwardNode;
+		private double cost = sign * Double.POSITIVE_INFINITY;
+
+		private void offer(SearchNodeType forwardNode, SearchNodeType backwardNode)
+		{
+			double pathCost = forwardNode.getG() + backwardNode.getG();
+			if (this.forwardNode == null || isBetter(pathCost, cost))
+			{
+				this.forwardNode = forwardNode;
+				this.backwardNode = backwardNode;
+				this.cost = pathCost;
+			}
+		}
+	}
+
+	/**
+	 * The open list and state table of one search direction.
+	 */
+	private final class Frontier
+	{
+		private final Heuristic<SearchNodeType> heuristic;
+		private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+		private final AStarOpenList<SearchNodeType> openList = new AStarOpenList<SearchNodeType>(searchType);
+		private final AStarStateTable<SearchNodeType> stateTable = new AStarStateTable<SearchNodeType>();
+		private Frontier opposite;
+
+		private long numSearchNodesGenerated;
+		private long numExpansions;
+		private int maxPossibleBranchingFactor = 1;
+
+		private Frontier(Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, SearchNodeType rootNode)
+		{
+			this.heuristic = heuristic;
+			this.nextNodesGenerator = nextNodesGenerator;
+			stateTable.insert(rootNode, rootNode.getG());
+			enqueue(rootNode);
+		}
+
+		private void expandNext(Meeting meeting, boolean isForward)
+		{
+			double candidateF = openList.peekF();
+			SearchNodeType candidateSearchNode = openList.poll();
+			stateTable.setClosed(stateTable.indexOf(candidateSearchNode), true);
+
+			// prune nodes that cannot lie on a better path
+			if (meeting.forwardNode != null && !isBetter(candidateF, meeting.cost))
+			{
+				return;
+			}
+
+			numExpansions++;
+			Collection<SearchNodeType> nextSearchNodes = nextNodesGenerator.getNextSearchNodes(candidateSearchNode);
+			numSearchNodesGenerated += nextSearchNodes.size();
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, nextSearchNodes.size());
+
+			for (SearchNodeType nextSearchNode : nextSearchNodes)
+			{
+				if (!offer(nextSearchNode))
+				{
+					continue;
+				}
+
+				// did the two searches meet?
+				int oppositeSlot = opposite.stateTable.indexOf(nextSearchNode);
+				if (oppositeSlot >= 0)
+				{
+					SearchNodeType oppositeNode = opposite.stateTable.getNode(oppositeSlot);
+					if (isForward)
+					{
+						meeting.offer(nextSearchNode, oppositeNode);
+					}
+					else
+					{
+						meeting.offer(oppositeNode, nextSearchNode);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Records a newly generated node, discarding it if a path to its state
+		 * that is at least as good is already known.
+		 * 
+		 * @return Returns true if the node is now the best known node for its
+		 *         state.
+		 */
+		private boolean offer(SearchNodeType searchNode)
+		{
+			double g = searchNode.getG();
+			int slot = stateTable.indexOf(searchNode);
+			if (slot < 0)
+			{
+				stateTable.insert(searchNode, g);
+				enqueue(searchNode);
+				return true;
+			}
+
+			if (!isBetter(g, stateTable.getBestG(slot)) || (stateTable.isClosed(slot) && heuristic.isConsistent()))
+			{
+				return false;
+			}
+
+			if (stateTable.isClosed(slot))
+			{
+				// an inconsistent heuristic closed the state too early
+				stateTable.setClosed(slot, false);
+			}
+			else
+			{
+				openList.remove(stateTable.getNode(slot));
+			}
+			stateTable.update(slot, searchNode, g);
+			enqueue(searchNode);
+			return true;
+		}
+
+		private void enqueue(SearchNodeType searchNode)
+		{
+			// getH(..) would short-circuit to 0 for any node whose
+			// isGoalState() is true, e.g. the goal node itself in the backward
+			// direction
+			double h = heuristic.calculateHIgnoringGoalState(searchNode);
+			openList.add(searchNode, searchNode.getG() + h, h);
+		}
+	}
+
+	/**
+	 * @return Returns true if value1 is strictly better than value2 for this
+	 *         search's type.
+	 */
+	private boolean isBetter(double value1, double value2)
+	{
+		return sign * value1 < sign * value2;
+	}
+
+}
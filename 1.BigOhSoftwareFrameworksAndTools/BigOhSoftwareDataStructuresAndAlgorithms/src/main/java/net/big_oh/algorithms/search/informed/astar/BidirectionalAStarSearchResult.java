@@ -0,0 +1,98 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The result of a {@link BidirectionalAStarSearch}.<br/>
+ * <br/>
+ * Because the forward and backward searches meet in the middle, the path from
+ * the start node to the goal node is split in two. {@link #getGoalNode()}
+ * returns the forward node at the meeting state, which ends the first half of
+ * the path; {@link #getBackwardMeetingNode()} returns the backward node at the
+ * same state, which begins the second half of the path (traced back to the
+ * goal node). Both are null if no path was found.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see BidirectionalAStarSearch
+ */
+public class BidirectionalAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final SearchNodeType backwardMeetingNode;
+	private final double pathCost;
+	private final long numForwardExpansions;
+	private final long numBackwardExpansions;
+
+	public BidirectionalAStarSearchResult(SearchNodeType forwardMeetingNode, SearchNodeType backwardMeetingNode, double pathCost, long numSearchNodesGenerated, double efectiveBranchingFactor, long numForwardExpansions, long numBackwardExpansions)
+	{
+		super(forwardMeetingNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.backwardMeetingNode = backwardMeetingNode;
+		this.pathCost = pathCost;
+		this.numForwardExpansions = numForwardExpansions;
+		this.numBackwardExpansions = numBackwardExpansions;
+	}
+
+	/**
+	 * 
+	 * @return Returns the forward node at the meeting state. Equivalent to
+	 *         {@link #getGoalNode()}.
+	 */
+	public SearchNodeType getForwardMeetingNode()
+	{
+		return getGoalNode();
+	}
+
+	/**
+	 * 
+	 * @return Returns the backward node at the meeting state.
+	 */
+	public SearchNodeType getBackwardMeetingNode()
+	{
+		return backwardMeetingNode;
+	}
+
+	/**
+	 * 
+	 * @return Returns the cost of the path from the start node to the goal
+	 *         node, i.e. the sum of the g values of both meeting nodes.
+	 */
+	public double getPathCost()
+	{
+		return pathCost;
+	}
+
+	public long getNumForwardExpansions()
+	{
+		return numForwardExpansions;
+	}
+
+	public long getNumBackwardExpansions()
+	{
+		return numBackwardExpansions;
+	}
+
+}
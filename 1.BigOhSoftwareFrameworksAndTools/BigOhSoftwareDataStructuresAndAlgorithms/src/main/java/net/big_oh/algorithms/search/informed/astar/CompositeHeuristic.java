@@ -0,0 +1,118 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Combines several heuristics into one. Taking the {@link Combination#MAX} of
+ * admissible heuristics is always admissible. Taking the
+ * {@link Combination#SUM} is admissible only if the heuristics are additive,
+ * i.e. no operator is counted by more than one of them, as is the case for
+ * pattern databases built over disjoint patterns.<br/>
+ * <br/>
+ * The h values of the component heuristics are not cached on search nodes;
+ * only the combined value is.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class CompositeHeuristic<SearchNodeType extends AStarSearchNode> extends Heuristic<SearchNodeType>
+{
+
+	private final Combination combination;
+	private final List<Heuristic<SearchNodeType>> heuristics;
+	private final boolean consistent;
+
+	/**
+	 * @param combination
+	 * @param heuristics
+	 * @throws IllegalArgumentException
+	 *             Thrown if either argument is null or heuristics is empty.
+	 */
+	public CompositeHeuristic(Combination combination, List<? extends Heuristic<SearchNodeType>> heuristics) throws IllegalArgumentException
+	{
+		if (combination == null)
+		{
+			throw new IllegalArgumentException("The combination argument must not be null.");
+		}
+		if (heuristics == null || heuristics.isEmpty())
+		{
+			throw new IllegalArgumentException("The heuristics argument must not be null or empty.");
+		}
+
+		this.combination = combination;
+		this.heuristics = Collections.unmodifiableList(new ArrayList<Heuristic<SearchNodeType>>(heuristics));
+
+		boolean allConsistent = true;
+		for (Heuristic<SearchNodeType> heuristic : this.heuristics)
+		{
+			allConsistent &= heuristic.isConsistent();
+		}
+		this.consistent = allConsistent;
+	}
+
+	@Override
+	protected double calculateH(SearchNodeType searchNode)
+	{
+		double h = heuristics.get(0).calculateH(searchNode);
+		for (int i = 1; i < heuristics.size(); i++)
+		{
+			double componentH = heuristics.get(i).calculateH(searchNode);
+			h = (combination == Combination.MAX) ? Math.max(h, componentH) : h + componentH;
+		}
+		return h;
+	}
+
+	/**
+	 * The max of consistent heuristics is consistent, as is the sum of
+	 * consistent additive heuristics.
+	 */
+	@Override
+	public boolean isConsistent()
+	{
+		return consistent;
+	}
+
+	public Combination getCombination()
+	{
+		return combination;
+	}
+
+	public List<Heuristic<SearchNodeType>> getHeuristics()
+	{
+		return heuristics;
+	}
+
+	public static enum Combination
+	{
+		MAX, SUM;
+	}
+
+}
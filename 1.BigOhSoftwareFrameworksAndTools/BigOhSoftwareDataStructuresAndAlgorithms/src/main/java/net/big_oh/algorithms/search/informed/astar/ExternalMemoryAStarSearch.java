@@ -0,0 +1,868 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An external-memory implementation of the A* algorithm for graph searches
+ * whose frontier does not fit in memory.<br/>
+ * <br/>
+ * The open list is partitioned into buckets of search nodes with similar f
+ * values: every bucket covers an interval of f values as wide as the
+ * configured bucket width, or a single f value if the width is zero. Each
+ * bucket buffers its nodes in memory; whenever the buffers
+ * of all buckets together hold more than a caller-specified number of nodes,
+ * the buffer of the least promising bucket is appended to that bucket's file
+ * in the spill directory. Nodes are moved to and from disk sequentially
+ * through NIO channels, using an {@link AStarSearchNodeSerializer} supplied by
+ * the caller.<br/>
+ * <br/>
+ * Duplicates are detected with a delay: when the most promising bucket is
+ * expanded, its nodes are sorted by state hash in chunks no larger than the
+ * in-memory buffer, and the sorted runs are merged. During the merge, all but
+ * the cheapest copy of each state are discarded, as are states that were
+ * already expanded at no greater cost. Expanded states are kept in sorted
+ * files of their own (the closed list), which are merged alongside the bucket
+ * and compacted from time to time.<br/>
+ * <br/>
+ * Every bucket expansion reads the whole closed list, so the number of buckets
+ * largely determines the I/O of a search. A width of zero suits problems with
+ * integer step costs, whose f values are few. With real-valued step costs
+ * nearly every node has an f value of its own, so a width of zero would
+ * expand one bucket, and read the closed list once, per node; a positive
+ * width bounds the number of buckets by the range of f values divided by the
+ * width. Nodes within a bucket are expanded in no particular f order, so a
+ * goal found in a bucket is returned only once no remaining bucket could hold
+ * a cheaper path.<br/>
+ * <br/>
+ * The number of nodes held in memory stays within roughly twice the
+ * configured buffer size. The bucket buffers, including that of the bucket
+ * being expanded until its merge completes, hold at most maxNodesInMemory
+ * nodes together, and at most one further chunk of that many nodes is sorted
+ * at a time. Like
+ * {@link AStarSearch} in {@link AStarSearch.AStarSearchMode#GRAPH} mode, the
+ * search requires that search nodes implement
+ * {@link AStarSearchNode#getStateHash()} and
+ * {@link AStarSearchNode#isSameState(AStarSearchNode)}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class ExternalMemoryAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(ExternalMemoryAStarSearch.class);
+
+	private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The number of closed list files above which they are merged into one.
+	 */
+	private static final int MAX_CLOSED_RUNS = 8;
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final AStarSearchNodeSerializer<SearchNodeType> serializer;
+	private final File spillDirectory;
+	private final int maxNodesInMemory;
+	private final double bucketWidth;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f (or g) by this
+	 * sign yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * Orders search nodes by state hash and, within a state hash, from the
+	 * cheapest to the most expensive g value.
+	 */
+	private final Comparator<SearchNodeType> nodeOrder = new Comparator<SearchNodeType>()
+	{
+		public int compare(SearchNodeType n1, SearchNodeType n2)
+		{
+			int result = compareStateHashes(n1.getStateHash(), n2.getStateHash());
+			return (result != 0) ? result : Double.compare(sign * n1.getG(), sign * n2.getG());
+		}
+	};
+
+	/**
+	 * Builds a search with one bucket per distinct f value, which suits
+	 * problems with integer step costs.
+	 * 
+	 * @see #ExternalMemoryAStarSearch(AStarSearchType, Heuristic,
+	 *      NextNodesGenerator, AStarSearchNodeSerializer, File, int, double)
+	 */
+	public ExternalMemoryAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchNodeSerializer<SearchNodeType> serializer, File spillDirectory, int maxNodesInMemory) throws IllegalArgumentException
+	{
+		this(searchType, heuristic, nextNodesGenerator, serializer, spillDirectory, maxNodesInMemory, 0);
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param serializer
+	 *            Converts search nodes to and from their on-disk records.
+	 * @param spillDirectory
+	 *            An existing directory in which temporary files are created.
+	 *            All files are deleted by the time a search completes.
+	 * @param maxNodesInMemory
+	 *            The number of search nodes that may be buffered in memory
+	 *            before the least promising nodes are spilled to disk.
+	 * @param bucketWidth
+	 *            The width of the interval of f values covered by each bucket,
+	 *            or zero for one bucket per distinct f value.
+	 * @throws IllegalArgumentException
+	 *             Thrown if any argument is null, if spillDirectory is not a
+	 *             directory, if maxNodesInMemory is less than one or if
+	 *             bucketWidth is negative or not finite.
+	 */
+	public ExternalMemoryAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, AStarSearchNodeSerializer<SearchNodeType> serializer, File spillDirectory, int maxNodesInMemory, double bucketWidth) throws IllegalArgumentException
+	{
+		if (searchType == null)
+		{
+			throw new IllegalArgumentException("The searchType argument must not be null.");
+		}
+		if (heuristic == null)
+		{
+			throw new IllegalArgumentException("The heuristic argument must not be null.");
+		}
+		if (nextNodesGenerator == null)
+		{
+			throw new IllegalArgumentException("The nextNodesGenerator argument must not be null.");
+		}
+		if (serializer == null)
+		{
+			throw new IllegalArgumentException("The serializer argument must not be null.");
+		}
+		if (spillDirectory == null || !spillDirectory.isDirectory())
+		{
+			throw new IllegalArgumentException("The spillDirectory argument must be an existing directory.");
+		}
+		if (maxNodesInMemory < 1)
+		{
+			throw new IllegalArgumentException("The maxNodesInMemory argument must not be less than one.");
+		}
+		if (!(bucketWidth >= 0) || Double.isInfinite(bucketWidth))
+		{
+			throw new IllegalArgumentException("The bucketWidth argument must be a finite number that is not negative.");
+		}
+
+		this.searchType = searchType;
+		this.heuristic = heuristic;
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.serializer = serializer;
+		this.spillDirectory = spillDirectory;
+		this.maxNodesInMemory = maxNodesInMemory;
+		this.bucketWidth = bucketWidth;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	/**
+	 * @param startNode
+	 * @return Returns the results of the search.
+	 * @throws IOException
+	 *             Thrown if a temporary file cannot be written or read.
+	 */
+	public ExternalMemoryAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode) throws IOException
+	{
+		Duration searchDuration = new Duration();
+
+		Search search = new Search();
+		SearchNodeType goalNode;
+		try
+		{
+			goalNode = search.run(startNode);
+		}
+		finally
+		{
+			search.deleteTempFiles();
+		}
+
+		double effectiveBranchingFactor = (goalNode == null || goalNode.getNodeDepth() >= search.numSearchNodesConsidered) ? 1.0 : AStarSearch.calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), search.numSearchNodesConsidered, search.maxPossibleBranchingFactor);
+
+		ExternalMemoryAStarSearchResult<SearchNodeType> results = new ExternalMemoryAStarSearchResult<SearchNodeType>(goalNode, search.numSearchNodesGenerated, effectiveBranchingFactor, search.numBucketsExpanded, search.numNodesSpilled, search.numDuplicatesEliminated, search.numBytesWritten, search.numBytesRead);
+
+		logger.debug("Completed an external-memory A* search in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Number of nodes spilled: " + results.getNumNodesSpilled());
+		logger.debug("Number of bytes written: " + results.getNumBytesWritten());
+
+		return results;
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public File getSpillDirectory()
+	{
+		return spillDirectory;
+	}
+
+	public int getMaxNodesInMemory()
+	{
+		return maxNodesInMemory;
+	}
+
+	public double getBucketWidth()
+	{
+		return bucketWidth;
+	}
+
+	private static int compareStateHashes(long h1, long h2)
+	{
+		return (h1 < h2) ? -1 : ((h1 == h2) ? 0 : 1);
+	}
+
+	/**
+	 * The open search nodes whose f values fall into one bucket.
+	 */
+	private final class Bucket
+	{
+		private final List<SearchNodeType> buffer = new ArrayList<SearchNodeType>();
+		private File spillFile;
+	}
+
+	/**
+	 * A sequence of search nodes sorted by state hash.
+	 */
+	private abstract class Run
+	{
+		abstract boolean advance() throws IOException;
+
+		abstract SearchNodeType getNode();
+
+		abstract long getStateHash();
+
+		abstract void close() throws IOException;
+	}
+
+	private final class ListRun extends Run
+	{
+		private final List<SearchNodeType> nodes;
+		private int index = -1;
+
+		private ListRun(List<SearchNodeType> nodes)
+		{
+			this.nodes = nodes;
+		}
+
+		@Override
+		boolean advance()
+		{
+			return ++index < nodes.size();
+		}
+
+		@Override
+		SearchNodeType getNode()
+		{
+			return nodes.get(index);
+		}
+
+		@Override
+		long getStateHash()
+		{
+			return nodes.get(index).getStateHash();
+		}
+
+		@Override
+		void close()
+		{
+		}
+	}
+
+	private final class FileRun extends Run
+	{
+		private final Search search;
+		private final ExternalNodeReader<SearchNodeType> reader;
+
+		private FileRun(Search search, File file) throws IOException
+		{
+			this.search = search;
+			this.reader = new ExternalNodeReader<SearchNodeType>(file, serializer, IO_BUFFER_SIZE);
+		}
+
+		@Override
+		boolean advance() throws IOException
+		{
+			return reader.advance();
+		}
+
+		@Override
+		SearchNodeType getNode()
+		{
+			return reader.getNode();
+		}
+
+		@Override
+		long getStateHash()
+		{
+			return reader.getStateHash();
+		}
+
+		@Override
+		void close() throws IOException
+		{
+			search.numBytesRead += reader.getNumBytesRead();
+			reader.close();
+		}
+	}
+
+	/**
+	 * Merges several runs into a single sequence sorted by state hash, which
+	 * is delivered one group of equal state hashes at a time.
+	 */
+	private final class RunMerger
+	{
+		private final PriorityQueue<Run> queue;
+		private final List<SearchNodeType> group = new ArrayList<SearchNodeType>();
+		private long groupStateHash;
+
+		private RunMerger(List<Run> runs) throws IOException
+		{
+			this.queue = new PriorityQueue<Run>(Math.max(1, runs.size()), new Comparator<Run>()
+			{
+				public int compare(Run r1, Run r2)
+				{
+					return compareStateHashes(r1.getStateHash(), r2.getStateHash());
+				}
+			});
+			for (Run run : runs)
+			{
+				if (run.advance())
+				{
+					queue.add(run);
+				}
+			}
+		}
+
+		/**
+		 * @return Returns false once all runs are exhausted.
+		 */
+		private boolean nextGroup() throws IOException
+		{
+			group.clear();
+			if (queue.isEmpty())
+			{
+				return false;
+			}
+
+			groupStateHash = queue.peek().getStateHash();
+			while (!queue.isEmpty() && queue.peek().getStateHash() == groupStateHash)
+			{
+				Run run = queue.poll();
+				group.add(run.getNode());
+				if (run.advance())
+				{
+					queue.add(run);
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Skips forward to the group with the given state hash. State hashes
+		 * must be sought in ascending order.
+		 * 
+		 * @return Returns the nodes with the given state hash (possibly none).
+		 */
+		private List<SearchNodeType> seek(long stateHash) throws IOException
+		{
+			while (group.isEmpty() || compareStateHashes(groupStateHash, stateHash) < 0)
+			{
+				if (!nextGroup())
+				{
+					break;
+				}
+			}
+			return (!group.isEmpty() && groupStateHash == stateHash) ? group : Collections.<SearchNodeType> emptyList();
+		}
+	}
+
+	/**
+	 * The state of a single search operation.
+	 */
+	private final class Search
+	{
+		/**
+		 * Open buckets keyed by sign * f, divided by the bucket width and
+		 * rounded down if the width is positive, so that the first bucket is
+		 * always the most promising.
+		 */
+		private final TreeMap<Double, Bucket> buckets = new TreeMap<Double, Bucket>();
+		private int numBufferedNodes;
+
+		/**
+		 * The cheapest goal node found so far, which may not be returned
+		 * until no open bucket could hold a cheaper one.
+		 */
+		private SearchNodeType bestGoalNode;
+
+		/**
+		 * Files holding the states expanded so far, each sorted by state hash.
+		 */
+		private final List<File> closedFiles = new ArrayList<File>();
+
+		/**
+		 * Every temporary file that has not been deleted yet.
+		 */
+		private final List<File> tempFiles = new ArrayList<File>();
+
+		private long numSearchNodesGenerated;
+		private long numSearchNodesConsidered;
+		private int maxPossibleBranchingFactor = 1;
+		private long numBucketsExpanded;
+		private long numNodesSpilled;
+		private long numDuplicatesEliminated;
+		private long numBytesWritten;
+		private long numBytesRead;
+
+		private SearchNodeType run(SearchNodeType startNode) throws IOException
+		{
+			addOpenNode(startNode);
+			numSearchNodesGenerated++;
+
+			while (!buckets.isEmpty())
+			{
+				double lowerBound = getLowerBound(buckets.firstKey().doubleValue());
+				if (bestGoalNode != null && sign * bestGoalNode.getG() <= lowerBound)
+				{
+					return bestGoalNode;
+				}
+
+				Bucket bucket = buckets.remove(buckets.firstKey());
+				numBucketsExpanded++;
+
+				SearchNodeType goalNode = expandBucket(bucket, lowerBound);
+				if (goalNode != null)
+				{
+					return goalNode;
+				}
+
+				if (closedFiles.size() > MAX_CLOSED_RUNS)
+				{
+					compactClosedFiles();
+				}
+			}
+
+			return bestGoalNode;
+		}
+
+		private void addOpenNode(SearchNodeType node) throws IOException
+		{
+			double signedF = sign * (node.getG() + heuristic.getH(node));
+			Double key = Double.valueOf((bucketWidth > 0) ? Math.floor(signedF / bucketWidth) : signedF);
+
+			Bucket bucket = buckets.get(key);
+			if (bucket == null)
+			{
+				bucket = new Bucket();
+				buckets.put(key, bucket);
+			}
+			bucket.buffer.add(node);
+			numBufferedNodes++;
+
+			if (numBufferedNodes > maxNodesInMemory)
+			{
+				spillLeastPromisingBucket();
+			}
+		}
+
+		private void spillLeastPromisingBucket() throws IOException
+		{
+			for (Bucket bucket : buckets.descendingMap().values())
+			{
+				if (!bucket.buffer.isEmpty())
+				{
+					if (bucket.spillFile == null)
+					{
+						bucket.spillFile = createTempFile();
+					}
+					append(bucket.spillFile, bucket.buffer);
+
+					numNodesSpilled += bucket.buffer.size();
+					numBufferedNodes -= bucket.buffer.size();
+					bucket.buffer.clear();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * @return Returns the smallest sign * f value that a node in the
+		 *         bucket with the given key may have.
+		 */
+		private double getLowerBound(double key)
+		{
+			return (bucketWidth > 0) ? key * bucketWidth : key;
+		}
+
+		/**
+		 * Removes duplicates from a bucket and expands the remaining nodes.
+		 * The expanded nodes are recorded in a new closed list file. Goal
+		 * nodes are not expanded, but the cheapest is kept as bestGoalNode.
+		 * 
+		 * @param lowerBound
+		 *            The smallest sign * f value of any open node.
+		 * @return Returns a goal node that is known to be optimal, if one is
+		 *         found in the bucket.
+		 */
+		private SearchNodeType expandBucket(Bucket bucket, double lowerBound) throws IOException
+		{
+			List<File> runFiles = new ArrayList<File>();
+			List<Run> openRuns = new ArrayList<Run>();
+			List<Run> closedRuns = new ArrayList<Run>();
+			File layerFile = createTempFile();
+			ExternalNodeWriter<SearchNodeType> layerWriter = null;
+			try
+			{
+				sortBucket(bucket, openRuns, runFiles);
+				for (File closedFile : closedFiles)
+				{
+					closedRuns.add(new FileRun(this, closedFile));
+				}
+
+				RunMerger open = new RunMerger(openRuns);
+				RunMerger closed = new RunMerger(closedRuns);
+				layerWriter = new ExternalNodeWriter<SearchNodeType>(layerFile, false, serializer, IO_BUFFER_SIZE);
+				while (open.nextGroup())
+				{
+					List<SearchNodeType> candidates = keepCheapestPerState(open.group);
+					numDuplicatesEliminated += open.group.size() - candidates.size();
+					List<SearchNodeType> expandedNodes = closed.seek(open.groupStateHash);
+
+					for (SearchNodeType candidate : candidates)
+					{
+						if (isExpandedAtNoGreaterCost(candidate, expandedNodes))
+						{
+							numDuplicatesEliminated++;
+						}
+						else if (candidate.isGoalState())
+						{
+							if (bestGoalNode == null || sign * candidate.getG() < sign * bestGoalNode.getG())
+							{
+								bestGoalNode = candidate;
+							}
+							if (sign * candidate.getG() <= lowerBound)
+							{
+								return candidate;
+							}
+						}
+						else
+						{
+							layerWriter.write(candidate);
+							expand(candidate);
+						}
+					}
+				}
+			}
+			finally
+			{
+				List<Run> runs = new ArrayList<Run>(openRuns);
+				runs.addAll(closedRuns);
+				try
+				{
+					close(layerWriter, runs);
+				}
+				finally
+				{
+					// the buffer counts against maxNodesInMemory until the
+					// merge no longer needs it
+					numBufferedNodes -= bucket.buffer.size();
+					bucket.buffer.clear();
+					if (bucket.spillFile != null)
+					{
+						deleteTempFile(bucket.spillFile);
+					}
+					for (File runFile : runFiles)
+					{
+						deleteTempFile(runFile);
+					}
+				}
+			}
+
+			closedFiles.add(layerFile);
+			return null;
+		}
+
+		private void expand(SearchNodeType node) throws IOException
+		{
+			numSearchNodesConsidered++;
+
+			Collection<SearchNodeType> nextSearchNodes = nextNodesGenerator.getNextSearchNodes(node);
+			numSearchNodesGenerated += nextSearchNodes.size();
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, nextSearchNodes.size());
+
+			for (SearchNodeType nextSearchNode : nextSearchNodes)
+			{
+				addOpenNode(nextSearchNode);
+			}
+		}
+
+		/**
+		 * Converts a bucket into runs sorted by state hash. Buffered nodes are
+		 * sorted in memory. Spilled nodes are read back and sorted in chunks of
+		 * at most maxNodesInMemory nodes, each of which is written to a run
+		 * file. Runs and run files are added to the given lists as soon as they
+		 * are opened or created, so that the caller can release them even if
+		 * this method fails.
+		 */
+		private void sortBucket(Bucket bucket, List<Run> runs, List<File> runFiles) throws IOException
+		{
+			Collections.sort(bucket.buffer, nodeOrder);
+			runs.add(new ListRun(bucket.buffer));
+
+			if (bucket.spillFile != null)
+			{
+				ExternalNodeReader<SearchNodeType> reader = new ExternalNodeReader<SearchNodeType>(bucket.spillFile, serializer, IO_BUFFER_SIZE);
+				try
+				{
+					List<SearchNodeType> chunk = new ArrayList<SearchNodeType>();
+					boolean hasMore = true;
+					while (hasMore)
+					{
+						while (chunk.size() < maxNodesInMemory && (hasMore = reader.advance()))
+						{
+							chunk.add(reader.getNode());
+						}
+						if (!chunk.isEmpty())
+						{
+							Collections.sort(chunk, nodeOrder);
+							File runFile = createTempFile();
+							runFiles.add(runFile);
+							append(runFile, chunk);
+							chunk.clear();
+						}
+					}
+				}
+				finally
+				{
+					numBytesRead += reader.getNumBytesRead();
+					reader.close();
+				}
+
+				for (File runFile : runFiles)
+				{
+					runs.add(new FileRun(this, runFile));
+				}
+			}
+		}
+
+		/**
+		 * Merges all closed list files into one, keeping only the cheapest
+		 * copy of each state.
+		 */
+		private void compactClosedFiles() throws IOException
+		{
+			List<Run> closedRuns = new ArrayList<Run>();
+			File compactedFile = createTempFile();
+			ExternalNodeWriter<SearchNodeType> writer = null;
+			try
+			{
+				for (File closedFile : closedFiles)
+				{
+					closedRuns.add(new FileRun(this, closedFile));
+				}
+
+				RunMerger closed = new RunMerger(closedRuns);
+				writer = new ExternalNodeWriter<SearchNodeType>(compactedFile, false, serializer, IO_BUFFER_SIZE);
+				while (closed.nextGroup())
+				{
+					for (SearchNodeType node : keepCheapestPerState(closed.group))
+					{
+						writer.write(node);
+					}
+				}
+			}
+			finally
+			{
+				close(writer, closedRuns);
+			}
+
+			for (File closedFile : closedFiles)
+			{
+				deleteTempFile(closedFile);
+			}
+			closedFiles.clear();
+			closedFiles.add(compactedFile);
+		}
+
+		/**
+		 * @param nodes
+		 *            Nodes that share a state hash.
+		 * @return Returns the cheapest node for each distinct state among
+		 *         nodes.
+		 */
+		private List<SearchNodeType> keepCheapestPerState(List<SearchNodeType> nodes)
+		{
+			List<SearchNodeType> cheapestNodes = new ArrayList<SearchNodeType>(1);
+			for (SearchNodeType node : nodes)
+			{
+				boolean isNewState = true;
+				for (int i = 0; i < cheapestNodes.size(); i++)
+				{
+					if (node.isSameState(cheapestNodes.get(i)))
+					{
+						if (sign * node.getG() < sign * cheapestNodes.get(i).getG())
+						{
+							cheapestNodes.set(i, node);
+						}
+						isNewState = false;
+						break;
+					}
+				}
+				if (isNewState)
+				{
+					cheapestNodes.add(node);
+				}
+			}
+			return cheapestNodes;
+		}
+
+		private boolean isExpandedAtNoGreaterCost(SearchNodeType node, List<SearchNodeType> expandedNodes)
+		{
+			for (SearchNodeType expandedNode : expandedNodes)
+			{
+				if (node.isSameState(expandedNode) && sign * expandedNode.getG() <= sign * node.getG())
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Closes writer, unless it is null, and every run in runs. Everything
+		 * is closed even if closing one of them fails.
+		 * 
+		 * @throws IOException
+		 *             Thrown with the first failure, once everything has been
+		 *             closed.
+		 */
+		private void close(ExternalNodeWriter<SearchNodeType> writer, List<Run> runs) throws IOException
+		{
+			IOException failure = null;
+			if (writer != null)
+			{
+				try
+				{
+					writer.close();
+				}
+				catch (IOException e)
+				{
+					failure = e;
+				}
+				numBytesWritten += writer.getNumBytesWritten();
+			}
+			for (Run run : runs)
+			{
+				try
+				{
+					run.close();
+				}
+				catch (IOException e)
+				{
+					if (failure == null)
+					{
+						failure = e;
+					}
+				}
+			}
+			if (failure != null)
+			{
+				throw failure;
+			}
+		}
+
+		private void append(File file, List<SearchNodeType> nodes) throws IOException
+		{
+			ExternalNodeWriter<SearchNodeType> writer = new ExternalNodeWriter<SearchNodeType>(file, true, serializer, IO_BUFFER_SIZE);
+			try
+			{
+				for (SearchNodeType node : nodes)
+				{
+					writer.write(node);
+				}
+			}
+			finally
+			{
+				writer.close();
+				numBytesWritten += writer.getNumBytesWritten();
+			}
+		}
+
+		private File createTempFile() throws IOException
+		{
+			File file = File.createTempFile("astar", ".nodes", spillDirectory);
+			tempFiles.add(file);
+			return file;
+		}
+
+		private void deleteTempFile(File file)
+		{
+			tempFiles.remove(file);
+			if (!file.delete())
+			{
+				logger.warn("Failed to delete temporary file " + file + ".");
+			}
+		}
+
+		private void deleteTempFiles()
+		{
+			for (File file : new ArrayList<File>(tempFiles))
+			{
+				deleteTempFile(file);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results from an external-memory A* search. In addition to
+ * the data reported by {@link AStarSearchResult}, this result exposes the
+ * counters needed to judge how much of the search was carried out on disk.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see ExternalMemoryAStarSearch
+ */
+public class ExternalMemoryAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final long numBucketsExpanded;
+	private final long numNodesSpilled;
+	private final long numDuplicatesEliminated;
+	private final long numBytesWritten;
+	private final long numBytesRead;
+
+	public ExternalMemoryAStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, long numBucketsExpanded, long numNodesSpilled, long numDuplicatesEliminated, long numBytesWritten, long numBytesRead)
+	{
+		super(goalNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.numBucketsExpanded = numBucketsExpanded;
+		this.numNodesSpilled = numNodesSpilled;
+		this.numDuplicatesEliminated = numDuplicatesEliminated;
+		this.numBytesWritten = numBytesWritten;
+		this.numBytesRead = numBytesRead;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of f-value buckets that were expanded.
+	 */
+	public long getNumBucketsExpanded()
+	{
+		return numBucketsExpanded;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of open nodes that were moved from memory to
+	 *         disk because the in-memory buffer was full.
+	 */
+	public long getNumNodesSpilled()
+	{
+		return numNodesSpilled;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of open nodes discarded by delayed duplicate
+	 *         detection, either because a cheaper copy of the same state was
+	 *         open or because the state had already been expanded.
+	 */
+	public long getNumDuplicatesEliminated()
+	{
+		return numDuplicatesEliminated;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of bytes written to temporary files.
+	 */
+	public long getNumBytesWritten()
+	{
+		return numBytesWritten;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of bytes read back from temporary files.
+	 */
+	public long getNumBytesRead()
+	{
+		return numBytesRead;
+	}
+
+}
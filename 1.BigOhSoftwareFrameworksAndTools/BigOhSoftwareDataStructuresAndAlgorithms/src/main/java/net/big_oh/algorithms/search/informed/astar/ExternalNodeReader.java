@@ -0,0 +1,139 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Reads the search nodes written by an {@link ExternalNodeWriter}
+ * sequentially through a buffered {@link FileChannel}. The reader is a cursor:
+ * {@link #advance()} moves to the next node, which is then available from
+ * {@link #getNode()} and {@link #getStateHash()}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+final class ExternalNodeReader<SearchNodeType extends AStarSearchNode>
+{
+
+	private final AStarSearchNodeSerializer<SearchNodeType> serializer;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private boolean endOfFile;
+	private long numBytesRead;
+
+	private SearchNodeType node;
+	private long stateHash;
+
+	ExternalNodeReader(File file, AStarSearchNodeSerializer<SearchNodeType> serializer, int bufferSize) throws IOException
+	{
+		this.serializer = serializer;
+		this.channel = new FileInputStream(file).getChannel();
+		this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, ExternalNodeWriter.HEADER_SIZE + serializer.getMaxRecordSize()));
+		this.buffer.flip();
+	}
+
+	/**
+	 * @return Returns false if the end of the file was reached, in which case
+	 *         there is no current node.
+	 */
+	boolean advance() throws IOException
+	{
+		if (!fill(ExternalNodeWriter.HEADER_SIZE))
+		{
+			node = null;
+			return false;
+		}
+
+		stateHash = buffer.getLong();
+		int length = buffer.getInt();
+		if (!fill(length))
+		{
+			throw new IOException("Truncated search node record.");
+		}
+
+		int recordEnd = buffer.position() + length;
+		node = serializer.read(buffer);
+		buffer.position(recordEnd);
+		return true;
+	}
+
+	SearchNodeType getNode()
+	{
+		return node;
+	}
+
+	long getStateHash()
+	{
+		return stateHash;
+	}
+
+	long getNumBytesRead()
+	{
+		return numBytesRead;
+	}
+
+	void close() throws IOException
+	{
+		channel.close();
+	}
+
+	/**
+	 * Ensures that at least numBytes bytes are buffered.
+	 * 
+	 * @return Returns false if the file ends before numBytes bytes.
+	 */
+	private boolean fill(int numBytes) throws IOException
+	{
+		if (buffer.remaining() >= numBytes)
+		{
+			return true;
+		}
+
+		buffer.compact();
+		while (!endOfFile && buffer.position() < numBytes)
+		{
+			int numRead = channel.read(buffer);
+			if (numRead < 0)
+			{
+				endOfFile = true;
+			}
+			else
+			{
+				numBytesRead += numRead;
+			}
+		}
+		buffer.flip();
+
+		return buffer.remaining() >= numBytes;
+	}
+
+}
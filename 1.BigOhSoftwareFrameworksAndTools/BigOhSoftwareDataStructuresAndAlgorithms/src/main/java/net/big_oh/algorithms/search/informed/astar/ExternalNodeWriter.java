@@ -0,0 +1,110 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Appends search nodes to a file through a buffered {@link FileChannel}. Each
+ * record consists of the node's state hash, the length of the serialized node
+ * and the serialized node itself.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see ExternalNodeReader
+ */
+final class ExternalNodeWriter<SearchNodeType extends AStarSearchNode>
+{
+
+	static final int HEADER_SIZE = 8 + 4;
+
+	private final AStarSearchNodeSerializer<SearchNodeType> serializer;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private long numBytesWritten;
+	private long numNodesWritten;
+
+	ExternalNodeWriter(File file, boolean append, AStarSearchNodeSerializer<SearchNodeType> serializer, int bufferSize) throws IOException
+	{
+		this.serializer = serializer;
+		this.channel = new FileOutputStream(file, append).getChannel();
+		this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, HEADER_SIZE + serializer.getMaxRecordSize()));
+	}
+
+	void write(SearchNodeType searchNode) throws IOException
+	{
+		if (buffer.remaining() < HEADER_SIZE + serializer.getMaxRecordSize())
+		{
+			flush();
+		}
+
+		buffer.putLong(searchNode.getStateHash());
+		int lengthPosition = buffer.position();
+		buffer.putInt(0);
+		int recordStart = buffer.position();
+		serializer.write(searchNode, buffer);
+		buffer.putInt(lengthPosition, buffer.position() - recordStart);
+		numNodesWritten++;
+	}
+
+	void close() throws IOException
+	{
+		try
+		{
+			flush();
+		}
+		finally
+		{
+			channel.close();
+		}
+	}
+
+	long getNumBytesWritten()
+	{
+		return numBytesWritten;
+	}
+
+	long getNumNodesWritten()
+	{
+		return numNodesWritten;
+	}
+
+	private void flush() throws IOException
+	{
+		buffer.flip();
+		while (buffer.hasRemaining())
+		{
+			numBytesWritten += channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+}
@@ -46,23 +46,81 @@ public abstract class Heuristic<SearchNodeType extends AStarSearchNode>
 {
 	private static final Log logger = LogFactory.getLog(Heuristic.class);
 
+	/**
+	 * The slot under which search nodes cache h values calculated by this
+	 * heuristic.
+	 */
+	private final int slot = HeuristicRegistry.register();
+
 	public final double getH(SearchNodeType searchNode)
 	{
-		if (searchNode.getH(this) == null)
+		double h = searchNode.getH(slot);
+		if (Double.isNaN(h))
 		{
-			Duration calculateDuration = new Duration();
+			Duration calculateDuration = logger.isDebugEnabled() ? new Duration() : null;
 
-			double calculatedH = (searchNode.isGoalState()) ? 0 : calculateH(searchNode);
+			h = (searchNode.isGoalState()) ? 0 : calculateH(searchNode);
 
-			if (logger.isDebugEnabled())
+			if (calculateDuration != null)
 			{
 				logger.debug("Calculated an h value in " + calculateDuration.stop() + " milliseconds.");
 			}
 
-			searchNode.setH(this, calculatedH);
+			searchNode.setH(slot, h);
 		}
-		return searchNode.getH(this);
+		return h;
 	}
 
 	protected abstract double calculateH(SearchNodeType searchNode);
+
+	/**
+	 * Calculates the h value of searchNode even if it is a goal state, without
+	 * consulting or filling the node's cache. Used by searches such as
+	 * {@link BidirectionalAStarSearch} whose goal is not the one defined by
+	 * {@link AStarSearchNode#isGoalState()}.
+	 */
+	final double calculateHIgnoringGoalState(SearchNodeType searchNode)
+	{
+		return calculateH(searchNode);
+	}
+
+	/**
+	 * Used by lazy A* searches to key nodes whose real h value has not yet been
+	 * calculated. The estimate must be cheap to calculate and must satisfy the
+	 * same admissibility requirement as {@link #calculateH(AStarSearchNode)},
+	 * but need not be as informed.<br/>
+	 * <br/>
+	 * Cheap estimates are not cached. The default implementation returns
+	 * {@link Double#NaN}, meaning that no cheap estimate is available; nodes
+	 * are then keyed by the f value of their parent.
+	 * 
+	 * @return Returns a cheap admissible estimate of the remaining cost from
+	 *         searchNode, or {@link Double#NaN}.
+	 */
+	protected double calculateCheapH(SearchNodeType searchNode)
+	{
+		return Double.NaN;
+	}
+
+	/**
+	 * A heuristic is consistent (or monotone) if, for every node n and every
+	 * successor n' of n, h(n) never exceeds the cost of the step from n to n'
+	 * plus h(n') (reverse the inequality for a max search). A graph search
+	 * that uses a consistent heuristic never needs to re-open a state that has
+	 * already been expanded.<br/>
+	 * <br/>
+	 * Subclasses should override this method only if consistency is
+	 * guaranteed; the conservative default is false.
+	 * 
+	 * @return Returns true if this heuristic is known to be consistent.
+	 */
+	public boolean isConsistent()
+	{
+		return false;
+	}
+
+	final int getSlot()
+	{
+		return slot;
+	}
 }
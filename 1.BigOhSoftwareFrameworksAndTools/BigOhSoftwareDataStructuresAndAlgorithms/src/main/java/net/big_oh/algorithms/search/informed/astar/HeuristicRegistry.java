@@ -0,0 +1,68 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Hands out a never-reused slot number to every {@link Heuristic} instance.
+ * Search nodes use these slots as keys when caching h values in primitive
+ * storage instead of a per-node map keyed by heuristic.<br/>
+ * <br/>
+ * Slots are assigned in creation order and are never recycled. Nodes search
+ * their cached values by slot rather than indexing arrays with it, so the
+ * number of heuristics ever created does not affect the size of a node.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+final class HeuristicRegistry
+{
+
+	private static final AtomicInteger nextSlot = new AtomicInteger();
+
+	private HeuristicRegistry()
+	{
+		super();
+	}
+
+	/**
+	 * @return Returns a slot index that has not been handed out before.
+	 */
+	static int register()
+	{
+		return nextSlot.getAndIncrement();
+	}
+
+	/**
+	 * @return Returns the number of slots handed out so far.
+	 */
+	static int getNumSlots()
+	{
+		return nextSlot.get();
+	}
+
+}
@@ -0,0 +1,494 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An incremental implementation of the A* algorithm (D* Lite) for agents that
+ * must replan as the edge costs of their graph change.<br/>
+ * <br/>
+ * The search runs backward from the goal state and retains, for every state
+ * it has touched, the cost g of the best path to the goal found so far along
+ * with a one-step lookahead value rhs computed from the g values of the
+ * state's successors. A state is consistent when the two agree. After edge
+ * cost changes are reported through
+ * {@link #notifyEdgeCostChanged(Object, Object)}, only the states whose rhs
+ * values change become inconsistent, and {@link #computePath()} repairs the
+ * search tree by expanding just those states (and those whose values depend
+ * on them) until the path from the start state is known to be optimal again.
+ * The start state may move along the path between replans (see
+ * {@link #moveStart(Object)}) without discarding any previous work. If the
+ * start state never moves, the search behaves like Lifelong Planning A*.<br/>
+ * <br/>
+ * The search always minimizes path cost, and the
+ * {@link IncrementalSearchGraph#estimateCost(Object, Object)} estimate must be
+ * consistent. Instances of this class are not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <StateType>
+ */
+public class IncrementalAStarSearch<StateType>
+{
+
+	private static final Log logger = LogFactory.getLog(IncrementalAStarSearch.class);
+
+	private static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+
+	private final IncrementalSearchGraph<StateType> graph;
+	private final StateType goalState;
+	private StateType startState;
+
+	/**
+	 * The total estimated cost of all moves of the start state so far, which
+	 * is added to every newly computed key so that keys computed before a move
+	 * remain lower bounds.
+	 */
+	private double keyModifier;
+
+	private final Map<StateType, StateRecord> records = new HashMap<StateType, StateRecord>();
+	private final PriorityQueue<QueueEntry> queue = new PriorityQueue<QueueEntry>();
+	private int numQueuedStates;
+
+	private int planningStep = 1;
+	private long numStatesExpanded;
+	private long numStatesTouched;
+
+	/**
+	 * @param graph
+	 * @param startState
+	 * @param goalState
+	 * @throws IllegalArgumentException
+	 *             Thrown if any argument is null.
+	 */
+	public IncrementalAStarSearch(IncrementalSearchGraph<StateType> graph, StateType startState, StateType goalState) throws IllegalArgumentException
+	{
+		if (graph == null)
+		{
+			throw new IllegalArgumentException("The graph argument must not be null.");
+		}
+		if (startState == null)
+		{
+			throw new IllegalArgumentException("The startState argument must not be null.");
+		}
+		if (goalState == null)
+		{
+			throw new IllegalArgumentException("The goalState argument must not be null.");
+		}
+
+		this.graph = graph;
+		this.startState = startState;
+		this.goalState = goalState;
+
+		StateRecord goalRecord = getRecord(goalState);
+		goalRecord.rhs = 0.0;
+		enqueue(goalRecord);
+	}
+
+	/**
+	 * Brings the search up to date with all edge cost changes reported so far
+	 * and extracts the cheapest path from the start state to the goal state.
+	 * The first call performs a complete search; later calls only repair the
+	 * parts of the search tree affected by changes.
+	 * 
+	 * @return Returns the results of this planning step.
+	 */
+	public IncrementalAStarSearchResult<StateType> computePath()
+	{
+		long startNanos = System.nanoTime();
+
+		StateRecord startRecord = getRecord(startState);
+		while (true)
+		{
+			QueueEntry top = peekQueue();
+			double startKey1 = calculateKey1(startRecord);
+			double startKey2 = calculateKey2(startRecord);
+			if (top == null || (startRecord.g == startRecord.rhs && compareKeys(top.key1, top.key2, startKey1, startKey2) >= 0))
+			{
+				break;
+			}
+
+			StateRecord record = top.record;
+			double key1 = calculateKey1(record);
+			double key2 = calculateKey2(record);
+			if (compareKeys(top.key1, top.key2, key1, key2) < 0)
+			{
+				// the key is outdated because the start state moved
+				enqueue(record);
+				continue;
+			}
+
+			dequeue(record);
+			numStatesExpanded++;
+
+			if (record.g > record.rhs)
+			{
+				record.g = record.rhs;
+				for (StateType predecessor : graph.getPredecessors(record.state))
+				{
+					updateState(getRecord(predecessor));
+				}
+			}
+			else
+			{
+				record.g = UNREACHABLE;
+				updateState(record);
+				for (StateType predecessor : graph.getPredecessors(record.state))
+				{
+					updateState(getRecord(predecessor));
+				}
+			}
+		}
+
+		List<StateType> path = extractPath();
+		IncrementalAStarSearchResult<StateType> result = new IncrementalAStarSearchResult<StateType>(path, path.isEmpty() ? UNREACHABLE : startRecord.g, numStatesExpanded, numStatesTouched, records.size());
+
+		if (logger.isDebugEnabled())
+		{
+			logger.debug("Completed planning step " + planningStep + " in " + ((System.nanoTime() - startNanos) / 1000000) + " milliseconds, expanding " + numStatesExpanded + " and touching " + numStatesTouched + " states.");
+		}
+
+		planningStep++;
+		numStatesExpanded = 0;
+		numStatesTouched = 0;
+
+		return result;
+	}
+
+	/**
+	 * Reports that the cost of the edge from one state to another has changed.
+	 * The graph must already report the new cost. The change takes effect with
+	 * the next call to {@link #computePath()}.
+	 * 
+	 * @param from
+	 * @param to
+	 * @throws IllegalArgumentException
+	 *             Thrown if either argument is null.
+	 */
+	public void notifyEdgeCostChanged(StateType from, StateType to) throws IllegalArgumentException
+	{
+		if (from == null || to == null)
+		{
+			throw new IllegalArgumentException("The from and to arguments must not be null.");
+		}
+
+		// a state that was never touched has no finite rhs value to repair
+		StateRecord record = findRecord(from);
+		if (record != null)
+		{
+			updateState(record);
+		}
+	}
+
+	/**
+	 * Moves the start state, typically to the next state along the most
+	 * recently computed path. The move takes effect with the next call to
+	 * {@link #computePath()}.
+	 * 
+	 * @param newStartState
+	 * @throws IllegalArgumentException
+	 *             Thrown if newStartState is null.
+	 */
+	public void moveStart(StateType newStartState) throws IllegalArgumentException
+	{
+		if (newStartState == null)
+		{
+			throw new IllegalArgumentException("The newStartState argument must not be null.");
+		}
+
+		keyModifier += graph.estimateCost(startState, newStartState);
+		startState = newStartState;
+	}
+
+	public StateType getStartState()
+	{
+		return startState;
+	}
+
+	public StateType getGoalState()
+	{
+		return goalState;
+	}
+
+	/**
+	 * @return Returns the cost of the cheapest path from state to the goal
+	 *         state known to the search, or {@link Double#POSITIVE_INFINITY}
+	 *         if no path is known.
+	 */
+	public double getCostToGoal(StateType state)
+	{
+		// a query by the caller, which does not count as touching the state
+		StateRecord record = records.get(state);
+		return (record == null) ? UNREACHABLE : record.g;
+	}
+
+	/**
+	 * Recomputes the rhs value of a state from its successors and requeues the
+	 * state if it became (or stopped being) inconsistent.
+	 */
+	private void updateState(StateRecord record)
+	{
+		if (!record.state.equals(goalState))
+		{
+			double rhs = UNREACHABLE;
+			for (StateType successor : graph.getSuccessors(record.state))
+			{
+				StateRecord successorRecord = findRecord(successor);
+				if (successorRecord != null && successorRecord.g != UNREACHABLE)
+				{
+					rhs = Math.min(rhs, graph.getCost(record.state, successor) + successorRecord.g);
+				}
+			}
+			record.rhs = rhs;
+		}
+
+		if (record.g != record.rhs)
+		{
+			enqueue(record);
+		}
+		else if (record.queued)
+		{
+			dequeue(record);
+		}
+	}
+
+	private List<StateType> extractPath()
+	{
+		StateRecord record = findRecord(startState);
+		if (record == null || record.g == UNREACHABLE)
+		{
+			return Collections.emptyList();
+		}
+
+		List<StateType> path = new ArrayList<StateType>();
+		path.add(record.state);
+		while (!record.state.equals(goalState))
+		{
+			StateRecord nextRecord = null;
+			double nextCost = UNREACHABLE;
+			for (StateType successor : graph.getSuccessors(record.state))
+			{
+				StateRecord successorRecord = findRecord(successor);
+				if (successorRecord != null)
+				{
+					double cost = graph.getCost(record.state, successor) + successorRecord.g;
+					if (cost < nextCost)
+					{
+						nextRecord = successorRecord;
+						nextCost = cost;
+					}
+				}
+			}
+
+			if (nextRecord == null || path.size() > records.size())
+			{
+				throw new IllegalStateException("The search graph changed without notification.");
+			}
+			record = nextRecord;
+			path.add(record.state);
+		}
+
+		return path;
+	}
+
+	/**
+	 * @return Returns the record of state, creating it if the state has not
+	 *         been touched before.
+	 */
+	private StateRecord getRecord(StateType state)
+	{
+		StateRecord record = findRecord(state);
+		if (record == null)
+		{
+			record = new StateRecord(state);
+			records.put(state, record);
+			touch(record);
+		}
+		return record;
+	}
+
+	/**
+	 * Looks up the record of a state on behalf of the search, counting the
+	 * state as touched in the current planning step. All lookups made by the
+	 * search go through this method or {@link #getRecord(Object)}.
+	 * 
+	 * @return Returns the record of state, or null if the state has never
+	 *         been touched.
+	 */
+	private StateRecord findRecord(StateType state)
+	{
+		StateRecord record = records.get(state);
+		if (record != null)
+		{
+			touch(record);
+		}
+		return record;
+	}
+
+	private void touch(StateRecord record)
+	{
+		if (record.lastTouchedPlanningStep != planningStep)
+		{
+			record.lastTouchedPlanningStep = planningStep;
+			numStatesTouched++;
+		}
+	}
+
+	private double calculateKey1(StateRecord record)
+	{
+		return Math.min(record.g, record.rhs) + graph.estimateCost(startState, record.state) + keyModifier;
+	}
+
+	private double calculateKey2(StateRecord record)
+	{
+		return Math.min(record.g, record.rhs);
+	}
+
+	private static int compareKeys(double key1, double key2, double otherKey1, double otherKey2)
+	{
+		int result = Double.compare(key1, otherKey1);
+		return (result != 0) ? result : Double.compare(key2, otherKey2);
+	}
+
+	/**
+	 * Queues a record under its current key, replacing any previous entry.
+	 * Replaced entries stay in the priority queue until they reach its head,
+	 * where they are recognized as outdated and discarded.
+	 */
+	private void enqueue(StateRecord record)
+	{
+		double key1 = calculateKey1(record);
+		double key2 = calculateKey2(record);
+		if (record.queued && record.key1 == key1 && record.key2 == key2)
+		{
+			return;
+		}
+
+		if (!record.queued)
+		{
+			record.queued = true;
+			numQueuedStates++;
+		}
+		record.key1 = key1;
+		record.key2 = key2;
+		queue.add(new QueueEntry(record, record.key1, record.key2));
+
+		if (queue.size() > 2 * numQueuedStates + 1024)
+		{
+			purgeOutdatedEntries();
+		}
+	}
+
+	private void dequeue(StateRecord record)
+	{
+		record.queued = false;
+		numQueuedStates--;
+	}
+
+	/**
+	 * @return Returns the head of the priority queue after discarding outdated
+	 *         entries, or null if no state is queued.
+	 */
+	private QueueEntry peekQueue()
+	{
+		QueueEntry top = queue.peek();
+		while (top != null && top.isOutdated())
+		{
+			queue.poll();
+			top = queue.peek();
+		}
+		return top;
+	}
+
+	private void purgeOutdatedEntries()
+	{
+		List<QueueEntry> currentEntries = new ArrayList<QueueEntry>(numQueuedStates);
+		for (QueueEntry entry : queue)
+		{
+			if (!entry.isOutdated())
+			{
+				currentEntries.add(entry);
+			}
+		}
+		queue.clear();
+		queue.addAll(currentEntries);
+	}
+
+	/**
+	 * The values retained for a single state between planning steps.
+	 */
+	private final class StateRecord
+	{
+		private final StateType state;
+		private double g = UNREACHABLE;
+		private double rhs = UNREACHABLE;
+
+		private boolean queued;
+		private double key1;
+		private double key2;
+
+		private int lastTouchedPlanningStep;
+
+		private StateRecord(StateType state)
+		{
+			this.state = state;
+		}
+	}
+
+	private final class QueueEntry implements Comparable<QueueEntry>
+	{
+		private final StateRecord record;
+		private final double key1;
+		private final double key2;
+
+		private QueueEntry(StateRecord record, double key1, double key2)
+		{
+			this.record = record;
+			this.key1 = key1;
+			this.key2 = key2;
+		}
+
+		private boolean isOutdated()
+		{
+			return !record.queued || record.key1 != key1 || record.key2 != key2;
+		}
+
+		public int compareTo(QueueEntry other)
+		{
+			return compareKeys(key1, key2, other.key1, other.key2);
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results from a single (re-)planning step of an
+ * {@link IncrementalAStarSearch}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <StateType>
+ */
+public class IncrementalAStarSearchResult<StateType>
+{
+	private final List<StateType> path;
+	private final double pathCost;
+	private final long numStatesExpanded;
+	private final long numStatesTouched;
+	private final int numStatesStored;
+
+	public IncrementalAStarSearchResult(List<StateType> path, double pathCost, long numStatesExpanded, long numStatesTouched, int numStatesStored)
+	{
+		super();
+		this.path = Collections.unmodifiableList(new ArrayList<StateType>(path));
+		this.pathCost = pathCost;
+		this.numStatesExpanded = numStatesExpanded;
+		this.numStatesTouched = numStatesTouched;
+		this.numStatesStored = numStatesStored;
+	}
+
+	public boolean isPathFound()
+	{
+		return !path.isEmpty();
+	}
+
+	/**
+	 * 
+	 * @return Returns the states along the cheapest path from the current start
+	 *         state to the goal state, or an empty list if the goal state
+	 *         cannot be reached.
+	 */
+	public List<StateType> getPath()
+	{
+		return path;
+	}
+
+	/**
+	 * 
+	 * @return Returns the cost of the path, or
+	 *         {@link Double#POSITIVE_INFINITY} if the goal state cannot be
+	 *         reached.
+	 */
+	public double getPathCost()
+	{
+		return pathCost;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of states taken off the priority queue during
+	 *         this planning step.
+	 */
+	public long getNumStatesExpanded()
+	{
+		return numStatesExpanded;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of distinct states whose values were
+	 *         examined or changed during this planning step, including those
+	 *         affected by the edge cost changes reported since the previous
+	 *         step.
+	 */
+	public long getNumStatesTouched()
+	{
+		return numStatesTouched;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of states retained by the search between
+	 *         planning steps.
+	 */
+	public int getNumStatesStored()
+	{
+		return numStatesStored;
+	}
+
+}
@@ -0,0 +1,81 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.Collection;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Describes a graph whose edge costs may change over time, for use with an
+ * {@link IncrementalAStarSearch}. States are compared with
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}, so StateType
+ * must implement both consistently.<br/>
+ * <br/>
+ * An edge that cannot currently be traversed may be reported with a cost of
+ * {@link Double#POSITIVE_INFINITY}. Whenever the cost of an edge changes, the
+ * search must be told through
+ * {@link IncrementalAStarSearch#notifyEdgeCostChanged(Object, Object)}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <StateType>
+ */
+public abstract class IncrementalSearchGraph<StateType>
+{
+
+	/**
+	 * @return Returns the states that can be reached from state in a single
+	 *         step.
+	 */
+	public abstract Collection<StateType> getSuccessors(StateType state);
+
+	/**
+	 * @return Returns the states from which state can be reached in a single
+	 *         step.
+	 */
+	public abstract Collection<StateType> getPredecessors(StateType state);
+
+	/**
+	 * @return Returns the current cost of the step from one state to one of its
+	 *         successors.
+	 */
+	public abstract double getCost(StateType from, StateType to);
+
+	/**
+	 * Estimates the cost of the cheapest path between two states. The estimate
+	 * must be consistent: it never exceeds the cost of a step plus the
+	 * estimate from the end of that step, whatever the current edge costs.
+	 * Since edge costs may increase at any time, an estimate derived from the
+	 * smallest possible cost of each step is the safe choice.<br/>
+	 * <br/>
+	 * The default implementation returns zero, which is always consistent but
+	 * leaves the search uninformed.
+	 */
+	public double estimateCost(StateType from, StateType to)
+	{
+		return 0.0;
+	}
+
+}
@@ -0,0 +1,226 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.IterativeDeepeningAStarSearchResult.Iteration;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An iterative-deepening implementation of the A* algorithm (IDA*).<br/>
+ * <br/>
+ * Each iteration is a depth-first search that prunes every node whose f value
+ * lies beyond the current threshold. The threshold of the next iteration is
+ * the best f value that was pruned in the previous iteration. Because only the
+ * current path (and the unexplored siblings along that path) are retained,
+ * memory use is proportional to the depth of the solution rather than to the
+ * size of the search frontier. The price is that nodes near the root are
+ * regenerated in every iteration.<br/>
+ * <br/>
+ * IDA* accepts the same {@link Heuristic} and {@link NextNodesGenerator}
+ * implementations as {@link AStarSearch} and finds a solution of the same
+ * cost. Note that IDA* performs a tree search; it does not detect repeated
+ * states.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class IterativeDeepeningAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(IterativeDeepeningAStarSearch.class);
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final boolean orderSuccessorsByF;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * Orders successors best f value first, breaking ties in favor of the lower
+	 * h value.
+	 */
+	private final Comparator<SearchNodeType> successorComparator = new Comparator<SearchNodeType>()
+	{
+		public int compare(SearchNodeType o1, SearchNodeType o2)
+		{
+			int result = Double.compare(sign * getF(o1), sign * getF(o2));
+			return (result != 0) ? result : Double.compare(heuristic.getH(o1), heuristic.getH(o2));
+		}
+	};
+
+	public IterativeDeepeningAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator)
+	{
+		this(searchType, heuristic, nextNodesGenerator, true);
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param orderSuccessorsByF
+	 *            If true, the successors of each node are visited best f value
+	 *            first. This tends to find the goal early in the final
+	 *            iteration, at the cost of sorting each batch of successors.
+	 */
+	public IterativeDeepeningAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, boolean orderSuccessorsByF)
+	{
+		this.searchType = searchType;
+		this.heuristic = heuristic;
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.orderSuccessorsByF = orderSuccessorsByF;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	public IterativeDeepeningAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	{
+
+		Duration searchDuration = new Duration();
+
+		List<Iteration> iterations = new ArrayList<Iteration>();
+
+		long numSearchNodesGenerated = 0;
+		long numSearchNodesConsidered = 0;
+		int maxPossibleBranchingFactor = 1;
+
+		// the threshold is tracked as a key (sign * f) so that the MIN and MAX
+		// searches can share the same comparisons
+		double thresholdKey = sign * getF(startNode);
+
+		SearchNodeType goalNode = null;
+		while (goalNode == null && thresholdKey != Double.POSITIVE_INFINITY)
+		{
+			// the stack of successor iterators describes the current path
+			List<Iterator<SearchNodeType>> stack = new ArrayList<Iterator<SearchNodeType>>();
+			stack.add(Collections.singletonList(startNode).iterator());
+
+			double nextThresholdKey = Double.POSITIVE_INFINITY;
+			long iterationNodesGenerated = 0;
+			long iterationNodesConsidered = 0;
+
+			while (!stack.isEmpty())
+			{
+				Iterator<SearchNodeType> siblings = stack.get(stack.size() - 1);
+				if (!siblings.hasNext())
+				{
+					// backtrack
+					stack.remove(stack.size() - 1);
+					continue;
+				}
+
+				SearchNodeType candidateSearchNode = siblings.next();
+
+				double key = sign * getF(candidateSearchNode);
+				if (key > thresholdKey)
+				{
+					// prune, remembering the best f value beyond the threshold
+					nextThresholdKey = Math.min(nextThresholdKey, key);
+					continue;
+				}
+
+				iterationNodesConsidered++;
+
+				if (candidateSearchNode.isGoalState())
+				{
+					// found an optimal solution
+					goalNode = candidateSearchNode;
+					break;
+				}
+
+				List<SearchNodeType> nextSearchNodes = new ArrayList<SearchNodeType>(nextNodesGenerator.getNextSearchNodes(candidateSearchNode));
+
+				iterationNodesGenerated += nextSearchNodes.size();
+				maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, nextSearchNodes.size());
+
+				if (orderSuccessorsByF && nextSearchNodes.size() > 1)
+				{
+					Collections.sort(nextSearchNodes, successorComparator);
+				}
+
+				stack.add(nextSearchNodes.iterator());
+			}
+
+			iterations.add(new Iteration(sign * thresholdKey, iterationNodesGenerated, iterationNodesConsidered));
+			numSearchNodesGenerated += iterationNodesGenerated;
+			numSearchNodesConsidered += iterationNodesConsidered;
+
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("IDA* iteration " + iterations.size() + " with threshold " + (sign * thresholdKey) + " generated " + iterationNodesGenerated + " nodes and considered " + iterationNodesConsidered + " nodes.");
+			}
+
+			thresholdKey = nextThresholdKey;
+		}
+
+		double effectiveBranchingFactor = (goalNode == null) ? maxPossibleBranchingFactor : AStarSearch.calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), numSearchNodesConsidered, maxPossibleBranchingFactor);
+
+		IterativeDeepeningAStarSearchResult<SearchNodeType> results = new IterativeDeepeningAStarSearchResult<SearchNodeType>(goalNode, numSearchNodesGenerated, effectiveBranchingFactor, iterations);
+
+		logger.debug("Completed an IDA* search in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of iterations: " + iterations.size());
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Effective branching factor: " + results.getEfectiveBranchingFactor());
+
+		return results;
+
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public boolean isOrderSuccessorsByF()
+	{
+		return orderSuccessorsByF;
+	}
+
+	public double getF(SearchNodeType searchNode)
+	{
+		return searchNode.getG() + heuristic.getH(searchNode);
+	}
+
+}
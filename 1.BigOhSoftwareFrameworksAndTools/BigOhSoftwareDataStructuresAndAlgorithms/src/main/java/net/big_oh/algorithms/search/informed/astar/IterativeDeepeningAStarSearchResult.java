@@ -0,0 +1,115 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.Collections;
+import java.util.List;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results from an IDA* search. In addition to the totals
+ * reported by {@link AStarSearchResult}, this result describes each iteration
+ * of the search.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see IterativeDeepeningAStarSearch
+ */
+public class IterativeDeepeningAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final List<Iteration> iterations;
+
+	public IterativeDeepeningAStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, List<Iteration> iterations)
+	{
+		super(goalNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.iterations = Collections.unmodifiableList(iterations);
+	}
+
+	/**
+	 * 
+	 * @return Returns the iterations of the search, in the order in which they
+	 *         were executed.
+	 */
+	public List<Iteration> getIterations()
+	{
+		return iterations;
+	}
+
+	/**
+	 * Describes a single depth-first iteration of an IDA* search.
+	 */
+	public static final class Iteration
+	{
+		private final double threshold;
+		private final long numSearchNodesGenerated;
+		private final long numSearchNodesConsidered;
+
+		public Iteration(double threshold, long numSearchNodesGenerated, long numSearchNodesConsidered)
+		{
+			this.threshold = threshold;
+			this.numSearchNodesGenerated = numSearchNodesGenerated;
+			this.numSearchNodesConsidered = numSearchNodesConsidered;
+		}
+
+		/**
+		 * 
+		 * @return Returns the f value threshold beyond which nodes were pruned
+		 *         during the iteration.
+		 */
+		public double getThreshold()
+		{
+			return threshold;
+		}
+
+		/**
+		 * 
+		 * @return Returns a count of all search nodes generated during the
+		 *         iteration.
+		 */
+		public long getNumSearchNodesGenerated()
+		{
+			return numSearchNodesGenerated;
+		}
+
+		/**
+		 * 
+		 * @return Returns a count of all search nodes that fell within the
+		 *         threshold and were therefore tested and expanded during the
+		 *         iteration.
+		 */
+		public long getNumSearchNodesConsidered()
+		{
+			return numSearchNodesConsidered;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "threshold=" + threshold + ", generated=" + numSearchNodesGenerated + ", considered=" + numSearchNodesConsidered;
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A graph A* search specialized for problems whose states fit in a long. No
+ * object is allocated per search node: states, g values and parent links are
+ * held in the parallel primitive arrays of a {@link LongStateTable}, and the
+ * open list is a heap of node indices. A stored state costs between a third
+ * and a quarter of the memory of the equivalent {@link AStarSearch} node, and
+ * successor generation reuses a single pair of buffers for the whole search.<br/>
+ * <br/>
+ * Instances of this class may be reused for any number of searches but are
+ * not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class LongStateAStarSearch
+{
+
+	private static final Log logger = LogFactory.getLog(LongStateAStarSearch.class);
+
+	private final AStarSearchType searchType;
+	private final LongStateSearchProblem searchProblem;
+	private final LongStateHeuristic heuristic;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * @param searchType
+	 * @param searchProblem
+	 * @param heuristic
+	 * @throws IllegalArgumentException
+	 *             Thrown if any argument is null.
+	 */
+	public LongStateAStarSearch(AStarSearchType searchType, LongStateSearchProblem searchProblem, LongStateHeuristic heuristic) throws IllegalArgumentException
+	{
+		if (searchType == null)
+		{
+			throw new IllegalArgumentException("The searchType argument must not be null.");
+		}
+		if (searchProblem == null)
+		{
+			throw new IllegalArgumentException("The searchProblem argument must not be null.");
+		}
+		if (heuristic == null)
+		{
+			throw new IllegalArgumentException("The heuristic argument must not be null.");
+		}
+
+		this.searchType = searchType;
+		this.searchProblem = searchProblem;
+		this.heuristic = heuristic;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	public LongStateAStarSearchResult doSearch(long startState)
+	{
+		return doSearch(startState, AStarSearchBudget.UNLIMITED);
+	}
+
+	/**
+	 * Searches until a goal state is found, the search space is exhausted or
+	 * the budget is used up, whichever happens first.
+	 * 
+	 * @param startState
+	 * @param budget
+	 * @return Returns the results of the search. If no goal state was found,
+	 *         the path of the result leads to the expanded state with the best
+	 *         h value (ties are broken by f value).
+	 * @throws IllegalArgumentException
+	 *             Thrown if budget is null.
+	 */
+	public LongStateAStarSearchResult doSearch(long startState, AStarSearchBudget budget) throws IllegalArgumentException
+	{
+		if (budget == null)
+		{
+			throw new IllegalArgumentException("The budget argument must not be null.");
+		}
+
+		long searchStartNanos = System.nanoTime();
+		long maxExpansions = budget.getMaxExpansions();
+		int maxOpenListSize = budget.getMaxOpenListSize();
+		long maxDurationNanos = budget.getMaxDurationNanos();
+		AStarCancellationToken cancellationToken = budget.getCancellationToken();
+		boolean consistent = heuristic.isConsistent();
+
+		LongStateTable table = new LongStateTable();
+		LongStateOpenList openList = new LongStateOpenList();
+
+		int startNode = table.insert(startState, 0.0, LongStateTable.NO_PARENT);
+		openList.add(startNode, sign * heuristic.calculateH(startState));
+
+		int maxNumSuccessors = searchProblem.getMaxNumSuccessors();
+		long[] successors = new long[maxNumSuccessors];
+		double[] stepCosts = new double[maxNumSuccessors];
+
+		long numStatesGenerated = 0;
+		long numStatesExpanded = 0;
+		int maxPossibleBranchingFactor = 1;
+		long numDuplicatesPruned = 0;
+		long numStatesReopened = 0;
+		long numOutdatedEntriesSkipped = 0;
+
+		int goalNode = -1;
+		int bestNode = startNode;
+		double bestNodeH = Double.POSITIVE_INFINITY;
+		double bestNodeKey = Double.POSITIVE_INFINITY;
+		AStarStopReason stopReason = AStarStopReason.SEARCH_SPACE_EXHAUSTED;
+
+		while (!openList.isEmpty())
+		{
+			// enforce the budget
+			if (cancellationToken != null && cancellationToken.isCancelled())
+			{
+				stopReason = AStarStopReason.CANCELLED;
+				break;
+			}
+			if (numStatesExpanded >= maxExpansions)
+			{
+				stopReason = AStarStopReason.EXPANSION_LIMIT_REACHED;
+				break;
+			}
+			if (System.nanoTime() - searchStartNanos >= maxDurationNanos)
+			{
+				stopReason = AStarStopReason.DEADLINE_REACHED;
+				break;
+			}
+
+			double key = openList.peekKey();
+			int node = openList.poll();
+			if (table.isClosed(node))
+			{
+				// a better path to this state was pushed and expanded earlier
+				numOutdatedEntriesSkipped++;
+				continue;
+			}
+			table.setClosed(node, true);
+			numStatesExpanded++;
+
+			long state = table.getState(node);
+			double g = table.getG(node);
+
+			double h = sign * key - g;
+			if (h < bestNodeH || (h == bestNodeH && key < bestNodeKey))
+			{
+				bestNode = node;
+				bestNodeH = h;
+				bestNodeKey = key;
+			}
+
+			if (searchProblem.isGoalState(state))
+			{
+				goalNode = node;
+				bestNode = node;
+				stopReason = AStarStopReason.GOAL_FOUND;
+				break;
+			}
+
+			int numSuccessors = searchProblem.getSuccessors(state, successors, stepCosts);
+			numStatesGenerated += numSuccessors;
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, numSuccessors);
+
+			for (int i = 0; i < numSuccessors; i++)
+			{
+				long successor = successors[i];
+				double successorG = g + stepCosts[i];
+
+				int successorNode = table.indexOf(successor);
+				if (successorNode < 0)
+				{
+					successorNode = table.insert(successor, successorG, node);
+				}
+				else
+				{
+					if (!isBetter(successorG, table.getG(successorNode)) || (consistent && table.isClosed(successorNode)))
+					{
+						numDuplicatesPruned++;
+						continue;
+					}
+					if (table.isClosed(successorNode))
+					{
+						// an inconsistent heuristic closed the state too early
+						table.setClosed(successorNode, false);
+						numStatesReopened++;
+					}
+					table.update(successorNode, successorG, node);
+				}
+
+				openList.add(successorNode, sign * (successorG + heuristic.calculateH(successor)));
+			}
+
+			if (openList.size() > maxOpenListSize)
+			{
+				stopReason = AStarStopReason.OPEN_LIST_LIMIT_REACHED;
+				break;
+			}
+		}
+
+		// reconstruct the path to the goal (or best) state
+		int pathLength = 0;
+		for (int node = bestNode; node != LongStateTable.NO_PARENT; node = table.getParent(node))
+		{
+			pathLength++;
+		}
+		long[] path = new long[pathLength];
+		for (int node = bestNode, i = pathLength - 1; node != LongStateTable.NO_PARENT; node = table.getParent(node), i--)
+		{
+			path[i] = table.getState(node);
+		}
+
+		int depth = pathLength - 1;
+		double effectiveBranchingFactor = (depth < numStatesExpanded) ? AStarSearch.calculateEffectiveBranchingFactor(depth, numStatesExpanded, maxPossibleBranchingFactor) : 1.0;
+		long numBytesAllocated = table.getNumBytesAllocated() + openList.getNumBytesAllocated();
+
+		LongStateAStarSearchResult result = new LongStateAStarSearchResult(goalNode >= 0, path, table.getG(bestNode), stopReason, numStatesGenerated, numStatesExpanded, table.size(), numBytesAllocated, effectiveBranchingFactor);
+
+		if (logger.isDebugEnabled())
+		{
+			logger.debug("Completed a long state A* search (" + stopReason + ") in " + ((System.nanoTime() - searchStartNanos) / 1000000) + " milliseconds.");
+			logger.debug("States stored: " + table.size() + " in " + numBytesAllocated + " bytes, states expanded: " + numStatesExpanded + ", duplicates pruned: " + numDuplicatesPruned + ", states reopened: " + numStatesReopened + ", outdated entries skipped: " + numOutdatedEntriesSkipped);
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return Returns true if g1 is a strictly better path value than g2 for
+	 *         this search's {@link AStarSearchType}.
+	 */
+	private boolean isBetter(double g1, double g2)
+	{
+		return sign * g1 < sign * g2;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public LongStateSearchProblem getSearchProblem()
+	{
+		return searchProblem;
+	}
+
+	public LongStateHeuristic getHeuristic()
+	{
+		return heuristic;
+	}
+
+}
@@ -0,0 +1,139 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results from a {@link LongStateAStarSearch}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class LongStateAStarSearchResult
+{
+	private final boolean goalFound;
+	private final long[] path;
+	private final double pathCost;
+	private final AStarStopReason stopReason;
+	private final long numStatesGenerated;
+	private final long numStatesExpanded;
+	private final int numStatesStored;
+	private final long numBytesAllocated;
+	private final double efectiveBranchingFactor;
+
+	public LongStateAStarSearchResult(boolean goalFound, long[] path, double pathCost, AStarStopReason stopReason, long numStatesGenerated, long numStatesExpanded, int numStatesStored, long numBytesAllocated, double efectiveBranchingFactor)
+	{
+		super();
+		this.goalFound = goalFound;
+		this.path = path.clone();
+		this.pathCost = pathCost;
+		this.stopReason = stopReason;
+		this.numStatesGenerated = numStatesGenerated;
+		this.numStatesExpanded = numStatesExpanded;
+		this.numStatesStored = numStatesStored;
+		this.numBytesAllocated = numBytesAllocated;
+		this.efectiveBranchingFactor = efectiveBranchingFactor;
+	}
+
+	public boolean isGoalFound()
+	{
+		return goalFound;
+	}
+
+	/**
+	 * 
+	 * @return Returns the states along the path from the start state to the
+	 *         goal state, or to the best state expanded if no goal state was
+	 *         found.
+	 */
+	public long[] getPath()
+	{
+		return path.clone();
+	}
+
+	/**
+	 * 
+	 * @return Returns the g value of the last state of the path.
+	 */
+	public double getPathCost()
+	{
+		return pathCost;
+	}
+
+	public AStarStopReason getStopReason()
+	{
+		return stopReason;
+	}
+
+	/**
+	 * 
+	 * @return Returns a count of all successor states that were generated
+	 *         (including duplicates) during the search operation.
+	 */
+	public long getNumStatesGenerated()
+	{
+		return numStatesGenerated;
+	}
+
+	public long getNumStatesExpanded()
+	{
+		return numStatesExpanded;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of distinct states that were recorded.
+	 */
+	public int getNumStatesStored()
+	{
+		return numStatesStored;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of bytes allocated for the node store and
+	 *         open list at the end of the search.
+	 */
+	public long getNumBytesAllocated()
+	{
+		return numBytesAllocated;
+	}
+
+	public double getBytesPerStateStored()
+	{
+		return (numStatesStored == 0) ? 0.0 : (double) numBytesAllocated / numStatesStored;
+	}
+
+	/**
+	 * 
+	 * @return Returns an estimate of the effective branching factor for the
+	 *         entire search operation.
+	 */
+	public double getEfectiveBranchingFactor()
+	{
+		return efectiveBranchingFactor;
+	}
+
+}
@@ -0,0 +1,167 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.NoSuchElementException;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The open list of a {@link LongStateAStarSearch}: a 4-ary heap of node
+ * indices (see {@link LongStateTable}) and their keys, held in two parallel
+ * arrays. Keys are f values multiplied by a sign, so that the smallest key is
+ * always the best. Ties are broken in favor of the higher node index, i.e. the
+ * node that was reached last, which approximates a deepest-first order.<br/>
+ * <br/>
+ * The heap does not support removal or decrease-key operations. Instead, a
+ * search pushes a node again whenever it finds a better path to it, and
+ * discards the outdated entries when they surface.<br/>
+ * <br/>
+ * This class is not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+final class LongStateOpenList
+{
+
+	private static final int ARITY = 4;
+
+	private int[] nodes = new int[1024];
+	private double[] keys = new double[1024];
+	private int size;
+
+	void add(int node, double key)
+	{
+		if (size == nodes.length)
+		{
+			int[] newNodes = new int[size + (size >> 1)];
+			System.arraycopy(nodes, 0, newNodes, 0, size);
+			nodes = newNodes;
+			double[] newKeys = new double[newNodes.length];
+			System.arraycopy(keys, 0, newKeys, 0, size);
+			keys = newKeys;
+		}
+
+		int index = size++;
+		while (index > 0)
+		{
+			int parent = (index - 1) / ARITY;
+			if (!precedes(node, key, nodes[parent], keys[parent]))
+			{
+				break;
+			}
+			nodes[index] = nodes[parent];
+			keys[index] = keys[parent];
+			index = parent;
+		}
+		nodes[index] = node;
+		keys[index] = key;
+	}
+
+	/**
+	 * @return Returns the key of the best entry.
+	 */
+	double peekKey()
+	{
+		if (size == 0)
+		{
+			throw new NoSuchElementException();
+		}
+		return keys[0];
+	}
+
+	/**
+	 * Removes the best entry.
+	 * 
+	 * @return Returns the node index of the removed entry.
+	 */
+	int poll()
+	{
+		if (size == 0)
+		{
+			throw new NoSuchElementException();
+		}
+
+		int best = nodes[0];
+		size--;
+		if (size > 0)
+		{
+			int node = nodes[size];
+			double key = keys[size];
+			int index = 0;
+			while (true)
+			{
+				int firstChild = index * ARITY + 1;
+				if (firstChild >= size)
+				{
+					break;
+				}
+				int bestChild = firstChild;
+				int lastChild = Math.min(firstChild + ARITY, size);
+				for (int child = firstChild + 1; child < lastChild; child++)
+				{
+					if (precedes(nodes[child], keys[child], nodes[bestChild], keys[bestChild]))
+					{
+						bestChild = child;
+					}
+				}
+				if (!precedes(nodes[bestChild], keys[bestChild], node, key))
+				{
+					break;
+				}
+				nodes[index] = nodes[bestChild];
+				keys[index] = keys[bestChild];
+				index = bestChild;
+			}
+			nodes[index] = node;
+			keys[index] = key;
+		}
+		return best;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * @return Returns the number of bytes held by the arrays of this open list.
+	 */
+	long getNumBytesAllocated()
+	{
+		return 12L * nodes.length;
+	}
+
+	private static boolean precedes(int node1, double key1, int node2, double key2)
+	{
+		return key1 < key2 || (key1 == key2 && node1 > node2);
+	}
+
+}
@@ -0,0 +1,60 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Defines a search problem whose states can each be encoded in a single long
+ * (e.g. the tile positions of a sliding tile puzzle, or the bitmask of jobs
+ * scheduled so far) for use with a {@link LongStateAStarSearch}. Distinct
+ * states must be encoded as distinct values.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public abstract class LongStateSearchProblem
+{
+
+	public abstract boolean isGoalState(long state);
+
+	/**
+	 * @return Returns an upper bound on the number of successors of any state.
+	 */
+	public abstract int getMaxNumSuccessors();
+
+	/**
+	 * Writes the states that can be reached from state in a single step into
+	 * successors, and the costs of those steps into stepCosts.
+	 * 
+	 * @param state
+	 * @param successors
+	 *            A buffer of length {@link #getMaxNumSuccessors()}.
+	 * @param stepCosts
+	 *            A buffer of length {@link #getMaxNumSuccessors()}.
+	 * @return Returns the number of successors written.
+	 */
+	public abstract int getSuccessors(long state, long[] successors, double[] stepCosts);
+
+}
@@ -0,0 +1,242 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The node store of a {@link LongStateAStarSearch}. Every distinct state
+ * reached by the search is assigned a dense node index, and the state, best g
+ * value and parent index of each node are kept in parallel primitive arrays.
+ * The arrays are allocated in fixed-size pages so that growing the store
+ * never copies node data and leaves at most one partially used page. Closed
+ * flags are kept in a bit set, and states are mapped to node indices by an
+ * open-addressing hash table of ints.<br/>
+ * <br/>
+ * This class is not thread safe.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+final class LongStateTable
+{
+
+	static final int NO_PARENT = -1;
+
+	private static final int PAGE_SHIFT = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final double MAX_LOAD_FACTOR = 0.75;
+
+	private long[][] statePages = new long[16][];
+	private double[][] gPages = new double[16][];
+	private int[][] parentPages = new int[16][];
+	private long[] closed = new long[PAGE_SIZE >>> 6];
+
+	/**
+	 * Node index + 1 for every occupied slot; 0 marks an empty slot.
+	 */
+	private int[] slots;
+	private int mask;
+	private int resizeThreshold;
+
+	private int size;
+
+	LongStateTable()
+	{
+		allocateSlots(1024);
+	}
+
+	/**
+	 * @return Returns the index of the node holding state, or -1 if the state
+	 *         has not been recorded.
+	 */
+	int indexOf(long state)
+	{
+		for (int slot = AStarStateTable.spread(state) & mask; slots[slot] != 0; slot = (slot + 1) & mask)
+		{
+			int node = slots[slot] - 1;
+			if (getState(node) == state)
+			{
+				return node;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Records a state that is not yet contained in the table. The node is
+	 * recorded as open.
+	 * 
+	 * @return Returns the index of the new node.
+	 */
+	int insert(long state, double g, int parent)
+	{
+		if (size >= resizeThreshold)
+		{
+			rehash(slots.length << 1);
+		}
+
+		int node = size;
+		int page = node >>> PAGE_SHIFT;
+		if (page == statePages.length)
+		{
+			statePages = grow(statePages);
+			gPages = grow(gPages);
+			parentPages = grow(parentPages);
+		}
+		if (statePages[page] == null)
+		{
+			statePages[page] = new long[PAGE_SIZE];
+			gPages[page] = new double[PAGE_SIZE];
+			parentPages[page] = new int[PAGE_SIZE];
+		}
+		if ((node >>> 6) >= closed.length)
+		{
+			long[] newClosed = new long[closed.length << 1];
+			System.arraycopy(closed, 0, newClosed, 0, closed.length);
+			closed = newClosed;
+		}
+
+		int offset = node & PAGE_MASK;
+		statePages[page][offset] = state;
+		gPages[page][offset] = g;
+		parentPages[page][offset] = parent;
+		size++;
+
+		int slot = AStarStateTable.spread(state) & mask;
+		while (slots[slot] != 0)
+		{
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = node + 1;
+
+		return node;
+	}
+
+	long getState(int node)
+	{
+		return statePages[node >>> PAGE_SHIFT][node & PAGE_MASK];
+	}
+
+	double getG(int node)
+	{
+		return gPages[node >>> PAGE_SHIFT][node & PAGE_MASK];
+	}
+
+	int getParent(int node)
+	{
+		return parentPages[node >>> PAGE_SHIFT][node & PAGE_MASK];
+	}
+
+	/**
+	 * Records a better path to the state held by node.
+	 */
+	void update(int node, double g, int parent)
+	{
+		gPages[node >>> PAGE_SHIFT][node & PAGE_MASK] = g;
+		parentPages[node >>> PAGE_SHIFT][node & PAGE_MASK] = parent;
+	}
+
+	boolean isClosed(int node)
+	{
+		return (closed[node >>> 6] & (1L << node)) != 0;
+	}
+
+	void setClosed(int node, boolean isClosed)
+	{
+		if (isClosed)
+		{
+			closed[node >>> 6] |= 1L << node;
+		}
+		else
+		{
+			closed[node >>> 6] &= ~(1L << node);
+		}
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return Returns the number of bytes held by the arrays of this table.
+	 */
+	long getNumBytesAllocated()
+	{
+		long numPages = 0;
+		for (long[] statePage : statePages)
+		{
+			if (statePage != null)
+			{
+				numPages++;
+			}
+		}
+		return numPages * PAGE_SIZE * (8 + 8 + 4) + 4L * slots.length + 8L * closed.length;
+	}
+
+	private void allocateSlots(int capacity)
+	{
+		slots = new int[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * MAX_LOAD_FACTOR);
+	}
+
+	private void rehash(int newCapacity)
+	{
+		allocateSlots(newCapacity);
+		for (int node = 0; node < size; node++)
+		{
+			int slot = AStarStateTable.spread(getState(node)) & mask;
+			while (slots[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = node + 1;
+		}
+	}
+
+	private static long[][] grow(long[][] pages)
+	{
+		long[][] newPages = new long[pages.length << 1][];
+		System.arraycopy(pages, 0, newPages, 0, pages.length);
+		return newPages;
+	}
+
+	private static double[][] grow(double[][] pages)
+	{
+		double[][] newPages = new double[pages.length << 1][];
+		System.arraycopy(pages, 0, newPages, 0, pages.length);
+		return newPages;
+	}
+
+	private static int[][] grow(int[][] pages)
+	{
+		int[][] newPages = new int[pages.length << 1][];
+		System.arraycopy(pages, 0, newPages, 0, pages.length);
+		return newPages;
+	}
+
+}
@@ -0,0 +1,277 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Wraps a heuristic with a memo of h values that is shared by every search
+ * using this heuristic, including searches running concurrently. Where the h
+ * values cached on a search node only benefit that one node, the memo is keyed
+ * by state (through {@link AStarSearchNode#getStateHash()} and
+ * {@link AStarSearchNode#isSameState(AStarSearchNode)}), so a state whose h
+ * value was calculated by any earlier search is never calculated again while
+ * it remains in the memo.<br/>
+ * <br/>
+ * The memo holds at most a caller-specified number of entries. It is split
+ * into segments, each guarded by its own lock and each evicting its least
+ * recently used entry when full, so that threads working on different states
+ * rarely contend. Note that every entry retains the search node it was
+ * created for.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class MemoizingHeuristic<SearchNodeType extends AStarSearchNode> extends Heuristic<SearchNodeType>
+{
+
+	private static final int MAX_NUM_SEGMENTS = 16;
+
+	private final Heuristic<SearchNodeType> heuristic;
+	private final int maxSize;
+	private final Segment[] segments;
+
+	private final AtomicLong numHits = new AtomicLong();
+	private final AtomicLong numMisses = new AtomicLong();
+	private final AtomicLong numEvictions = new AtomicLong();
+
+	/**
+	 * @param heuristic
+	 *            The heuristic whose h values are memoized. It must be safe
+	 *            to call from several threads at once.
+	 * @param maxSize
+	 *            The maximum number of h values held by the memo.
+	 * @throws IllegalArgumentException
+	 *             Thrown if heuristic is null or maxSize is less than one.
+	 */
+	public MemoizingHeuristic(Heuristic<SearchNodeType> heuristic, int maxSize) throws IllegalArgumentException
+	{
+		if (heuristic == null)
+		{
+			throw new IllegalArgumentException("The heuristic argument must not be null.");
+		}
+		if (maxSize < 1)
+		{
+			throw new IllegalArgumentException("The maxSize argument must not be less than one.");
+		}
+
+		this.heuristic = heuristic;
+		this.maxSize = maxSize;
+
+		int numSegments = 1;
+		while (numSegments < MAX_NUM_SEGMENTS && numSegments * 2 <= maxSize)
+		{
+			numSegments <<= 1;
+		}
+		this.segments = new Segment[numSegments];
+		for (int i = 0; i < numSegments; i++)
+		{
+			// spread the capacity so that the segments together hold maxSize
+			segments[i] = new Segment(maxSize / numSegments + ((i < maxSize % numSegments) ? 1 : 0), numEvictions);
+		}
+	}
+
+	@Override
+	protected double calculateH(SearchNodeType searchNode)
+	{
+		StateKey key = new StateKey(searchNode);
+		Segment segment = segments[AStarStateTable.spread(key.stateHash) & (segments.length - 1)];
+
+		Double h;
+		synchronized (segment)
+		{
+			h = segment.get(key);
+		}
+		if (h != null)
+		{
+			numHits.incrementAndGet();
+			return h.doubleValue();
+		}
+
+		// calculate outside the lock; concurrent misses on one state may both
+		// calculate it, which is harmless
+		numMisses.incrementAndGet();
+		h = Double.valueOf(heuristic.calculateH(searchNode));
+		synchronized (segment)
+		{
+			segment.put(key, h);
+		}
+		return h.doubleValue();
+	}
+
+	@Override
+	protected double calculateCheapH(SearchNodeType searchNode)
+	{
+		return heuristic.calculateCheapH(searchNode);
+	}
+
+	@Override
+	public boolean isConsistent()
+	{
+		return heuristic.isConsistent();
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * @return Returns the number of h values currently held by the memo.
+	 */
+	public int size()
+	{
+		int size = 0;
+		for (Segment segment : segments)
+		{
+			synchronized (segment)
+			{
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return Returns the number of h values found in the memo.
+	 */
+	public long getNumHits()
+	{
+		return numHits.get();
+	}
+
+	/**
+	 * @return Returns the number of h values that had to be calculated.
+	 */
+	public long getNumMisses()
+	{
+		return numMisses.get();
+	}
+
+	/**
+	 * @return Returns the number of h values dropped to keep the memo within
+	 *         its maximum size.
+	 */
+	public long getNumEvictions()
+	{
+		return numEvictions.get();
+	}
+
+	/**
+	 * @return Returns the fraction of lookups answered by the memo, or zero if
+	 *         there were none.
+	 */
+	public double getHitRate()
+	{
+		long hits = numHits.get();
+		long lookups = hits + numMisses.get();
+		return (lookups == 0) ? 0.0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Drops every memoized h value. The counters are left unchanged.
+	 */
+	public void clear()
+	{
+		for (Segment segment : segments)
+		{
+			synchronized (segment)
+			{
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Identifies a search state by the node it was first seen in.
+	 */
+	private static final class StateKey
+	{
+		private final AStarSearchNode node;
+		private final long stateHash;
+
+		private StateKey(AStarSearchNode node)
+		{
+			this.node = node;
+			this.stateHash = node.getStateHash();
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return (int) (stateHash ^ (stateHash >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof StateKey))
+			{
+				return false;
+			}
+			StateKey other = (StateKey) obj;
+			return stateHash == other.stateHash && node.isSameState(other.node);
+		}
+	}
+
+	/**
+	 * A least recently used map of h values with a fixed capacity.
+	 */
+	private static final class Segment extends LinkedHashMap<StateKey, Double>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+		private final AtomicLong numEvictions;
+
+		private Segment(int capacity, AtomicLong numEvictions)
+		{
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.numEvictions = numEvictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<StateKey, Double> eldest)
+		{
+			if (size() > capacity)
+			{
+				numEvictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,506 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A simplified memory-bounded implementation of the A* algorithm (SMA*).<br/>
+ * <br/>
+ * The search retains at most a caller-specified number of search nodes. As
+ * long as that budget is not exhausted, the search behaves like
+ * {@link AStarSearch}. Once it is exhausted, the worst leaf node (highest f
+ * value in a MIN search; ties broken in favor of the shallowest node) is
+ * forgotten to make room, and its f value is backed up into its parent. A
+ * parent with forgotten successors is re-expanded once its best forgotten f
+ * value becomes the most promising in the search, at which point the
+ * forgotten successors are regenerated.<br/>
+ * <br/>
+ * Unlike {@link IterativeDeepeningAStarSearch}, which discards everything
+ * between iterations, SMA* makes use of all the memory it is given. If the
+ * budget is smaller than the depth of the shallowest solution, no solution is
+ * found.<br/>
+ * <br/>
+ * Forgotten successors are identified by their position in the collection
+ * returned by the {@link NextNodesGenerator}, so the generator must return the
+ * successors of a node in the same order every time it is called.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class MemoryBoundedAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(MemoryBoundedAStarSearch.class);
+
+	private static final double UNREACHABLE = Double.POSITIVE_INFINITY;
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final int maxRetainedNodes;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param maxRetainedNodes
+	 *            The maximum number of search nodes that may be retained at any
+	 *            one time.
+	 * @throws IllegalArgumentException
+	 *             Thrown if maxRetainedNodes is less than two.
+	 */
+	public MemoryBoundedAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, int maxRetainedNodes) throws IllegalArgumentException
+	{
+		if (maxRetainedNodes < 2)
+		{
+			throw new IllegalArgumentException("The maxRetainedNodes argument must not be less than two.");
+		}
+
+		this.searchType = searchType;
+		this.heuristic = heuristic;
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.maxRetainedNodes = maxRetainedNodes;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	public MemoryBoundedAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	{
+		Duration searchDuration = new Duration();
+
+		Search search = new Search(startNode);
+		SearchNodeType goalNode = search.run();
+
+		double effectiveBranchingFactor = (goalNode == null) ? search.maxPossibleBranchingFactor : AStarSearch.calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), search.numSearchNodesConsidered, search.maxPossibleBranchingFactor);
+
+		MemoryBoundedAStarSearchResult<SearchNodeType> results = new MemoryBoundedAStarSearchResult<SearchNodeType>(goalNode, search.numSearchNodesGenerated, effectiveBranchingFactor, search.numNodesForgotten, search.numNodesRegenerated, search.maxNumNodesRetained);
+
+		logger.debug("Completed an SMA* search in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Number of nodes forgotten: " + results.getNumNodesForgotten());
+		logger.debug("Number of nodes regenerated: " + results.getNumNodesRegenerated());
+
+		return results;
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public int getMaxRetainedNodes()
+	{
+		return maxRetainedNodes;
+	}
+
+	/**
+	 * A search node retained in memory, along with its position in the search
+	 * tree. All f values are stored as keys (sign * f) for which smaller is
+	 * always better.
+	 */
+	private final class Record
+	{
+		private final SearchNodeType node;
+		private final Record parent;
+		private final int successorIndex;
+		private final int depth;
+		private final long sequenceNumber;
+
+		/**
+		 * The f value of this node, raised as its descendants are explored
+		 * (and, possibly, forgotten).
+		 */
+		private double key;
+
+		/**
+		 * The best key among this node's forgotten successors.
+		 */
+		private double forgottenKey = UNREACHABLE;
+
+		/**
+		 * The last known key of each successor, indexed by position in the
+		 * collection returned by the NextNodesGenerator. Entries are only
+		 * meaningful for successors that are not currently retained.
+		 */
+		private double[] successorKeys;
+
+		private boolean expanded;
+		private final List<Record> children = new ArrayList<Record>(2);
+
+		private Record(SearchNodeType node, Record parent, int successorIndex, double key, long sequenceNumber)
+		{
+			this.node = node;
+			this.parent = parent;
+			this.successorIndex = successorIndex;
+			this.depth = (parent == null) ? 0 : parent.depth + 1;
+			this.key = key;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * @return Returns the key under which this node competes for
+		 *         (re-)expansion.
+		 */
+		private double getExpansionKey()
+		{
+			return expanded ? forgottenKey : key;
+		}
+
+		private boolean isExpansionCandidate()
+		{
+			return !expanded || forgottenKey != UNREACHABLE;
+		}
+	}
+
+	/**
+	 * Orders records by key, preferring deeper records and then older records
+	 * when keys are equal. The first record of a set ordered this way is the
+	 * most promising; the last is the least promising.
+	 */
+	private abstract class RecordComparator implements Comparator<Record>
+	{
+		protected abstract double keyOf(Record r);
+
+		public int compare(Record r1, Record r2)
+		{
+			int result = Double.compare(keyOf(r1), keyOf(r2));
+			if (result == 0)
+			{
+				result = r2.depth - r1.depth;
+			}
+			if (result == 0)
+			{
+				result = (r1.sequenceNumber < r2.sequenceNumber) ? -1 : ((r1.sequenceNumber == r2.sequenceNumber) ? 0 : 1);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * The state of a single doSearch(..) invocation.
+	 */
+	private final class Search
+	{
+		/**
+		 * Records that have never been expanded or that have forgotten
+		 * successors, ordered by expansion key.
+		 */
+		private final SortedSet<Record> open = new TreeSet<Record>(new RecordComparator()
+		{
+			@Override
+			protected double keyOf(Record r)
+			{
+				return r.getExpansionKey();
+			}
+		});
+
+		private final Comparator<Record> keyComparator = new RecordComparator()
+		{
+			@Override
+			protected double keyOf(Record r)
+			{
+				return r.key;
+			}
+		};
+
+		/**
+		 * Records without children in memory, ordered by key. These are the
+		 * candidates for being forgotten.
+		 */
+		private final SortedSet<Record> leaves = new TreeSet<Record>(keyComparator);
+
+		private final Record root;
+		private Record expandingRecord;
+
+		private long nextSequenceNumber;
+		private int numNodesRetained;
+
+		private long numSearchNodesGenerated;
+		private long numSearchNodesConsidered;
+		private int maxPossibleBranchingFactor = 1;
+		private long numNodesForgotten;
+		private long numNodesRegenerated;
+		private int maxNumNodesRetained;
+
+		private Search(SearchNodeType startNode)
+		{
+			root = new Record(startNode, null, -1, sign * getF(startNode), nextSequenceNumber++);
+			numNodesRetained = maxNumNodesRetained = 1;
+			open.add(root);
+			leaves.add(root);
+		}
+
+		private SearchNodeType run()
+		{
+			while (!open.isEmpty())
+			{
+				Record candidate = open.first();
+				if (candidate.getExpansionKey() == UNREACHABLE)
+				{
+					// nothing reachable remains within the memory budget
+					return null;
+				}
+
+				open.remove(candidate);
+				numSearchNodesConsidered++;
+
+				if (candidate.node.isGoalState())
+				{
+					return candidate.node;
+				}
+
+				expandingRecord = candidate;
+				expand(candidate);
+				expandingRecord = null;
+			}
+
+			return null;
+		}
+
+		private void expand(Record record)
+		{
+			List<SearchNodeType> successors = new ArrayList<SearchNodeType>(nextNodesGenerator.getNextSearchNodes(record.node));
+			numSearchNodesGenerated += successors.size();
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, successors.size());
+
+			boolean isReExpansion = record.expanded;
+			if (!isReExpansion)
+			{
+				record.expanded = true;
+				record.successorKeys = new double[successors.size()];
+				Arrays.fill(record.successorKeys, Double.NEGATIVE_INFINITY);
+			}
+			record.forgottenKey = UNREACHABLE;
+
+			// determine which successors are not currently retained
+			boolean[] retained = new boolean[successors.size()];
+			for (Record child : record.children)
+			{
+				retained[child.successorIndex] = true;
+			}
+
+			// regenerate the forgotten successors that are still reachable
+			List<Record> missingChildren = new ArrayList<Record>(successors.size());
+			for (int i = 0; i < successors.size(); i++)
+			{
+				if (!retained[i] && record.successorKeys[i] != UNREACHABLE)
+				{
+					SearchNodeType successor = successors.get(i);
+
+					// pathmax: a child is never more promising than its parent
+					// or than what was learned about it before it was forgotten
+					double childKey = Math.max(Math.max(record.key, record.successorKeys[i]), sign * getF(successor));
+					missingChildren.add(new Record(successor, record, i, childKey, nextSequenceNumber++));
+				}
+			}
+			Collections.sort(missingChildren, keyComparator);
+
+			// retain as many of the missing children as memory permits,
+			// most promising first
+			for (Record child : missingChildren)
+			{
+				if (numNodesRetained >= maxRetainedNodes && !makeRoomFor(child))
+				{
+					continue;
+				}
+
+				if (record.children.isEmpty())
+				{
+					leaves.remove(record);
+				}
+				record.children.add(child);
+				numNodesRetained++;
+				maxNumNodesRetained = Math.max(maxNumNodesRetained, numNodesRetained);
+				leaves.add(child);
+				open.add(child);
+
+				if (isReExpansion)
+				{
+					numNodesRegenerated++;
+				}
+			}
+
+			if (record.isExpansionCandidate())
+			{
+				open.add(record);
+			}
+
+			backUp(record);
+		}
+
+		/**
+		 * Attempts to free memory for a child by forgetting the least
+		 * promising leaf. If that leaf is more promising than the child, the
+		 * child itself is forgotten instead.
+		 * 
+		 * @return Returns true if room was made for the child.
+		 */
+		private boolean makeRoomFor(Record child)
+		{
+			Record worstLeaf = findWorstForgettableLeaf();
+
+			if (worstLeaf == null)
+			{
+				// the path to the child fills the whole memory budget, so the
+				// child can never be reached
+				child.key = UNREACHABLE;
+				forgetSuccessor(child);
+				return false;
+			}
+
+			if (keyComparator.compare(worstLeaf, child) < 0)
+			{
+				forgetSuccessor(child);
+				return false;
+			}
+
+			forget(worstLeaf);
+			return true;
+		}
+
+		private Record findWorstForgettableLeaf()
+		{
+			SortedSet<Record> candidates = leaves;
+			while (!candidates.isEmpty())
+			{
+				Record leaf = candidates.last();
+				if (leaf != expandingRecord && leaf.parent != null)
+				{
+					return leaf;
+				}
+				candidates = candidates.headSet(leaf);
+			}
+			return null;
+		}
+
+		/**
+		 * Removes a retained leaf from memory, backing its key up into its
+		 * parent.
+		 */
+		private void forget(Record leaf)
+		{
+			leaves.remove(leaf);
+			open.remove(leaf);
+			numNodesRetained--;
+
+			Record parent = leaf.parent;
+			parent.children.remove(leaf);
+			if (parent == expandingRecord)
+			{
+				// the record being expanded is re-queued once its expansion
+				// is complete
+				forgetSuccessor(leaf);
+			}
+			else
+			{
+				open.remove(parent);
+				forgetSuccessor(leaf);
+				if (parent.isExpansionCandidate())
+				{
+					open.add(parent);
+				}
+			}
+
+			if (parent.children.isEmpty())
+			{
+				leaves.add(parent);
+			}
+		}
+
+		/**
+		 * Records the key of a successor that is not retained in its parent.
+		 */
+		private void forgetSuccessor(Record successor)
+		{
+			Record parent = successor.parent;
+			parent.successorKeys[successor.successorIndex] = successor.key;
+			parent.forgottenKey = Math.min(parent.forgottenKey, successor.key);
+			numNodesForgotten++;
+		}
+
+		/**
+		 * Raises the key of an expanded record to the best key among its
+		 * retained and forgotten successors, propagating the change toward
+		 * the root.
+		 */
+		private void backUp(Record record)
+		{
+			while (record != null && record.expanded)
+			{
+				double bestSuccessorKey = record.forgottenKey;
+				for (Record child : record.children)
+				{
+					bestSuccessorKey = Math.min(bestSuccessorKey, child.key);
+				}
+
+				double newKey = Math.max(record.key, bestSuccessorKey);
+				if (newKey == record.key)
+				{
+					return;
+				}
+
+				boolean isLeaf = leaves.remove(record);
+				record.key = newKey;
+				if (isLeaf)
+				{
+					leaves.add(record);
+				}
+
+				record = record.parent;
+			}
+		}
+	}
+
+	private double getF(SearchNodeType searchNode)
+	{
+		return searchNode.getG() + heuristic.getH(searchNode);
+	}
+
+}
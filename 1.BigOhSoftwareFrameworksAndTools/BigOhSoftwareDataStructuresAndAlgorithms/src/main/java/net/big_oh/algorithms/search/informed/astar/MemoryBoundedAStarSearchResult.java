@@ -0,0 +1,82 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The result of a {@link MemoryBoundedAStarSearch}. In addition to the totals
+ * reported by {@link AStarSearchResult}, this result exposes the counters
+ * needed to judge how much work was repeated because of the memory budget.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see MemoryBoundedAStarSearch
+ */
+public class MemoryBoundedAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final long numNodesForgotten;
+	private final long numNodesRegenerated;
+	private final int maxNumNodesRetained;
+
+	public MemoryBoundedAStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, long numNodesForgotten, long numNodesRegenerated, int maxNumNodesRetained)
+	{
+		super(goalNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.numNodesForgotten = numNodesForgotten;
+		this.numNodesRegenerated = numNodesRegenerated;
+		this.maxNumNodesRetained = maxNumNodesRetained;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of nodes dropped from memory (or never
+	 *         retained) because the node budget was exhausted.
+	 */
+	public long getNumNodesForgotten()
+	{
+		return numNodesForgotten;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of previously forgotten nodes that were
+	 *         generated again when their parent was re-expanded.
+	 */
+	public long getNumNodesRegenerated()
+	{
+		return numNodesRegenerated;
+	}
+
+	/**
+	 * 
+	 * @return Returns the largest number of nodes retained at any one time
+	 *         during the search. This never exceeds the configured budget.
+	 */
+	public int getMaxNumNodesRetained()
+	{
+		return maxNumNodesRetained;
+	}
+
+}
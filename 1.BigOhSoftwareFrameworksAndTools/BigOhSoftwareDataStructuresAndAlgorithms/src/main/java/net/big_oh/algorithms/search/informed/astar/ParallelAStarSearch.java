@@ -0,0 +1,422 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A parallel implementation of the A* algorithm in the style of Hash
+ * Distributed A* (HDA*).<br/>
+ * <br/>
+ * Every search state is owned by exactly one worker thread, chosen by hashing
+ * {@link AStarSearchNode#getStateHash()}. Each worker keeps a private open list
+ * and a private table of the states it owns, so neither needs to be locked.
+ * When a worker generates a successor that is owned by another worker, the
+ * node is handed off through the owner's lock-free mailbox. Goals are
+ * collected into a shared incumbent solution and the search terminates only
+ * once no open node anywhere could improve on that incumbent and no hand-off
+ * is in flight, so (given an admissible heuristic) the incumbent is
+ * optimal.<br/>
+ * <br/>
+ * Search nodes must implement {@link AStarSearchNode#getStateHash()} and
+ * {@link AStarSearchNode#isSameState(AStarSearchNode)}, and getStateHash() must
+ * be safe to call from the thread that generated the node. The
+ * {@link Heuristic} and {@link NextNodesGenerator} are shared by all workers
+ * and must therefore be thread safe; stateless implementations, like those
+ * typically passed to {@link AStarSearch}, qualify. A node's g, h and goal
+ * state are only ever calculated by the worker that owns the node.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public class ParallelAStarSearch<SearchNodeType extends AStarSearchNode>
+{
+
+	private static final Log logger = LogFactory.getLog(ParallelAStarSearch.class);
+
+	/**
+	 * How long an idle worker sleeps before checking its mailbox again.
+	 */
+	private static final long IDLE_PARK_NANOS = 50000L;
+
+	private final AStarSearchType searchType;
+	private final Heuristic<SearchNodeType> heuristic;
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final int numWorkers;
+
+	/**
+	 * +1 for MIN searches, -1 for MAX searches. Multiplying f by this sign
+	 * yields a key for which smaller is always better.
+	 */
+	private final double sign;
+
+	/**
+	 * Builds a search that uses one worker per available processor.
+	 */
+	public ParallelAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator)
+	{
+		this(searchType, heuristic, nextNodesGenerator, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param searchType
+	 * @param heuristic
+	 * @param nextNodesGenerator
+	 * @param numWorkers
+	 * @throws IllegalArgumentException
+	 *             Thrown if numWorkers is less than one.
+	 */
+	public ParallelAStarSearch(AStarSearchType searchType, Heuristic<SearchNodeType> heuristic, NextNodesGenerator<SearchNodeType> nextNodesGenerator, int numWorkers) throws IllegalArgumentException
+	{
+		if (numWorkers < 1)
+		{
+			throw new IllegalArgumentException("The numWorkers argument must not be less than one.");
+		}
+
+		this.searchType = searchType;
+		this.heuristic = heuristic;
+		this.nextNodesGenerator = nextNodesGenerator;
+		this.numWorkers = numWorkers;
+		this.sign = (searchType == AStarSearchType.MAX) ? -1.0 : 1.0;
+	}
+
+	public ParallelAStarSearchResult<SearchNodeType> doSearch(SearchNodeType startNode)
+	{
+
+		Duration searchDuration = new Duration();
+
+		SearchContext context = new SearchContext();
+
+		// hand the start node to its owner before any worker starts
+		context.outstandingWork.incrementAndGet();
+		context.workers.get(ownerOf(startNode)).mailbox.offer(startNode);
+
+		Thread[] threads = new Thread[numWorkers];
+		for (int i = 0; i < numWorkers; i++)
+		{
+			threads[i] = new Thread(context.workers.get(i), getClass().getSimpleName() + "-worker-" + i);
+			threads[i].start();
+		}
+
+		try
+		{
+			for (Thread thread : threads)
+			{
+				thread.join();
+			}
+		}
+		catch (InterruptedException ie)
+		{
+			context.done = true;
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the parallel A* workers to finish.", ie);
+		}
+
+		if (context.failure.get() != null)
+		{
+			throw new RuntimeException("A parallel A* worker failed.", context.failure.get());
+		}
+
+		// aggregate worker statistics
+		long[] numExpansionsPerWorker = new long[numWorkers];
+		long numSearchNodesGenerated = 0;
+		long numSearchNodesConsidered = 0;
+		long numMessagesSent = 0;
+		long numDuplicateExpansions = 0;
+		int maxPossibleBranchingFactor = 1;
+		for (int i = 0; i < numWorkers; i++)
+		{
+			Worker worker = context.workers.get(i);
+			numExpansionsPerWorker[i] = worker.numExpansions;
+			numSearchNodesConsidered += worker.numExpansions;
+			numSearchNodesGenerated += worker.numGenerated;
+			numMessagesSent += worker.numMessagesSent;
+			numDuplicateExpansions += worker.numDuplicateExpansions;
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, worker.maxPossibleBranchingFactor);
+		}
+
+		SearchNodeType goalNode = context.incumbent;
+		double effectiveBranchingFactor = (goalNode == null) ? maxPossibleBranchingFactor : AStarSearch.calculateEffectiveBranchingFactor(goalNode.getNodeDepth(), numSearchNodesConsidered, maxPossibleBranchingFactor);
+
+		ParallelAStarSearchResult<SearchNodeType> results = new ParallelAStarSearchResult<SearchNodeType>(goalNode, numSearchNodesGenerated, effectiveBranchingFactor, numExpansionsPerWorker, numMessagesSent, numDuplicateExpansions);
+
+		logger.debug("Completed a parallel A* search with " + numWorkers + " workers in " + searchDuration.stop() + " milliseconds.");
+		logger.debug("Number of nodes generated: " + results.getNumSearchNodesGenerated());
+		logger.debug("Number of messages sent: " + results.getNumMessagesSent());
+		logger.debug("Number of duplicate expansions: " + results.getNumDuplicateExpansions());
+
+		return results;
+
+	}
+
+	public Heuristic<SearchNodeType> getHeuristic()
+	{
+		return heuristic;
+	}
+
+	public AStarSearchType getSearchType()
+	{
+		return searchType;
+	}
+
+	public int getNumWorkers()
+	{
+		return numWorkers;
+	}
+
+	int ownerOf(AStarSearchNode node)
+	{
+		return (AStarStateTable.spread(node.getStateHash()) & Integer.MAX_VALUE) % numWorkers;
+	}
+
+	/**
+	 * The state shared by all workers of a single doSearch(..) invocation.
+	 */
+	private final class SearchContext
+	{
+		private final List<Worker> workers;
+
+		/**
+		 * The number of busy workers plus the number of nodes handed off but
+		 * not yet processed. Once this count reaches zero, no work remains
+		 * anywhere and none can be created, so the search is complete.
+		 */
+		private final AtomicLong outstandingWork = new AtomicLong();
+
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+		private final Object incumbentLock = new Object();
+		private volatile SearchNodeType incumbent;
+		private volatile double incumbentKey = Double.POSITIVE_INFINITY;
+
+		private volatile boolean done;
+
+		private SearchContext()
+		{
+			workers = new ArrayList<Worker>(numWorkers);
+			for (int i = 0; i < numWorkers; i++)
+			{
+				workers.add(new Worker(this, i));
+			}
+		}
+
+		/**
+		 * @return Returns true if a node with the given f value could lead to a
+		 *         solution that is better than the incumbent.
+		 */
+		private boolean canImprove(double f)
+		{
+			return sign * f < incumbentKey;
+		}
+
+		private void offerSolution(SearchNodeType goalNode, double g)
+		{
+			synchronized (incumbentLock)
+			{
+				if (sign * g < incumbentKey)
+				{
+					incumbent = goalNode;
+					incumbentKey = sign * g;
+				}
+			}
+		}
+	}
+
+	/**
+	 * A worker owns a partition of the state space, along with the open list
+	 * and state table for that partition.
+	 */
+	private final class Worker implements Runnable
+	{
+		private final SearchContext context;
+		private final int id;
+
+		private final ConcurrentLinkedQueue<SearchNodeType> mailbox = new ConcurrentLinkedQueue<SearchNodeType>();
+		private final AStarOpenList<SearchNodeType> openList = new AStarOpenList<SearchNodeType>(searchType);
+		private final AStarStateTable<SearchNodeType> stateTable = new AStarStateTable<SearchNodeType>();
+
+		private boolean idle = true;
+
+		// statistics, published to the coordinating thread by Thread.join()
+		private long numExpansions;
+		private long numGenerated;
+		private long numMessagesSent;
+		private long numDuplicateExpansions;
+		private int maxPossibleBranchingFactor = 1;
+
+		private Worker(SearchContext context, int id)
+		{
+			this.context = context;
+			this.id = id;
+		}
+
+		public void run()
+		{
+			try
+			{
+				while (!context.done)
+				{
+					// process all hand-offs from other workers
+					SearchNodeType receivedNode;
+					while ((receivedNode = mailbox.poll()) != null)
+					{
+						if (idle)
+						{
+							idle = false;
+							context.outstandingWork.incrementAndGet();
+						}
+						receive(receivedNode);
+						context.outstandingWork.decrementAndGet();
+					}
+
+					if (!openList.isEmpty() && context.canImprove(openList.peekF()))
+					{
+						expand(openList.poll());
+					}
+					else
+					{
+						// nothing left in this partition can beat the incumbent
+						openList.clear();
+
+						if (!idle)
+						{
+							idle = true;
+							if (context.outstandingWork.decrementAndGet() == 0)
+							{
+								context.done = true;
+							}
+						}
+						else if (context.outstandingWork.get() == 0)
+						{
+							context.done = true;
+						}
+						else
+						{
+							LockSupport.parkNanos(IDLE_PARK_NANOS);
+						}
+					}
+				}
+			}
+			catch (Throwable t)
+			{
+				context.failure.compareAndSet(null, t);
+				context.done = true;
+			}
+		}
+
+		/**
+		 * Records a node owned by this worker and queues it, unless a path to
+		 * the same state that is at least as good is already known.<br/>
+		 * <br/>
+		 * A strictly better path reopens the state even if it has been
+		 * expanded already, whatever the heuristic. Unlike in a sequential
+		 * search, states do not close in global f order, because every worker
+		 * expands from its own open list, so another worker may still find a
+		 * better path to a closed state even under a consistent heuristic.
+		 */
+		private void receive(SearchNodeType node)
+		{
+			double g = node.getG();
+
+			int slot = stateTable.indexOf(node);
+			if (slot < 0)
+			{
+				stateTable.insert(node, g);
+			}
+			else
+			{
+				double bestG = stateTable.getBestG(slot);
+				boolean isBetter = (searchType == AStarSearchType.MAX) ? g > bestG : g < bestG;
+				if (!isBetter)
+				{
+					return;
+				}
+
+				if (stateTable.isClosed(slot))
+				{
+					stateTable.setClosed(slot, false);
+					numDuplicateExpansions++;
+				}
+
+				openList.remove(stateTable.getNode(slot));
+				stateTable.update(slot, node, g);
+			}
+
+			double h = heuristic.getH(node);
+			if (context.canImprove(g + h))
+			{
+				openList.add(node, g + h, h);
+			}
+		}
+
+		private void expand(SearchNodeType node)
+		{
+			numExpansions++;
+
+			stateTable.setClosed(stateTable.indexOf(node), true);
+
+			if (node.isGoalState())
+			{
+				context.offerSolution(node, node.getG());
+				return;
+			}
+
+			Collection<SearchNodeType> nextSearchNodes = nextNodesGenerator.getNextSearchNodes(node);
+			numGenerated += nextSearchNodes.size();
+			maxPossibleBranchingFactor = Math.max(maxPossibleBranchingFactor, nextSearchNodes.size());
+
+			for (SearchNodeType nextSearchNode : nextSearchNodes)
+			{
+				int owner = ownerOf(nextSearchNode);
+				if (owner == id)
+				{
+					receive(nextSearchNode);
+				}
+				else
+				{
+					// count the hand-off before it becomes visible to the owner
+					context.outstandingWork.incrementAndGet();
+					numMessagesSent++;
+					context.workers.get(owner).mailbox.offer(nextSearchNode);
+				}
+			}
+		}
+	}
+
+}
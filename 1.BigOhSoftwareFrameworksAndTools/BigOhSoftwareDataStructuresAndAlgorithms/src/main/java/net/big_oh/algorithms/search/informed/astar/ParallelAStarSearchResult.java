@@ -0,0 +1,103 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results from a parallel A* search. In addition to the
+ * totals reported by {@link AStarSearchResult}, this result exposes the
+ * counters needed to judge how well the search was parallelized.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see ParallelAStarSearch
+ */
+public class ParallelAStarSearchResult<SearchNodeType extends AStarSearchNode> extends AStarSearchResult<SearchNodeType>
+{
+	private final long[] numExpansionsPerWorker;
+	private final long numMessagesSent;
+	private final long numDuplicateExpansions;
+
+	public ParallelAStarSearchResult(SearchNodeType goalNode, long numSearchNodesGenerated, double efectiveBranchingFactor, long[] numExpansionsPerWorker, long numMessagesSent, long numDuplicateExpansions)
+	{
+		super(goalNode, numSearchNodesGenerated, efectiveBranchingFactor);
+		this.numExpansionsPerWorker = numExpansionsPerWorker.clone();
+		this.numMessagesSent = numMessagesSent;
+		this.numDuplicateExpansions = numDuplicateExpansions;
+	}
+
+	public int getNumWorkers()
+	{
+		return numExpansionsPerWorker.length;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of nodes expanded by each worker. A balanced
+	 *         search expands roughly the same number of nodes on every worker.
+	 */
+	public long[] getNumExpansionsPerWorker()
+	{
+		return numExpansionsPerWorker.clone();
+	}
+
+	/**
+	 * 
+	 * @return Returns the total number of nodes expanded by all workers.
+	 */
+	public long getNumExpansions()
+	{
+		long numExpansions = 0;
+		for (long workerExpansions : numExpansionsPerWorker)
+		{
+			numExpansions += workerExpansions;
+		}
+		return numExpansions;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of nodes handed off from one worker to
+	 *         another.
+	 */
+	public long getNumMessagesSent()
+	{
+		return numMessagesSent;
+	}
+
+	/**
+	 * 
+	 * @return Returns the number of times an expanded state was reopened
+	 *         because a better path to it was discovered. A sequential A*
+	 *         search with a consistent heuristic never reopens a state, so this
+	 *         count measures the search overhead introduced by parallelism.
+	 */
+	public long getNumDuplicateExpansions()
+	{
+		return numDuplicateExpansions;
+	}
+
+}
@@ -0,0 +1,502 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A table of the exact distances from every abstract state of a
+ * {@link PatternDatabaseAbstraction} to the nearest abstract goal state,
+ * computed by a backward breadth-first search.<br/>
+ * <br/>
+ * Tables are stored in files and read through a memory-mapped buffer, so the
+ * table costs no heap space and a table built by an earlier process is mapped
+ * instantly by {@link #openOrBuild(File, PatternDatabaseAbstraction, Encoding)}.
+ * Distances are packed into nibbles or bytes; distances too large for the
+ * chosen encoding are stored as the largest encodable value, which keeps the
+ * table admissible. Lookups are thread safe.<br/>
+ * <br/>
+ * A file is never modified in place: {@link #build(File, PatternDatabaseAbstraction, Encoding)}
+ * writes a new table to a temporary file and renames it over the old one. A
+ * PatternDatabase keeps reading the table it mapped, so readers must reopen
+ * the file to see a rebuilt table. Platforms that lock mapped files, such as
+ * Windows, refuse to replace a file while any PatternDatabase maps it, and
+ * the JVM releases a mapping only once its PatternDatabase has been garbage
+ * collected; drop every reference to a pattern database before rebuilding
+ * its file.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class PatternDatabase
+{
+
+	private static final Log logger = LogFactory.getLog(PatternDatabase.class);
+
+	private static final int MAGIC = 0x50444231; // "PDB1"
+	private static final int HEADER_SIZE = 24;
+	private static final byte UNVISITED = (byte) 0xFF;
+
+	private final File file;
+	private final Encoding encoding;
+	private final int numAbstractStates;
+	private final long signature;
+	private final ByteBuffer table;
+
+	private PatternDatabase(File file, Encoding encoding, int numAbstractStates, long signature, ByteBuffer table)
+	{
+		this.file = file;
+		this.encoding = encoding;
+		this.numAbstractStates = numAbstractStates;
+		this.signature = signature;
+		this.table = table;
+	}
+
+	/**
+	 * Maps the pattern database stored in file if it was built from
+	 * abstraction with the given encoding. Otherwise, builds the pattern
+	 * database and stores it in file.
+	 * 
+	 * @param file
+	 * @param abstraction
+	 * @param encoding
+	 * @return Returns the pattern database.
+	 * @throws IOException
+	 */
+	public static PatternDatabase openOrBuild(File file, PatternDatabaseAbstraction<?> abstraction, Encoding encoding) throws IOException
+	{
+		if (abstraction == null)
+		{
+			throw new IllegalArgumentException("The abstraction argument must not be null.");
+		}
+		if (encoding == null)
+		{
+			throw new IllegalArgumentException("The encoding argument must not be null.");
+		}
+
+		if (file.isFile())
+		{
+			try
+			{
+				// check the header before mapping, so that a stale table is
+				// never mapped while it is being replaced
+				Header header = readHeader(file);
+				if (header.signature == abstraction.getSignature() && header.numAbstractStates == abstraction.getNumAbstractStates() && header.encoding == encoding)
+				{
+					return map(file, header);
+				}
+				logger.info("Rebuilding stale pattern database " + file);
+			}
+			catch (IOException ioe)
+			{
+				logger.warn("Rebuilding unreadable pattern database " + file, ioe);
+			}
+		}
+
+		return build(file, abstraction, encoding);
+	}
+
+	/**
+	 * Maps a pattern database built earlier.
+	 * 
+	 * @param file
+	 * @return Returns the pattern database.
+	 * @throws IOException
+	 *             Thrown if file cannot be read or does not hold a pattern
+	 *             database.
+	 */
+	public static PatternDatabase open(File file) throws IOException
+	{
+		if (file == null)
+		{
+			throw new IllegalArgumentException("The file argument must not be null.");
+		}
+
+		return map(file, readHeader(file));
+	}
+
+	/**
+	 * Reads and validates the header of a pattern database file.
+	 */
+	private static Header readHeader(File file) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new FileInputStream(file));
+		int magic;
+		int encodingOrdinal;
+		int numAbstractStates;
+		long signature;
+		try
+		{
+			magic = in.readInt();
+			encodingOrdinal = in.readInt();
+			numAbstractStates = in.readInt();
+			in.readInt(); // reserved
+			signature = in.readLong();
+		}
+		finally
+		{
+			in.close();
+		}
+
+		if (magic != MAGIC || encodingOrdinal < 0 || encodingOrdinal >= Encoding.values().length || numAbstractStates < 0)
+		{
+			throw new IOException("The file " + file + " does not hold a pattern database.");
+		}
+		Encoding encoding = Encoding.values()[encodingOrdinal];
+
+		if (file.length() != HEADER_SIZE + encoding.getTableSize(numAbstractStates))
+		{
+			throw new IOException("The pattern database in " + file + " is truncated.");
+		}
+
+		return new Header(encoding, numAbstractStates, signature);
+	}
+
+	private static PatternDatabase map(File file, Header header) throws IOException
+	{
+		// the mapping remains valid after the channel is closed
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try
+		{
+			MappedByteBuffer table = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, header.encoding.getTableSize(header.numAbstractStates));
+			return new PatternDatabase(file, header.encoding, header.numAbstractStates, header.signature, table);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Builds a pattern database, stores it in file (replacing any existing
+	 * file) and maps it. PatternDatabase instances that map the replaced file
+	 * keep reading the old table, and on platforms that lock mapped files they
+	 * cause this method to fail; see the class comment.
+	 * 
+	 * @param file
+	 * @param abstraction
+	 * @param encoding
+	 * @return Returns the pattern database.
+	 * @throws IOException
+	 */
+	public static PatternDatabase build(File file, PatternDatabaseAbstraction<?> abstraction, Encoding encoding) throws IOException
+	{
+		if (file == null)
+		{
+			throw new IllegalArgumentException("The file argument must not be null.");
+		}
+		if (abstraction == null)
+		{
+			throw new IllegalArgumentException("The abstraction argument must not be null.");
+		}
+		if (encoding == null)
+		{
+			throw new IllegalArgumentException("The encoding argument must not be null.");
+		}
+
+		Duration buildDuration = new Duration();
+		byte[] distances = calculateDistances(abstraction);
+
+		// write to a temporary file of our own first, so that no process ever
+		// maps a partially written table and concurrent builds do not collide
+		File absoluteFile = file.getAbsoluteFile();
+		File tempFile = File.createTempFile(absoluteFile.getName() + ".", ".tmp", absoluteFile.getParentFile());
+		boolean moved = false;
+		try
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile), 1 << 16));
+			try
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(encoding.ordinal());
+				out.writeInt(distances.length);
+				out.writeInt(0); // reserved
+				out.writeLong(abstraction.getSignature());
+				encoding.write(distances, out);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			if (!tempFile.renameTo(file))
+			{
+				// some platforms refuse to rename over an existing file, and
+				// refuse to delete it while it is mapped
+				if (!file.delete() || !tempFile.renameTo(file))
+				{
+					throw new IOException("Failed to move " + tempFile + " to " + file + "; the file may still be mapped by an open pattern database.");
+				}
+			}
+			moved = true;
+		}
+		finally
+		{
+			if (!moved && !tempFile.delete())
+			{
+				logger.warn("Failed to delete temporary file " + tempFile + ".");
+			}
+		}
+
+		logger.info("Built a pattern database of " + distances.length + " abstract states in " + buildDuration.stop() + " milliseconds.");
+
+		return open(file);
+	}
+
+	/**
+	 * Performs a breadth-first search backward from the abstract goal states.
+	 * 
+	 * @return Returns the distance of every abstract state, saturated at 254,
+	 *         or {@link #UNVISITED} for unreachable abstract states.
+	 */
+	private static byte[] calculateDistances(PatternDatabaseAbstraction<?> abstraction)
+	{
+		int numAbstractStates = abstraction.getNumAbstractStates();
+		byte[] distances = new byte[numAbstractStates];
+		Arrays.fill(distances, UNVISITED);
+
+		int[] predecessors = new int[abstraction.getMaxNumPredecessors()];
+		int[] currentLevel = new int[16];
+		int currentLevelSize = 0;
+		int[] nextLevel = new int[16];
+
+		for (int goalState : abstraction.getAbstractGoalStates())
+		{
+			checkAbstractState(goalState, numAbstractStates);
+			if (distances[goalState] == UNVISITED)
+			{
+				distances[goalState] = 0;
+				if (currentLevelSize == currentLevel.length)
+				{
+					currentLevel = grow(currentLevel);
+				}
+				currentLevel[currentLevelSize++] = goalState;
+			}
+		}
+
+		int distance = 0;
+		while (currentLevelSize > 0)
+		{
+			byte nextDistance = (byte) Math.min(distance + 1, 254);
+			int nextLevelSize = 0;
+
+			for (int i = 0; i < currentLevelSize; i++)
+			{
+				int numPredecessors = abstraction.getPredecessors(currentLevel[i], predecessors);
+				for (int j = 0; j < numPredecessors; j++)
+				{
+					int predecessor = predecessors[j];
+					checkAbstractState(predecessor, numAbstractStates);
+					if (distances[predecessor] == UNVISITED)
+					{
+						distances[predecessor] = nextDistance;
+						if (nextLevelSize == nextLevel.length)
+						{
+							nextLevel = grow(nextLevel);
+						}
+						nextLevel[nextLevelSize++] = predecessor;
+					}
+				}
+			}
+
+			int[] swap = currentLevel;
+			currentLevel = nextLevel;
+			nextLevel = swap;
+			currentLevelSize = nextLevelSize;
+			distance++;
+		}
+
+		return distances;
+	}
+
+	private static void checkAbstractState(int abstractState, int numAbstractStates)
+	{
+		if (abstractState < 0 || abstractState >= numAbstractStates)
+		{
+			throw new IllegalStateException("The abstraction produced the abstract state " + abstractState + ", which lies outside the range [0, " + numAbstractStates + ").");
+		}
+	}
+
+	private static int[] grow(int[] values)
+	{
+		int[] grown = new int[values.length << 1];
+		System.arraycopy(values, 0, grown, 0, values.length);
+		return grown;
+	}
+
+	/**
+	 * @param abstractState
+	 * @return Returns the stored distance from abstractState to the nearest
+	 *         abstract goal state.
+	 */
+	public int getDistance(int abstractState)
+	{
+		return encoding.read(table, abstractState);
+	}
+
+	public File getFile()
+	{
+		return file;
+	}
+
+	public Encoding getEncoding()
+	{
+		return encoding;
+	}
+
+	public int getNumAbstractStates()
+	{
+		return numAbstractStates;
+	}
+
+	public long getSignature()
+	{
+		return signature;
+	}
+
+	/**
+	 * The fields of a pattern database file header.
+	 */
+	private static final class Header
+	{
+		private final Encoding encoding;
+		private final int numAbstractStates;
+		private final long signature;
+
+		private Header(Encoding encoding, int numAbstractStates, long signature)
+		{
+			this.encoding = encoding;
+			this.numAbstractStates = numAbstractStates;
+			this.signature = signature;
+		}
+	}
+
+	/**
+	 * The packing of distances in a pattern database file.
+	 */
+	public static enum Encoding
+	{
+		/**
+		 * Two distances per byte; distances of 15 or more are stored as 15.
+		 */
+		NIBBLE(15)
+		{
+			@Override
+			long getTableSize(int numAbstractStates)
+			{
+				return (numAbstractStates + 1L) >> 1;
+			}
+
+			@Override
+			int read(ByteBuffer table, int abstractState)
+			{
+				int packed = table.get(abstractState >>> 1);
+				return ((abstractState & 1) == 0) ? packed & 0x0F : (packed >>> 4) & 0x0F;
+			}
+
+			@Override
+			void write(byte[] distances, DataOutputStream out) throws IOException
+			{
+				for (int i = 0; i < distances.length; i += 2)
+				{
+					int low = saturate(distances[i]);
+					int high = (i + 1 < distances.length) ? saturate(distances[i + 1]) : 0;
+					out.writeByte(low | (high << 4));
+				}
+			}
+		},
+
+		/**
+		 * One distance per byte; distances of 255 or more are stored as 255.
+		 */
+		BYTE(255)
+		{
+			@Override
+			long getTableSize(int numAbstractStates)
+			{
+				return numAbstractStates;
+			}
+
+			@Override
+			int read(ByteBuffer table, int abstractState)
+			{
+				return table.get(abstractState) & 0xFF;
+			}
+
+			@Override
+			void write(byte[] distances, DataOutputStream out) throws IOException
+			{
+				for (byte distance : distances)
+				{
+					out.writeByte(saturate(distance));
+				}
+			}
+		};
+
+		private final int maxDistance;
+
+		private Encoding(int maxDistance)
+		{
+			this.maxDistance = maxDistance;
+		}
+
+		/**
+		 * @return Returns the largest distance that can be stored exactly.
+		 */
+		public int getMaxDistance()
+		{
+			return maxDistance;
+		}
+
+		int saturate(byte distance)
+		{
+			return (distance == UNVISITED) ? maxDistance : Math.min(distance & 0xFF, maxDistance);
+		}
+
+		abstract long getTableSize(int numAbstractStates);
+
+		abstract int read(ByteBuffer table, int abstractState);
+
+		abstract void write(byte[] distances, DataOutputStream out) throws IOException;
+	}
+
+}
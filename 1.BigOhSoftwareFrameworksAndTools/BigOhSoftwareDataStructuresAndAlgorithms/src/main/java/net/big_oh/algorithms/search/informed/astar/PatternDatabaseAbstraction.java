@@ -0,0 +1,104 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Defines the abstraction of a search space from which a
+ * {@link PatternDatabase} is built. Each abstract state stands for the set of
+ * concrete states that agree on some pattern (e.g. the positions of a subset
+ * of the tiles in a sliding tile puzzle) and is identified by a dense index in
+ * the range [0, {@link #getNumAbstractStates()}).<br/>
+ * <br/>
+ * Every abstract operator is assumed to cost 1. The distances stored in the
+ * pattern database are therefore admissible (and consistent) estimates for
+ * concrete searches in which every operator costs at least 1. To build
+ * additive pattern databases, define abstractions over disjoint patterns in
+ * which only the moves of pattern elements are operators.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+public abstract class PatternDatabaseAbstraction<SearchNodeType extends AStarSearchNode>
+{
+
+	/**
+	 * @return Returns the number of abstract state indices. Indices that do
+	 *         not correspond to reachable abstract states are permitted; they
+	 *         simply waste space in the table.
+	 */
+	public abstract int getNumAbstractStates();
+
+	/**
+	 * @param searchNode
+	 * @return Returns the index of the abstract state onto which the state of
+	 *         searchNode is mapped.
+	 */
+	public abstract int getAbstractState(SearchNodeType searchNode);
+
+	/**
+	 * @return Returns the indices of the abstract goal states.
+	 */
+	public abstract int[] getAbstractGoalStates();
+
+	/**
+	 * @return Returns an upper bound on the number of predecessors of any
+	 *         abstract state.
+	 */
+	public abstract int getMaxNumPredecessors();
+
+	/**
+	 * Writes the indices of the abstract states from which abstractState can
+	 * be reached in a single step into predecessors.
+	 * 
+	 * @param abstractState
+	 * @param predecessors
+	 *            A buffer of length {@link #getMaxNumPredecessors()}.
+	 * @return Returns the number of predecessors written.
+	 */
+	public abstract int getPredecessors(int abstractState, int[] predecessors);
+
+	/**
+	 * The signature is stored alongside a pattern database so that a table
+	 * built from a different abstraction is never mistaken for this one's.
+	 * Subclasses whose instances may define different abstractions (e.g. for
+	 * different patterns) must override this method.
+	 * 
+	 * @return Returns a value that identifies this abstraction.
+	 */
+	public long getSignature()
+	{
+		long signature = 0xcbf29ce484222325L;
+		String className = getClass().getName();
+		for (int i = 0; i < className.length(); i++)
+		{
+			signature ^= className.charAt(i);
+			signature *= 0x100000001b3L;
+		}
+		return signature ^ getNumAbstractStates();
+	}
+
+}
@@ -0,0 +1,99 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A heuristic for min A* searches that looks up the distance of a node's
+ * abstract state in a {@link PatternDatabase}. Each lookup costs a single read
+ * from the memory-mapped table, and is thread safe provided that the
+ * abstraction's {@link PatternDatabaseAbstraction#getAbstractState(AStarSearchNode)}
+ * method is.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ * @see CompositeHeuristic
+ */
+public class PatternDatabaseHeuristic<SearchNodeType extends AStarSearchNode> extends Heuristic<SearchNodeType>
+{
+
+	private final PatternDatabase patternDatabase;
+	private final PatternDatabaseAbstraction<SearchNodeType> abstraction;
+
+	/**
+	 * @param patternDatabase
+	 * @param abstraction
+	 *            The abstraction from which patternDatabase was built.
+	 * @throws IllegalArgumentException
+	 *             Thrown if either argument is null or patternDatabase was not
+	 *             built from abstraction.
+	 */
+	public PatternDatabaseHeuristic(PatternDatabase patternDatabase, PatternDatabaseAbstraction<SearchNodeType> abstraction) throws IllegalArgumentException
+	{
+		if (patternDatabase == null)
+		{
+			throw new IllegalArgumentException("The patternDatabase argument must not be null.");
+		}
+		if (abstraction == null)
+		{
+			throw new IllegalArgumentException("The abstraction argument must not be null.");
+		}
+		if (patternDatabase.getSignature() != abstraction.getSignature() || patternDatabase.getNumAbstractStates() != abstraction.getNumAbstractStates())
+		{
+			throw new IllegalArgumentException("The patternDatabase argument was not built from the abstraction argument.");
+		}
+
+		this.patternDatabase = patternDatabase;
+		this.abstraction = abstraction;
+	}
+
+	@Override
+	protected double calculateH(SearchNodeType searchNode)
+	{
+		return patternDatabase.getDistance(abstraction.getAbstractState(searchNode));
+	}
+
+	/**
+	 * Abstract distances are consistent because every abstract operator costs
+	 * 1, while saturation only ever lowers a distance to a constant.
+	 */
+	@Override
+	public boolean isConsistent()
+	{
+		return true;
+	}
+
+	public PatternDatabase getPatternDatabase()
+	{
+		return patternDatabase;
+	}
+
+	public PatternDatabaseAbstraction<SearchNodeType> getAbstraction()
+	{
+		return abstraction;
+	}
+
+}
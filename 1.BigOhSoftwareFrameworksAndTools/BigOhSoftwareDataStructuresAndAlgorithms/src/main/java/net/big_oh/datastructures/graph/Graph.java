@@ -82,8 +82,54 @@ public interface Graph<V extends Vertex>
 	public long getVertexCount();
 
 	/**
+	 * Algorithms that only need to scan or probe a neighborhood should prefer
+	 * {@link #getDegree(Vertex)}, {@link #containsEdge(Vertex, Vertex)},
+	 * {@link #forEachNeighbor(Vertex, NeighborVisitor)} or a
+	 * {@link NeighborCursor}, which need not copy the neighborhood.<br/>
+	 * <br/>
+	 * Implementations may return either a new set or an unmodifiable view of
+	 * the graph's own adjacency. Callers that need to change the set must copy
+	 * it first.
+	 * 
 	 * @param v
-	 * @return Returns the set of all neighbors to the vertex.
+	 * @return Returns the set of all neighbors to the vertex, which may be an
+	 *         unmodifiable view.
 	 */
 	public Set<V> getAllNeighbors(V v);
+
+	/**
+	 * @param v
+	 * @return Returns the number of neighbors to the vertex.
+	 * @throws IllegalArgumentException
+	 *             if v is null.
+	 */
+	public int getDegree(V v) throws IllegalArgumentException;
+
+	/**
+	 * @param fromVertex
+	 * @param toVertex
+	 * @return Returns true if toVertex is a neighbor to fromVertex.
+	 * @throws IllegalArgumentException
+	 *             if either {@link Vertex} argument is null.
+	 */
+	public boolean containsEdge(V fromVertex, V toVertex) throws IllegalArgumentException;
+
+	/**
+	 * Passes each neighbor to the vertex to the visitor, until the visitor asks
+	 * to stop.
+	 * 
+	 * @param v
+	 * @param visitor
+	 * @return Returns true if every neighbor was visited, or false if the
+	 *         visitor stopped the traversal early.
+	 * @throws IllegalArgumentException
+	 *             if either argument is null.
+	 */
+	public boolean forEachNeighbor(V v, NeighborVisitor<? super V> visitor) throws IllegalArgumentException;
+
+	/**
+	 * @return Returns a new cursor that can traverse the neighbors to any
+	 *         vertex of this graph.
+	 */
+	public NeighborCursor<V> newNeighborCursor();
 }
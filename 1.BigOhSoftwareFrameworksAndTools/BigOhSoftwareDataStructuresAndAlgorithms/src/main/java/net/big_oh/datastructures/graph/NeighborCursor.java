@@ -0,0 +1,65 @@
+package net.big_oh.datastructures.graph;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A reusable, forward-only cursor over the neighbors of a vertex. A cursor is
+ * obtained once from {@link Graph#newNeighborCursor()} and then repositioned
+ * with {@link #reset(Vertex)} for each vertex of interest, so that traversing
+ * many neighborhoods does not allocate an iterator or a set per vertex.<br/>
+ * <br/>
+ * The behavior of a cursor is undefined if its graph is modified while the
+ * cursor is in use. Cursors are not thread safe.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <V>
+ */
+public interface NeighborCursor<V extends Vertex>
+{
+	/**
+	 * Positions the cursor before the first neighbor of v.
+	 * 
+	 * @param v
+	 * @throws IllegalArgumentException
+	 *             if v is null.
+	 */
+	public void reset(V v) throws IllegalArgumentException;
+
+	/**
+	 * @return Returns true if the vertex passed to the latest call of
+	 *         {@link #reset(Vertex)} has neighbors that have not yet been
+	 *         returned by {@link #next()}.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * @return Returns the next neighbor.
+	 * @throws java.util.NoSuchElementException
+	 *             if there are no more neighbors.
+	 */
+	public V next();
+}
@@ -0,0 +1,138 @@
+package net.big_oh.datastructures.graph.csr;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A region of a file, mapped into memory as a sequence of equally sized
+ * chunks so that regions larger than the 2 GB limit of a single
+ * {@link MappedByteBuffer} can be addressed with long positions.<br/>
+ * <br/>
+ * Ints and longs must be stored at positions aligned to their size; since the
+ * chunk size is a power of two of at least eight bytes, such values never
+ * straddle two chunks. Reads use absolute positions only, so any number of
+ * threads may read concurrently.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+final class ChunkedMappedBuffer
+{
+
+	/**
+	 * Chunks of 1 GB, the largest power of two a MappedByteBuffer can hold.
+	 */
+	static final int DEFAULT_CHUNK_SHIFT = 30;
+
+	private final MappedByteBuffer[] chunks;
+	private final int chunkShift;
+	private final long chunkMask;
+	private final long size;
+
+	private ChunkedMappedBuffer(MappedByteBuffer[] chunks, int chunkShift, long size)
+	{
+		this.chunks = chunks;
+		this.chunkShift = chunkShift;
+		this.chunkMask = (1L << chunkShift) - 1;
+		this.size = size;
+	}
+
+	/**
+	 * Maps size bytes of the channel's file, starting at its first byte. The
+	 * mapping remains valid after the channel is closed. In read/write mode,
+	 * the file is extended as needed.
+	 * 
+	 * @param channel
+	 * @param mode
+	 * @param size
+	 * @param chunkShift
+	 *            The base two logarithm of the chunk size, in [3, 30].
+	 * @return Returns the mapped region.
+	 * @throws IOException
+	 */
+	static ChunkedMappedBuffer map(FileChannel channel, FileChannel.MapMode mode, long size, int chunkShift) throws IOException
+	{
+		if (chunkShift < 3 || chunkShift > DEFAULT_CHUNK_SHIFT)
+		{
+			throw new IllegalArgumentException("The chunkShift argument must lie in the range [3, " + DEFAULT_CHUNK_SHIFT + "].");
+		}
+
+		long chunkSize = 1L << chunkShift;
+		int numChunks = (int) ((size + chunkSize - 1) >>> chunkShift);
+		MappedByteBuffer[] chunks = new MappedByteBuffer[numChunks];
+		for (int c = 0; c < numChunks; c++)
+		{
+			long chunkPosition = (long) c << chunkShift;
+			chunks[c] = channel.map(mode, chunkPosition, Math.min(chunkSize, size - chunkPosition));
+		}
+		return new ChunkedMappedBuffer(chunks, chunkShift, size);
+	}
+
+	long size()
+	{
+		return size;
+	}
+
+	byte get(long position)
+	{
+		return chunks[(int) (position >>> chunkShift)].get((int) (position & chunkMask));
+	}
+
+	int getInt(long position)
+	{
+		return chunks[(int) (position >>> chunkShift)].getInt((int) (position & chunkMask));
+	}
+
+	long getLong(long position)
+	{
+		return chunks[(int) (position >>> chunkShift)].getLong((int) (position & chunkMask));
+	}
+
+	void putInt(long position, int value)
+	{
+		chunks[(int) (position >>> chunkShift)].putInt((int) (position & chunkMask), value);
+	}
+
+	void putLong(long position, long value)
+	{
+		chunks[(int) (position >>> chunkShift)].putLong((int) (position & chunkMask), value);
+	}
+
+	/**
+	 * Copies bytes, which may straddle chunks, into the destination array.
+	 */
+	void get(long position, byte[] destination)
+	{
+		for (int i = 0; i < destination.length; i++)
+		{
+			destination[i] = get(position + i);
+		}
+	}
+
+}
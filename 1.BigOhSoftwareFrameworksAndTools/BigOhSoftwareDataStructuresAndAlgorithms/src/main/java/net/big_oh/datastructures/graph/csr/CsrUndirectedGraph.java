@@ -0,0 +1,629 @@
+package net.big_oh.datastructures.graph.csr;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An immutable implementation of {@link net.big_oh.datastructures.graph.Graph}
+ * for undirected graphs, stored in compressed sparse row (CSR) form.<br/>
+ * <br/>
+ * Vertices are numbered densely from zero. The neighbors of vertex i are
+ * <code>targets[offsets[i]]</code> through
+ * <code>targets[offsets[i+1]-1]</code>, sorted in ascending order and free of
+ * duplicates and self loops. Every undirected edge is stored once in each
+ * direction, so a graph with n vertices and m edges occupies about 4(n + 2m)
+ * bytes plus one {@link CsrVertex} per vertex.<br/>
+ * <br/>
+ * The int-index methods ({@link #getDegree(int)},
+ * {@link #getNeighborIndex(int, int)} and {@link #containsEdge(int, int)}) are
+ * plain array reads and allocate nothing. The {@link Set} views returned by
+ * {@link #getAllNeighbors(CsrVertex)} and {@link #getAllVertices()} read the
+ * same arrays rather than copying them. Since the graph is immutable, it may
+ * be shared freely among threads.<br/>
+ * <br/>
+ * New instances must be created with a {@link Builder}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public final class CsrUndirectedGraph implements Graph<CsrVertex>
+{
+
+	private final CsrVertex[] vertices;
+	private final Map<Object, CsrVertex> verticesByIdentifier;
+	private final int[] offsets;
+	private final int[] targets;
+
+	private CsrUndirectedGraph(Builder builder)
+	{
+		int numVertices = builder.builderNumVertices;
+
+		this.vertices = new CsrVertex[numVertices];
+		this.verticesByIdentifier = new HashMap<Object, CsrVertex>(Math.max(16, (int) (numVertices / 0.75f) + 1));
+		for (int i = 0; i < numVertices; i++)
+		{
+			CsrVertex v = new CsrVertex(this, i, builder.builderIdentifiers[i]);
+			vertices[i] = v;
+			verticesByIdentifier.put(v.getIdentifier(), v);
+		}
+
+		// count both directions of every edge
+		int numEdges = builder.builderNumEdges;
+		int[] counts = new int[numVertices + 1];
+		for (int e = 0; e < numEdges; e++)
+		{
+			counts[builder.builderEdgeSources[e]]++;
+			counts[builder.builderEdgeTargets[e]]++;
+		}
+		int[] rawOffsets = new int[numVertices + 1];
+		for (int i = 0; i < numVertices; i++)
+		{
+			rawOffsets[i + 1] = rawOffsets[i] + counts[i];
+		}
+
+		int[] rawTargets = new int[rawOffsets[numVertices]];
+		int[] fill = new int[numVertices];
+		System.arraycopy(rawOffsets, 0, fill, 0, numVertices);
+		for (int e = 0; e < numEdges; e++)
+		{
+			int u = builder.builderEdgeSources[e];
+			int v = builder.builderEdgeTargets[e];
+			rawTargets[fill[u]++] = v;
+			rawTargets[fill[v]++] = u;
+		}
+
+		// sort each neighbor list, dropping duplicate edges as it is compacted
+		this.offsets = new int[numVertices + 1];
+		int numTargets = 0;
+		for (int i = 0; i < numVertices; i++)
+		{
+			int start = rawOffsets[i];
+			int end = rawOffsets[i + 1];
+			Arrays.sort(rawTargets, start, end);
+
+			offsets[i] = numTargets;
+			for (int j = start; j < end; j++)
+			{
+				if (j == start || rawTargets[j] != rawTargets[j - 1])
+				{
+					rawTargets[numTargets++] = rawTargets[j];
+				}
+			}
+		}
+		offsets[numVertices] = numTargets;
+
+		if (numTargets < rawTargets.length)
+		{
+			this.targets = new int[numTargets];
+			System.arraycopy(rawTargets, 0, targets, 0, numTargets);
+		}
+		else
+		{
+			this.targets = rawTargets;
+		}
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since a CsrUndirectedGraph is immutable.
+	 */
+	public void addVertex(CsrVertex v) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("A " + getClass().getSimpleName() + " is immutable; use a " + Builder.class.getName() + " instead.");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since a CsrUndirectedGraph is immutable.
+	 */
+	public void addEdge(CsrVertex fromVertex, CsrVertex toVertex) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("A " + getClass().getSimpleName() + " is immutable; use a " + Builder.class.getName() + " instead.");
+	}
+
+	/**
+	 * @return Returns a read-only view of all vertices in the graph.
+	 */
+	public Set<CsrVertex> getAllVertices()
+	{
+		return new AbstractSet<CsrVertex>()
+		{
+			@Override
+			public int size()
+			{
+				return vertices.length;
+			}
+
+			@Override
+			public boolean contains(Object o)
+			{
+				return (o instanceof CsrVertex) && ((CsrVertex) o).getGraph() == CsrUndirectedGraph.this;
+			}
+
+			@Override
+			public Iterator<CsrVertex> iterator()
+			{
+				return getAllVerticesIterator();
+			}
+		};
+	}
+
+	public Iterator<CsrVertex> getAllVerticesIterator()
+	{
+		return new ArrayIterator(0, vertices.length, false);
+	}
+
+	public long getVertexCount()
+	{
+		return vertices.length;
+	}
+
+	/**
+	 * @return Returns the number of (undirected) edges in the graph.
+	 */
+	public long getEdgeCount()
+	{
+		return targets.length / 2;
+	}
+
+	/**
+	 * @param v
+	 * @return Returns a read-only view of the neighbors of v, backed by the
+	 *         graph's arrays. Any attempt to modify the view throws an
+	 *         {@link UnsupportedOperationException}.
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph.
+	 */
+	public Set<CsrVertex> getAllNeighbors(CsrVertex v) throws IllegalArgumentException
+	{
+		final int index = indexOf(v);
+		return new AbstractSet<CsrVertex>()
+		{
+			@Override
+			public int size()
+			{
+				return getDegree(index);
+			}
+
+			@Override
+			public boolean contains(Object o)
+			{
+				return (o instanceof CsrVertex) && ((CsrVertex) o).getGraph() == CsrUndirectedGraph.this && containsEdge(index, ((CsrVertex) o).getIndex());
+			}
+
+			@Override
+			public Iterator<CsrVertex> iterator()
+			{
+				return new ArrayIterator(offsets[index], offsets[index + 1], true);
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph.
+	 */
+	public int getDegree(CsrVertex v) throws IllegalArgumentException
+	{
+		return getDegree(indexOf(v));
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Thrown if either vertex is null or does not belong to this
+	 *             graph.
+	 */
+	public boolean containsEdge(CsrVertex fromVertex, CsrVertex toVertex) throws IllegalArgumentException
+	{
+		return containsEdge(indexOf(fromVertex), indexOf(toVertex));
+	}
+
+	/**
+	 * Visits neighbors in ascending order of index.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph, or if
+	 *             visitor is null.
+	 */
+	public boolean forEachNeighbor(CsrVertex v, NeighborVisitor<? super CsrVertex> visitor) throws IllegalArgumentException
+	{
+		int index = indexOf(v);
+
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		for (int i = offsets[index], end = offsets[index + 1]; i < end; i++)
+		{
+			if (!visitor.visit(vertices[targets[i]]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return Returns a new cursor that traverses neighbors in ascending order
+	 *         of index, and whose reset method throws IllegalArgumentException
+	 *         for vertices of other graphs.
+	 */
+	public NeighborCursor<CsrVertex> newNeighborCursor()
+	{
+		return new CsrNeighborCursor();
+	}
+
+	/**
+	 * @param identifier
+	 * @return Returns the vertex with the given identifier, or null if the
+	 *         graph has no such vertex.
+	 */
+	public CsrVertex getVertex(Object identifier)
+	{
+		return verticesByIdentifier.get(identifier);
+	}
+
+	/**
+	 * @param index
+	 * @return Returns the vertex with the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if index is not a vertex index of this graph.
+	 */
+	public CsrVertex getVertex(int index) throws IndexOutOfBoundsException
+	{
+		return vertices[index];
+	}
+
+	/**
+	 * @param index
+	 * @return Returns the number of neighbors of the vertex with the given
+	 *         index.
+	 */
+	public int getDegree(int index)
+	{
+		return offsets[index + 1] - offsets[index];
+	}
+
+	/**
+	 * @param index
+	 * @param i
+	 * @return Returns the index of the i-th neighbor, in ascending order of
+	 *         index, of the vertex with the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if i is negative or not less than the vertex's
+	 *             degree.
+	 */
+	public int getNeighborIndex(int index, int i) throws IndexOutOfBoundsException
+	{
+		if (i < 0 || i >= getDegree(index))
+		{
+			throw new IndexOutOfBoundsException("Index: " + i + ", Degree: " + getDegree(index));
+		}
+		return targets[offsets[index] + i];
+	}
+
+	/**
+	 * @param fromIndex
+	 * @param toIndex
+	 * @return Returns true if the vertices with the given indexes are
+	 *         neighbors. Runs in O(log d) time for the smaller degree d of the
+	 *         two vertices.
+	 */
+	public boolean containsEdge(int fromIndex, int toIndex)
+	{
+		// search the shorter of the two sorted neighbor lists
+		if (getDegree(fromIndex) > getDegree(toIndex))
+		{
+			int swap = fromIndex;
+			fromIndex = toIndex;
+			toIndex = swap;
+		}
+		int low = offsets[fromIndex];
+		int high = offsets[fromIndex + 1] - 1;
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			int target = targets[mid];
+			if (target < toIndex)
+			{
+				low = mid + 1;
+			}
+			else if (target > toIndex)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int indexOf(CsrVertex v) throws IllegalArgumentException
+	{
+		if (v == null)
+		{
+			throw new IllegalArgumentException("The Vertex argument must not be null.");
+		}
+		if (v.getGraph() != this)
+		{
+			throw new IllegalArgumentException("The Vertex argument must belong to this graph.");
+		}
+		return v.getIndex();
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "[vertices=" + getVertexCount() + ", edges=" + getEdgeCount() + "]";
+	}
+
+	/**
+	 * Iterates over a range of either the vertex array or the target array.
+	 */
+	private final class ArrayIterator implements Iterator<CsrVertex>
+	{
+		private final int end;
+		private final boolean overTargets;
+		private int next;
+
+		private ArrayIterator(int start, int end, boolean overTargets)
+		{
+			this.next = start;
+			this.end = end;
+			this.overTargets = overTargets;
+		}
+
+		public boolean hasNext()
+		{
+			return next < end;
+		}
+
+		public CsrVertex next()
+		{
+			if (next >= end)
+			{
+				throw new NoSuchElementException();
+			}
+			int position = next++;
+			return overTargets ? vertices[targets[position]] : vertices[position];
+		}
+
+		public void remove()
+		{
+			throw new UnsupportedOperationException("A " + CsrUndirectedGraph.class.getSimpleName() + " is immutable.");
+		}
+	}
+
+	private final class CsrNeighborCursor implements NeighborCursor<CsrVertex>
+	{
+		private int next;
+		private int end;
+
+		public void reset(CsrVertex v) throws IllegalArgumentException
+		{
+			int index = indexOf(v);
+			next = offsets[index];
+			end = offsets[index + 1];
+		}
+
+		public boolean hasNext()
+		{
+			return next < end;
+		}
+
+		public CsrVertex next()
+		{
+			if (next >= end)
+			{
+				throw new NoSuchElementException();
+			}
+			return vertices[targets[next++]];
+		}
+	}
+
+	/**
+	 * A builder that collects vertices and edges for a new, immutable
+	 * {@link CsrUndirectedGraph}. Vertices are identified by arbitrary,
+	 * non-null identifier objects, and each distinct identifier becomes one
+	 * vertex; vertices are indexed in the order they are first seen. Duplicate
+	 * edges (in either direction) and self loops are discarded by
+	 * {@link #build()}.<br/>
+	 * <br/>
+	 * A builder may keep being used after build(); later graphs include
+	 * everything added so far. This class is not thread safe.
+	 * 
+	 * @author dwingate
+	 * @version Oct 18, 2026
+	 */
+	public static final class Builder
+	{
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final Map<Object, Integer> builderVertexIndexes = new HashMap<Object, Integer>();
+		private Object[] builderIdentifiers = new Object[INITIAL_CAPACITY];
+		private int builderNumVertices;
+
+		private int[] builderEdgeSources = new int[INITIAL_CAPACITY];
+		private int[] builderEdgeTargets = new int[INITIAL_CAPACITY];
+		private int builderNumEdges;
+
+		public Builder()
+		{
+			super();
+		}
+
+		/**
+		 * Adds a vertex, unless a vertex with an equal identifier was already
+		 * added.
+		 * 
+		 * @param identifier
+		 * @return Returns this builder.
+		 * @throws IllegalArgumentException
+		 *             Thrown if identifier is null.
+		 */
+		public Builder addVertex(Object identifier) throws IllegalArgumentException
+		{
+			internVertex(identifier);
+			return this;
+		}
+
+		/**
+		 * Adds an undirected edge, first adding either vertex not yet added.
+		 * 
+		 * @param fromIdentifier
+		 * @param toIdentifier
+		 * @return Returns this builder.
+		 * @throws IllegalArgumentException
+		 *             Thrown if either identifier is null.
+		 * @throws IllegalStateException
+		 *             Thrown if the graph would exceed the capacity of the CSR
+		 *             arrays.
+		 */
+		public Builder addEdge(Object fromIdentifier, Object toIdentifier) throws IllegalArgumentException, IllegalStateException
+		{
+			return appendEdge(internVertex(fromIdentifier), internVertex(toIdentifier));
+		}
+
+		/**
+		 * Adds an undirected edge between two vertices added earlier, which
+		 * are identified by their indexes (i.e. the order in which they were
+		 * first added). Unlike {@link #addEdge(Object, Object)}, this method
+		 * does not hash identifiers, which suits bulk loaders that have
+		 * already numbered their vertices.
+		 * 
+		 * @param fromIndex
+		 * @param toIndex
+		 * @return Returns this builder.
+		 * @throws IndexOutOfBoundsException
+		 *             Thrown if either index is not the index of a vertex added
+		 *             so far.
+		 * @throws IllegalStateException
+		 *             Thrown if the graph would exceed the capacity of the CSR
+		 *             arrays.
+		 */
+		public Builder addEdge(int fromIndex, int toIndex) throws IndexOutOfBoundsException, IllegalStateException
+		{
+			if (fromIndex < 0 || fromIndex >= builderNumVertices)
+			{
+				throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Vertices: " + builderNumVertices);
+			}
+			if (toIndex < 0 || toIndex >= builderNumVertices)
+			{
+				throw new IndexOutOfBoundsException("Index: " + toIndex + ", Vertices: " + builderNumVertices);
+			}
+			return appendEdge(fromIndex, toIndex);
+		}
+
+		/**
+		 * @return Returns the number of distinct vertices added so far.
+		 */
+		public int getNumVertices()
+		{
+			return builderNumVertices;
+		}
+
+		/**
+		 * @return a new instance of {@link CsrUndirectedGraph} holding the
+		 *         vertices and edges added to this builder
+		 */
+		public CsrUndirectedGraph build()
+		{
+			return new CsrUndirectedGraph(this);
+		}
+
+		private Builder appendEdge(int u, int v) throws IllegalStateException
+		{
+			if (u == v)
+			{
+				// self loops are not neighbor relationships
+				return this;
+			}
+
+			if (builderNumEdges == builderEdgeSources.length)
+			{
+				// each edge is stored twice in the built graph
+				if (builderNumEdges >= Integer.MAX_VALUE / 2 - 1)
+				{
+					throw new IllegalStateException("A " + CsrUndirectedGraph.class.getSimpleName() + " cannot hold more than " + (Integer.MAX_VALUE / 2 - 1) + " edges.");
+				}
+				builderEdgeSources = grow(builderEdgeSources);
+				builderEdgeTargets = grow(builderEdgeTargets);
+			}
+			builderEdgeSources[builderNumEdges] = u;
+			builderEdgeTargets[builderNumEdges] = v;
+			builderNumEdges++;
+
+			return this;
+		}
+
+		private int internVertex(Object identifier) throws IllegalArgumentException
+		{
+			if (identifier == null)
+			{
+				throw new IllegalArgumentException("The identifier argument must not be null.");
+			}
+
+			Integer index = builderVertexIndexes.get(identifier);
+			if (index != null)
+			{
+				return index.intValue();
+			}
+
+			if (builderNumVertices == builderIdentifiers.length)
+			{
+				Object[] grown = new Object[builderIdentifiers.length * 2];
+				System.arraycopy(builderIdentifiers, 0, grown, 0, builderNumVertices);
+				builderIdentifiers = grown;
+			}
+			builderIdentifiers[builderNumVertices] = identifier;
+			builderVertexIndexes.put(identifier, Integer.valueOf(builderNumVertices));
+			return builderNumVertices++;
+		}
+
+		private static int[] grow(int[] array)
+		{
+			int newCapacity = (int) Math.min(Integer.MAX_VALUE / 2 - 1, array.length * 2L);
+			int[] grown = new int[newCapacity];
+			System.arraycopy(array, 0, grown, 0, array.length);
+			return grown;
+		}
+	}
+
+}
@@ -0,0 +1,109 @@
+package net.big_oh.datastructures.graph.csr;
+
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The {@link net.big_oh.datastructures.graph.Vertex} implementation of
+ * {@link CsrUndirectedGraph}. Each vertex carries its dense index within the
+ * graph, so that the graph can locate its neighbors with array arithmetic
+ * alone. Vertices are created by {@link CsrUndirectedGraph.Builder} and belong
+ * to exactly one graph.<br/>
+ * <br/>
+ * The identifier of a vertex is fixed when the graph is built, but its value
+ * may be changed freely.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public final class CsrVertex implements Vertex
+{
+
+	private final CsrUndirectedGraph graph;
+	private final int index;
+	private final Object identifier;
+	private volatile Object value;
+
+	CsrVertex(CsrUndirectedGraph graph, int index, Object identifier)
+	{
+		this.graph = graph;
+		this.index = index;
+		this.identifier = identifier;
+	}
+
+	CsrUndirectedGraph getGraph()
+	{
+		return graph;
+	}
+
+	/**
+	 * @return Returns this vertex's index within its graph, in the range [0,
+	 *         vertex count).
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+
+	public Object getIdentifier()
+	{
+		return identifier;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since the identifiers of a CsrUndirectedGraph
+	 *             are fixed when it is built.
+	 */
+	public void setIdentifier(Object id) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("The identifier of a " + getClass().getSimpleName() + " is read only.");
+	}
+
+	public Object getValue()
+	{
+		return value;
+	}
+
+	public void setValue(Object value)
+	{
+		this.value = value;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return index;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.valueOf(identifier);
+	}
+
+}
@@ -0,0 +1,571 @@
+package net.big_oh.datastructures.graph.csr;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.big_oh.common.utils.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Converts edge-list text files into the binary graph files read by
+ * {@link MappedCsrUndirectedGraph}.<br/>
+ * <br/>
+ * Each line of an edge list names the two endpoints of an undirected edge,
+ * separated by whitespace or a comma; further columns (e.g. weights) are
+ * ignored. A line naming a single vertex adds that vertex without edges.
+ * Blank lines and lines starting with '#' or '%' are skipped. Duplicate edges
+ * and self loops are dropped.<br/>
+ * <br/>
+ * Edges are staged in temporary files next to the graph file and sorted
+ * through a memory-mapped staging area, so the heap only needs room for a few
+ * ints per vertex (plus the identifiers themselves, for
+ * {@link IdentifierType#STRING}) however many edges the list holds.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public final class EdgeListConverter
+{
+
+	private static final Log logger = LogFactory.getLog(EdgeListConverter.class);
+
+	/**
+	 * How the vertex identifiers of an edge list are interpreted.
+	 */
+	public static enum IdentifierType
+	{
+		/**
+		 * Identifiers are non-negative ints, which are used as the vertex
+		 * indexes. The graph holds every index from zero to the largest
+		 * identifier, so identifiers should be dense. No dictionary is
+		 * stored.
+		 */
+		INTEGER,
+
+		/**
+		 * Identifiers are arbitrary strings, indexed in the order they first
+		 * appear and stored in the graph file's identifier dictionary.
+		 */
+		STRING
+	}
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * The most vertices a graph may have, given the size limit of the arrays
+	 * that count their degrees.
+	 */
+	private static final int MAX_NUM_VERTICES = Integer.MAX_VALUE - 8;
+
+	private EdgeListConverter()
+	{
+		super();
+	}
+
+	/**
+	 * Converts an edge list into a graph file, replacing any existing file,
+	 * and maps it.
+	 * 
+	 * @param edgeListFile
+	 * @param graphFile
+	 * @param identifierType
+	 * @return Returns the graph.
+	 * @throws IOException
+	 *             Thrown if either file cannot be accessed, or if the edge list
+	 *             holds an identifier that does not suit identifierType.
+	 */
+	public static MappedCsrUndirectedGraph convert(File edgeListFile, File graphFile, IdentifierType identifierType) throws IOException
+	{
+		return convert(edgeListFile, graphFile, identifierType, ChunkedMappedBuffer.DEFAULT_CHUNK_SHIFT);
+	}
+
+	static MappedCsrUndirectedGraph convert(File edgeListFile, File graphFile, IdentifierType identifierType, int chunkShift) throws IOException
+	{
+		if (edgeListFile == null)
+		{
+			throw new IllegalArgumentException("The edgeListFile argument must not be null.");
+		}
+		if (graphFile == null)
+		{
+			throw new IllegalArgumentException("The graphFile argument must not be null.");
+		}
+		if (identifierType == null)
+		{
+			throw new IllegalArgumentException("The identifierType argument must not be null.");
+		}
+
+		Duration conversionDuration = new Duration();
+		File edgesFile = new File(graphFile.getPath() + ".edges.tmp");
+		File stagingFile = new File(graphFile.getPath() + ".staging.tmp");
+		File tempFile = new File(graphFile.getPath() + ".tmp");
+		EdgeList edgeList = null;
+		boolean written = false;
+		try
+		{
+			edgeList = readEdgeList(edgeListFile, edgesFile, identifierType);
+			ChunkedMappedBuffer staging = stageAdjacency(edgeList, edgesFile, stagingFile, chunkShift);
+			writeGraphFile(edgeList, staging, tempFile);
+			written = true;
+		}
+		finally
+		{
+			deleteTemporaryFile(edgesFile);
+			deleteTemporaryFile(stagingFile);
+			if (!written)
+			{
+				deleteTemporaryFile(tempFile);
+			}
+		}
+
+		if (!tempFile.renameTo(graphFile))
+		{
+			// some platforms refuse to rename over an existing file
+			if (!graphFile.delete() || !tempFile.renameTo(graphFile))
+			{
+				throw new IOException("Failed to move " + tempFile + " to " + graphFile + ".");
+			}
+		}
+
+		logger.info("Converted " + edgeList.numEdges + " edges among " + edgeList.numVertices + " vertices from " + edgeListFile + " in " + conversionDuration.stop() + " milliseconds.");
+
+		return MappedCsrUndirectedGraph.open(graphFile, chunkShift);
+	}
+
+	/**
+	 * Reads the edge list, interning identifiers, counting degrees and writing
+	 * each edge as a pair of vertex indexes to edgesFile.
+	 */
+	private static EdgeList readEdgeList(File edgeListFile, File edgesFile, IdentifierType identifierType) throws IOException
+	{
+		EdgeList edgeList = new EdgeList(edgeListFile, identifierType);
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(edgeListFile), "UTF-8"), 1 << 16);
+		DataOutputStream edgesOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(edgesFile), 1 << 16));
+		try
+		{
+			long lineNumber = 0;
+			for (String line = in.readLine(); line != null; line = in.readLine())
+			{
+				lineNumber++;
+
+				int start = skipSeparators(line, 0);
+				if (start == line.length() || line.charAt(start) == '#' || line.charAt(start) == '%')
+				{
+					continue;
+				}
+				int end = skipToken(line, start);
+				int u = edgeList.internVertex(line.substring(start, end), lineNumber);
+
+				start = skipSeparators(line, end);
+				if (start == line.length())
+				{
+					// a single, isolated vertex
+					continue;
+				}
+				end = skipToken(line, start);
+				int v = edgeList.internVertex(line.substring(start, end), lineNumber);
+
+				if (u != v)
+				{
+					edgeList.addEdge(u, v);
+					edgesOut.writeInt(u);
+					edgesOut.writeInt(v);
+				}
+			}
+		}
+		finally
+		{
+			in.close();
+			edgesOut.close();
+		}
+		return edgeList;
+	}
+
+	/**
+	 * Scatters the staged edges, in both directions, into unsorted neighbor
+	 * lists. The staging area starts with one long per vertex, which holds the
+	 * end of that vertex's neighbor list once every edge has been scattered.
+	 */
+	private static ChunkedMappedBuffer stageAdjacency(EdgeList edgeList, File edgesFile, File stagingFile, int chunkShift) throws IOException
+	{
+		int numVertices = edgeList.numVertices;
+		long rawTargetsPosition = 8L * numVertices;
+		ChunkedMappedBuffer staging;
+
+		// the mapping remains valid after the channel is closed
+		RandomAccessFile randomAccessFile = new RandomAccessFile(stagingFile, "rw");
+		try
+		{
+			staging = ChunkedMappedBuffer.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_WRITE, rawTargetsPosition + 8 * edgeList.numEdges, chunkShift);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+
+		long rawStart = 0;
+		for (int i = 0; i < numVertices; i++)
+		{
+			staging.putLong(8L * i, rawStart);
+			rawStart += edgeList.degrees[i];
+		}
+		edgeList.degrees = null;
+
+		DataInputStream edgesIn = new DataInputStream(new BufferedInputStream(new FileInputStream(edgesFile), 1 << 16));
+		try
+		{
+			for (long e = 0; e < edgeList.numEdges; e++)
+			{
+				int u = edgesIn.readInt();
+				int v = edgesIn.readInt();
+
+				long uPosition = staging.getLong(8L * u);
+				staging.putInt(rawTargetsPosition + 4 * uPosition, v);
+				staging.putLong(8L * u, uPosition + 1);
+
+				long vPosition = staging.getLong(8L * v);
+				staging.putInt(rawTargetsPosition + 4 * vPosition, u);
+				staging.putLong(8L * v, vPosition + 1);
+			}
+		}
+		finally
+		{
+			edgesIn.close();
+		}
+
+		return staging;
+	}
+
+	/**
+	 * Writes the graph file sequentially: a blank header, the sorted and
+	 * deduplicated neighbor lists, the offsets, the optional dictionary and
+	 * finally the real header.
+	 */
+	private static void writeGraphFile(EdgeList edgeList, ChunkedMappedBuffer staging, File file) throws IOException
+	{
+		int numVertices = edgeList.numVertices;
+		long rawTargetsPosition = 8L * numVertices;
+
+		PositionedOutput out = new PositionedOutput(file);
+		long numTargets = 0;
+		long offsetsPosition;
+		long dictionaryPosition = 0;
+		try
+		{
+			out.pad(MappedCsrUndirectedGraph.HEADER_SIZE);
+
+			int[] neighbors = new int[INITIAL_CAPACITY];
+			long rawStart = 0;
+			for (int i = 0; i < numVertices; i++)
+			{
+				long rawEnd = staging.getLong(8L * i);
+				int rawDegree = (int) (rawEnd - rawStart);
+				if (rawDegree > neighbors.length)
+				{
+					neighbors = new int[Math.max(rawDegree, 2 * neighbors.length)];
+				}
+				for (int j = 0; j < rawDegree; j++)
+				{
+					neighbors[j] = staging.getInt(rawTargetsPosition + 4 * (rawStart + j));
+				}
+				Arrays.sort(neighbors, 0, rawDegree);
+
+				// from here on, the staging slot holds the final offset
+				staging.putLong(8L * i, numTargets);
+				for (int j = 0; j < rawDegree; j++)
+				{
+					if (j == 0 || neighbors[j] != neighbors[j - 1])
+					{
+						out.writeInt(neighbors[j]);
+						numTargets++;
+					}
+				}
+				rawStart = rawEnd;
+			}
+			out.pad(MappedCsrUndirectedGraph.align(out.position) - out.position);
+
+			offsetsPosition = out.position;
+			for (int i = 0; i < numVertices; i++)
+			{
+				out.writeLong(staging.getLong(8L * i));
+			}
+			out.writeLong(numTargets);
+
+			if (edgeList.identifiers != null)
+			{
+				dictionaryPosition = out.position;
+				writeDictionary(edgeList.identifiers, out);
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try
+		{
+			randomAccessFile.writeInt(MappedCsrUndirectedGraph.MAGIC);
+			randomAccessFile.writeInt((dictionaryPosition != 0) ? MappedCsrUndirectedGraph.FLAG_DICTIONARY : 0);
+			randomAccessFile.writeLong(numVertices);
+			randomAccessFile.writeLong(numTargets);
+			randomAccessFile.writeLong(MappedCsrUndirectedGraph.HEADER_SIZE);
+			randomAccessFile.writeLong(offsetsPosition);
+			randomAccessFile.writeLong(dictionaryPosition);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+	}
+
+	private static void writeDictionary(List<String> identifiers, PositionedOutput out) throws IOException
+	{
+		int numVertices = identifiers.size();
+		final byte[][] encodedIdentifiers = new byte[numVertices][];
+		for (int i = 0; i < numVertices; i++)
+		{
+			encodedIdentifiers[i] = MappedCsrUndirectedGraph.encodeIdentifier(identifiers.get(i));
+		}
+
+		long identifierOffset = 0;
+		for (int i = 0; i < numVertices; i++)
+		{
+			out.writeLong(identifierOffset);
+			identifierOffset += encodedIdentifiers[i].length;
+		}
+		out.writeLong(identifierOffset);
+
+		Integer[] sortedIndexes = new Integer[numVertices];
+		for (int i = 0; i < numVertices; i++)
+		{
+			sortedIndexes[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(sortedIndexes, new Comparator<Integer>()
+		{
+			public int compare(Integer index1, Integer index2)
+			{
+				byte[] identifier1 = encodedIdentifiers[index1.intValue()];
+				byte[] identifier2 = encodedIdentifiers[index2.intValue()];
+				for (int i = 0, n = Math.min(identifier1.length, identifier2.length); i < n; i++)
+				{
+					int difference = (identifier1[i] & 0xFF) - (identifier2[i] & 0xFF);
+					if (difference != 0)
+					{
+						return difference;
+					}
+				}
+				return identifier1.length - identifier2.length;
+			}
+		});
+		for (int i = 0; i < numVertices; i++)
+		{
+			out.writeInt(sortedIndexes[i].intValue());
+		}
+		out.pad(MappedCsrUndirectedGraph.align(out.position) - out.position);
+
+		for (int i = 0; i < numVertices; i++)
+		{
+			out.write(encodedIdentifiers[i]);
+		}
+	}
+
+	private static int skipSeparators(String line, int position)
+	{
+		while (position < line.length() && isSeparator(line.charAt(position)))
+		{
+			position++;
+		}
+		return position;
+	}
+
+	private static int skipToken(String line, int position)
+	{
+		while (position < line.length() && !isSeparator(line.charAt(position)))
+		{
+			position++;
+		}
+		return position;
+	}
+
+	private static boolean isSeparator(char c)
+	{
+		return c == ',' || Character.isWhitespace(c);
+	}
+
+	private static void deleteTemporaryFile(File file)
+	{
+		if (file.exists() && !file.delete())
+		{
+			// e.g. a platform that cannot delete files that are still mapped
+			file.deleteOnExit();
+		}
+	}
+
+	/**
+	 * The vertices and degrees gathered while reading an edge list.
+	 */
+	private static final class EdgeList
+	{
+		private final File file;
+		private final IdentifierType identifierType;
+		private final Map<String, Integer> indexes;
+		private final List<String> identifiers;
+		private int[] degrees = new int[INITIAL_CAPACITY];
+		private int numVertices;
+		private long numEdges;
+
+		private EdgeList(File file, IdentifierType identifierType)
+		{
+			this.file = file;
+			this.identifierType = identifierType;
+			this.indexes = (identifierType == IdentifierType.STRING) ? new HashMap<String, Integer>() : null;
+			this.identifiers = (identifierType == IdentifierType.STRING) ? new ArrayList<String>() : null;
+		}
+
+		private int internVertex(String identifier, long lineNumber) throws IOException
+		{
+			int index;
+			if (identifierType == IdentifierType.INTEGER)
+			{
+				try
+				{
+					index = Integer.parseInt(identifier);
+				}
+				catch (NumberFormatException nfe)
+				{
+					index = -1;
+				}
+				if (index < 0 || index >= MAX_NUM_VERTICES)
+				{
+					throw new IOException("Line " + lineNumber + " of " + file + " holds the identifier '" + identifier + "', which is not an int in the range [0, " + MAX_NUM_VERTICES + ").");
+				}
+			}
+			else
+			{
+				Integer knownIndex = indexes.get(identifier);
+				if (knownIndex != null)
+				{
+					return knownIndex.intValue();
+				}
+				if (identifiers.size() == MAX_NUM_VERTICES)
+				{
+					throw new IOException("The edge list " + file + " holds more than " + MAX_NUM_VERTICES + " vertices.");
+				}
+				index = identifiers.size();
+				indexes.put(identifier, Integer.valueOf(index));
+				identifiers.add(identifier);
+			}
+
+			if (index >= degrees.length)
+			{
+				int[] grown = new int[(int) Math.min(MAX_NUM_VERTICES, Math.max(index + 1L, 2L * degrees.length))];
+				System.arraycopy(degrees, 0, grown, 0, degrees.length);
+				degrees = grown;
+			}
+			numVertices = Math.max(numVertices, index + 1);
+			return index;
+		}
+
+		private void addEdge(int u, int v) throws IOException
+		{
+			if (degrees[u] == Integer.MAX_VALUE || degrees[v] == Integer.MAX_VALUE)
+			{
+				throw new IOException("A vertex of the edge list " + file + " has more than " + Integer.MAX_VALUE + " edges.");
+			}
+			degrees[u]++;
+			degrees[v]++;
+			numEdges++;
+		}
+	}
+
+	/**
+	 * A buffered output stream that tracks its position with a long, so that
+	 * files beyond 2 GB can be laid out.
+	 */
+	private static final class PositionedOutput
+	{
+		private final DataOutputStream out;
+		private long position;
+
+		private PositionedOutput(File file) throws IOException
+		{
+			this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+		}
+
+		private void writeInt(int value) throws IOException
+		{
+			out.writeInt(value);
+			position += 4;
+		}
+
+		private void writeLong(long value) throws IOException
+		{
+			out.writeLong(value);
+			position += 8;
+		}
+
+		private void write(byte[] bytes) throws IOException
+		{
+			out.write(bytes);
+			position += bytes.length;
+		}
+
+		private void pad(long numBytes) throws IOException
+		{
+			for (long i = 0; i < numBytes; i++)
+			{
+				out.write(0);
+			}
+			position += numBytes;
+		}
+
+		private void close() throws IOException
+		{
+			out.close();
+		}
+	}
+
+}
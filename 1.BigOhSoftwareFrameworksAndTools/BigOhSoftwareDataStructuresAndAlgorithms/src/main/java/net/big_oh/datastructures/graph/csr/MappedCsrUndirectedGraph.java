@@ -0,0 +1,677 @@
+package net.big_oh.datastructures.graph.csr;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An immutable, undirected {@link net.big_oh.datastructures.graph.Graph} that
+ * is read in place from a binary CSR graph file, so that graphs with billions
+ * of edges can be searched without loading them onto the heap. Opening a graph
+ * only reads its header and maps the file; from then on the operating system's
+ * page cache, rather than the garbage collector, decides which parts of the
+ * graph stay in memory. Files larger than 2 GB are mapped in 1 GB chunks.
+ * Graph files are written by {@link EdgeListConverter}.<br/>
+ * <br/>
+ * A graph file holds, in big-endian byte order:
+ * <ol>
+ * <li>A 64 byte header: the int magic number "CSR1", an int of flags (bit 0
+ * is set if the file holds an identifier dictionary), then the longs n (the
+ * vertex count, at most {@link Integer#MAX_VALUE}), m (the length of the
+ * targets section, twice the edge count), the targets position, the offsets
+ * position and the dictionary position, padded with zeros.</li>
+ * <li>The targets section: m ints. The neighbors of vertex i are the ints at
+ * indexes offsets[i] through offsets[i+1]-1, in ascending order and free of
+ * duplicates and self loops. Every edge is stored in both directions.</li>
+ * <li>The offsets section: n+1 longs, ascending from 0 to m.</li>
+ * <li>The optional dictionary section: n+1 longs locating the identifier of
+ * each vertex within the identifier bytes; then n ints listing the vertex
+ * indexes in order of identifier; then, at the next multiple of eight, the
+ * UTF-8 encoded identifiers. Identifiers are ordered by the unsigned,
+ * lexicographic order of their encoded bytes.</li>
+ * </ol>
+ * Every section starts at a multiple of eight bytes. Without a dictionary,
+ * the identifier of each vertex is its Integer index.<br/>
+ * <br/>
+ * Vertices are created on demand (see {@link MappedCsrVertex}), and the
+ * int-index methods ({@link #getDegree(int)},
+ * {@link #getNeighborIndex(int, int)} and {@link #containsEdge(int, int)})
+ * allocate nothing. The graph may be read by any number of threads.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public final class MappedCsrUndirectedGraph implements Graph<MappedCsrVertex>
+{
+
+	static final int MAGIC = 0x43535231; // "CSR1"
+	static final int HEADER_SIZE = 64;
+	static final int FLAG_DICTIONARY = 1;
+	static final Charset IDENTIFIER_CHARSET = Charset.forName("UTF-8");
+
+	private final File file;
+	private final ChunkedMappedBuffer buffer;
+	private final int numVertices;
+	private final long numTargets;
+	private final long targetsPosition;
+	private final long offsetsPosition;
+	private final boolean hasDictionary;
+	private final long identifierOffsetsPosition;
+	private final long sortedIndexesPosition;
+	private final long identifierBytesPosition;
+
+	/**
+	 * Values of the vertices, which few algorithms set.
+	 */
+	private final ConcurrentMap<Integer, Object> values = new ConcurrentHashMap<Integer, Object>();
+
+	private MappedCsrUndirectedGraph(File file, ChunkedMappedBuffer buffer, int numVertices, long numTargets, long targetsPosition, long offsetsPosition, long dictionaryPosition)
+	{
+		this.file = file;
+		this.buffer = buffer;
+		this.numVertices = numVertices;
+		this.numTargets = numTargets;
+		this.targetsPosition = targetsPosition;
+		this.offsetsPosition = offsetsPosition;
+		this.hasDictionary = (dictionaryPosition != 0);
+		this.identifierOffsetsPosition = dictionaryPosition;
+		this.sortedIndexesPosition = dictionaryPosition + 8L * (numVertices + 1);
+		this.identifierBytesPosition = align(sortedIndexesPosition + 4L * numVertices);
+	}
+
+	/**
+	 * Maps a graph file.
+	 * 
+	 * @param file
+	 * @return Returns the graph.
+	 * @throws IOException
+	 *             Thrown if file cannot be read or does not hold a CSR graph.
+	 */
+	public static MappedCsrUndirectedGraph open(File file) throws IOException
+	{
+		return open(file, ChunkedMappedBuffer.DEFAULT_CHUNK_SHIFT);
+	}
+
+	static MappedCsrUndirectedGraph open(File file, int chunkShift) throws IOException
+	{
+		if (file == null)
+		{
+			throw new IllegalArgumentException("The file argument must not be null.");
+		}
+
+		DataInputStream in = new DataInputStream(new FileInputStream(file));
+		int magic;
+		int flags;
+		long numVertices;
+		long numTargets;
+		long targetsPosition;
+		long offsetsPosition;
+		long dictionaryPosition;
+		try
+		{
+			magic = in.readInt();
+			flags = in.readInt();
+			numVertices = in.readLong();
+			numTargets = in.readLong();
+			targetsPosition = in.readLong();
+			offsetsPosition = in.readLong();
+			dictionaryPosition = in.readLong();
+		}
+		finally
+		{
+			in.close();
+		}
+
+		boolean hasDictionary = (flags & FLAG_DICTIONARY) != 0;
+		if (magic != MAGIC || numVertices < 0 || numVertices > Integer.MAX_VALUE || numTargets < 0 || !isSectionPosition(targetsPosition) || !isSectionPosition(offsetsPosition) || (hasDictionary ? !isSectionPosition(dictionaryPosition) : dictionaryPosition != 0))
+		{
+			throw new IOException("The file " + file + " does not hold a CSR graph.");
+		}
+
+		long fileLength = file.length();
+		if (targetsPosition + 4 * numTargets > fileLength || offsetsPosition + 8 * (numVertices + 1) > fileLength || (hasDictionary && dictionaryPosition + 12 * numVertices + 8 > fileLength))
+		{
+			throw new IOException("The CSR graph in " + file + " is truncated.");
+		}
+
+		// the mapping remains valid after the channel is closed
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		ChunkedMappedBuffer buffer;
+		try
+		{
+			buffer = ChunkedMappedBuffer.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_ONLY, fileLength, chunkShift);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+
+		MappedCsrUndirectedGraph graph = new MappedCsrUndirectedGraph(file, buffer, (int) numVertices, numTargets, targetsPosition, offsetsPosition, dictionaryPosition);
+		if (graph.getOffset((int) numVertices) != numTargets || (hasDictionary && graph.identifierBytesPosition + buffer.getLong(graph.identifierOffsetsPosition + 8 * numVertices) > fileLength))
+		{
+			throw new IOException("The CSR graph in " + file + " is truncated.");
+		}
+		return graph;
+	}
+
+	/**
+	 * @return Returns the file from which this graph is read.
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * @return Returns true if the graph file holds a dictionary of vertex
+	 *         identifiers, or false if the identifiers are the vertex indexes.
+	 */
+	public boolean hasIdentifierDictionary()
+	{
+		return hasDictionary;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since a MappedCsrUndirectedGraph is immutable.
+	 */
+	public void addVertex(MappedCsrVertex v) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("A " + getClass().getSimpleName() + " is immutable; use an " + EdgeListConverter.class.getName() + " instead.");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since a MappedCsrUndirectedGraph is immutable.
+	 */
+	public void addEdge(MappedCsrVertex fromVertex, MappedCsrVertex toVertex) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("A " + getClass().getSimpleName() + " is immutable; use an " + EdgeListConverter.class.getName() + " instead.");
+	}
+
+	/**
+	 * @return Returns a read-only view of all vertices in the graph.
+	 */
+	public Set<MappedCsrVertex> getAllVertices()
+	{
+		return new AbstractSet<MappedCsrVertex>()
+		{
+			@Override
+			public int size()
+			{
+				return numVertices;
+			}
+
+			@Override
+			public boolean contains(Object o)
+			{
+				return (o instanceof MappedCsrVertex) && ((MappedCsrVertex) o).getGraph() == MappedCsrUndirectedGraph.this;
+			}
+
+			@Override
+			public Iterator<MappedCsrVertex> iterator()
+			{
+				return getAllVerticesIterator();
+			}
+		};
+	}
+
+	public Iterator<MappedCsrVertex> getAllVerticesIterator()
+	{
+		return new Iterator<MappedCsrVertex>()
+		{
+			private int next = 0;
+
+			public boolean hasNext()
+			{
+				return next < numVertices;
+			}
+
+			public MappedCsrVertex next()
+			{
+				if (next >= numVertices)
+				{
+					throw new NoSuchElementException();
+				}
+				return new MappedCsrVertex(MappedCsrUndirectedGraph.this, next++);
+			}
+
+			public void remove()
+			{
+				throw new UnsupportedOperationException("A " + MappedCsrUndirectedGraph.class.getSimpleName() + " is immutable.");
+			}
+		};
+	}
+
+	public long getVertexCount()
+	{
+		return numVertices;
+	}
+
+	/**
+	 * @return Returns the number of (undirected) edges in the graph.
+	 */
+	public long getEdgeCount()
+	{
+		return numTargets / 2;
+	}
+
+	/**
+	 * @param v
+	 * @return Returns a read-only view of the neighbors of v, backed by the
+	 *         graph file. Any attempt to modify the view throws an
+	 *         {@link UnsupportedOperationException}.
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph.
+	 */
+	public Set<MappedCsrVertex> getAllNeighbors(MappedCsrVertex v) throws IllegalArgumentException
+	{
+		final int index = indexOf(v);
+		return new AbstractSet<MappedCsrVertex>()
+		{
+			@Override
+			public int size()
+			{
+				return getDegree(index);
+			}
+
+			@Override
+			public boolean contains(Object o)
+			{
+				return (o instanceof MappedCsrVertex) && ((MappedCsrVertex) o).getGraph() == MappedCsrUndirectedGraph.this && containsEdge(index, ((MappedCsrVertex) o).getIndex());
+			}
+
+			@Override
+			public Iterator<MappedCsrVertex> iterator()
+			{
+				final MappedNeighborCursor cursor = new MappedNeighborCursor();
+				cursor.reset(index);
+				return new Iterator<MappedCsrVertex>()
+				{
+					public boolean hasNext()
+					{
+						return cursor.hasNext();
+					}
+
+					public MappedCsrVertex next()
+					{
+						return cursor.next();
+					}
+
+					public void remove()
+					{
+						throw new UnsupportedOperationException("A " + MappedCsrUndirectedGraph.class.getSimpleName() + " is immutable.");
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph.
+	 */
+	public int getDegree(MappedCsrVertex v) throws IllegalArgumentException
+	{
+		return getDegree(indexOf(v));
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             Thrown if either vertex is null or does not belong to this
+	 *             graph.
+	 */
+	public boolean containsEdge(MappedCsrVertex fromVertex, MappedCsrVertex toVertex) throws IllegalArgumentException
+	{
+		return containsEdge(indexOf(fromVertex), indexOf(toVertex));
+	}
+
+	/**
+	 * Visits neighbors in ascending order of index.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Thrown if v is null or does not belong to this graph, or if
+	 *             visitor is null.
+	 */
+	public boolean forEachNeighbor(MappedCsrVertex v, NeighborVisitor<? super MappedCsrVertex> visitor) throws IllegalArgumentException
+	{
+		int index = indexOf(v);
+
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		for (long k = getOffset(index), end = getOffset(index + 1); k < end; k++)
+		{
+			if (!visitor.visit(new MappedCsrVertex(this, getTarget(k))))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return Returns a new cursor that traverses neighbors in ascending order
+	 *         of index, and whose reset method throws IllegalArgumentException
+	 *         for vertices of other graphs.
+	 */
+	public NeighborCursor<MappedCsrVertex> newNeighborCursor()
+	{
+		return new MappedNeighborCursor();
+	}
+
+	/**
+	 * @param index
+	 * @return Returns a vertex with the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if index is not a vertex index of this graph.
+	 */
+	public MappedCsrVertex getVertex(int index) throws IndexOutOfBoundsException
+	{
+		checkIndex(index);
+		return new MappedCsrVertex(this, index);
+	}
+
+	/**
+	 * Finds a vertex by identifier, in O(log n) time if the graph file holds
+	 * an identifier dictionary.
+	 * 
+	 * @param identifier
+	 *            A String if the graph file holds an identifier dictionary, or
+	 *            an Integer index otherwise.
+	 * @return Returns the vertex with the given identifier, or null if the
+	 *         graph has no such vertex.
+	 */
+	public MappedCsrVertex getVertex(Object identifier)
+	{
+		if (!hasDictionary)
+		{
+			if (identifier instanceof Integer && ((Integer) identifier).intValue() >= 0 && ((Integer) identifier).intValue() < numVertices)
+			{
+				return new MappedCsrVertex(this, ((Integer) identifier).intValue());
+			}
+			return null;
+		}
+
+		if (!(identifier instanceof String))
+		{
+			return null;
+		}
+
+		byte[] key = encodeIdentifier((String) identifier);
+		int low = 0;
+		int high = numVertices - 1;
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			int index = buffer.getInt(sortedIndexesPosition + 4L * mid);
+			int comparison = compareIdentifier(index, key);
+			if (comparison < 0)
+			{
+				low = mid + 1;
+			}
+			else if (comparison > 0)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return new MappedCsrVertex(this, index);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param index
+	 * @return Returns the number of neighbors of the vertex with the given
+	 *         index.
+	 */
+	public int getDegree(int index)
+	{
+		checkIndex(index);
+		return (int) (getOffset(index + 1) - getOffset(index));
+	}
+
+	/**
+	 * @param index
+	 * @param i
+	 * @return Returns the index of the i-th neighbor, in ascending order of
+	 *         index, of the vertex with the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             Thrown if i is negative or not less than the vertex's
+	 *             degree.
+	 */
+	public int getNeighborIndex(int index, int i) throws IndexOutOfBoundsException
+	{
+		int degree = getDegree(index);
+		if (i < 0 || i >= degree)
+		{
+			throw new IndexOutOfBoundsException("Index: " + i + ", Degree: " + degree);
+		}
+		return getTarget(getOffset(index) + i);
+	}
+
+	/**
+	 * @param fromIndex
+	 * @param toIndex
+	 * @return Returns true if the vertices with the given indexes are
+	 *         neighbors. Runs in O(log d) time for the smaller degree d of the
+	 *         two vertices.
+	 */
+	public boolean containsEdge(int fromIndex, int toIndex)
+	{
+		// search the shorter of the two sorted neighbor lists
+		if (getDegree(fromIndex) > getDegree(toIndex))
+		{
+			int swap = fromIndex;
+			fromIndex = toIndex;
+			toIndex = swap;
+		}
+
+		long low = getOffset(fromIndex);
+		long high = getOffset(fromIndex + 1) - 1;
+		while (low <= high)
+		{
+			long mid = (low + high) >>> 1;
+			int target = getTarget(mid);
+			if (target < toIndex)
+			{
+				low = mid + 1;
+			}
+			else if (target > toIndex)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	Object getIdentifier(int index)
+	{
+		if (!hasDictionary)
+		{
+			return Integer.valueOf(index);
+		}
+
+		long start = buffer.getLong(identifierOffsetsPosition + 8L * index);
+		byte[] bytes = new byte[(int) (buffer.getLong(identifierOffsetsPosition + 8L * (index + 1)) - start)];
+		buffer.get(identifierBytesPosition + start, bytes);
+		return IDENTIFIER_CHARSET.decode(ByteBuffer.wrap(bytes)).toString();
+	}
+
+	Object getValue(int index)
+	{
+		return values.get(Integer.valueOf(index));
+	}
+
+	void setValue(int index, Object value)
+	{
+		if (value == null)
+		{
+			values.remove(Integer.valueOf(index));
+		}
+		else
+		{
+			values.put(Integer.valueOf(index), value);
+		}
+	}
+
+	/**
+	 * @return Returns the UTF-8 encoding of identifier.
+	 */
+	static byte[] encodeIdentifier(String identifier)
+	{
+		ByteBuffer encoded = IDENTIFIER_CHARSET.encode(identifier);
+		byte[] bytes = new byte[encoded.remaining()];
+		encoded.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * @return Returns the position, rounded up to a multiple of eight.
+	 */
+	static long align(long position)
+	{
+		return (position + 7) & ~7L;
+	}
+
+	private static boolean isSectionPosition(long position)
+	{
+		return position >= HEADER_SIZE && (position & 7) == 0;
+	}
+
+	private long getOffset(int index)
+	{
+		return buffer.getLong(offsetsPosition + 8L * index);
+	}
+
+	private int getTarget(long k)
+	{
+		return buffer.getInt(targetsPosition + 4L * k);
+	}
+
+	/**
+	 * Compares the identifier of the vertex with the given index to the
+	 * encoded key, byte by byte and without copying the identifier.
+	 */
+	private int compareIdentifier(int index, byte[] key)
+	{
+		long start = identifierBytesPosition + buffer.getLong(identifierOffsetsPosition + 8L * index);
+		int length = (int) (identifierBytesPosition + buffer.getLong(identifierOffsetsPosition + 8L * (index + 1)) - start);
+		for (int i = 0, n = Math.min(length, key.length); i < n; i++)
+		{
+			int difference = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+			if (difference != 0)
+			{
+				return difference;
+			}
+		}
+		return length - key.length;
+	}
+
+	private void checkIndex(int index) throws IndexOutOfBoundsException
+	{
+		if (index < 0 || index >= numVertices)
+		{
+			throw new IndexOutOfBoundsException("Index: " + index + ", Vertices: " + numVertices);
+		}
+	}
+
+	private int indexOf(MappedCsrVertex v) throws IllegalArgumentException
+	{
+		if (v == null)
+		{
+			throw new IllegalArgumentException("The Vertex argument must not be null.");
+		}
+		if (v.getGraph() != this)
+		{
+			throw new IllegalArgumentException("The Vertex argument must belong to this graph.");
+		}
+		return v.getIndex();
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "[file=" + file + ", vertices=" + getVertexCount() + ", edges=" + getEdgeCount() + "]";
+	}
+
+	private final class MappedNeighborCursor implements NeighborCursor<MappedCsrVertex>
+	{
+		private long next;
+		private long end;
+
+		public void reset(MappedCsrVertex v) throws IllegalArgumentException
+		{
+			reset(indexOf(v));
+		}
+
+		private void reset(int index)
+		{
+			next = getOffset(index);
+			end = getOffset(index + 1);
+		}
+
+		public boolean hasNext()
+		{
+			return next < end;
+		}
+
+		public MappedCsrVertex next()
+		{
+			if (next >= end)
+			{
+				throw new NoSuchElementException();
+			}
+			return new MappedCsrVertex(MappedCsrUndirectedGraph.this, getTarget(next++));
+		}
+	}
+
+}
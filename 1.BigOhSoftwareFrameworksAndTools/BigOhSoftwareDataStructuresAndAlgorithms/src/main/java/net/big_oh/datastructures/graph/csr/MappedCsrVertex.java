@@ -0,0 +1,127 @@
+package net.big_oh.datastructures.graph.csr;
+
+import net.big_oh.datastructures.graph.Vertex;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The {@link net.big_oh.datastructures.graph.Vertex} implementation of
+ * {@link MappedCsrUndirectedGraph}.<br/>
+ * <br/>
+ * Since a mapped graph may have far more vertices than fit on the heap,
+ * vertices are lightweight handles created on demand, and two handles are
+ * equal if they refer to the same index of the same graph. A vertex's value is
+ * held by its graph, so it is shared by all handles to that vertex. The
+ * identifier is read from the graph file and cannot be changed.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public final class MappedCsrVertex implements Vertex
+{
+
+	private final MappedCsrUndirectedGraph graph;
+	private final int index;
+	private Object identifier;
+
+	MappedCsrVertex(MappedCsrUndirectedGraph graph, int index)
+	{
+		this.graph = graph;
+		this.index = index;
+	}
+
+	MappedCsrUndirectedGraph getGraph()
+	{
+		return graph;
+	}
+
+	/**
+	 * @return Returns this vertex's index within its graph, in the range [0,
+	 *         vertex count).
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+
+	public Object getIdentifier()
+	{
+		// decoded on first use, since most handles never need it
+		if (identifier == null)
+		{
+			identifier = graph.getIdentifier(index);
+		}
+		return identifier;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException
+	 *             Always thrown, since identifiers are stored in the graph
+	 *             file.
+	 */
+	public void setIdentifier(Object id) throws UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException("The identifier of a " + getClass().getSimpleName() + " is read only.");
+	}
+
+	public Object getValue()
+	{
+		return graph.getValue(index);
+	}
+
+	public void setValue(Object value)
+	{
+		graph.setValue(index, value);
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (!(obj instanceof MappedCsrVertex))
+		{
+			return false;
+		}
+		MappedCsrVertex other = (MappedCsrVertex) obj;
+		return index == other.index && graph == other.graph;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return index;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.valueOf(getIdentifier());
+	}
+
+}
@@ -4,9 +4,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
 import edu.uci.ics.jung.graph.impl.SparseGraph;
 import edu.uci.ics.jung.graph.impl.SparseVertex;
 import edu.uci.ics.jung.graph.impl.UndirectedSparseEdge;
@@ -54,10 +57,18 @@ public class JungUndirectedGraph implements Graph<JungVertex>
 
 	private final Map<SparseVertex, JungVertex> vertices;
 
+	/**
+	 * An adjacency index maintained alongside impl, so that neighborhoods can
+	 * be read without asking JUNG to assemble fresh predecessor and successor
+	 * sets.
+	 */
+	private final Map<SparseVertex, Neighborhood> neighborhoods;
+
 	public JungUndirectedGraph()
 	{
 		this.impl = new SparseGraph();
 		this.vertices = new HashMap<SparseVertex, JungVertex>();
+		this.neighborhoods = new HashMap<SparseVertex, Neighborhood>();
 	}
 
 	public void addVertex(JungVertex v) throws IllegalArgumentException
@@ -69,6 +80,10 @@ public class JungUndirectedGraph implements Graph<JungVertex>
 
 		impl.addVertex(v.getImpl());
 		vertices.put(v.getImpl(), v);
+		if (!neighborhoods.containsKey(v.getImpl()))
+		{
+			neighborhoods.put(v.getImpl(), new Neighborhood());
+		}
 	}
 
 	public void addEdge(JungVertex fromVertex, JungVertex toVertex) throws IllegalArgumentException
@@ -83,8 +98,28 @@ public class JungUndirectedGraph implements Graph<JungVertex>
 			throw new IllegalArgumentException("The toVertex argument must not be null.");
 		}
 
+		Neighborhood fromNeighborhood = neighborhoods.get(fromVertex.getImpl());
+		if (fromNeighborhood == null)
+		{
+			throw new IllegalArgumentException("The fromVertex argument must be a member of this graph.");
+		}
+
+		Neighborhood toNeighborhood = neighborhoods.get(toVertex.getImpl());
+		if (toNeighborhood == null)
+		{
+			throw new IllegalArgumentException("The toVertex argument must be a member of this graph.");
+		}
+
 		// Add a single, undirected edge
 		impl.addEdge(new UndirectedSparseEdge(fromVertex.getImpl(), toVertex.getImpl()));
+
+		// index the neighbor relationship, which self loops and parallel edges
+		// do not change
+		if (fromVertex.getImpl() != toVertex.getImpl() && !fromNeighborhood.contains(toVertex))
+		{
+			fromNeighborhood.add(toVertex);
+			toNeighborhood.add(fromVertex);
+		}
 	}
 
 	@Override
@@ -105,26 +140,70 @@ public class JungUndirectedGraph implements Graph<JungVertex>
 		return impl.hashCode();
 	}
 
-	@SuppressWarnings("unchecked")
 	public Set<JungVertex> getAllNeighbors(JungVertex v)
 	{
-		Set<SparseVertex> predecessors = v.getImpl().getPredecessors();
-		Set<SparseVertex> successors = v.getImpl().getSuccessors();
+		Neighborhood neighborhood = getNeighborhood(v, "v");
+
+		Set<JungVertex> neighbors = new HashSet<JungVertex>(Math.max(16, (int) (neighborhood.degree / 0.75f) + 1));
+		for (int i = 0; i < neighborhood.degree; i++)
+		{
+			neighbors.add(neighborhood.neighbors[i]);
+		}
+
+		return neighbors;
+	}
+
+	public int getDegree(JungVertex v) throws IllegalArgumentException
+	{
+		return getNeighborhood(v, "v").degree;
+	}
 
-		Set<SparseVertex> successorsAndPredecessors = new HashSet<SparseVertex>(predecessors.size() + successors.size());
-		successorsAndPredecessors.addAll(successors);
-		successorsAndPredecessors.addAll(predecessors);
+	public boolean containsEdge(JungVertex fromVertex, JungVertex toVertex) throws IllegalArgumentException
+	{
+		Neighborhood fromNeighborhood = getNeighborhood(fromVertex, "fromVertex");
+		Neighborhood toNeighborhood = getNeighborhood(toVertex, "toVertex");
 
-		Set<JungVertex> neighbors = new HashSet<JungVertex>(successorsAndPredecessors.size());
+		// probe the smaller of the two neighborhoods
+		return (fromNeighborhood.degree <= toNeighborhood.degree) ? fromNeighborhood.contains(toVertex) : toNeighborhood.contains(fromVertex);
+	}
 
-		for (SparseVertex neighborVertex : successorsAndPredecessors)
+	public boolean forEachNeighbor(JungVertex v, NeighborVisitor<? super JungVertex> visitor) throws IllegalArgumentException
+	{
+		Neighborhood neighborhood = getNeighborhood(v, "v");
+
+		if (visitor == null)
+		{
+			throw new IllegalArgumentException("The visitor argument must not be null.");
+		}
+
+		for (int i = 0; i < neighborhood.degree; i++)
 		{
-			neighbors.add(vertices.get(neighborVertex));
+			if (!visitor.visit(neighborhood.neighbors[i]))
+			{
+				return false;
+			}
 		}
+		return true;
+	}
 
-		neighbors.remove(v);
+	public NeighborCursor<JungVertex> newNeighborCursor()
+	{
+		return new JungNeighborCursor();
+	}
 
-		return neighbors;
+	/**
+	 * @return Returns the neighborhood of v, which is empty if v is not a
+	 *         member of this graph.
+	 */
+	private Neighborhood getNeighborhood(JungVertex v, String argumentName) throws IllegalArgumentException
+	{
+		if (v == null)
+		{
+			throw new IllegalArgumentException("The " + argumentName + " argument must not be null.");
+		}
+
+		Neighborhood neighborhood = neighborhoods.get(v.getImpl());
+		return (neighborhood == null) ? Neighborhood.EMPTY : neighborhood;
 	}
 
 	public Set<JungVertex> getAllVertices()
@@ -142,4 +221,87 @@ public class JungUndirectedGraph implements Graph<JungVertex>
 		return vertices.size();
 	}
 
+	/**
+	 * The distinct neighbors of one vertex, in the order their edges were
+	 * added. Membership is tested by a linear scan while the neighborhood is
+	 * small, and through a hash index once it grows.
+	 */
+	private static final class Neighborhood
+	{
+		private static final Neighborhood EMPTY = new Neighborhood();
+
+		private static final int INDEX_THRESHOLD = 16;
+
+		private JungVertex[] neighbors = new JungVertex[0];
+		private int degree;
+		private Set<SparseVertex> index;
+
+		private boolean contains(JungVertex v)
+		{
+			if (index != null)
+			{
+				return index.contains(v.getImpl());
+			}
+
+			for (int i = 0; i < degree; i++)
+			{
+				if (neighbors[i].getImpl() == v.getImpl())
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void add(JungVertex v)
+		{
+			if (degree == neighbors.length)
+			{
+				JungVertex[] grown = new JungVertex[Math.max(4, degree * 2)];
+				System.arraycopy(neighbors, 0, grown, 0, degree);
+				neighbors = grown;
+			}
+			neighbors[degree++] = v;
+
+			if (index != null)
+			{
+				index.add(v.getImpl());
+			}
+			else if (degree > INDEX_THRESHOLD)
+			{
+				index = new HashSet<SparseVertex>();
+				for (int i = 0; i < degree; i++)
+				{
+					index.add(neighbors[i].getImpl());
+				}
+			}
+		}
+	}
+
+	private final class JungNeighborCursor implements NeighborCursor<JungVertex>
+	{
+		private Neighborhood neighborhood = Neighborhood.EMPTY;
+		private int next;
+
+		public void reset(JungVertex v) throws IllegalArgumentException
+		{
+			neighborhood = getNeighborhood(v, "v");
+			next = 0;
+		}
+
+		public boolean hasNext()
+		{
+			return next < neighborhood.degree;
+		}
+
+		public JungVertex next()
+		{
+			if (next >= neighborhood.degree)
+			{
+				throw new NoSuchElementException();
+			}
+			return neighborhood.neighbors[next++];
+		}
+	}
+
 }
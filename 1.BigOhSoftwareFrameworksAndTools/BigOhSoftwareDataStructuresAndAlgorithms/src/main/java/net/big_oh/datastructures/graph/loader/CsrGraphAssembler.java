@@ -0,0 +1,68 @@
+package net.big_oh.datastructures.graph.loader;
+
+import net.big_oh.datastructures.graph.csr.CsrUndirectedGraph;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Assembles loaded graphs as {@link CsrUndirectedGraph}s. A vertex's index in
+ * the CSR graph equals its id in the loader.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class CsrGraphAssembler implements GraphAssembler<CsrUndirectedGraph>
+{
+
+	private CsrUndirectedGraph.Builder builder;
+
+	public void begin(int numVertices, long numEdges)
+	{
+		builder = new CsrUndirectedGraph.Builder();
+	}
+
+	public void addVertex(int id, String identifier) throws IllegalStateException
+	{
+		builder.addVertex(identifier);
+		if (builder.getNumVertices() != id + 1)
+		{
+			throw new IllegalStateException("Vertices must be added once each, in ascending order of id.");
+		}
+	}
+
+	public void addEdge(int fromId, int toId)
+	{
+		builder.addEdge(fromId, toId);
+	}
+
+	public CsrUndirectedGraph finish()
+	{
+		CsrUndirectedGraph graph = builder.build();
+		builder = null;
+		return graph;
+	}
+
+}
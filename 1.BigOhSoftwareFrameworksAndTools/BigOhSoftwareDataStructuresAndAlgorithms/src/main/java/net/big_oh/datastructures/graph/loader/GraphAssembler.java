@@ -0,0 +1,71 @@
+package net.big_oh.datastructures.graph.loader;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Builds a graph from the densely numbered vertices and edges gathered by a
+ * {@link ParallelGraphLoader}. The loader first calls
+ * {@link #begin(int, long)}, then {@link #addVertex(int, String)} once for
+ * every vertex in ascending order of id, then
+ * {@link #addEdge(int, int)} once for every edge read (duplicates and self
+ * loops included), and finally {@link #finish()}. All calls come from the same
+ * thread.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <G>
+ * @see CsrGraphAssembler
+ * @see JungGraphAssembler
+ */
+public interface GraphAssembler<G>
+{
+	/**
+	 * Starts a new graph.
+	 * 
+	 * @param numVertices
+	 * @param numEdges
+	 */
+	public void begin(int numVertices, long numEdges);
+
+	/**
+	 * @param id
+	 *            The vertex's dense id, in the range [0, numVertices).
+	 * @param identifier
+	 *            The vertex's identifier as it appears in the file.
+	 */
+	public void addVertex(int id, String identifier);
+
+	/**
+	 * @param fromId
+	 * @param toId
+	 */
+	public void addEdge(int fromId, int toId);
+
+	/**
+	 * @return Returns the assembled graph.
+	 */
+	public G finish();
+}
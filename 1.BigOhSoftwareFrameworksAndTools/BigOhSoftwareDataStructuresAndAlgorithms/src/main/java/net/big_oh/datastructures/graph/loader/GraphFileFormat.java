@@ -0,0 +1,52 @@
+package net.big_oh.datastructures.graph.loader;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The text formats read by {@link ParallelGraphLoader}. Files are UTF-8
+ * encoded. Within a line, vertex identifiers are separated by spaces, tabs or
+ * commas. Blank lines and lines starting with '#' or '%' are skipped, and
+ * lines may end with either "\n" or "\r\n".
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public enum GraphFileFormat
+{
+	/**
+	 * Each line names the two endpoints of an edge; further columns (e.g.
+	 * weights) are ignored. A line naming a single vertex adds that vertex
+	 * without edges.
+	 */
+	EDGE_LIST,
+
+	/**
+	 * Each line names a vertex followed by its neighbors, adding an edge from
+	 * the vertex to each neighbor. A line naming a single vertex adds that
+	 * vertex without edges.
+	 */
+	ADJACENCY_LIST
+}
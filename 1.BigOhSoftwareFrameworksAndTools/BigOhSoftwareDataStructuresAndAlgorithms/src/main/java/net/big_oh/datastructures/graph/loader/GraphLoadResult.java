@@ -0,0 +1,144 @@
+package net.big_oh.datastructures.graph.loader;
+
+import java.io.File;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Encapsulates the results of a {@link ParallelGraphLoader} run: the graph,
+ * and the sizes and timings needed to judge the loader's throughput.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ * @param <G>
+ */
+public class GraphLoadResult<G>
+{
+
+	private final G graph;
+	private final File file;
+	private final long numBytes;
+	private final int numVertices;
+	private final long numEdges;
+	private final int numWorkers;
+	private final long parseNanos;
+	private final long assemblyNanos;
+
+	GraphLoadResult(G graph, File file, long numBytes, int numVertices, long numEdges, int numWorkers, long parseNanos, long assemblyNanos)
+	{
+		this.graph = graph;
+		this.file = file;
+		this.numBytes = numBytes;
+		this.numVertices = numVertices;
+		this.numEdges = numEdges;
+		this.numWorkers = numWorkers;
+		this.parseNanos = parseNanos;
+		this.assemblyNanos = assemblyNanos;
+	}
+
+	/**
+	 * @return Returns the loaded graph.
+	 */
+	public G getGraph()
+	{
+		return graph;
+	}
+
+	/**
+	 * @return Returns the file that was loaded.
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * @return Returns the size of the file, in bytes.
+	 */
+	public long getNumBytes()
+	{
+		return numBytes;
+	}
+
+	/**
+	 * @return Returns the number of distinct vertices read.
+	 */
+	public int getNumVertices()
+	{
+		return numVertices;
+	}
+
+	/**
+	 * @return Returns the number of edges read, including duplicates and self
+	 *         loops.
+	 */
+	public long getNumEdges()
+	{
+		return numEdges;
+	}
+
+	/**
+	 * @return Returns the number of workers that parsed the file.
+	 */
+	public int getNumWorkers()
+	{
+		return numWorkers;
+	}
+
+	/**
+	 * @return Returns the time spent parsing the file and interning its
+	 *         identifiers, in milliseconds.
+	 */
+	public long getParseMillis()
+	{
+		return parseNanos / 1000000L;
+	}
+
+	/**
+	 * @return Returns the time spent in the final pass that assembled the
+	 *         graph, in milliseconds.
+	 */
+	public long getAssemblyMillis()
+	{
+		return assemblyNanos / 1000000L;
+	}
+
+	/**
+	 * @return Returns the parsing throughput, in megabytes (10^6 bytes) per
+	 *         second.
+	 */
+	public double getParseThroughput()
+	{
+		return (parseNanos == 0) ? 0.0 : numBytes * 1000.0 / parseNanos;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("Parsed %.1f MB in %d ms (%.1f MB/s) with %d workers, finding %d vertices and %d edges; assembled the graph in %d ms.", numBytes / 1e6, getParseMillis(), getParseThroughput(), numWorkers, numVertices, numEdges, getAssemblyMillis());
+	}
+
+}
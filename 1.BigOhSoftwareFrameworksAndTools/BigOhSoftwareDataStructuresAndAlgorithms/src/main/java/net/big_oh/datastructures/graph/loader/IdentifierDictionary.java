@@ -0,0 +1,259 @@
+package net.big_oh.datastructures.graph.loader;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Interns vertex identifiers, given as UTF-8 bytes, into dense ids for the
+ * workers of a {@link ParallelGraphLoader}.<br/>
+ * <br/>
+ * The dictionary is split by hash into shards, each guarded by its own lock.
+ * A shard is an open-addressing table whose slots hold a key's hash, id and
+ * the position of its bytes in the shard's byte arena, so that a lookup costs
+ * about two cache misses and builds no objects. Identifiers are decoded into
+ * Strings only once, by {@link #toIdentifiers()}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+final class IdentifierDictionary
+{
+
+	private static final int SHARD_BITS = 6;
+	private static final int NUM_SHARDS = 1 << SHARD_BITS;
+
+	/** ints per slot: hash, id + 1 (zero if empty), key offset, key length */
+	private static final int SLOT_SIZE = 4;
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int MAX_CAPACITY = 1 << 28;
+
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private final Shard[] shards = new Shard[NUM_SHARDS];
+	private final AtomicInteger nextId = new AtomicInteger();
+	private final int maxNumIds;
+
+	/**
+	 * @param maxNumIds
+	 *            The number of ids after which intern(..) fails.
+	 */
+	IdentifierDictionary(int maxNumIds)
+	{
+		this.maxNumIds = maxNumIds;
+		for (int i = 0; i < NUM_SHARDS; i++)
+		{
+			shards[i] = new Shard();
+		}
+	}
+
+	/**
+	 * @return Returns the id of the identifier encoded in bytes[from, to),
+	 *         assigning the next free id if the identifier is new.
+	 * @throws IllegalStateException
+	 *             Thrown if a new identifier would exceed the maximum number of
+	 *             ids.
+	 */
+	int intern(byte[] bytes, int from, int to) throws IllegalStateException
+	{
+		int hash = hash(bytes, from, to);
+		Shard shard = shards[hash >>> (32 - SHARD_BITS)];
+		synchronized (shard)
+		{
+			return shard.intern(hash, bytes, from, to);
+		}
+	}
+
+	/**
+	 * @return Returns the number of ids assigned so far.
+	 */
+	int size()
+	{
+		return nextId.get();
+	}
+
+	/**
+	 * Must not be called while other threads intern identifiers.
+	 * 
+	 * @return Returns the identifiers, indexed by id.
+	 */
+	String[] toIdentifiers()
+	{
+		String[] identifiers = new String[nextId.get()];
+		for (Shard shard : shards)
+		{
+			synchronized (shard)
+			{
+				for (int base = 0; base < shard.slots.length; base += SLOT_SIZE)
+				{
+					int idPlusOne = shard.slots[base + 1];
+					if (idPlusOne != 0)
+					{
+						identifiers[idPlusOne - 1] = decode(shard.keys, shard.slots[base + 2], shard.slots[base + 3]);
+					}
+				}
+			}
+		}
+		return identifiers;
+	}
+
+	private static int hash(byte[] bytes, int from, int to)
+	{
+		// FNV-1a, then the MurmurHash3 finalizer to spread the shard bits
+		int hash = 0x811C9DC5;
+		for (int i = from; i < to; i++)
+		{
+			hash = (hash ^ (bytes[i] & 0xFF)) * 0x01000193;
+		}
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	private static String decode(byte[] bytes, int offset, int length)
+	{
+		try
+		{
+			return new String(bytes, offset, length, "UTF-8");
+		}
+		catch (UnsupportedEncodingException uee)
+		{
+			// every JVM supports UTF-8
+			throw new RuntimeException(uee);
+		}
+	}
+
+	private final class Shard
+	{
+		private int[] slots = new int[INITIAL_CAPACITY * SLOT_SIZE];
+		private int numEntries;
+
+		/** the bytes of every key in this shard, back to back */
+		private byte[] keys = new byte[INITIAL_CAPACITY * 8];
+		private int keysLength;
+
+		private int intern(int hash, byte[] bytes, int from, int to)
+		{
+			int length = to - from;
+			int mask = slots.length / SLOT_SIZE - 1;
+			for (int slot = hash & mask;; slot = (slot + 1) & mask)
+			{
+				int base = slot * SLOT_SIZE;
+				int idPlusOne = slots[base + 1];
+				if (idPlusOne == 0)
+				{
+					if (2 * (numEntries + 1) > mask + 1)
+					{
+						grow();
+						return intern(hash, bytes, from, to);
+					}
+					return insert(base, hash, bytes, from, length);
+				}
+				if (slots[base] == hash && slots[base + 3] == length && matches(slots[base + 2], bytes, from, length))
+				{
+					return idPlusOne - 1;
+				}
+			}
+		}
+
+		private boolean matches(int offset, byte[] bytes, int from, int length)
+		{
+			for (int i = 0; i < length; i++)
+			{
+				if (keys[offset + i] != bytes[from + i])
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int insert(int base, int hash, byte[] bytes, int from, int length)
+		{
+			int id = nextId.getAndIncrement();
+			if (id >= maxNumIds)
+			{
+				throw new IllegalStateException("A graph cannot hold more than " + maxNumIds + " vertices.");
+			}
+
+			if (keys.length - keysLength < length)
+			{
+				long grownLength = Math.max(2L * keys.length, (long) keysLength + length);
+				if (grownLength > MAX_ARRAY_SIZE)
+				{
+					if ((long) keysLength + length > MAX_ARRAY_SIZE)
+					{
+						throw new IllegalStateException("The identifiers exceed the capacity of the dictionary.");
+					}
+					grownLength = MAX_ARRAY_SIZE;
+				}
+				byte[] grown = new byte[(int) grownLength];
+				System.arraycopy(keys, 0, grown, 0, keysLength);
+				keys = grown;
+			}
+			System.arraycopy(bytes, from, keys, keysLength, length);
+
+			slots[base] = hash;
+			slots[base + 1] = id + 1;
+			slots[base + 2] = keysLength;
+			slots[base + 3] = length;
+			keysLength += length;
+			numEntries++;
+
+			return id;
+		}
+
+		private void grow()
+		{
+			int capacity = slots.length / SLOT_SIZE;
+			if (capacity == MAX_CAPACITY)
+			{
+				throw new IllegalStateException("The identifiers exceed the capacity of the dictionary.");
+			}
+
+			int[] oldSlots = slots;
+			slots = new int[2 * capacity * SLOT_SIZE];
+			int mask = 2 * capacity - 1;
+			for (int oldBase = 0; oldBase < oldSlots.length; oldBase += SLOT_SIZE)
+			{
+				if (oldSlots[oldBase + 1] != 0)
+				{
+					int slot = oldSlots[oldBase] & mask;
+					while (slots[slot * SLOT_SIZE + 1] != 0)
+					{
+						slot = (slot + 1) & mask;
+					}
+					System.arraycopy(oldSlots, oldBase, slots, slot * SLOT_SIZE, SLOT_SIZE);
+				}
+			}
+		}
+	}
+
+}
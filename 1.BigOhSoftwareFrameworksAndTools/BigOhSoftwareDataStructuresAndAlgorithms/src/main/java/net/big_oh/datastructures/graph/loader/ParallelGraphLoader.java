@@ -0,0 +1,468 @@
+package net.big_oh.datastructures.graph.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Loads large edge-list and adjacency-list files (see {@link GraphFileFormat})
+ * into graphs, parsing with several threads.<br/>
+ * <br/>
+ * The file is divided into byte ranges, which the workers claim one at a time
+ * and read through positional {@link FileChannel} reads. A range owns the
+ * lines that start within it, so a worker finishes the last line of its range
+ * even if that line extends into the next range, and the next worker skips it.
+ * Vertex identifiers are interned straight from the read bytes into dense ids
+ * through a sharded dictionary shared by all workers, and every
+ * worker collects its edges as pairs of ids in a private array.<br/>
+ * <br/>
+ * Once all ranges are parsed, a {@link GraphAssembler} builds the graph in a
+ * single pass over the vertices and edges. Ids are assigned in whatever order
+ * the workers first meet the identifiers, so they vary from run to run. The
+ * parsing throughput of every load is logged and reported in the returned
+ * {@link GraphLoadResult}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class ParallelGraphLoader
+{
+
+	private static final Log logger = LogFactory.getLog(ParallelGraphLoader.class);
+
+	/**
+	 * The file is divided into about this many ranges per worker, so that
+	 * workers that finish early can claim the remaining ranges.
+	 */
+	private static final int RANGES_PER_WORKER = 4;
+
+	private static final int DEFAULT_MIN_RANGE_SIZE = 1 << 20;
+	private static final int MAX_RANGE_SIZE = 64 << 20;
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private final int numWorkers;
+	private final int minRangeSize;
+	private final int bufferSize;
+
+	/**
+	 * Builds a loader that uses one worker per available processor.
+	 */
+	public ParallelGraphLoader()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param numWorkers
+	 * @throws IllegalArgumentException
+	 *             Thrown if numWorkers is less than one.
+	 */
+	public ParallelGraphLoader(int numWorkers) throws IllegalArgumentException
+	{
+		this(numWorkers, DEFAULT_MIN_RANGE_SIZE, DEFAULT_BUFFER_SIZE);
+	}
+
+	ParallelGraphLoader(int numWorkers, int minRangeSize, int bufferSize) throws IllegalArgumentException
+	{
+		if (numWorkers < 1)
+		{
+			throw new IllegalArgumentException("The numWorkers argument must not be less than one.");
+		}
+
+		this.numWorkers = numWorkers;
+		this.minRangeSize = minRangeSize;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Loads a graph file.
+	 * 
+	 * @param file
+	 * @param format
+	 * @param assembler
+	 * @return Returns the loaded graph and the statistics of its loading.
+	 * @throws IOException
+	 *             Thrown if the file cannot be read.
+	 */
+	public <G> GraphLoadResult<G> load(File file, GraphFileFormat format, GraphAssembler<G> assembler) throws IOException
+	{
+		if (file == null)
+		{
+			throw new IllegalArgumentException("The file argument must not be null.");
+		}
+		if (format == null)
+		{
+			throw new IllegalArgumentException("The format argument must not be null.");
+		}
+		if (assembler == null)
+		{
+			throw new IllegalArgumentException("The assembler argument must not be null.");
+		}
+
+		long parseStart = System.nanoTime();
+		LoadContext context;
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try
+		{
+			context = new LoadContext(randomAccessFile.getChannel(), format);
+			parse(context);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+		long parseNanos = System.nanoTime() - parseStart;
+
+		long assemblyStart = System.nanoTime();
+		String[] identifiers = context.dictionary.toIdentifiers();
+		long numEdges = 0;
+		for (Worker worker : context.workers)
+		{
+			numEdges += worker.numEndpoints / 2;
+		}
+
+		assembler.begin(identifiers.length, numEdges);
+		for (int id = 0; id < identifiers.length; id++)
+		{
+			assembler.addVertex(id, identifiers[id]);
+		}
+		for (Worker worker : context.workers)
+		{
+			int[] endpoints = worker.endpoints;
+			for (int i = 0; i < worker.numEndpoints; i += 2)
+			{
+				assembler.addEdge(endpoints[i], endpoints[i + 1]);
+			}
+			worker.endpoints = null;
+		}
+		G graph = assembler.finish();
+		long assemblyNanos = System.nanoTime() - assemblyStart;
+
+		GraphLoadResult<G> result = new GraphLoadResult<G>(graph, file, context.size, identifiers.length, numEdges, context.workers.size(), parseNanos, assemblyNanos);
+		logger.info("Loaded " + file + ": " + result);
+		return result;
+	}
+
+	/**
+	 * Runs the workers until every range has been parsed.
+	 */
+	private void parse(LoadContext context) throws IOException
+	{
+		Thread[] threads = new Thread[context.workers.size()];
+		for (int i = 0; i < threads.length; i++)
+		{
+			threads[i] = new Thread(context.workers.get(i), getClass().getSimpleName() + "-worker-" + i);
+			threads[i].start();
+		}
+
+		try
+		{
+			for (Thread thread : threads)
+			{
+				thread.join();
+			}
+		}
+		catch (InterruptedException ie)
+		{
+			context.failure.compareAndSet(null, ie);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the graph loader workers to finish.", ie);
+		}
+
+		Throwable failure = context.failure.get();
+		if (failure instanceof IOException)
+		{
+			throw (IOException) failure;
+		}
+		if (failure != null)
+		{
+			throw new RuntimeException("A graph loader worker failed.", failure);
+		}
+	}
+
+	/**
+	 * The state shared by all workers of a single load(..) invocation.
+	 */
+	private final class LoadContext
+	{
+		private final FileChannel channel;
+		private final long size;
+		private final GraphFileFormat format;
+		private final long rangeSize;
+		private final int numRanges;
+
+		private final List<Worker> workers;
+
+		/** The next range to claim */
+		private final AtomicInteger nextRange = new AtomicInteger();
+
+		/** The identifiers met so far */
+		private final IdentifierDictionary dictionary = new IdentifierDictionary(MAX_ARRAY_SIZE);
+
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+		private LoadContext(FileChannel channel, GraphFileFormat format) throws IOException
+		{
+			this.channel = channel;
+			this.size = channel.size();
+			this.format = format;
+
+			long evenRangeSize = (size + (long) numWorkers * RANGES_PER_WORKER - 1) / ((long) numWorkers * RANGES_PER_WORKER);
+			this.rangeSize = Math.max(minRangeSize, Math.min(MAX_RANGE_SIZE, evenRangeSize));
+			this.numRanges = (int) ((size + rangeSize - 1) / rangeSize);
+
+			int numThreads = Math.max(1, Math.min(numWorkers, numRanges));
+			this.workers = new ArrayList<Worker>(numThreads);
+			for (int i = 0; i < numThreads; i++)
+			{
+				workers.add(new Worker(this));
+			}
+		}
+	}
+
+	private final class Worker implements Runnable
+	{
+		private final LoadContext context;
+
+		/** bytes of the file, starting at file position dataPosition */
+		private byte[] data = new byte[bufferSize];
+		private long dataPosition;
+		private int limit;
+
+		/** the start of the current line and the scan position, in data */
+		private int lineStart;
+		private int position;
+
+		/** the ids of each edge's endpoints, pair by pair */
+		private int[] endpoints = new int[1024];
+		private int numEndpoints;
+
+		private Worker(LoadContext context)
+		{
+			this.context = context;
+		}
+
+		public void run()
+		{
+			try
+			{
+				for (int range = context.nextRange.getAndIncrement(); range < context.numRanges && context.failure.get() == null; range = context.nextRange.getAndIncrement())
+				{
+					long start = range * context.rangeSize;
+					parseRange(start, Math.min(context.size, start + context.rangeSize));
+				}
+			}
+			catch (Throwable t)
+			{
+				context.failure.compareAndSet(null, t);
+			}
+			finally
+			{
+				data = null;
+			}
+		}
+
+		/**
+		 * Parses every line that starts within [start, end). A line starts at
+		 * the beginning of the file or just after a line feed.
+		 */
+		private void parseRange(long start, long end) throws IOException
+		{
+			dataPosition = (start == 0) ? 0 : start - 1;
+			limit = 0;
+			lineStart = 0;
+			position = 0;
+
+			if (start > 0)
+			{
+				// skip the rest of the line that the previous range owns
+				if (!seekLineFeed(false))
+				{
+					return;
+				}
+				position++;
+			}
+
+			while (true)
+			{
+				lineStart = position;
+				if (dataPosition + lineStart >= end)
+				{
+					return;
+				}
+				boolean foundLineFeed = seekLineFeed(true);
+				parseLine(lineStart, position);
+				if (!foundLineFeed)
+				{
+					return;
+				}
+				position++;
+			}
+		}
+
+		/**
+		 * Advances position to the next line feed, reading more of the file as
+		 * needed. If keepLine is true, the bytes from lineStart on are kept in
+		 * the buffer.
+		 * 
+		 * @return Returns false if the file ended before a line feed was
+		 *         found, leaving position at limit.
+		 */
+		private boolean seekLineFeed(boolean keepLine) throws IOException
+		{
+			while (true)
+			{
+				for (; position < limit; position++)
+				{
+					if (data[position] == '\n')
+					{
+						return true;
+					}
+				}
+				if (!keepLine)
+				{
+					lineStart = position;
+				}
+				if (!readMore())
+				{
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * Moves the current line to the front of the buffer, growing the
+		 * buffer if the line fills it, and appends the next bytes of the file.
+		 * 
+		 * @return Returns false if the file has no more bytes.
+		 */
+		private boolean readMore() throws IOException
+		{
+			if (lineStart > 0)
+			{
+				System.arraycopy(data, lineStart, data, 0, limit - lineStart);
+				dataPosition += lineStart;
+				limit -= lineStart;
+				position -= lineStart;
+				lineStart = 0;
+			}
+			else if (limit == data.length)
+			{
+				byte[] grown = new byte[(int) Math.min(MAX_ARRAY_SIZE, 2L * data.length)];
+				System.arraycopy(data, 0, grown, 0, limit);
+				data = grown;
+			}
+
+			long readPosition = dataPosition + limit;
+			if (readPosition >= context.size)
+			{
+				return false;
+			}
+			int numRead = context.channel.read(ByteBuffer.wrap(data, limit, data.length - limit), readPosition);
+			if (numRead <= 0)
+			{
+				return false;
+			}
+			limit += numRead;
+			return true;
+		}
+
+		private void parseLine(int from, int to) throws IOException
+		{
+			int tokenStart = skipSeparators(from, to);
+			if (tokenStart == to || data[tokenStart] == '#' || data[tokenStart] == '%')
+			{
+				return;
+			}
+			int tokenEnd = skipToken(tokenStart, to);
+			int u = context.dictionary.intern(data, tokenStart, tokenEnd);
+
+			for (tokenStart = skipSeparators(tokenEnd, to); tokenStart < to; tokenStart = skipSeparators(tokenEnd, to))
+			{
+				tokenEnd = skipToken(tokenStart, to);
+				addEdge(u, context.dictionary.intern(data, tokenStart, tokenEnd));
+				if (context.format == GraphFileFormat.EDGE_LIST)
+				{
+					// ignore further columns
+					return;
+				}
+			}
+		}
+
+		private int skipSeparators(int from, int to)
+		{
+			while (from < to && isSeparator(data[from]))
+			{
+				from++;
+			}
+			return from;
+		}
+
+		private int skipToken(int from, int to)
+		{
+			while (from < to && !isSeparator(data[from]))
+			{
+				from++;
+			}
+			return from;
+		}
+
+		private boolean isSeparator(byte b)
+		{
+			return b == ' ' || b == '\t' || b == ',' || b == '\r';
+		}
+
+		private void addEdge(int u, int v)
+		{
+			if (numEndpoints == endpoints.length)
+			{
+				if (endpoints.length == MAX_ARRAY_SIZE - 1)
+				{
+					throw new IllegalStateException("A " + ParallelGraphLoader.class.getSimpleName() + " worker cannot hold more than " + (MAX_ARRAY_SIZE / 2) + " edges.");
+				}
+				int[] grown = new int[(int) Math.min(MAX_ARRAY_SIZE - 1, 2L * endpoints.length)];
+				System.arraycopy(endpoints, 0, grown, 0, numEndpoints);
+				endpoints = grown;
+			}
+			endpoints[numEndpoints++] = u;
+			endpoints[numEndpoints++] = v;
+		}
+	}
+
+}
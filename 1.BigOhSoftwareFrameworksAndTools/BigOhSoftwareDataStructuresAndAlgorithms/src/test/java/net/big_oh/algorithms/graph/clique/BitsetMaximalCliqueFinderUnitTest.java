@@ -0,0 +1,96 @@
+package net.big_oh.algorithms.graph.clique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for
+ * {@link net.big_oh.algorithms.graph.clique.BitsetMaximalCliqueFinder}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class BitsetMaximalCliqueFinderUnitTest extends StreamingMaximalCliqueFinderUnitTest
+{
+
+	@Override
+	protected StreamingMaximalCliqueFinder<JungVertex> buildCliqueFinder()
+	{
+		return new BitsetMaximalCliqueFinder<JungVertex>();
+	}
+
+	/**
+	 * confirm agreement with the pivoting Bron-Kerbosch finder on dense random
+	 * graphs spanning more than one bitset word, and that each maximal clique
+	 * is reported exactly once
+	 */
+	@Test
+	public void testFindMaximalCliques_DenseRandomGraphs()
+	{
+		Random random = new Random(11);
+		for (int trial = 0; trial < 6; trial++)
+		{
+			JungUndirectedGraph graph = buildRandomGraph(random, 64 + 8 * trial, 0.25 + 0.05 * trial);
+
+			for (int minCliqueSize = 2; minCliqueSize <= 6; minCliqueSize += 2)
+			{
+				final List<Set<JungVertex>> reportedCliques = new ArrayList<Set<JungVertex>>();
+				MaximalCliqueFinder<JungVertex> cliqueFinder = buildCliqueFinder();
+				cliqueFinder.addListener(new MaximalCliqueFinderEventListener<JungVertex>()
+				{
+					public void cliqueFound(Set<JungVertex> clique)
+					{
+						reportedCliques.add(clique);
+					}
+
+					public void stepCompleted(long numStepsCompleted, long expectedTotalSteps)
+					{
+					}
+				});
+
+				Set<Set<JungVertex>> expected = new PivotingBronKerboschMaximalCliqueFinder<JungVertex>().findMaximalCliques(graph, minCliqueSize);
+				Set<Set<JungVertex>> actual = cliqueFinder.findMaximalCliques(graph, minCliqueSize);
+
+				assertEquals(expected, actual);
+				assertEquals(actual.size(), reportedCliques.size());
+				assertTrue(actual.containsAll(reportedCliques));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+package net.big_oh.algorithms.graph.clique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the CompactCliqueList class.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class CompactCliqueListUnitTest
+{
+
+	private List<JungVertex> vertices;
+	private CompactCliqueList<JungVertex> cliques;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		vertices = new ArrayList<JungVertex>();
+		for (int i = 0; i < 100; i++)
+		{
+			vertices.add(new JungVertex("v" + i));
+		}
+		cliques = new CompactCliqueList<JungVertex>();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		assertTrue(cliques.isEmpty());
+		assertEquals(0, cliques.size());
+		assertFalse(cliques.iterator().hasNext());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetClique_OutOfBounds()
+	{
+		cliques.visit(buildView(1, 2, 3));
+		cliques.getClique(1);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testIterator_Exhausted()
+	{
+		cliques.visit(buildView(1, 2, 3));
+		Iterator<CliqueView<JungVertex>> iter = cliques.iterator();
+		iter.next();
+		iter.next();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testVisit_MixedEnumerations()
+	{
+		cliques.visit(buildView(1, 2));
+		cliques.visit(new CliqueView<JungVertex>(new ArrayList<JungVertex>(vertices)).reset(new int[] { 1, 2 }, 0, 2));
+	}
+
+	/**
+	 * Retained cliques must not change when the finder's working array is
+	 * overwritten, and must survive growth of the shared buffers.
+	 */
+	@Test
+	public void testVisit_CopiesAndGrows()
+	{
+		int[] workingArray = new int[10];
+		CliqueView<JungVertex> view = new CliqueView<JungVertex>(vertices);
+
+		int numCliques = 5000;
+		for (int c = 0; c < numCliques; c++)
+		{
+			int cliqueSize = 2 + c % 5;
+			for (int i = 0; i < cliqueSize; i++)
+			{
+				workingArray[i] = (c + i) % vertices.size();
+			}
+			assertTrue(cliques.visit(view.reset(workingArray, 0, cliqueSize)));
+		}
+		cliques.trimToSize();
+
+		assertEquals(numCliques, cliques.size());
+		int c = 0;
+		CliqueView<JungVertex> previous = null;
+		for (CliqueView<JungVertex> clique : cliques)
+		{
+			// the iterator reuses one view
+			if (previous != null)
+			{
+				assertSame(previous, clique);
+			}
+			previous = clique;
+
+			int cliqueSize = 2 + c % 5;
+			assertEquals(cliqueSize, clique.size());
+			assertEquals(cliqueSize, cliques.getCliqueSize(c));
+			for (int i = 0; i < cliqueSize; i++)
+			{
+				assertSame(vertices.get((c + i) % vertices.size()), clique.get(i));
+			}
+			assertEquals(clique.toSet(), cliques.getClique(c));
+			c++;
+		}
+		assertEquals(numCliques, c);
+	}
+
+	@Test
+	public void testGetClique()
+	{
+		cliques.visit(buildView(4, 7, 9));
+		cliques.visit(buildView(1, 2));
+
+		assertEquals(new HashSet<JungVertex>(Arrays.asList(vertices.get(4), vertices.get(7), vertices.get(9))), cliques.getClique(0));
+		assertEquals(new HashSet<JungVertex>(Arrays.asList(vertices.get(1), vertices.get(2))), cliques.getClique(1));
+	}
+
+	/**
+	 * Growth must neither overflow int arithmetic near the largest array
+	 * length nor exceed it.
+	 */
+	@Test
+	public void testCalculateNewCapacity()
+	{
+		assertEquals(1537, CompactCliqueList.calculateNewCapacity(1024, 1025));
+		assertEquals(5000, CompactCliqueList.calculateNewCapacity(1024, 5000));
+
+		// 1.5 times 1.5e9 overflows an int
+		assertEquals(CompactCliqueList.MAX_ARRAY_SIZE, CompactCliqueList.calculateNewCapacity(1500000000, 1500000001L));
+		assertEquals(CompactCliqueList.MAX_ARRAY_SIZE, CompactCliqueList.calculateNewCapacity(CompactCliqueList.MAX_ARRAY_SIZE - 1, CompactCliqueList.MAX_ARRAY_SIZE));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCalculateNewCapacity_Full()
+	{
+		CompactCliqueList.calculateNewCapacity(CompactCliqueList.MAX_ARRAY_SIZE, CompactCliqueList.MAX_ARRAY_SIZE + 1L);
+	}
+
+	private CliqueView<JungVertex> buildView(int... vertexIndexes)
+	{
+		return new CliqueView<JungVertex>(vertices).reset(vertexIndexes, 0, vertexIndexes.length);
+	}
+
+}
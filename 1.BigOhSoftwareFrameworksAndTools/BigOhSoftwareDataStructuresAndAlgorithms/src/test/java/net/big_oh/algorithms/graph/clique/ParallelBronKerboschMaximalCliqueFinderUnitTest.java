@@ -0,0 +1,124 @@
+package net.big_oh.algorithms.graph.clique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for
+ * {@link net.big_oh.algorithms.graph.clique.ParallelBronKerboschMaximalCliqueFinder}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class ParallelBronKerboschMaximalCliqueFinderUnitTest extends StreamingMaximalCliqueFinderUnitTest
+{
+
+	@Override
+	protected StreamingMaximalCliqueFinder<JungVertex> buildCliqueFinder()
+	{
+		return new ParallelBronKerboschMaximalCliqueFinder<JungVertex>(4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalNumWorkers()
+	{
+		new ParallelBronKerboschMaximalCliqueFinder<JungVertex>(0);
+	}
+
+	/**
+	 * confirm agreement with the sequential pivoting finder for several worker
+	 * counts, on sparse graphs (many small outer-loop steps) and dense graphs
+	 * (few large steps, which forces idle workers to steal split tasks)
+	 */
+	@Test
+	public void testFindMaximalCliques_RandomGraphs()
+	{
+		Random random = new Random(13);
+		List<JungUndirectedGraph> graphs = new ArrayList<JungUndirectedGraph>();
+		graphs.add(buildRandomGraph(random, 300, 0.02));
+		graphs.add(buildRandomGraph(random, 200, 0.1));
+		graphs.add(buildRandomGraph(random, 70, 0.5));
+		graphs.add(buildRandomGraph(random, 90, 0.45));
+
+		for (JungUndirectedGraph graph : graphs)
+		{
+			Set<Set<JungVertex>> expected = new PivotingBronKerboschMaximalCliqueFinder<JungVertex>().findMaximalCliques(graph, 3);
+
+			for (int numWorkers = 1; numWorkers <= 8; numWorkers *= 2)
+			{
+				RecordingListener listener = new RecordingListener();
+				MaximalCliqueFinder<JungVertex> cliqueFinder = new ParallelBronKerboschMaximalCliqueFinder<JungVertex>(numWorkers);
+				cliqueFinder.addListener(listener);
+
+				Set<Set<JungVertex>> actual = cliqueFinder.findMaximalCliques(graph, 3);
+
+				assertEquals(expected, actual);
+
+				// each clique is reported exactly once
+				assertEquals(actual.size(), listener.reportedCliques.size());
+				assertTrue(actual.containsAll(listener.reportedCliques));
+
+				// one step per vertex, counted without gaps or repeats
+				assertEquals(graph.getVertexCount(), listener.numSteps);
+				assertTrue(listener.stepsInOrder);
+			}
+		}
+	}
+
+	/**
+	 * Deliberately not thread safe; the finder must serialize its callbacks.
+	 */
+	private static final class RecordingListener implements MaximalCliqueFinderEventListener<JungVertex>
+	{
+		private final List<Set<JungVertex>> reportedCliques = new ArrayList<Set<JungVertex>>();
+		private long numSteps = 0;
+		private boolean stepsInOrder = true;
+
+		public void cliqueFound(Set<JungVertex> clique)
+		{
+			reportedCliques.add(clique);
+		}
+
+		public void stepCompleted(long numStepsCompleted, long expectedTotalSteps)
+		{
+			numSteps++;
+			stepsInOrder &= (numStepsCompleted == numSteps) && (numStepsCompleted <= expectedTotalSteps);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package net.big_oh.algorithms.graph.clique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for
+ * {@link net.big_oh.algorithms.graph.clique.PivotingBronKerboschMaximalCliqueFinder}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class PivotingBronKerboschMaximalCliqueFinderUnitTest extends StreamingMaximalCliqueFinderUnitTest
+{
+
+	@Override
+	protected StreamingMaximalCliqueFinder<JungVertex> buildCliqueFinder()
+	{
+		return new PivotingBronKerboschMaximalCliqueFinder<JungVertex>();
+	}
+
+	/**
+	 * confirm agreement with the basic Bron-Kerbosch algorithm on random
+	 * graphs, and that each maximal clique is reported exactly once
+	 */
+	@Test
+	public void testFindMaximalCliques_RandomGraphs()
+	{
+		Random random = new Random(7);
+		for (int trial = 0; trial < 10; trial++)
+		{
+			JungUndirectedGraph graph = buildRandomGraph(random, 40, 0.1 + 0.05 * trial);
+
+			for (int minCliqueSize = 2; minCliqueSize <= 4; minCliqueSize++)
+			{
+				final List<Set<JungVertex>> reportedCliques = new ArrayList<Set<JungVertex>>();
+				MaximalCliqueFinder<JungVertex> cliqueFinder = buildCliqueFinder();
+				cliqueFinder.addListener(new MaximalCliqueFinderEventListener<JungVertex>()
+				{
+					public void cliqueFound(Set<JungVertex> clique)
+					{
+						reportedCliques.add(clique);
+					}
+
+					public void stepCompleted(long numStepsCompleted, long expectedTotalSteps)
+					{
+					}
+				});
+
+				Set<Set<JungVertex>> expected = new BronKerboschMaximalCliqueFinder<JungVertex>().findMaximalCliques(graph, minCliqueSize);
+				Set<Set<JungVertex>> actual = cliqueFinder.findMaximalCliques(graph, minCliqueSize);
+
+				assertEquals(expected, actual);
+				assertEquals(actual.size(), reportedCliques.size());
+				assertTrue(actual.containsAll(reportedCliques));
+			}
+		}
+	}
+
+	@Test
+	public void testComputeDegeneracyOrdering()
+	{
+		// a triangle {0, 1, 2} with a pendant path 2 - 3 - 4
+		int[][] adjacency = new int[][] { { 1, 2 }, { 0, 2 }, { 0, 1, 3 }, { 2, 4 }, { 3 } };
+		int[] ordering = PivotingBronKerboschMaximalCliqueFinder.computeDegeneracyOrdering(adjacency);
+
+		assertEquals(adjacency.length, ordering.length);
+		int[] rank = new int[ordering.length];
+		Set<Integer> seen = new HashSet<Integer>();
+		for (int i = 0; i < ordering.length; i++)
+		{
+			assertTrue(seen.add(Integer.valueOf(ordering[i])));
+			rank[ordering[i]] = i;
+		}
+
+		// the graph is 2-degenerate: no vertex has more than 2 later neighbors
+		for (int v = 0; v < adjacency.length; v++)
+		{
+			int numLaterNeighbors = 0;
+			for (int u : adjacency[v])
+			{
+				if (rank[u] > rank[v])
+				{
+					numLaterNeighbors++;
+				}
+			}
+			assertTrue(numLaterNeighbors <= 2);
+		}
+		assertEquals(4, ordering[0]);
+	}
+
+}
@@ -0,0 +1,191 @@
+package net.big_oh.algorithms.graph.clique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An abstract unit test to be used in testing all StreamingMaximalCliqueFinders.
+ * In addition to the contractual behavior verified by
+ * {@link MaximalCliqueFinderUnitTest}, this test confirms that streamed
+ * enumeration agrees with findMaximalCliques(..) and honors early
+ * termination.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public abstract class StreamingMaximalCliqueFinderUnitTest extends MaximalCliqueFinderUnitTest
+{
+
+	@Override
+	protected abstract StreamingMaximalCliqueFinder<JungVertex> buildCliqueFinder();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEnumerateMaximalCliques_illegalVisitor()
+	{
+		buildCliqueFinder().enumerateMaximalCliques(new JungUndirectedGraph(), 2, null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEnumerateMaximalCliques_illegalGraph()
+	{
+		buildCliqueFinder().enumerateMaximalCliques(null, 2, new CompactCliqueList<JungVertex>());
+	}
+
+	/**
+	 * confirm that each maximal clique is visited exactly once, through a
+	 * read-only view
+	 */
+	@Test
+	public void testEnumerateMaximalCliques_MatchesFindMaximalCliques()
+	{
+		Random random = new Random(17);
+		List<JungUndirectedGraph> graphs = new ArrayList<JungUndirectedGraph>();
+		graphs.add(buildRandomGraph(random, 200, 0.05));
+		graphs.add(buildRandomGraph(random, 80, 0.4));
+
+		for (JungUndirectedGraph graph : graphs)
+		{
+			Set<Set<JungVertex>> expected = buildCliqueFinder().findMaximalCliques(graph, 3);
+
+			final List<Set<JungVertex>> visited = new ArrayList<Set<JungVertex>>();
+			long numVisited = buildCliqueFinder().enumerateMaximalCliques(graph, 3, new MaximalCliqueVisitor<JungVertex>()
+			{
+				public boolean visit(CliqueView<JungVertex> clique)
+				{
+					assertTrue(clique.size() >= 3);
+					for (JungVertex member : clique)
+					{
+						assertTrue(clique.contains(member));
+					}
+					Iterator<JungVertex> iter = clique.iterator();
+					iter.next();
+					try
+					{
+						iter.remove();
+						throw new AssertionError("A CliqueView must be read only.");
+					}
+					catch (UnsupportedOperationException uoe)
+					{
+						// expected
+					}
+					visited.add(clique.toSet());
+					return true;
+				}
+			});
+
+			assertEquals(expected.size(), numVisited);
+			assertEquals(expected.size(), visited.size());
+			assertEquals(expected, new HashSet<Set<JungVertex>>(visited));
+		}
+	}
+
+	/**
+	 * confirm that the enumeration stops as soon as the visitor asks it to
+	 */
+	@Test
+	public void testEnumerateMaximalCliques_EarlyTermination()
+	{
+		JungUndirectedGraph graph = buildRandomGraph(new Random(19), 150, 0.2);
+		Set<Set<JungVertex>> allCliques = buildCliqueFinder().findMaximalCliques(graph, 2);
+		assertTrue(allCliques.size() > 10);
+
+		final List<Set<JungVertex>> visited = new ArrayList<Set<JungVertex>>();
+		long numVisited = buildCliqueFinder().enumerateMaximalCliques(graph, 2, new MaximalCliqueVisitor<JungVertex>()
+		{
+			public boolean visit(CliqueView<JungVertex> clique)
+			{
+				visited.add(clique.toSet());
+				return visited.size() < 10;
+			}
+		});
+
+		assertEquals(10, numVisited);
+		assertEquals(10, visited.size());
+		assertEquals(10, new HashSet<Set<JungVertex>>(visited).size());
+		assertTrue(allCliques.containsAll(visited));
+	}
+
+	@Test
+	public void testEnumerateMaximalCliques_CompactCliqueList()
+	{
+		JungUndirectedGraph graph = buildRandomGraph(new Random(23), 120, 0.15);
+		Set<Set<JungVertex>> expected = buildCliqueFinder().findMaximalCliques(graph, 2);
+
+		CompactCliqueList<JungVertex> cliques = new CompactCliqueList<JungVertex>();
+		long numVisited = buildCliqueFinder().enumerateMaximalCliques(graph, 2, cliques);
+		cliques.trimToSize();
+
+		assertEquals(expected.size(), numVisited);
+		assertEquals(expected.size(), cliques.size());
+
+		Set<Set<JungVertex>> actual = new HashSet<Set<JungVertex>>();
+		for (int i = 0; i < cliques.size(); i++)
+		{
+			Set<JungVertex> clique = cliques.getClique(i);
+			assertEquals(clique.size(), cliques.getCliqueSize(i));
+			actual.add(clique);
+		}
+		assertEquals(expected, actual);
+	}
+
+	protected static JungUndirectedGraph buildRandomGraph(Random random, int numVertices, double edgeProbability)
+	{
+		JungUndirectedGraph graph = new JungUndirectedGraph();
+		List<JungVertex> vertices = new ArrayList<JungVertex>();
+		for (int i = 0; i < numVertices; i++)
+		{
+			JungVertex v = new JungVertex("v" + i);
+			graph.addVertex(v);
+			vertices.add(v);
+		}
+		for (int i = 0; i < numVertices; i++)
+		{
+			for (int j = i + 1; j < numVertices; j++)
+			{
+				if (random.nextDouble() < edgeProbability)
+				{
+					graph.addEdge(vertices.get(i), vertices.get(j));
+				}
+			}
+		}
+		return graph;
+	}
+
+}
@@ -0,0 +1,267 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the AStarOpenList class.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class AStarOpenListUnitTest
+{
+
+	private AStarOpenList<SimpleSearchNode> minOpenList;
+	private AStarOpenList<SimpleSearchNode> maxOpenList;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		minOpenList = new AStarOpenList<SimpleSearchNode>(AStarSearchType.MIN);
+		maxOpenList = new AStarOpenList<SimpleSearchNode>(AStarSearchType.MAX);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalArity()
+	{
+		new AStarOpenList<SimpleSearchNode>(AStarSearchType.MIN, 1, 10);
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testPoll_Empty()
+	{
+		minOpenList.poll();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testAdd_AlreadyQueued()
+	{
+		SimpleSearchNode node = new SimpleSearchNode(0);
+		minOpenList.add(node, 1, 1);
+		maxOpenList.add(node, 1, 1);
+	}
+
+	@Test
+	public void testMinOrdering()
+	{
+		SimpleSearchNode n3 = new SimpleSearchNode(0);
+		SimpleSearchNode n1 = new SimpleSearchNode(0);
+		SimpleSearchNode n2 = new SimpleSearchNode(0);
+		minOpenList.add(n3, 3, 0);
+		minOpenList.add(n1, 1, 0);
+		minOpenList.add(n2, 2, 0);
+
+		assertEquals(3, minOpenList.size());
+		assertEquals(1.0, minOpenList.peekF(), 0.0);
+		assertSame(n1, minOpenList.poll());
+		assertSame(n2, minOpenList.poll());
+		assertSame(n3, minOpenList.poll());
+		assertTrue(minOpenList.isEmpty());
+	}
+
+	@Test
+	public void testMaxOrdering()
+	{
+		SimpleSearchNode n3 = new SimpleSearchNode(0);
+		SimpleSearchNode n1 = new SimpleSearchNode(0);
+		SimpleSearchNode n2 = new SimpleSearchNode(0);
+		maxOpenList.add(n3, 3, 0);
+		maxOpenList.add(n1, 1, 0);
+		maxOpenList.add(n2, 2, 0);
+
+		assertEquals(3.0, maxOpenList.peekF(), 0.0);
+		assertSame(n3, maxOpenList.poll());
+		assertSame(n2, maxOpenList.poll());
+		assertSame(n1, maxOpenList.poll());
+	}
+
+	/**
+	 * Nodes with equal f values must neither collapse into a single entry nor
+	 * be reordered arbitrarily.
+	 */
+	@Test
+	public void testTieBreaking()
+	{
+		SimpleSearchNode highH = new SimpleSearchNode(0);
+		SimpleSearchNode lowHFirst = new SimpleSearchNode(0);
+		SimpleSearchNode lowHSecond = new SimpleSearchNode(0);
+		minOpenList.add(highH, 10, 8);
+		minOpenList.add(lowHFirst, 10, 2);
+		minOpenList.add(lowHSecond, 10, 2);
+
+		assertEquals(3, minOpenList.size());
+		assertSame(lowHFirst, minOpenList.poll());
+		assertSame(lowHSecond, minOpenList.poll());
+		assertSame(highH, minOpenList.poll());
+	}
+
+	@Test
+	public void testDecreaseKey()
+	{
+		SimpleSearchNode n1 = new SimpleSearchNode(0);
+		SimpleSearchNode n2 = new SimpleSearchNode(0);
+		minOpenList.add(n1, 5, 0);
+		minOpenList.add(n2, 7, 0);
+
+		minOpenList.decreaseKey(n2, 4, 0);
+
+		assertEquals(4.0, minOpenList.getF(n2), 0.0);
+		assertSame(n2, minOpenList.poll());
+		assertSame(n1, minOpenList.poll());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecreaseKey_Worsen()
+	{
+		SimpleSearchNode n1 = new SimpleSearchNode(0);
+		maxOpenList.add(n1, 5, 0);
+		maxOpenList.decreaseKey(n1, 4, 0);
+	}
+
+	@Test
+	public void testRemoveAndContains()
+	{
+		SimpleSearchNode n1 = new SimpleSearchNode(0);
+		SimpleSearchNode n2 = new SimpleSearchNode(0);
+		SimpleSearchNode n3 = new SimpleSearchNode(0);
+		minOpenList.add(n1, 1, 0);
+		minOpenList.add(n2, 2, 0);
+		minOpenList.add(n3, 3, 0);
+
+		assertTrue(minOpenList.remove(n1));
+		assertFalse(minOpenList.contains(n1));
+		assertFalse(minOpenList.remove(n1));
+		assertTrue(minOpenList.contains(n2));
+
+		// a removed node may be queued again
+		minOpenList.add(n1, 4, 0);
+		assertSame(n2, minOpenList.poll());
+		assertSame(n3, minOpenList.poll());
+		assertSame(n1, minOpenList.poll());
+	}
+
+	/**
+	 * Compare the open list against a sorted reference under a random mix of
+	 * operations.
+	 */
+	@Test
+	public void testRandomizedAgainstSortedReference()
+	{
+		Random random = new Random(42);
+		List<SimpleSearchNode> reference = new ArrayList<SimpleSearchNode>();
+
+		for (int i = 0; i < 5000; i++)
+		{
+			int operation = random.nextInt(4);
+			if (operation <= 1 || reference.isEmpty())
+			{
+				SimpleSearchNode node = new SimpleSearchNode(random.nextInt(50));
+				minOpenList.add(node, node.getKey(), 0);
+				reference.add(node);
+			}
+			else if (operation == 2)
+			{
+				SimpleSearchNode node = reference.remove(random.nextInt(reference.size()));
+				assertTrue(minOpenList.remove(node));
+			}
+			else
+			{
+				Collections.sort(reference);
+				assertEquals(reference.remove(0).getKey(), minOpenList.poll().getKey());
+			}
+			assertEquals(reference.size(), minOpenList.size());
+		}
+
+		Collections.sort(reference);
+		for (SimpleSearchNode expected : reference)
+		{
+			assertEquals(expected.getKey(), minOpenList.poll().getKey());
+		}
+		assertTrue(minOpenList.isEmpty());
+	}
+
+	private static final class SimpleSearchNode extends AStarSearchNode implements Comparable<SimpleSearchNode>
+	{
+		private final int key;
+
+		public SimpleSearchNode(int key)
+		{
+			super(0);
+			this.key = key;
+		}
+
+		public int getKey()
+		{
+			return key;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return false;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return 0;
+		}
+
+		public int compareTo(SimpleSearchNode o)
+		{
+			return (key < o.key) ? -1 : ((key == o.key) ? 0 : 1);
+		}
+	}
+
+}
@@ -0,0 +1,186 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the caching of g, h and goal state values in
+ * AStarSearchNode.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class AStarSearchNodeUnitTest
+{
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void testCachedValues()
+	{
+		CountingSearchNode node = new CountingSearchNode(7.5, false);
+		assertEquals(7.5, node.getG(), 0.0);
+		assertEquals(7.5, node.getG(), 0.0);
+		assertFalse(node.isGoalState());
+		assertFalse(node.isGoalState());
+		assertEquals(1, node.numGCalculations);
+		assertEquals(1, node.numGoalStateCalculations);
+
+		assertTrue(new CountingSearchNode(0, true).isGoalState());
+	}
+
+	@Test
+	public void testMultipleHeuristics()
+	{
+		CountingHeuristic h1 = new CountingHeuristic(1);
+		CountingHeuristic h2 = new CountingHeuristic(2);
+		CountingHeuristic h3 = new CountingHeuristic(3);
+
+		CountingSearchNode node = new CountingSearchNode(0, false);
+		assertTrue(Double.isNaN(node.getH(h1)));
+
+		// values of each heuristic must be kept apart and calculated once
+		for (int i = 0; i < 2; i++)
+		{
+			assertEquals(3.0, h3.getH(node), 0.0);
+			assertEquals(1.0, h1.getH(node), 0.0);
+			assertEquals(2.0, h2.getH(node), 0.0);
+		}
+		assertEquals(1, h1.numCalculations);
+		assertEquals(1, h2.numCalculations);
+		assertEquals(1, h3.numCalculations);
+		assertEquals(2.0, node.getH(h2), 0.0);
+
+		// goal nodes are never evaluated
+		CountingSearchNode goalNode = new CountingSearchNode(0, true);
+		assertEquals(0.0, h1.getH(goalNode), 0.0);
+		assertEquals(1, h1.numCalculations);
+	}
+
+	/**
+	 * Heuristic slots are never recycled, so a node must work no matter how
+	 * many heuristics were created before it, and must stop caching once it
+	 * holds the values of MAX_EXTRA_H_VALUES heuristics besides the first.
+	 */
+	@Test
+	public void testManyHeuristics()
+	{
+		for (int i = 0; i < 1000; i++)
+		{
+			new CountingHeuristic(i);
+		}
+
+		CountingHeuristic[] heuristics = new CountingHeuristic[AStarSearchNode.MAX_EXTRA_H_VALUES + 3];
+		for (int i = 0; i < heuristics.length; i++)
+		{
+			heuristics[i] = new CountingHeuristic(i);
+		}
+
+		CountingSearchNode node = new CountingSearchNode(0, false);
+		for (int round = 0; round < 2; round++)
+		{
+			for (int i = 0; i < heuristics.length; i++)
+			{
+				assertEquals(i, heuristics[i].getH(node), 0.0);
+			}
+		}
+
+		for (int i = 0; i < heuristics.length; i++)
+		{
+			int expectedCalculations = (i <= AStarSearchNode.MAX_EXTRA_H_VALUES) ? 1 : 2;
+			assertEquals(expectedCalculations, heuristics[i].numCalculations);
+		}
+	}
+
+	private static final class CountingHeuristic extends Heuristic<CountingSearchNode>
+	{
+		private final double h;
+		private int numCalculations;
+
+		private CountingHeuristic(double h)
+		{
+			this.h = h;
+		}
+
+		@Override
+		protected double calculateH(CountingSearchNode searchNode)
+		{
+			numCalculations++;
+			return h;
+		}
+	}
+
+	private static final class CountingSearchNode extends AStarSearchNode
+	{
+		private final double cost;
+		private final boolean goal;
+		private int numGCalculations;
+		private int numGoalStateCalculations;
+
+		private CountingSearchNode(double cost, boolean goal)
+		{
+			super(0);
+			this.cost = cost;
+			this.goal = goal;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			numGoalStateCalculations++;
+			return goal;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			numGCalculations++;
+			return cost;
+		}
+	}
+
+}
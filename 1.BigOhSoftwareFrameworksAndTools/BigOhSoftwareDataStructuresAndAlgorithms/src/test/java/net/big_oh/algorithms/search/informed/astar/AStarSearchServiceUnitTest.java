@@ -0,0 +1,177 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the AStarSearchService and MemoizingHeuristic
+ * classes against the sliding tile puzzle.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class AStarSearchServiceUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(AStarSearchServiceUnitTest.class);
+
+	private CountingHeuristic countingHeuristic;
+	private AStarSearchService<SlidingTilePuzzleSearchNode> service;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		countingHeuristic = new CountingHeuristic();
+		service = new AStarSearchService<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, countingHeuristic, new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH, 4, 100000);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		service.shutdown();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalNumThreads()
+	{
+		new AStarSearchService<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, countingHeuristic, new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH, 0, 100);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalMemoSize()
+	{
+		new MemoizingHeuristic<SlidingTilePuzzleSearchNode>(countingHeuristic, 0);
+	}
+
+	/**
+	 * Concurrent queries must produce the same solutions as sequential ones,
+	 * and repeated queries must be answered from the shared memo.
+	 */
+	@Test
+	public void testSubmitAll() throws Exception
+	{
+		List<SlidingTilePuzzleSearchNode> startNodes = new ArrayList<SlidingTilePuzzleSearchNode>();
+		for (int round = 0; round < 2; round++)
+		{
+			for (long seed = 1; seed <= 10; seed++)
+			{
+				startNodes.add(SlidingTilePuzzleSearchNode.scramble(60, seed));
+			}
+		}
+
+		List<Future<AStarSearchResult<SlidingTilePuzzleSearchNode>>> futures = service.submitAll(startNodes);
+		assertEquals(startNodes.size(), futures.size());
+
+		AStarSearch<SlidingTilePuzzleSearchNode> sequentialSearch = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+		for (int i = 0; i < startNodes.size(); i++)
+		{
+			AStarSearchResult<SlidingTilePuzzleSearchNode> expected = sequentialSearch.doSearch(startNodes.get(i));
+			AStarSearchResult<SlidingTilePuzzleSearchNode> actual = futures.get(i).get();
+			assertEquals(expected.getGoalNode().getG(), actual.getGoalNode().getG(), 0.0);
+		}
+
+		MemoizingHeuristic<SlidingTilePuzzleSearchNode> memo = service.getHeuristic();
+		assertTrue(memo.getNumHits() > 0);
+		assertEquals(countingHeuristic.getNumCalculations(), memo.getNumMisses());
+		assertTrue(memo.size() <= memo.getMaxSize());
+		logger.info("Shared memo: " + memo.getNumHits() + " hits, " + memo.getNumMisses() + " misses (hit rate " + memo.getHitRate() + ").");
+	}
+
+	@Test
+	public void testMemoBound()
+	{
+		MemoizingHeuristic<SlidingTilePuzzleSearchNode> memo = new MemoizingHeuristic<SlidingTilePuzzleSearchNode>(countingHeuristic, 50);
+		AStarSearch<SlidingTilePuzzleSearchNode> search = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, memo, new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+		search.doSearch(SlidingTilePuzzleSearchNode.scramble(60, 3));
+
+		assertTrue(memo.size() <= 50);
+		assertTrue(memo.getNumEvictions() > 0);
+		assertEquals(memo.getNumMisses(), memo.size() + memo.getNumEvictions());
+
+		memo.clear();
+		assertEquals(0, memo.size());
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void testSubmit_AfterShutdown() throws InterruptedException
+	{
+		service.shutdown();
+		assertTrue(service.awaitTermination(1, TimeUnit.SECONDS));
+		service.submit(SlidingTilePuzzleSearchNode.scramble(10, 1));
+	}
+
+	/**
+	 * Counts the h values it calculates.
+	 */
+	private static final class CountingHeuristic extends Heuristic<SlidingTilePuzzleSearchNode>
+	{
+		private final SlidingTilePuzzleManhattanHeuristic heuristic = new SlidingTilePuzzleManhattanHeuristic();
+		private final AtomicLong numCalculations = new AtomicLong();
+
+		@Override
+		protected double calculateH(SlidingTilePuzzleSearchNode searchNode)
+		{
+			numCalculations.incrementAndGet();
+			return heuristic.getH(searchNode);
+		}
+
+		@Override
+		public boolean isConsistent()
+		{
+			return true;
+		}
+
+		public long getNumCalculations()
+		{
+			return numCalculations.get();
+		}
+	}
+
+}
@@ -1,14 +1,26 @@
 package net.big_oh.algorithms.search.informed.astar;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.big_oh.algorithms.search.informed.astar.AStarSearch;
 import net.big_oh.algorithms.search.informed.astar.AStarSearchResult;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarEvaluationMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
 import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.AStarSearchStatistics.FBound;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -107,6 +119,296 @@ public class AStarSearchUnitTest
 		logger.info("Max cost: " + maxSearch.getF(maxResult.getGoalNode()));
 	}
 
+	/**
+	 * Test method for
+	 * {@link net.big_oh.algorithms.search.informed.astar.AStarSearch#doSearch(AStarSearchNode)}
+	 * in graph search mode. Duplicate detection must not change the cost of
+	 * the solution that is found.
+	 */
+	@Test
+	public void testGraphModeDoSearch()
+	{
+		for (AStarSearchType searchType : AStarSearchType.values())
+		{
+			Heuristic<TravelingSalesmanSearchNode> heuristic = (searchType == AStarSearchType.MIN) ? new TravelingSalesmanMinHeuristic() : new TravelingSalesmanMaxHeuristic();
+
+			AStarSearch<TravelingSalesmanSearchNode> treeSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.TREE);
+			AStarSearchResult<TravelingSalesmanSearchNode> treeResult = treeSearch.doSearch(new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS)));
+
+			AStarSearch<TravelingSalesmanSearchNode> graphSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.GRAPH);
+			AStarSearchResult<TravelingSalesmanSearchNode> graphResult = graphSearch.doSearch(new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS)));
+
+			assertNotNull(graphResult.getGoalNode());
+			assertEquals(treeResult.getGoalNode().getG(), graphResult.getGoalNode().getG(), 0.0);
+			assertTrue(graphResult.getNumSearchNodesGenerated() <= treeResult.getNumSearchNodesGenerated());
+
+			logger.info(searchType + " graph search path: " + graphResult.getGoalNode().getPathAsString());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.algorithms.search.informed.astar.AStarSearch#doSearch(AStarSearchNode)}
+	 * in lazy evaluation mode. Deferring h calculations must not change the
+	 * cost of the solution that is found, and must not calculate more h values
+	 * than an eager search.
+	 */
+	@Test
+	public void testLazyDoSearch()
+	{
+		for (AStarSearchType searchType : AStarSearchType.values())
+		{
+			for (AStarSearchMode searchMode : AStarSearchMode.values())
+			{
+				CountingHeuristic eagerHeuristic = new CountingHeuristic(searchType);
+				AStarSearch<TravelingSalesmanSearchNode> eagerSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, eagerHeuristic, new TravelingSalesmanNextNodeGenerator(), searchMode);
+				AStarSearchResult<TravelingSalesmanSearchNode> eagerResult = eagerSearch.doSearch(buildStartNode());
+
+				CountingHeuristic lazyHeuristic = new CountingHeuristic(searchType);
+				AStarSearch<TravelingSalesmanSearchNode> lazySearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, lazyHeuristic, new TravelingSalesmanNextNodeGenerator(), searchMode, AStarEvaluationMode.LAZY, null);
+				AStarSearchResult<TravelingSalesmanSearchNode> lazyResult = lazySearch.doSearch(buildStartNode());
+
+				assertNotNull(lazyResult.getGoalNode());
+				assertEquals(eagerResult.getGoalNode().getG(), lazyResult.getGoalNode().getG(), 0.0);
+				assertTrue(lazyHeuristic.getNumCalculations() <= eagerHeuristic.getNumCalculations());
+
+				logger.info(searchType + " " + searchMode + " lazy search calculated " + lazyHeuristic.getNumCalculations() + " h values; eager search calculated " + eagerHeuristic.getNumCalculations() + ".");
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.algorithms.search.informed.astar.AStarSearch#doSearch(AStarSearchNode)}
+	 * with h values calculated on a thread pool.
+	 */
+	@Test
+	public void testConcurrentHeuristicDoSearch()
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			for (AStarSearchType searchType : AStarSearchType.values())
+			{
+				CountingHeuristic serialHeuristic = new CountingHeuristic(searchType);
+				AStarSearch<TravelingSalesmanSearchNode> serialSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, serialHeuristic, new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.GRAPH);
+				AStarSearchResult<TravelingSalesmanSearchNode> serialResult = serialSearch.doSearch(buildStartNode());
+
+				CountingHeuristic concurrentHeuristic = new CountingHeuristic(searchType);
+				AStarSearch<TravelingSalesmanSearchNode> concurrentSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, concurrentHeuristic, new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.GRAPH, AStarEvaluationMode.EAGER, executor);
+				AStarSearchResult<TravelingSalesmanSearchNode> concurrentResult = concurrentSearch.doSearch(buildStartNode());
+
+				// both searches must evaluate exactly the same nodes
+				assertNotNull(concurrentResult.getGoalNode());
+				assertEquals(serialResult.getGoalNode().getG(), concurrentResult.getGoalNode().getG(), 0.0);
+				assertEquals(serialResult.getNumSearchNodesGenerated(), concurrentResult.getNumSearchNodesGenerated());
+				assertEquals(serialHeuristic.getNumCalculations(), concurrentHeuristic.getNumCalculations());
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Listeners must observe every expansion and the statistics of the result
+	 * must agree with what the listeners observed. A failing listener must not
+	 * abort the search.
+	 */
+	@Test
+	public void testListenersAndStatistics()
+	{
+		for (AStarSearchType searchType : AStarSearchType.values())
+		{
+			Heuristic<TravelingSalesmanSearchNode> heuristic = (searchType == AStarSearchType.MIN) ? new TravelingSalesmanMinHeuristic() : new TravelingSalesmanMaxHeuristic();
+			AStarSearch<TravelingSalesmanSearchNode> search = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.GRAPH);
+
+			RecordingListener listener = new RecordingListener();
+			search.addListener(new FailingListener());
+			search.addListener(listener);
+
+			AStarSearchResult<TravelingSalesmanSearchNode> result = search.doSearch(buildStartNode());
+			AStarSearchStatistics statistics = result.getStatistics();
+
+			assertNotNull(statistics);
+			assertEquals(1, listener.numSearchesStarted);
+			assertSame(result, listener.completedResult);
+			assertEquals(statistics.getNumNodesExpanded(), listener.numNodesExpanded);
+			assertSame(result.getGoalNode(), listener.lastExpandedNode);
+			assertTrue(statistics.getMaxOpenListSize() >= listener.maxOpenListSize);
+			assertTrue(statistics.getExpansionsPerSecond() > 0.0);
+			assertTrue(statistics.getHeuristicNanos() + statistics.getSuccessorGenerationNanos() + statistics.getQueueNanos() <= statistics.getElapsedNanos());
+
+			// the f progression must move monotonically toward the solution
+			// cost
+			List<FBound> fProgression = statistics.getFProgression();
+			assertEquals(listener.numFBoundsRaised, fProgression.size());
+			assertEquals(0, fProgression.get(0).getNumNodesExpanded());
+			for (int i = 1; i < fProgression.size(); i++)
+			{
+				double previousF = fProgression.get(i - 1).getF();
+				assertTrue((searchType == AStarSearchType.MIN) ? fProgression.get(i).getF() > previousF : fProgression.get(i).getF() < previousF);
+				assertTrue(fProgression.get(i).getNumNodesExpanded() > fProgression.get(i - 1).getNumNodesExpanded());
+			}
+			assertEquals(result.getGoalNode().getG(), fProgression.get(fProgression.size() - 1).getF(), 0.0);
+
+			logger.info(searchType + " search statistics: " + statistics);
+		}
+	}
+
+	@Test
+	public void testStopReason_GoalFound()
+	{
+		AStarSearchResult<TravelingSalesmanSearchNode> result = new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(buildStartNode());
+
+		assertEquals(AStarStopReason.GOAL_FOUND, result.getStopReason());
+		assertSame(result.getGoalNode(), result.getBestNode());
+	}
+
+	/**
+	 * A search space without goal states must be exhausted gracefully.
+	 */
+	@Test
+	public void testStopReason_SearchSpaceExhausted()
+	{
+		Heuristic<AStarSearchNode> heuristic = new Heuristic<AStarSearchNode>()
+		{
+			@Override
+			protected double calculateH(AStarSearchNode searchNode)
+			{
+				return 3 - searchNode.getNodeDepth();
+			}
+		};
+
+		AStarSearchResult<AStarSearchNode> result = new AStarSearch<AStarSearchNode>(AStarSearchType.MIN, heuristic, new GoallessNextNodesGenerator(3)).doSearch(new GoallessSearchNode(0));
+
+		assertEquals(AStarStopReason.SEARCH_SPACE_EXHAUSTED, result.getStopReason());
+		assertNull(result.getGoalNode());
+		assertEquals(3, result.getBestNode().getNodeDepth());
+		assertEquals(15, result.getStatistics().getNumNodesExpanded());
+		assertTrue(result.getEfectiveBranchingFactor() >= 1.0);
+	}
+
+	@Test
+	public void testStopReason_ExpansionLimitReached()
+	{
+		AStarSearchBudget budget = new AStarSearchBudget(5, Integer.MAX_VALUE, Long.MAX_VALUE, null);
+		AStarSearchResult<TravelingSalesmanSearchNode> result = new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(buildStartNode(), budget);
+
+		assertEquals(AStarStopReason.EXPANSION_LIMIT_REACHED, result.getStopReason());
+		assertNull(result.getGoalNode());
+		assertNotNull(result.getBestNode());
+		assertEquals(5, result.getStatistics().getNumNodesExpanded());
+	}
+
+	@Test
+	public void testStopReason_OpenListLimitReached()
+	{
+		AStarSearchBudget budget = new AStarSearchBudget(Long.MAX_VALUE, 20, Long.MAX_VALUE, null);
+		AStarSearchResult<TravelingSalesmanSearchNode> result = new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(buildStartNode(), budget);
+
+		assertEquals(AStarStopReason.OPEN_LIST_LIMIT_REACHED, result.getStopReason());
+		assertNull(result.getGoalNode());
+		assertTrue(result.getStatistics().getMaxOpenListSize() > 20);
+	}
+
+	@Test
+	public void testStopReason_DeadlineReached()
+	{
+		TravelingSalesmanSearchNode startNode = buildStartNode();
+		AStarSearchBudget budget = new AStarSearchBudget(Long.MAX_VALUE, Integer.MAX_VALUE, 0, null);
+		AStarSearchResult<TravelingSalesmanSearchNode> result = new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(startNode, budget);
+
+		assertEquals(AStarStopReason.DEADLINE_REACHED, result.getStopReason());
+		assertEquals(0, result.getStatistics().getNumNodesExpanded());
+		assertSame(startNode, result.getBestNode());
+		assertEquals(1.0, result.getEfectiveBranchingFactor(), 0.0);
+	}
+
+	/**
+	 * A search must stop at the first expansion after its token is cancelled,
+	 * even if the token is cancelled from within the search.
+	 */
+	@Test
+	public void testStopReason_Cancelled()
+	{
+		final AStarCancellationToken cancellationToken = new AStarCancellationToken();
+		AStarSearch<TravelingSalesmanSearchNode> search = new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator());
+		search.addListener(new RecordingListener()
+		{
+			@Override
+			public void nodeExpanded(TravelingSalesmanSearchNode searchNode, double f, int openListSize)
+			{
+				super.nodeExpanded(searchNode, f, openListSize);
+				if (getNumNodesExpanded() == 3)
+				{
+					cancellationToken.cancel();
+				}
+			}
+		});
+
+		AStarSearchResult<TravelingSalesmanSearchNode> result = search.doSearch(buildStartNode(), new AStarSearchBudget(Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, cancellationToken));
+
+		assertEquals(AStarStopReason.CANCELLED, result.getStopReason());
+		assertNull(result.getGoalNode());
+		assertEquals(3, result.getStatistics().getNumNodesExpanded());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDoSearch_NullBudget()
+	{
+		new AStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(buildStartNode(), null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBudget_IllegalOpenListSize()
+	{
+		new AStarSearchBudget(Long.MAX_VALUE, 0, Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * Graph search requires nodes that define a notion of state identity.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGraphModeDoSearch_NoStateIdentity()
+	{
+		AStarSearchNode startNode = new AStarSearchNode(0)
+		{
+			@Override
+			protected boolean calculateGoalState()
+			{
+				return false;
+			}
+
+			@Override
+			protected double calculateG()
+			{
+				return 0;
+			}
+		};
+
+		Heuristic<AStarSearchNode> heuristic = new Heuristic<AStarSearchNode>()
+		{
+			@Override
+			protected double calculateH(AStarSearchNode searchNode)
+			{
+				return 0;
+			}
+		};
+
+		NextNodesGenerator<AStarSearchNode> nextNodesGenerator = new NextNodesGenerator<AStarSearchNode>()
+		{
+			@Override
+			public Collection<AStarSearchNode> getNextSearchNodes(AStarSearchNode baseNode)
+			{
+				return Collections.emptyList();
+			}
+		};
+
+		new AStarSearch<AStarSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH).doSearch(startNode);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.big_oh.algorithms.search.informed.astar.AStarSearch#calculateEffectiveBranchingFactor(long, long, int)}
@@ -129,4 +431,140 @@ public class AStarSearchUnitTest
 		AStarSearch.calculateEffectiveBranchingFactor(11, 11, 10000);
 	}
 
+	private TravelingSalesmanSearchNode buildStartNode()
+	{
+		return new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS));
+	}
+
+	private static class RecordingListener implements AStarSearchListener<TravelingSalesmanSearchNode>
+	{
+		private int numSearchesStarted;
+		private long numNodesExpanded;
+		private int numFBoundsRaised;
+		private int maxOpenListSize;
+		private TravelingSalesmanSearchNode lastExpandedNode;
+		private AStarSearchResult<TravelingSalesmanSearchNode> completedResult;
+
+		public void searchStarted(TravelingSalesmanSearchNode startNode)
+		{
+			numSearchesStarted++;
+		}
+
+		public void nodeExpanded(TravelingSalesmanSearchNode searchNode, double f, int openListSize)
+		{
+			numNodesExpanded++;
+			maxOpenListSize = Math.max(maxOpenListSize, openListSize);
+			lastExpandedNode = searchNode;
+		}
+
+		public void fBoundRaised(double f, long numNodesExpanded)
+		{
+			assertEquals(this.numNodesExpanded, numNodesExpanded);
+			numFBoundsRaised++;
+		}
+
+		public void searchCompleted(AStarSearchResult<TravelingSalesmanSearchNode> result)
+		{
+			completedResult = result;
+		}
+
+		public long getNumNodesExpanded()
+		{
+			return numNodesExpanded;
+		}
+	}
+
+	private static final class FailingListener implements AStarSearchListener<TravelingSalesmanSearchNode>
+	{
+		public void searchStarted(TravelingSalesmanSearchNode startNode)
+		{
+			throw new IllegalStateException("searchStarted");
+		}
+
+		public void nodeExpanded(TravelingSalesmanSearchNode searchNode, double f, int openListSize)
+		{
+			throw new IllegalStateException("nodeExpanded");
+		}
+
+		public void fBoundRaised(double f, long numNodesExpanded)
+		{
+			throw new IllegalStateException("fBoundRaised");
+		}
+
+		public void searchCompleted(AStarSearchResult<TravelingSalesmanSearchNode> result)
+		{
+			throw new IllegalStateException("searchCompleted");
+		}
+	}
+
+	/**
+	 * A node in a complete binary tree that contains no goal states.
+	 */
+	private static final class GoallessSearchNode extends AStarSearchNode
+	{
+		public GoallessSearchNode(int nodeDepth)
+		{
+			super(nodeDepth);
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return false;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return getNodeDepth();
+		}
+	}
+
+	private static final class GoallessNextNodesGenerator extends NextNodesGenerator<AStarSearchNode>
+	{
+		private final int maxDepth;
+
+		public GoallessNextNodesGenerator(int maxDepth)
+		{
+			this.maxDepth = maxDepth;
+		}
+
+		@Override
+		public Collection<AStarSearchNode> getNextSearchNodes(AStarSearchNode baseNode)
+		{
+			if (baseNode.getNodeDepth() == maxDepth)
+			{
+				return Collections.emptyList();
+			}
+			return Arrays.<AStarSearchNode> asList(new GoallessSearchNode(baseNode.getNodeDepth() + 1), new GoallessSearchNode(baseNode.getNodeDepth() + 1));
+		}
+	}
+
+	/**
+	 * Delegates to the Traveling Salesman heuristics, counting the number of h
+	 * values that are calculated.
+	 */
+	private static final class CountingHeuristic extends Heuristic<TravelingSalesmanSearchNode>
+	{
+		private final Heuristic<TravelingSalesmanSearchNode> delegate;
+		private final AtomicInteger numCalculations = new AtomicInteger();
+
+		public CountingHeuristic(AStarSearchType searchType)
+		{
+			delegate = (searchType == AStarSearchType.MIN) ? new TravelingSalesmanMinHeuristic() : new TravelingSalesmanMaxHeuristic();
+		}
+
+		@Override
+		protected double calculateH(TravelingSalesmanSearchNode searchNode)
+		{
+			numCalculations.incrementAndGet();
+			return delegate.calculateH(searchNode);
+		}
+
+		public int getNumCalculations()
+		{
+			return numCalculations.get();
+		}
+	}
+
 }
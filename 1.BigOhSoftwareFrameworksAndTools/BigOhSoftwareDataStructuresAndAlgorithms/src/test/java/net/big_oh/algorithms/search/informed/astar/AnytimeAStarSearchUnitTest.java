@@ -0,0 +1,169 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the AnytimeAStarSearch class against the Traveling
+ * Salesman test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class AnytimeAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(AnytimeAStarSearchUnitTest.class);
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalWeight()
+	{
+		new AnytimeAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator(), AStarSearchMode.TREE, 0.5, 0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDoSearch_NegativeDuration()
+	{
+		new AnytimeAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator()).doSearch(buildStartNode(), -1);
+	}
+
+	@Test
+	public void testMinDoSearch()
+	{
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), AStarSearchMode.TREE);
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), AStarSearchMode.GRAPH);
+	}
+
+	@Test
+	public void testMaxDoSearch()
+	{
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic(), AStarSearchMode.TREE);
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic(), AStarSearchMode.GRAPH);
+	}
+
+	/**
+	 * A search whose deadline has already passed returns without a goal node.
+	 */
+	@Test
+	public void testDoSearch_DeadlineReached()
+	{
+		AnytimeAStarSearch<TravelingSalesmanSearchNode> search = new AnytimeAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator());
+		AnytimeAStarSearchResult<TravelingSalesmanSearchNode> result = search.doSearch(buildStartNode(), 0);
+
+		assertTrue(result.isDeadlineReached());
+		assertNull(result.getGoalNode());
+		assertEquals(Double.POSITIVE_INFINITY, result.getSuboptimalityBound(), 0.0);
+		assertFalse(result.isOptimal());
+	}
+
+	private void testDoSearch(final AStarSearchType searchType, Heuristic<TravelingSalesmanSearchNode> heuristic, AStarSearchMode searchMode)
+	{
+		AStarSearch<TravelingSalesmanSearchNode> aStarSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator());
+		AStarSearchResult<TravelingSalesmanSearchNode> aStarResult = aStarSearch.doSearch(buildStartNode());
+
+		AnytimeAStarSearch<TravelingSalesmanSearchNode> anytimeSearch = new AnytimeAStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), searchMode, 3.0, 0.5);
+
+		final List<TravelingSalesmanSearchNode> solutions = new ArrayList<TravelingSalesmanSearchNode>();
+		final List<Double> bounds = new ArrayList<Double>();
+		anytimeSearch.addListener(new AnytimeAStarSearchListener<TravelingSalesmanSearchNode>()
+		{
+			public void improvedSolutionFound(TravelingSalesmanSearchNode goalNode, double suboptimalityBound)
+			{
+				// each published solution must improve upon the last one
+				if (!solutions.isEmpty())
+				{
+					double previousG = solutions.get(solutions.size() - 1).getG();
+					assertTrue((searchType == AStarSearchType.MIN) ? goalNode.getG() < previousG : goalNode.getG() > previousG);
+				}
+				solutions.add(goalNode);
+				bounds.add(suboptimalityBound);
+			}
+
+			public void iterationCompleted(double weight, double suboptimalityBound)
+			{
+				bounds.add(suboptimalityBound);
+			}
+		});
+
+		AnytimeAStarSearchResult<TravelingSalesmanSearchNode> anytimeResult = anytimeSearch.doSearch(buildStartNode());
+
+		// the final solution must be optimal
+		assertFalse(anytimeResult.isDeadlineReached());
+		assertTrue(anytimeResult.isOptimal());
+		assertEquals(aStarResult.getGoalNode().getG(), anytimeResult.getGoalNode().getG(), 0.0);
+		assertSame(solutions.get(solutions.size() - 1), anytimeResult.getGoalNode());
+		assertEquals(solutions.size(), anytimeResult.getNumSolutionsFound());
+
+		// bounds must never loosen
+		for (int i = 1; i < bounds.size(); i++)
+		{
+			assertTrue(bounds.get(i) >= 1.0);
+			assertTrue(bounds.get(i) <= bounds.get(i - 1));
+		}
+
+		logger.info(searchType + " " + searchMode + " anytime A* found " + solutions.size() + " solutions in " + anytimeResult.getNumIterations() + " iterations generating " + anytimeResult.getNumSearchNodesGenerated() + " nodes; bounds: " + bounds + "; A* generated " + aStarResult.getNumSearchNodesGenerated() + " nodes.");
+	}
+
+	private TravelingSalesmanSearchNode buildStartNode()
+	{
+		return new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS));
+	}
+
+}
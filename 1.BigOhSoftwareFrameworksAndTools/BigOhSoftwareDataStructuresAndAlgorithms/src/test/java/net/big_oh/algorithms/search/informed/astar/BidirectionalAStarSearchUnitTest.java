@@ -0,0 +1,388 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the BidirectionalAStarSearch class against a grid
+ * path-finding problem with direction-dependent move costs, and a longest-path
+ * problem on a small DAG.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class BidirectionalAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(BidirectionalAStarSearchUnitTest.class);
+
+	private static final int GRID_SIZE = 40;
+
+	private boolean[][] blocked;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		// vertical walls with a single gap each, alternating between the top
+		// and bottom of the grid
+		blocked = new boolean[GRID_SIZE][GRID_SIZE];
+		for (int x = 3; x < GRID_SIZE - 1; x += 4)
+		{
+			int gap = ((x / 4) % 2 == 0) ? 1 : GRID_SIZE - 2;
+			for (int y = 0; y < GRID_SIZE; y++)
+			{
+				blocked[x][y] = (y != gap);
+			}
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDoSearch_NullGoalNode()
+	{
+		buildSearch(0, 0, 0, 0).doSearch(new GridSearchNode(0, 0, 0, 0, null), null);
+	}
+
+	@Test
+	public void testDoSearch()
+	{
+		int[][] endpoints = { { 0, 0, GRID_SIZE - 1, GRID_SIZE - 1 }, { GRID_SIZE - 1, 0, 0, GRID_SIZE - 1 }, { 5, 20, 30, 7 }, { 0, 0, 2, 0 } };
+
+		for (int[] endpoint : endpoints)
+		{
+			int startX = endpoint[0], startY = endpoint[1], goalX = endpoint[2], goalY = endpoint[3];
+
+			AStarSearch<GridSearchNode> aStarSearch = new AStarSearch<GridSearchNode>(AStarSearchType.MIN, new ManhattanHeuristic(goalX, goalY), new GridNodesGenerator(true, goalX, goalY), AStarSearchMode.GRAPH);
+			AStarSearchResult<GridSearchNode> aStarResult = aStarSearch.doSearch(new GridSearchNode(startX, startY, goalX, goalY, null));
+
+			BidirectionalAStarSearchResult<GridSearchNode> result = buildSearch(startX, startY, goalX, goalY).doSearch(new GridSearchNode(startX, startY, goalX, goalY, null), new GridSearchNode(goalX, goalY, startX, startY, null));
+
+			// the two halves must meet at the same state and add up to an
+			// optimal path
+			assertTrue(result.getForwardMeetingNode().isSameState(result.getBackwardMeetingNode()));
+			assertEquals(aStarResult.getGoalNode().getG(), result.getPathCost(), 0.0);
+			assertEquals(result.getForwardMeetingNode().getG() + result.getBackwardMeetingNode().getG(), result.getPathCost(), 0.0);
+			assertTrue(result.getNumForwardExpansions() > 0 || result.getNumBackwardExpansions() > 0);
+
+			logger.info("Bidirectional A* found a path of cost " + result.getPathCost() + " expanding " + result.getNumForwardExpansions() + " nodes forward and " + result.getNumBackwardExpansions() + " nodes backward; A* generated " + aStarResult.getNumSearchNodesGenerated() + " nodes.");
+		}
+	}
+
+	@Test
+	public void testDoSearch_StartIsGoal()
+	{
+		GridSearchNode startNode = new GridSearchNode(4, 4, 4, 4, null);
+		BidirectionalAStarSearchResult<GridSearchNode> result = buildSearch(4, 4, 4, 4).doSearch(startNode, new GridSearchNode(4, 4, 4, 4, null));
+
+		assertSame(startNode, result.getGoalNode());
+		assertEquals(0.0, result.getPathCost(), 0.0);
+	}
+
+	@Test
+	public void testDoSearch_Unreachable()
+	{
+		// wall off the goal
+		blocked[GRID_SIZE - 2][GRID_SIZE - 1] = true;
+		blocked[GRID_SIZE - 1][GRID_SIZE - 2] = true;
+		blocked[GRID_SIZE - 2][GRID_SIZE - 2] = true;
+
+		BidirectionalAStarSearchResult<GridSearchNode> result = buildSearch(0, 0, GRID_SIZE - 1, GRID_SIZE - 1).doSearch(new GridSearchNode(0, 0, GRID_SIZE - 1, GRID_SIZE - 1, null), new GridSearchNode(GRID_SIZE - 1, GRID_SIZE - 1, 0, 0, null));
+
+		assertNull(result.getGoalNode());
+		assertNull(result.getBackwardMeetingNode());
+	}
+
+	/**
+	 * Finds the longest path in a small DAG whose nodes test for the goal node
+	 * through isGoalState(), as they would for AStarSearch. The backward
+	 * search must still estimate the goal node's remaining cost to the start,
+	 * or it would stop at the direct edge from start to goal.
+	 */
+	@Test
+	public void testDoSearch_Max()
+	{
+		// start 0 and goal 2, with a direct edge and a longer detour via 1
+		int[][] edges = { { 0, 2, 1 }, { 0, 1, 4 }, { 1, 2, 6 } };
+		double[] longestToGoal = { 10, 6, 0 };
+		double[] longestFromStart = { 0, 4, 10 };
+
+		BidirectionalAStarSearch<DagSearchNode> search = new BidirectionalAStarSearch<DagSearchNode>(AStarSearchType.MAX, new DagHeuristic(longestToGoal), new DagNodesGenerator(edges, true), new DagHeuristic(longestFromStart), new DagNodesGenerator(edges, false));
+		DagSearchNode goalNode = new DagSearchNode(2, null, 0);
+		assertTrue(goalNode.isGoalState());
+
+		BidirectionalAStarSearchResult<DagSearchNode> result = search.doSearch(new DagSearchNode(0, null, 0), goalNode);
+
+		assertEquals(10.0, result.getPathCost(), 0.0);
+		assertEquals(1, result.getForwardMeetingNode().id);
+	}
+
+	private BidirectionalAStarSearch<GridSearchNode> buildSearch(int startX, int startY, int goalX, int goalY)
+	{
+		return new BidirectionalAStarSearch<GridSearchNode>(AStarSearchType.MIN, new ManhattanHeuristic(goalX, goalY), new GridNodesGenerator(true, -1, -1), new ManhattanHeuristic(startX, startY), new GridNodesGenerator(false, -1, -1));
+	}
+
+	/**
+	 * The cost of moving onto a cell. Costs differ between neighboring cells,
+	 * so moving from a to b costs something different than moving from b to
+	 * a.
+	 */
+	private static int costToEnter(int x, int y)
+	{
+		return 1 + (7 * x + 3 * y) % 3;
+	}
+
+	private final class GridNodesGenerator extends NextNodesGenerator<GridSearchNode>
+	{
+		private final boolean isForward;
+		private final int targetX;
+		private final int targetY;
+
+		private GridNodesGenerator(boolean isForward, int targetX, int targetY)
+		{
+			this.isForward = isForward;
+			this.targetX = targetX;
+			this.targetY = targetY;
+		}
+
+		@Override
+		public Collection<GridSearchNode> getNextSearchNodes(GridSearchNode baseNode)
+		{
+			List<GridSearchNode> nextNodes = new ArrayList<GridSearchNode>(4);
+			if (baseNode.isGoalState())
+			{
+				return nextNodes;
+			}
+
+			int[][] moves = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+			for (int[] move : moves)
+			{
+				int x = baseNode.x + move[0];
+				int y = baseNode.y + move[1];
+				if (x >= 0 && y >= 0 && x < GRID_SIZE && y < GRID_SIZE && !blocked[x][y])
+				{
+					// a backward step from b to its predecessor a undoes the
+					// forward move from a to b, which costs entering b
+					int moveCost = isForward ? costToEnter(x, y) : costToEnter(baseNode.x, baseNode.y);
+					nextNodes.add(new GridSearchNode(x, y, targetX, targetY, baseNode, baseNode.cost + moveCost));
+				}
+			}
+			return nextNodes;
+		}
+	}
+
+	private static final class ManhattanHeuristic extends Heuristic<GridSearchNode>
+	{
+		private final int targetX;
+		private final int targetY;
+
+		private ManhattanHeuristic(int targetX, int targetY)
+		{
+			this.targetX = targetX;
+			this.targetY = targetY;
+		}
+
+		@Override
+		public double calculateH(GridSearchNode node)
+		{
+			// every move costs at least one
+			return Math.abs(node.x - targetX) + Math.abs(node.y - targetY);
+		}
+
+		@Override
+		public boolean isConsistent()
+		{
+			return true;
+		}
+	}
+
+	private static final class DagNodesGenerator extends NextNodesGenerator<DagSearchNode>
+	{
+		private final int[][] edges;
+		private final boolean isForward;
+
+		/**
+		 * @param edges
+		 *            Each edge is a {from, to, cost} triple.
+		 */
+		private DagNodesGenerator(int[][] edges, boolean isForward)
+		{
+			this.edges = edges;
+			this.isForward = isForward;
+		}
+
+		@Override
+		public Collection<DagSearchNode> getNextSearchNodes(DagSearchNode baseNode)
+		{
+			List<DagSearchNode> nextNodes = new ArrayList<DagSearchNode>();
+			for (int[] edge : edges)
+			{
+				int from = isForward ? edge[0] : edge[1];
+				int to = isForward ? edge[1] : edge[0];
+				if (from == baseNode.id)
+				{
+					nextNodes.add(new DagSearchNode(to, baseNode, baseNode.cost + edge[2]));
+				}
+			}
+			return nextNodes;
+		}
+	}
+
+	/**
+	 * Returns exact longest-path costs, which never underestimate.
+	 */
+	private static final class DagHeuristic extends Heuristic<DagSearchNode>
+	{
+		private final double[] longestPathCosts;
+
+		private DagHeuristic(double[] longestPathCosts)
+		{
+			this.longestPathCosts = longestPathCosts;
+		}
+
+		@Override
+		public double calculateH(DagSearchNode node)
+		{
+			return longestPathCosts[node.id];
+		}
+	}
+
+	/**
+	 * Node 2 is the goal, in both search directions.
+	 */
+	private static final class DagSearchNode extends AStarSearchNode
+	{
+		private final int id;
+		private final int cost;
+
+		private DagSearchNode(int id, DagSearchNode parent, int cost)
+		{
+			super((parent == null) ? 0 : parent.getNodeDepth() + 1);
+			this.id = id;
+			this.cost = cost;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return id == 2;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return cost;
+		}
+
+		@Override
+		public long getStateHash()
+		{
+			return id;
+		}
+
+		@Override
+		public boolean isSameState(AStarSearchNode other)
+		{
+			return id == ((DagSearchNode) other).id;
+		}
+	}
+
+	private static final class GridSearchNode extends AStarSearchNode
+	{
+		private final int x;
+		private final int y;
+		private final int targetX;
+		private final int targetY;
+		private final int cost;
+
+		private GridSearchNode(int x, int y, int targetX, int targetY, GridSearchNode parent)
+		{
+			this(x, y, targetX, targetY, parent, 0);
+		}
+
+		private GridSearchNode(int x, int y, int targetX, int targetY, GridSearchNode parent, int cost)
+		{
+			super((parent == null) ? 0 : parent.getNodeDepth() + 1);
+			this.x = x;
+			this.y = y;
+			this.targetX = targetX;
+			this.targetY = targetY;
+			this.cost = cost;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return x == targetX && y == targetY;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return cost;
+		}
+
+		@Override
+		public long getStateHash()
+		{
+			return ((long) x << 32) | y;
+		}
+
+		@Override
+		public boolean isSameState(AStarSearchNode other)
+		{
+			GridSearchNode otherNode = (GridSearchNode) other;
+			return x == otherNode.x && y == otherNode.y;
+		}
+	}
+
+}
@@ -0,0 +1,372 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the ExternalMemoryAStarSearch class against the
+ * sliding tile puzzle.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class ExternalMemoryAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(ExternalMemoryAStarSearchUnitTest.class);
+
+	private File directory;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = File.createTempFile("spill", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (File file : directory.listFiles())
+		{
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_NullSerializer()
+	{
+		new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), null, directory, 100);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_MissingDirectory()
+	{
+		new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), new SlidingTilePuzzleSerializer(), new File(directory, "missing"), 100);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalMaxNodesInMemory()
+	{
+		new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), new SlidingTilePuzzleSerializer(), directory, 0);
+	}
+
+	/**
+	 * Records must survive a round trip through buffers too small to hold
+	 * more than a few of them.
+	 */
+	@Test
+	public void testWriteAndRead() throws IOException
+	{
+		File file = new File(directory, "nodes");
+		ExternalNodeWriter<SlidingTilePuzzleSearchNode> writer = new ExternalNodeWriter<SlidingTilePuzzleSearchNode>(file, false, new SlidingTilePuzzleSerializer(), 1);
+		for (int i = 0; i < 100; i++)
+		{
+			writer.write(SlidingTilePuzzleSearchNode.scramble(i, i));
+		}
+		writer.close();
+		assertEquals(file.length(), writer.getNumBytesWritten());
+
+		ExternalNodeReader<SlidingTilePuzzleSearchNode> reader = new ExternalNodeReader<SlidingTilePuzzleSearchNode>(file, new SlidingTilePuzzleSerializer(), 1);
+		for (int i = 0; i < 100; i++)
+		{
+			SlidingTilePuzzleSearchNode expected = SlidingTilePuzzleSearchNode.scramble(i, i);
+			assertTrue(reader.advance());
+			assertTrue(expected.isSameState(reader.getNode()));
+			assertEquals(expected.getStateHash(), reader.getStateHash());
+			assertEquals(expected.getNodeDepth(), reader.getNode().getNodeDepth());
+		}
+		assertFalse(reader.advance());
+		reader.close();
+		assertEquals(file.length(), reader.getNumBytesRead());
+	}
+
+	/**
+	 * With a buffer far smaller than the search space, the external search
+	 * must spill nodes, eliminate duplicates on disk and still find optimal
+	 * solutions.
+	 */
+	@Test
+	public void testDoSearch() throws IOException
+	{
+		AStarSearch<SlidingTilePuzzleSearchNode> inMemorySearch = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+		ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode> externalSearch = new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), new SlidingTilePuzzleSerializer(), directory, 100);
+
+		for (long seed = 1; seed <= 5; seed++)
+		{
+			SlidingTilePuzzleSearchNode startNode = SlidingTilePuzzleSearchNode.scramble(100, seed);
+			AStarSearchResult<SlidingTilePuzzleSearchNode> expected = inMemorySearch.doSearch(startNode);
+			ExternalMemoryAStarSearchResult<SlidingTilePuzzleSearchNode> actual = externalSearch.doSearch(SlidingTilePuzzleSearchNode.scramble(100, seed));
+
+			assertNotNull(actual.getGoalNode());
+			assertEquals(expected.getGoalNode().getG(), actual.getGoalNode().getG(), 0.0);
+			assertEquals(AStarStopReason.GOAL_FOUND, actual.getStopReason());
+			assertTrue(actual.getNumBucketsExpanded() > 0);
+			assertEquals(0, directory.listFiles().length);
+
+			logger.info("Seed " + seed + ": solution cost " + actual.getGoalNode().getG() + "; spilled " + actual.getNumNodesSpilled() + " nodes, eliminated " + actual.getNumDuplicatesEliminated() + " duplicates, wrote " + actual.getNumBytesWritten() + " bytes and read " + actual.getNumBytesRead() + " bytes.");
+		}
+	}
+
+	/**
+	 * An unsolvable puzzle forces the search to visit every reachable state,
+	 * each of which must be expanded exactly once.
+	 */
+	@Test
+	public void testDoSearch_Exhausted() throws IOException
+	{
+		long unsolvableTiles = SlidingTilePuzzleSearchNode.GOAL_TILES ^ 0x3L;
+		ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode> externalSearch = new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), new SlidingTilePuzzleSerializer(), directory, 1000);
+		ExternalMemoryAStarSearchResult<SlidingTilePuzzleSearchNode> result = externalSearch.doSearch(new SlidingTilePuzzleSearchNode(unsolvableTiles, 0));
+
+		assertNull(result.getGoalNode());
+		assertEquals(AStarStopReason.SEARCH_SPACE_EXHAUSTED, result.getStopReason());
+		// 20160 states for each of the nine blank cells, which have 24 neighbors in all
+		assertEquals(1 + 20160 * 24, result.getNumSearchNodesGenerated());
+		assertTrue(result.getNumNodesSpilled() > 0);
+		assertTrue(result.getNumDuplicatesEliminated() > 0);
+		assertEquals(0, directory.listFiles().length);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalBucketWidth()
+	{
+		new ExternalMemoryAStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), new SlidingTilePuzzleSerializer(), directory, 100, -1);
+	}
+
+	/**
+	 * With real-valued step costs nearly every node has an f value of its own.
+	 * Each bucket expansion merges the whole closed list, so the number of
+	 * buckets expanded must be bounded by the range of f values over the
+	 * bucket width rather than by the number of nodes expanded, without
+	 * giving up optimality.
+	 */
+	@Test
+	public void testDoSearch_RealValuedCosts() throws IOException
+	{
+		AStarSearch<WeightedGridNode> inMemorySearch = new AStarSearch<WeightedGridNode>(AStarSearchType.MIN, new WeightedGridHeuristic(), new WeightedGridNextNodeGenerator(), AStarSearchMode.GRAPH);
+		double expectedCost = inMemorySearch.doSearch(new WeightedGridNode(0, 0, 0, 0)).getGoalNode().getG();
+
+		ExternalMemoryAStarSearch<WeightedGridNode> exactSearch = new ExternalMemoryAStarSearch<WeightedGridNode>(AStarSearchType.MIN, new WeightedGridHeuristic(), new WeightedGridNextNodeGenerator(), new WeightedGridSerializer(), directory, 50);
+		ExternalMemoryAStarSearchResult<WeightedGridNode> exactResult = exactSearch.doSearch(new WeightedGridNode(0, 0, 0, 0));
+		assertEquals(expectedCost, exactResult.getGoalNode().getG(), 1e-9);
+
+		double bucketWidth = 1.0;
+		ExternalMemoryAStarSearch<WeightedGridNode> bucketedSearch = new ExternalMemoryAStarSearch<WeightedGridNode>(AStarSearchType.MIN, new WeightedGridHeuristic(), new WeightedGridNextNodeGenerator(), new WeightedGridSerializer(), directory, 50, bucketWidth);
+		ExternalMemoryAStarSearchResult<WeightedGridNode> bucketedResult = bucketedSearch.doSearch(new WeightedGridNode(0, 0, 0, 0));
+		assertEquals(expectedCost, bucketedResult.getGoalNode().getG(), 1e-9);
+		assertEquals(0, directory.listFiles().length);
+
+		// f values range from h(start) to the solution cost; every bucket key
+		// in that range may be expanded a few times, as successors can land
+		// in the bucket that is being expanded
+		double startH = new WeightedGridHeuristic().getH(new WeightedGridNode(0, 0, 0, 0));
+		long numKeys = (long) Math.ceil((expectedCost - startH) / bucketWidth) + 1;
+		logger.info("Buckets expanded with real-valued costs: " + exactResult.getNumBucketsExpanded() + " exact, " + bucketedResult.getNumBucketsExpanded() + " with width " + bucketWidth + " (" + numKeys + " keys).");
+		assertTrue(bucketedResult.getNumBucketsExpanded() <= WeightedGridNode.MAX_PASSES_PER_KEY * numKeys);
+		assertTrue(bucketedResult.getNumBucketsExpanded() * 10 < exactResult.getNumBucketsExpanded());
+	}
+
+	private static final class SlidingTilePuzzleSerializer extends AStarSearchNodeSerializer<SlidingTilePuzzleSearchNode>
+	{
+		@Override
+		public int getMaxRecordSize()
+		{
+			return 8 + 4;
+		}
+
+		@Override
+		public void write(SlidingTilePuzzleSearchNode searchNode, ByteBuffer buffer)
+		{
+			buffer.putLong(searchNode.getTiles());
+			buffer.putInt(searchNode.getNodeDepth());
+		}
+
+		@Override
+		public SlidingTilePuzzleSearchNode read(ByteBuffer buffer)
+		{
+			long tiles = buffer.getLong();
+			return new SlidingTilePuzzleSearchNode(tiles, buffer.getInt());
+		}
+	}
+
+	/**
+	 * A cell of a square grid, entered at a cost between one and two that
+	 * depends on the cell.
+	 */
+	private static final class WeightedGridNode extends AStarSearchNode
+	{
+		private static final int SIZE = 24;
+
+		/**
+		 * Moving towards the goal raises f by the entry cost minus one, which
+		 * is at least MIN_EXTRA_COST, so a path stays within a bucket of width
+		 * one for no more than this many steps.
+		 */
+		private static final int MAX_PASSES_PER_KEY = 10;
+		private static final double MIN_EXTRA_COST = 0.1;
+
+		private final int x;
+		private final int y;
+		private final double g;
+
+		private WeightedGridNode(int x, int y, double g, int nodeDepth)
+		{
+			super(nodeDepth);
+			this.x = x;
+			this.y = y;
+			this.g = g;
+		}
+
+		private static double getEntryCost(int x, int y)
+		{
+			return 1 + MIN_EXTRA_COST + ((x * 7919 + y * 104729) % 997) * 0.8 / 997;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return x == SIZE - 1 && y == SIZE - 1;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return g;
+		}
+
+		@Override
+		public long getStateHash()
+		{
+			return x * SIZE + y;
+		}
+
+		@Override
+		public boolean isSameState(AStarSearchNode other)
+		{
+			WeightedGridNode otherNode = (WeightedGridNode) other;
+			return x == otherNode.x && y == otherNode.y;
+		}
+	}
+
+	private static final class WeightedGridHeuristic extends Heuristic<WeightedGridNode>
+	{
+		@Override
+		protected double calculateH(WeightedGridNode node)
+		{
+			// every step costs at least one
+			return (WeightedGridNode.SIZE - 1 - node.x) + (WeightedGridNode.SIZE - 1 - node.y);
+		}
+
+		@Override
+		public boolean isConsistent()
+		{
+			return true;
+		}
+	}
+
+	private static final class WeightedGridNextNodeGenerator extends NextNodesGenerator<WeightedGridNode>
+	{
+		private static final int[][] MOVES = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+
+		@Override
+		public Collection<WeightedGridNode> getNextSearchNodes(WeightedGridNode node)
+		{
+			List<WeightedGridNode> nextNodes = new ArrayList<WeightedGridNode>(MOVES.length);
+			if (node.isGoalState())
+			{
+				return nextNodes;
+			}
+			for (int[] move : MOVES)
+			{
+				int x = node.x + move[0];
+				int y = node.y + move[1];
+				if (x >= 0 && x < WeightedGridNode.SIZE && y >= 0 && y < WeightedGridNode.SIZE)
+				{
+					nextNodes.add(new WeightedGridNode(x, y, node.g + WeightedGridNode.getEntryCost(x, y), node.getNodeDepth() + 1));
+				}
+			}
+			return nextNodes;
+		}
+	}
+
+	private static final class WeightedGridSerializer extends AStarSearchNodeSerializer<WeightedGridNode>
+	{
+		@Override
+		public int getMaxRecordSize()
+		{
+			return 4 + 4 + 8 + 4;
+		}
+
+		@Override
+		public void write(WeightedGridNode searchNode, ByteBuffer buffer)
+		{
+			buffer.putInt(searchNode.x);
+			buffer.putInt(searchNode.y);
+			buffer.putDouble(searchNode.g);
+			buffer.putInt(searchNode.getNodeDepth());
+		}
+
+		@Override
+		public WeightedGridNode read(ByteBuffer buffer)
+		{
+			int x = buffer.getInt();
+			int y = buffer.getInt();
+			double g = buffer.getDouble();
+			return new WeightedGridNode(x, y, g, buffer.getInt());
+		}
+	}
+
+}
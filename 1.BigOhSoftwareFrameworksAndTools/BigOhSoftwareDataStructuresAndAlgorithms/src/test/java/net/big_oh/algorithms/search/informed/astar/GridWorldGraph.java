@@ -0,0 +1,174 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A four-connected grid of cells, any of which may be blocked, for exercising
+ * incremental searches. Cells are identified by their index (row * width +
+ * column), and every step into or out of a blocked cell costs
+ * {@link Double#POSITIVE_INFINITY}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class GridWorldGraph extends IncrementalSearchGraph<Integer>
+{
+
+	private final int width;
+	private final int height;
+	private final boolean[] blocked;
+
+	public GridWorldGraph(int width, int height)
+	{
+		this.width = width;
+		this.height = height;
+		this.blocked = new boolean[width * height];
+	}
+
+	public int getNumCells()
+	{
+		return blocked.length;
+	}
+
+	public boolean isBlocked(int cell)
+	{
+		return blocked[cell];
+	}
+
+	/**
+	 * Blocks or unblocks a cell and reports the cost changes of all adjacent
+	 * edges to search (if not null).
+	 */
+	public void setBlocked(int cell, boolean isBlocked, IncrementalAStarSearch<Integer> search)
+	{
+		if (blocked[cell] == isBlocked)
+		{
+			return;
+		}
+
+		blocked[cell] = isBlocked;
+		if (search != null)
+		{
+			for (Integer neighbor : getSuccessors(cell))
+			{
+				search.notifyEdgeCostChanged(cell, neighbor);
+				search.notifyEdgeCostChanged(neighbor, cell);
+			}
+		}
+	}
+
+	@Override
+	public Collection<Integer> getSuccessors(Integer state)
+	{
+		int cell = state.intValue();
+		int row = cell / width;
+		int column = cell % width;
+
+		List<Integer> neighbors = new ArrayList<Integer>(4);
+		if (row > 0)
+		{
+			neighbors.add(cell - width);
+		}
+		if (row < height - 1)
+		{
+			neighbors.add(cell + width);
+		}
+		if (column > 0)
+		{
+			neighbors.add(cell - 1);
+		}
+		if (column < width - 1)
+		{
+			neighbors.add(cell + 1);
+		}
+		return neighbors;
+	}
+
+	@Override
+	public Collection<Integer> getPredecessors(Integer state)
+	{
+		return getSuccessors(state);
+	}
+
+	@Override
+	public double getCost(Integer from, Integer to)
+	{
+		return (blocked[from.intValue()] || blocked[to.intValue()]) ? Double.POSITIVE_INFINITY : 1.0;
+	}
+
+	@Override
+	public double estimateCost(Integer from, Integer to)
+	{
+		int fromCell = from.intValue();
+		int toCell = to.intValue();
+		return Math.abs(fromCell / width - toCell / width) + Math.abs(fromCell % width - toCell % width);
+	}
+
+	/**
+	 * Computes the length of the shortest path between two cells with a
+	 * breadth first search.
+	 * 
+	 * @return Returns the length of the path, or
+	 *         {@link Double#POSITIVE_INFINITY} if there is none.
+	 */
+	public double getShortestPathLength(int fromCell, int toCell)
+	{
+		if (blocked[fromCell] || blocked[toCell])
+		{
+			return Double.POSITIVE_INFINITY;
+		}
+
+		int[] distances = new int[blocked.length];
+		Arrays.fill(distances, -1);
+		distances[fromCell] = 0;
+		LinkedList<Integer> frontier = new LinkedList<Integer>();
+		frontier.add(fromCell);
+		while (!frontier.isEmpty())
+		{
+			int cell = frontier.removeFirst();
+			if (cell == toCell)
+			{
+				return distances[cell];
+			}
+			for (Integer neighbor : getSuccessors(cell))
+			{
+				if (!blocked[neighbor] && distances[neighbor] < 0)
+				{
+					distances[neighbor] = distances[cell] + 1;
+					frontier.add(neighbor);
+				}
+			}
+		}
+		return Double.POSITIVE_INFINITY;
+	}
+
+}
@@ -0,0 +1,234 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the IncrementalAStarSearch class on a grid world
+ * whose cells are blocked and unblocked between replans.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class IncrementalAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(IncrementalAStarSearchUnitTest.class);
+
+	private static final int WIDTH = 40;
+	private static final int HEIGHT = 40;
+
+	private GridWorldGraph graph;
+	private int startCell;
+	private int goalCell;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		graph = new GridWorldGraph(WIDTH, HEIGHT);
+		startCell = 0;
+		goalCell = WIDTH * HEIGHT - 1;
+
+		Random random = new Random(7);
+		for (int cell = 0; cell < graph.getNumCells(); cell++)
+		{
+			if (cell != startCell && cell != goalCell && random.nextInt(5) == 0)
+			{
+				graph.setBlocked(cell, true, null);
+			}
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_NullGoal()
+	{
+		new IncrementalAStarSearch<Integer>(graph, startCell, null);
+	}
+
+	@Test
+	public void testComputePath()
+	{
+		IncrementalAStarSearch<Integer> search = new IncrementalAStarSearch<Integer>(graph, startCell, goalCell);
+		IncrementalAStarSearchResult<Integer> result = search.computePath();
+
+		assertTrue(result.isPathFound());
+		assertEquals(graph.getShortestPathLength(startCell, goalCell), result.getPathCost(), 0.0);
+		assertPathValid(result.getPath(), startCell, result.getPathCost());
+
+		// without changes, a replan has nothing to repair
+		IncrementalAStarSearchResult<Integer> replanResult = search.computePath();
+		assertEquals(result.getPathCost(), replanResult.getPathCost(), 0.0);
+		assertEquals(0, replanResult.getNumStatesExpanded());
+
+		// but extracting the path still examines every state along it
+		assertTrue(replanResult.getNumStatesTouched() >= replanResult.getPath().size());
+	}
+
+	/**
+	 * Replans after small changes must find optimal paths while expanding a
+	 * fraction of the states expanded by the initial search.
+	 */
+	@Test
+	public void testReplanAfterEdgeCostChanges()
+	{
+		IncrementalAStarSearch<Integer> search = new IncrementalAStarSearch<Integer>(graph, startCell, goalCell);
+		IncrementalAStarSearchResult<Integer> initialResult = search.computePath();
+
+		Random random = new Random(11);
+		long totalReplanExpansions = 0;
+		int numReplans = 50;
+		for (int i = 0; i < numReplans; i++)
+		{
+			int cell = random.nextInt(graph.getNumCells());
+			if (cell == startCell || cell == goalCell)
+			{
+				continue;
+			}
+			graph.setBlocked(cell, !graph.isBlocked(cell), search);
+
+			IncrementalAStarSearchResult<Integer> result = search.computePath();
+			double expectedCost = graph.getShortestPathLength(startCell, goalCell);
+			assertEquals(expectedCost, result.getPathCost(), 0.0);
+			if (result.isPathFound())
+			{
+				assertPathValid(result.getPath(), startCell, expectedCost);
+			}
+			totalReplanExpansions += result.getNumStatesExpanded();
+		}
+
+		double averageReplanExpansions = (double) totalReplanExpansions / numReplans;
+		assertTrue(averageReplanExpansions < initialResult.getNumStatesExpanded() / 4.0);
+
+		logger.info("Initial search expanded " + initialResult.getNumStatesExpanded() + " states; replans expanded " + averageReplanExpansions + " states on average.");
+	}
+
+	/**
+	 * An agent walking along its path must keep finding optimal paths from its
+	 * current position as cells ahead of it become blocked.
+	 */
+	@Test
+	public void testMoveStart()
+	{
+		IncrementalAStarSearch<Integer> search = new IncrementalAStarSearch<Integer>(graph, startCell, goalCell);
+		IncrementalAStarSearchResult<Integer> result = search.computePath();
+
+		Random random = new Random(13);
+		int currentCell = startCell;
+		int numMoves = 0;
+		while (currentCell != goalCell)
+		{
+			assertTrue(result.isPathFound());
+			assertEquals(graph.getShortestPathLength(currentCell, goalCell), result.getPathCost(), 0.0);
+			assertPathValid(result.getPath(), currentCell, result.getPathCost());
+
+			currentCell = result.getPath().get(1);
+			search.moveStart(currentCell);
+			numMoves++;
+
+			// block a cell on the remaining path, if that leaves the goal reachable
+			List<Integer> path = result.getPath();
+			if (path.size() > 3)
+			{
+				int cell = path.get(2 + random.nextInt(path.size() - 3));
+				graph.setBlocked(cell, true, search);
+				if (graph.getShortestPathLength(currentCell, goalCell) == Double.POSITIVE_INFINITY)
+				{
+					graph.setBlocked(cell, false, search);
+				}
+			}
+
+			result = search.computePath();
+		}
+
+		assertEquals(Integer.valueOf(goalCell), search.getStartState());
+		assertEquals(0.0, result.getPathCost(), 0.0);
+		logger.info("Reached the goal after " + numMoves + " moves.");
+	}
+
+	@Test
+	public void testUnreachableGoal()
+	{
+		IncrementalAStarSearch<Integer> search = new IncrementalAStarSearch<Integer>(graph, startCell, goalCell);
+		assertTrue(search.computePath().isPathFound());
+
+		// wall the goal off, then open it up again
+		int[] goalNeighbors = { goalCell - 1, goalCell - WIDTH };
+		boolean[] wasBlocked = new boolean[goalNeighbors.length];
+		for (int i = 0; i < goalNeighbors.length; i++)
+		{
+			wasBlocked[i] = graph.isBlocked(goalNeighbors[i]);
+			graph.setBlocked(goalNeighbors[i], true, search);
+		}
+
+		IncrementalAStarSearchResult<Integer> result = search.computePath();
+		assertFalse(result.isPathFound());
+		assertTrue(result.getPath().isEmpty());
+		assertEquals(Double.POSITIVE_INFINITY, result.getPathCost(), 0.0);
+
+		for (int i = 0; i < goalNeighbors.length; i++)
+		{
+			graph.setBlocked(goalNeighbors[i], wasBlocked[i], search);
+		}
+		result = search.computePath();
+		assertTrue(result.isPathFound());
+		assertEquals(graph.getShortestPathLength(startCell, goalCell), result.getPathCost(), 0.0);
+	}
+
+	private void assertPathValid(List<Integer> path, int fromCell, double expectedCost)
+	{
+		assertEquals(Integer.valueOf(fromCell), path.get(0));
+		assertEquals(Integer.valueOf(goalCell), path.get(path.size() - 1));
+		assertEquals(expectedCost, path.size() - 1, 0.0);
+		for (int i = 1; i < path.size(); i++)
+		{
+			assertEquals(1.0, graph.getCost(path.get(i - 1), path.get(i)), 0.0);
+		}
+	}
+
+}
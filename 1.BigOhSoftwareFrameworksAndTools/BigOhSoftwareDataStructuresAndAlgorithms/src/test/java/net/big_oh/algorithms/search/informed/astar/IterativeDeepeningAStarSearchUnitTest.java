@@ -0,0 +1,129 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.IterativeDeepeningAStarSearchResult.Iteration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the IterativeDeepeningAStarSearch class against the
+ * Traveling Salesman test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class IterativeDeepeningAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(IterativeDeepeningAStarSearchUnitTest.class);
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void testMinDoSearch()
+	{
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), true);
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), false);
+	}
+
+	@Test
+	public void testMaxDoSearch()
+	{
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic(), true);
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic(), false);
+	}
+
+	private void testDoSearch(AStarSearchType searchType, Heuristic<TravelingSalesmanSearchNode> heuristic, boolean orderSuccessorsByF)
+	{
+		AStarSearch<TravelingSalesmanSearchNode> aStarSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator());
+		AStarSearchResult<TravelingSalesmanSearchNode> aStarResult = aStarSearch.doSearch(buildStartNode());
+
+		IterativeDeepeningAStarSearch<TravelingSalesmanSearchNode> idaStarSearch = new IterativeDeepeningAStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), orderSuccessorsByF);
+		IterativeDeepeningAStarSearchResult<TravelingSalesmanSearchNode> idaStarResult = idaStarSearch.doSearch(buildStartNode());
+
+		// IDA* must find a solution of the same cost as A*
+		assertNotNull(idaStarResult.getGoalNode());
+		assertEquals(aStarResult.getGoalNode().getG(), idaStarResult.getGoalNode().getG(), 0.0);
+		assertTrue(idaStarResult.getEfectiveBranchingFactor() >= 1.0);
+
+		// thresholds must move monotonically toward the solution cost
+		List<Iteration> iterations = idaStarResult.getIterations();
+		assertFalse(iterations.isEmpty());
+		long totalGenerated = 0;
+		for (int i = 0; i < iterations.size(); i++)
+		{
+			Iteration iteration = iterations.get(i);
+			if (i > 0)
+			{
+				double previousThreshold = iterations.get(i - 1).getThreshold();
+				assertTrue((searchType == AStarSearchType.MIN) ? iteration.getThreshold() > previousThreshold : iteration.getThreshold() < previousThreshold);
+			}
+			totalGenerated += iteration.getNumSearchNodesGenerated();
+		}
+		assertEquals(totalGenerated, idaStarResult.getNumSearchNodesGenerated());
+
+		// the goal must lie within the threshold of the final iteration
+		double finalThreshold = iterations.get(iterations.size() - 1).getThreshold();
+		assertTrue((searchType == AStarSearchType.MIN) ? idaStarResult.getGoalNode().getG() <= finalThreshold : idaStarResult.getGoalNode().getG() >= finalThreshold);
+
+		logger.info(searchType + " IDA* (ordered=" + orderSuccessorsByF + ") path: " + idaStarResult.getGoalNode().getPathAsString() + " in " + iterations.size() + " iterations generating " + idaStarResult.getNumSearchNodesGenerated() + " nodes; A* generated " + aStarResult.getNumSearchNodesGenerated() + " nodes.");
+	}
+
+	private TravelingSalesmanSearchNode buildStartNode()
+	{
+		return new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS));
+	}
+
+}
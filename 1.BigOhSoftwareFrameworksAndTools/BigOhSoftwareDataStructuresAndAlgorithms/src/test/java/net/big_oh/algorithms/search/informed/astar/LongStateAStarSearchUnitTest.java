@@ -0,0 +1,335 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the LongStateAStarSearch class against the 8-puzzle
+ * and a job scheduling test problem, and comparing its speed with that of
+ * AStarSearch.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class LongStateAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(LongStateAStarSearchUnitTest.class);
+
+	private static final int NUM_FOOTPRINT_NODES = 200000;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	/**
+	 * Both engines must find paths of the same cost, and the reconstructed
+	 * path must be a legal sequence of moves from the start to the goal.
+	 */
+	@Test
+	public void testMinDoSearch()
+	{
+		AStarSearch<SlidingTilePuzzleSearchNode> objectSearch = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+		LongStateAStarSearch longStateSearch = new LongStateAStarSearch(AStarSearchType.MIN, new SlidingTilePuzzleProblem(), new SlidingTilePuzzleHeuristic());
+
+		long objectNanos = 0;
+		long longStateNanos = 0;
+		for (int seed = 0; seed < 10; seed++)
+		{
+			SlidingTilePuzzleSearchNode startNode = SlidingTilePuzzleSearchNode.scramble(100, seed);
+
+			long nanos = System.nanoTime();
+			AStarSearchResult<SlidingTilePuzzleSearchNode> objectResult = objectSearch.doSearch(startNode);
+			objectNanos += System.nanoTime() - nanos;
+
+			nanos = System.nanoTime();
+			LongStateAStarSearchResult longStateResult = longStateSearch.doSearch(startNode.getTiles());
+			longStateNanos += System.nanoTime() - nanos;
+
+			assertTrue(longStateResult.isGoalFound());
+			assertEquals(AStarStopReason.GOAL_FOUND, longStateResult.getStopReason());
+			assertEquals(objectResult.getGoalNode().getG(), longStateResult.getPathCost(), 0.0);
+
+			long[] path = longStateResult.getPath();
+			assertEquals(longStateResult.getPathCost(), path.length - 1, 0.0);
+			assertEquals(startNode.getTiles(), path[0]);
+			assertEquals(SlidingTilePuzzleSearchNode.GOAL_TILES, path[path.length - 1]);
+			for (int i = 1; i < path.length; i++)
+			{
+				assertTrue(isSingleMove(path[i - 1], path[i]));
+			}
+		}
+
+		logger.info("Solved 10 8-puzzles in " + (objectNanos / 1000000) + " ms with AStarSearch and " + (longStateNanos / 1000000) + " ms with LongStateAStarSearch.");
+	}
+
+	/**
+	 * Schedule jobs one after another so as to maximize the total reward,
+	 * where a job earns its weight for every time slot left after it starts.
+	 */
+	@Test
+	public void testMaxDoSearch()
+	{
+		double[] weights = { 3, 9, 1, 7, 4, 8, 2, 6, 5 };
+		LongStateAStarSearchResult result = new LongStateAStarSearch(AStarSearchType.MAX, new SchedulingProblem(weights), new SchedulingHeuristic(weights)).doSearch(0L);
+
+		// the optimal schedule runs the heaviest jobs first
+		double expectedReward = 0;
+		for (int position = 0; position < weights.length; position++)
+		{
+			expectedReward += (9 - position) * (weights.length - position);
+		}
+
+		assertTrue(result.isGoalFound());
+		assertEquals(expectedReward, result.getPathCost(), 0.0);
+		assertEquals(weights.length + 1, result.getPath().length);
+		assertEquals(1L << 1, result.getPath()[1]);
+		assertTrue(result.getEfectiveBranchingFactor() >= 1.0);
+	}
+
+	@Test
+	public void testDoSearch_ExpansionLimitReached()
+	{
+		SlidingTilePuzzleSearchNode startNode = SlidingTilePuzzleSearchNode.scramble(100, 1);
+		AStarSearchBudget budget = new AStarSearchBudget(10, Integer.MAX_VALUE, Long.MAX_VALUE, null);
+		LongStateAStarSearchResult result = new LongStateAStarSearch(AStarSearchType.MIN, new SlidingTilePuzzleProblem(), new SlidingTilePuzzleHeuristic()).doSearch(startNode.getTiles(), budget);
+
+		assertFalse(result.isGoalFound());
+		assertEquals(AStarStopReason.EXPANSION_LIMIT_REACHED, result.getStopReason());
+		assertEquals(10, result.getNumStatesExpanded());
+		assertEquals(startNode.getTiles(), result.getPath()[0]);
+	}
+
+	/**
+	 * Half of the 8-puzzle's configurations cannot reach the goal.
+	 */
+	@Test
+	public void testDoSearch_SearchSpaceExhausted()
+	{
+		long unsolvableTiles = SlidingTilePuzzleSearchNode.GOAL_TILES ^ 0x33L; // swap tiles 1 and 2
+		LongStateAStarSearchResult result = new LongStateAStarSearch(AStarSearchType.MIN, new SlidingTilePuzzleProblem(), new SlidingTilePuzzleHeuristic()).doSearch(unsolvableTiles);
+
+		assertFalse(result.isGoalFound());
+		assertEquals(AStarStopReason.SEARCH_SPACE_EXHAUSTED, result.getStopReason());
+		assertEquals(181440, result.getNumStatesStored());
+		assertEquals(181440, result.getNumStatesExpanded());
+
+		logger.info("Exhausted the 8-puzzle using " + Math.round(result.getBytesPerStateStored()) + " bytes per state.");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_NullHeuristic()
+	{
+		new LongStateAStarSearch(AStarSearchType.MIN, new SlidingTilePuzzleProblem(), null);
+	}
+
+	/**
+	 * Checks the bytes allocated per stored state against the layout of the
+	 * node store and open list, with every other state left open: 20 bytes of
+	 * node data, at most 32/3 bytes of hash slots at the minimum load factor,
+	 * and at most 9 bytes of heap (12 bytes per open state, 1.5x capacity).
+	 */
+	@Test
+	public void testNumBytesAllocated()
+	{
+		LongStateOpenList openList = new LongStateOpenList();
+		LongStateTable table = new LongStateTable();
+		for (int i = 0; i < NUM_FOOTPRINT_NODES; i++)
+		{
+			long tiles = SlidingTilePuzzleSearchNode.GOAL_TILES ^ ((long) i << 40);
+			int node = table.insert(tiles, 1, i - 1);
+			if (i % 2 == 0)
+			{
+				openList.add(node, 1 + SlidingTilePuzzleManhattanHeuristic.calculateManhattanDistance(tiles));
+			}
+		}
+		assertEquals(NUM_FOOTPRINT_NODES, table.size());
+		assertEquals(NUM_FOOTPRINT_NODES / 2, openList.size());
+
+		double bytesPerNode = (double) (table.getNumBytesAllocated() + openList.getNumBytesAllocated()) / NUM_FOOTPRINT_NODES;
+		logger.info("Bytes allocated per stored state: " + Math.round(bytesPerNode));
+
+		assertTrue(bytesPerNode > 20);
+		assertTrue(bytesPerNode < 42);
+	}
+
+	private static boolean isSingleMove(long tiles, long nextTiles)
+	{
+		int[] neighbors = new int[4];
+		int numNeighbors = SlidingTilePuzzleSearchNode.getNeighborCells(SlidingTilePuzzleSearchNode.findBlankCell(tiles), neighbors);
+		for (int i = 0; i < numNeighbors; i++)
+		{
+			if (SlidingTilePuzzleSearchNode.slide(tiles, neighbors[i]) == nextTiles)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The 8-puzzle, with the tiles packed as in SlidingTilePuzzleSearchNode.
+	 */
+	private static final class SlidingTilePuzzleProblem extends LongStateSearchProblem
+	{
+		private final int[] neighbors = new int[4];
+
+		@Override
+		public boolean isGoalState(long state)
+		{
+			return state == SlidingTilePuzzleSearchNode.GOAL_TILES;
+		}
+
+		@Override
+		public int getMaxNumSuccessors()
+		{
+			return 4;
+		}
+
+		@Override
+		public int getSuccessors(long state, long[] successors, double[] stepCosts)
+		{
+			int numNeighbors = SlidingTilePuzzleSearchNode.getNeighborCells(SlidingTilePuzzleSearchNode.findBlankCell(state), neighbors);
+			for (int i = 0; i < numNeighbors; i++)
+			{
+				successors[i] = SlidingTilePuzzleSearchNode.slide(state, neighbors[i]);
+				stepCosts[i] = 1;
+			}
+			return numNeighbors;
+		}
+	}
+
+	private static final class SlidingTilePuzzleHeuristic extends LongStateHeuristic
+	{
+		@Override
+		public double calculateH(long state)
+		{
+			return SlidingTilePuzzleManhattanHeuristic.calculateManhattanDistance(state);
+		}
+
+		@Override
+		public boolean isConsistent()
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * States are bitmasks of the jobs scheduled so far.
+	 */
+	private static final class SchedulingProblem extends LongStateSearchProblem
+	{
+		private final double[] weights;
+
+		public SchedulingProblem(double[] weights)
+		{
+			this.weights = weights;
+		}
+
+		@Override
+		public boolean isGoalState(long state)
+		{
+			return Long.bitCount(state) == weights.length;
+		}
+
+		@Override
+		public int getMaxNumSuccessors()
+		{
+			return weights.length;
+		}
+
+		@Override
+		public int getSuccessors(long state, long[] successors, double[] stepCosts)
+		{
+			int slotsLeft = weights.length - Long.bitCount(state);
+			int numSuccessors = 0;
+			for (int job = 0; job < weights.length; job++)
+			{
+				if ((state & (1L << job)) == 0)
+				{
+					successors[numSuccessors] = state | (1L << job);
+					stepCosts[numSuccessors] = weights[job] * slotsLeft;
+					numSuccessors++;
+				}
+			}
+			return numSuccessors;
+		}
+	}
+
+	/**
+	 * Never underestimates the remaining reward: every unscheduled job is
+	 * assumed to start in the next slot.
+	 */
+	private static final class SchedulingHeuristic extends LongStateHeuristic
+	{
+		private final double[] weights;
+
+		public SchedulingHeuristic(double[] weights)
+		{
+			this.weights = weights;
+		}
+
+		@Override
+		public double calculateH(long state)
+		{
+			int slotsLeft = weights.length - Long.bitCount(state);
+			double h = 0;
+			for (int job = 0; job < weights.length; job++)
+			{
+				if ((state & (1L << job)) == 0)
+				{
+					h += weights[job] * slotsLeft;
+				}
+			}
+			return h;
+		}
+	}
+
+}
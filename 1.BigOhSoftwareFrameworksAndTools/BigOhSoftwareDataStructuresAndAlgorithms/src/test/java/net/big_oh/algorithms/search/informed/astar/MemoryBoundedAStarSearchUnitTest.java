@@ -0,0 +1,138 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the MemoryBoundedAStarSearch class against the
+ * Traveling Salesman test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class MemoryBoundedAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(MemoryBoundedAStarSearchUnitTest.class);
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalBudget()
+	{
+		new MemoryBoundedAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator(), 1);
+	}
+
+	@Test
+	public void testMinDoSearch()
+	{
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic());
+	}
+
+	@Test
+	public void testMaxDoSearch()
+	{
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic());
+	}
+
+	/**
+	 * A budget smaller than the depth of every solution leaves no solution
+	 * reachable.
+	 */
+	@Test
+	public void testDoSearch_BudgetTooSmall()
+	{
+		MemoryBoundedAStarSearch<TravelingSalesmanSearchNode> search = new MemoryBoundedAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator(), 3);
+		MemoryBoundedAStarSearchResult<TravelingSalesmanSearchNode> result = search.doSearch(buildStartNode());
+
+		assertNull(result.getGoalNode());
+		assertTrue(result.getMaxNumNodesRetained() <= 3);
+	}
+
+	private void testDoSearch(AStarSearchType searchType, Heuristic<TravelingSalesmanSearchNode> heuristic)
+	{
+		AStarSearch<TravelingSalesmanSearchNode> aStarSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator());
+		AStarSearchResult<TravelingSalesmanSearchNode> aStarResult = aStarSearch.doSearch(buildStartNode());
+
+		int solutionDepth = aStarResult.getGoalNode().getNodeDepth();
+		// the smallest useful budget holds a single path from the start node
+		// to the goal
+		for (int budget : new int[] { Integer.MAX_VALUE, 100, 30, 2 * solutionDepth, solutionDepth + 1 })
+		{
+			MemoryBoundedAStarSearch<TravelingSalesmanSearchNode> smaStarSearch = new MemoryBoundedAStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), budget);
+			MemoryBoundedAStarSearchResult<TravelingSalesmanSearchNode> smaStarResult = smaStarSearch.doSearch(buildStartNode());
+
+			// SMA* must find a solution of the same cost as A* while staying
+			// within its budget
+			assertNotNull(smaStarResult.getGoalNode());
+			assertEquals(aStarResult.getGoalNode().getG(), smaStarResult.getGoalNode().getG(), 0.0);
+			assertTrue(smaStarResult.getMaxNumNodesRetained() <= budget);
+			assertTrue(smaStarResult.getNumNodesRegenerated() <= smaStarResult.getNumNodesForgotten());
+
+			if (budget == Integer.MAX_VALUE)
+			{
+				assertEquals(0, smaStarResult.getNumNodesForgotten());
+			}
+
+			logger.info(searchType + " SMA* (budget=" + budget + ") path: " + smaStarResult.getGoalNode().getPathAsString() + " retaining at most " + smaStarResult.getMaxNumNodesRetained() + " nodes; forgot " + smaStarResult.getNumNodesForgotten() + " and regenerated " + smaStarResult.getNumNodesRegenerated() + " nodes.");
+		}
+	}
+
+	private TravelingSalesmanSearchNode buildStartNode()
+	{
+		return new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS));
+	}
+
+}
@@ -0,0 +1,284 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the ParallelAStarSearch class against the Traveling
+ * Salesman test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class ParallelAStarSearchUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(ParallelAStarSearchUnitTest.class);
+
+	/**
+	 * The number of times each search is repeated in an effort to expose
+	 * thread scheduling issues.
+	 */
+	private static final int NUM_REPETITIONS = 25;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructor_IllegalNumWorkers()
+	{
+		new ParallelAStarSearch<TravelingSalesmanSearchNode>(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic(), new TravelingSalesmanNextNodeGenerator(), 0);
+	}
+
+	@Test
+	public void testMinDoSearch()
+	{
+		testDoSearch(AStarSearchType.MIN, new TravelingSalesmanMinHeuristic());
+	}
+
+	@Test
+	public void testMaxDoSearch()
+	{
+		testDoSearch(AStarSearchType.MAX, new TravelingSalesmanMaxHeuristic());
+	}
+
+	private void testDoSearch(AStarSearchType searchType, Heuristic<TravelingSalesmanSearchNode> heuristic)
+	{
+		AStarSearch<TravelingSalesmanSearchNode> sequentialSearch = new AStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator());
+		double expectedCost = sequentialSearch.doSearch(buildStartNode()).getGoalNode().getG();
+
+		for (int numWorkers : new int[] { 1, 2, 4, 8 })
+		{
+			ParallelAStarSearch<TravelingSalesmanSearchNode> parallelSearch = new ParallelAStarSearch<TravelingSalesmanSearchNode>(searchType, heuristic, new TravelingSalesmanNextNodeGenerator(), numWorkers);
+
+			for (int i = 0; i < NUM_REPETITIONS; i++)
+			{
+				ParallelAStarSearchResult<TravelingSalesmanSearchNode> result = parallelSearch.doSearch(buildStartNode());
+
+				assertNotNull(result.getGoalNode());
+				assertEquals(expectedCost, result.getGoalNode().getG(), 0.0);
+				assertEquals(numWorkers, result.getNumWorkers());
+				assertTrue(result.getNumExpansions() > 0);
+				assertTrue(result.getEfectiveBranchingFactor() >= 1.0);
+				if (numWorkers == 1)
+				{
+					assertEquals(0, result.getNumMessagesSent());
+				}
+
+				if (i == 0)
+				{
+					logger.info(searchType + " parallel A* with " + numWorkers + " workers: expansions per worker " + Arrays.toString(result.getNumExpansionsPerWorker()) + ", messages " + result.getNumMessagesSent() + ", duplicate expansions " + result.getNumDuplicateExpansions());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Worker 1 closes the target state along an expensive path while worker
+	 * 0 is still generating the cheap path to it. The cheap path arrives after
+	 * the target was closed and must reopen it, even though the heuristic is
+	 * consistent.
+	 */
+	@Test
+	public void testDoSearch_ConsistentHeuristic_LateBetterPath()
+	{
+		ParallelAStarSearch<LatePathNode> parallelSearch = new ParallelAStarSearch<LatePathNode>(AStarSearchType.MIN, new LatePathHeuristic(), null, 2);
+
+		int start = nextStateOwnedBy(parallelSearch, 0, 0);
+		int cheap = nextStateOwnedBy(parallelSearch, 0, start + 1);
+		int expensive = nextStateOwnedBy(parallelSearch, 1, 0);
+		int target = nextStateOwnedBy(parallelSearch, 1, expensive + 1);
+		int goal = nextStateOwnedBy(parallelSearch, 1, target + 1);
+		LatePathGenerator generator = new LatePathGenerator(start, cheap, expensive, target, goal);
+
+		AStarSearch<LatePathNode> sequentialSearch = new AStarSearch<LatePathNode>(AStarSearchType.MIN, new LatePathHeuristic(), generator);
+		double expectedCost = sequentialSearch.doSearch(new LatePathNode(start, null, 0, goal)).getGoalNode().getG();
+		assertEquals(3.0, expectedCost, 0.0);
+
+		parallelSearch = new ParallelAStarSearch<LatePathNode>(AStarSearchType.MIN, new LatePathHeuristic(), generator, 2);
+		for (int i = 0; i < 3; i++)
+		{
+			ParallelAStarSearchResult<LatePathNode> result = parallelSearch.doSearch(new LatePathNode(start, null, 0, goal));
+
+			assertNotNull(result.getGoalNode());
+			assertEquals(expectedCost, result.getGoalNode().getG(), 0.0);
+		}
+	}
+
+	private int nextStateOwnedBy(ParallelAStarSearch<LatePathNode> search, int owner, int fromState)
+	{
+		int state = fromState;
+		while (search.ownerOf(new LatePathNode(state, null, 0, -1)) != owner)
+		{
+			state++;
+		}
+		return state;
+	}
+
+	private TravelingSalesmanSearchNode buildStartNode()
+	{
+		return new TravelingSalesmanSearchNode(new ArrayList<TravelingSalesmanDestination>(), Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS));
+	}
+
+	private static final class LatePathNode extends AStarSearchNode
+	{
+		private final int state;
+		private final double g;
+		private final int goal;
+
+		private LatePathNode(int state, LatePathNode parent, double stepCost, int goal)
+		{
+			super((parent == null) ? 0 : parent.getNodeDepth() + 1);
+			this.state = state;
+			this.g = (parent == null) ? 0 : parent.g + stepCost;
+			this.goal = goal;
+		}
+
+		@Override
+		protected boolean calculateGoalState()
+		{
+			return state == goal;
+		}
+
+		@Override
+		protected double calculateG()
+		{
+			return g;
+		}
+
+		@Override
+		public long getStateHash()
+		{
+			return state;
+		}
+
+		@Override
+		public boolean isSameState(AStarSearchNode other)
+		{
+			return ((LatePathNode) other).state == state;
+		}
+	}
+
+	/**
+	 * A zero heuristic, which is trivially consistent.
+	 */
+	private static final class LatePathHeuristic extends Heuristic<LatePathNode>
+	{
+		@Override
+		protected double calculateH(LatePathNode node)
+		{
+			return 0;
+		}
+
+		@Override
+		public boolean isConsistent()
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * start -> cheap (1) -> target (1) -> goal (1), where generating the
+	 * successors of cheap is slow, and start -> expensive (1) -> target (10).
+	 */
+	private static final class LatePathGenerator extends NextNodesGenerator<LatePathNode>
+	{
+		private final int start;
+		private final int cheap;
+		private final int expensive;
+		private final int target;
+		private final int goal;
+
+		private LatePathGenerator(int start, int cheap, int expensive, int target, int goal)
+		{
+			this.start = start;
+			this.cheap = cheap;
+			this.expensive = expensive;
+			this.target = target;
+			this.goal = goal;
+		}
+
+		@Override
+		public Collection<LatePathNode> getNextSearchNodes(LatePathNode node)
+		{
+			if (node.state == start)
+			{
+				return Arrays.asList(new LatePathNode(cheap, node, 1, goal), new LatePathNode(expensive, node, 1, goal));
+			}
+			if (node.state == cheap)
+			{
+				try
+				{
+					Thread.sleep(200);
+				}
+				catch (InterruptedException ie)
+				{
+					Thread.currentThread().interrupt();
+				}
+				return Collections.singletonList(new LatePathNode(target, node, 1, goal));
+			}
+			if (node.state == expensive)
+			{
+				return Collections.singletonList(new LatePathNode(target, node, 10, goal));
+			}
+			if (node.state == target)
+			{
+				return Collections.singletonList(new LatePathNode(goal, node, 1, goal));
+			}
+			return Collections.emptyList();
+		}
+	}
+
+}
@@ -0,0 +1,249 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.CompositeHeuristic.Combination;
+import net.big_oh.algorithms.search.informed.astar.PatternDatabase.Encoding;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test exercising the PatternDatabase class and its heuristics against
+ * the 8-puzzle test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class PatternDatabaseUnitTest
+{
+
+	private static final Log logger = LogFactory.getLog(PatternDatabaseUnitTest.class);
+
+	private File directory;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = File.createTempFile("pdb", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (File file : directory.listFiles())
+		{
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testEncodings() throws IOException
+	{
+		SlidingTilePuzzleAbstraction abstraction = new SlidingTilePuzzleAbstraction(1, 2, 3, 4);
+		PatternDatabase nibbles = PatternDatabase.build(new File(directory, "nibble.pdb"), abstraction, Encoding.NIBBLE);
+		PatternDatabase bytes = PatternDatabase.build(new File(directory, "byte.pdb"), abstraction, Encoding.BYTE);
+
+		assertEquals(abstraction.getNumAbstractStates(), nibbles.getNumAbstractStates());
+		assertEquals(((abstraction.getNumAbstractStates() + 1) / 2) + 24, nibbles.getFile().length());
+		assertEquals(abstraction.getNumAbstractStates() + 24, bytes.getFile().length());
+		assertEquals(0, bytes.getDistance(abstraction.getAbstractGoalStates()[0]));
+
+		for (int abstractState = 0; abstractState < abstraction.getNumAbstractStates(); abstractState++)
+		{
+			assertEquals(Math.min(bytes.getDistance(abstractState), Encoding.NIBBLE.getMaxDistance()), nibbles.getDistance(abstractState));
+		}
+	}
+
+	/**
+	 * Abstract distances must never exceed the real distances they estimate.
+	 */
+	@Test
+	public void testAdmissible() throws IOException
+	{
+		SlidingTilePuzzleAbstraction abstraction = new SlidingTilePuzzleAbstraction(1, 2, 3, 4);
+		PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode> heuristic = new PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode>(PatternDatabase.build(new File(directory, "1234.pdb"), abstraction, Encoding.BYTE), abstraction);
+		AStarSearch<SlidingTilePuzzleSearchNode> search = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, new SlidingTilePuzzleManhattanHeuristic(), new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+
+		for (int seed = 0; seed < 10; seed++)
+		{
+			SlidingTilePuzzleSearchNode startNode = SlidingTilePuzzleSearchNode.scramble(40, seed);
+			double h = heuristic.getH(startNode);
+			assertTrue(h <= search.doSearch(startNode).getGoalNode().getG());
+		}
+	}
+
+	/**
+	 * A table built by an earlier process must be mapped rather than rebuilt,
+	 * unless it was built from a different abstraction.
+	 */
+	@Test
+	public void testOpenOrBuild() throws IOException
+	{
+		File file = new File(directory, "reused.pdb");
+		CountingAbstraction abstraction = new CountingAbstraction(1, 2, 3, 4);
+
+		PatternDatabase built = PatternDatabase.openOrBuild(file, abstraction, Encoding.NIBBLE);
+		PatternDatabase reopened = PatternDatabase.openOrBuild(file, abstraction, Encoding.NIBBLE);
+		assertEquals(1, abstraction.numBuilds);
+		for (int abstractState = 0; abstractState < abstraction.getNumAbstractStates(); abstractState++)
+		{
+			assertEquals(built.getDistance(abstractState), reopened.getDistance(abstractState));
+		}
+
+		// readers must let go of a file before it is rebuilt
+		built = null;
+		reopened = null;
+
+		// a different encoding or pattern requires a rebuild, which leaves no
+		// temporary files behind
+		PatternDatabase.openOrBuild(file, abstraction, Encoding.BYTE);
+		assertEquals(2, abstraction.numBuilds);
+		CountingAbstraction otherAbstraction = new CountingAbstraction(5, 6, 7, 8);
+		PatternDatabase rebuilt = PatternDatabase.openOrBuild(file, otherAbstraction, Encoding.BYTE);
+		assertEquals(1, otherAbstraction.numBuilds);
+		assertEquals(otherAbstraction.getSignature(), rebuilt.getSignature());
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	@Test(expected = IOException.class)
+	public void testOpen_NotAPatternDatabase() throws IOException
+	{
+		File file = new File(directory, "garbage.pdb");
+		FileOutputStream out = new FileOutputStream(file);
+		try
+		{
+			out.write(new byte[64]);
+		}
+		finally
+		{
+			out.close();
+		}
+		PatternDatabase.open(file);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHeuristic_MismatchedAbstraction() throws IOException
+	{
+		PatternDatabase patternDatabase = PatternDatabase.build(new File(directory, "1234.pdb"), new SlidingTilePuzzleAbstraction(1, 2, 3, 4), Encoding.NIBBLE);
+		new PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode>(patternDatabase, new SlidingTilePuzzleAbstraction(5, 6, 7, 8));
+	}
+
+	/**
+	 * Disjoint pattern databases combined by sum must find optimal solutions
+	 * while expanding no more nodes than the Manhattan distance heuristic,
+	 * which they dominate.
+	 */
+	@Test
+	public void testSearchWithAdditivePatternDatabases() throws IOException
+	{
+		List<PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode>> patternDatabaseHeuristics = new ArrayList<PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode>>();
+		for (int[] pattern : new int[][] { { 1, 2, 3, 4 }, { 5, 6, 7, 8 } })
+		{
+			SlidingTilePuzzleAbstraction abstraction = new SlidingTilePuzzleAbstraction(pattern);
+			PatternDatabase patternDatabase = PatternDatabase.openOrBuild(new File(directory, pattern[0] + ".pdb"), abstraction, Encoding.NIBBLE);
+			patternDatabaseHeuristics.add(new PatternDatabaseHeuristic<SlidingTilePuzzleSearchNode>(patternDatabase, abstraction));
+		}
+
+		CompositeHeuristic<SlidingTilePuzzleSearchNode> sumHeuristic = new CompositeHeuristic<SlidingTilePuzzleSearchNode>(Combination.SUM, patternDatabaseHeuristics);
+		CompositeHeuristic<SlidingTilePuzzleSearchNode> maxHeuristic = new CompositeHeuristic<SlidingTilePuzzleSearchNode>(Combination.MAX, patternDatabaseHeuristics);
+		assertTrue(sumHeuristic.isConsistent());
+
+		for (int seed = 0; seed < 5; seed++)
+		{
+			SearchOutcome manhattan = search(new SlidingTilePuzzleManhattanHeuristic(), seed);
+			SearchOutcome sum = search(sumHeuristic, seed);
+			SearchOutcome max = search(maxHeuristic, seed);
+
+			assertEquals(manhattan.cost, sum.cost, 0.0);
+			assertEquals(manhattan.cost, max.cost, 0.0);
+			assertTrue(sum.numNodesExpanded <= manhattan.numNodesExpanded);
+			assertTrue(sum.numNodesExpanded <= max.numNodesExpanded);
+
+			logger.info("8-puzzle (seed " + seed + ") solved at cost " + sum.cost + "; nodes expanded with Manhattan: " + manhattan.numNodesExpanded + ", max of PDBs: " + max.numNodesExpanded + ", sum of PDBs: " + sum.numNodesExpanded);
+		}
+	}
+
+	private SearchOutcome search(Heuristic<SlidingTilePuzzleSearchNode> heuristic, int seed)
+	{
+		AStarSearch<SlidingTilePuzzleSearchNode> search = new AStarSearch<SlidingTilePuzzleSearchNode>(AStarSearchType.MIN, heuristic, new SlidingTilePuzzleNextNodeGenerator(), AStarSearchMode.GRAPH);
+		AStarSearchResult<SlidingTilePuzzleSearchNode> result = search.doSearch(SlidingTilePuzzleSearchNode.scramble(100, seed));
+		return new SearchOutcome(result.getGoalNode().getG(), result.getStatistics().getNumNodesExpanded());
+	}
+
+	private static final class SearchOutcome
+	{
+		private final double cost;
+		private final long numNodesExpanded;
+
+		public SearchOutcome(double cost, long numNodesExpanded)
+		{
+			this.cost = cost;
+			this.numNodesExpanded = numNodesExpanded;
+		}
+	}
+
+	private static final class CountingAbstraction extends SlidingTilePuzzleAbstraction
+	{
+		private int numBuilds;
+
+		public CountingAbstraction(int... patternTiles)
+		{
+			super(patternTiles);
+		}
+
+		@Override
+		public int[] getAbstractGoalStates()
+		{
+			numBuilds++;
+			return super.getAbstractGoalStates();
+		}
+	}
+
+}
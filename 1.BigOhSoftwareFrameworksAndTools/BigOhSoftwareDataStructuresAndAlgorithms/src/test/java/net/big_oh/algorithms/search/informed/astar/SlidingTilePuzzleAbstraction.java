@@ -0,0 +1,165 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An additive pattern database abstraction of the 8-puzzle that tracks the
+ * positions of a subset of the tiles. The blank is not tracked, so every move
+ * of a pattern tile into a cell not occupied by another pattern tile is an
+ * abstract operator, and the moves of other tiles are free. Pattern databases
+ * built over disjoint patterns may therefore be summed.<br/>
+ * <br/>
+ * An abstract state is the sum over the pattern tiles of the tile's cell times
+ * 9 raised to the tile's index within the pattern.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class SlidingTilePuzzleAbstraction extends PatternDatabaseAbstraction<SlidingTilePuzzleSearchNode>
+{
+	private final int[] patternTiles;
+	private final int numAbstractStates;
+
+	public SlidingTilePuzzleAbstraction(int... patternTiles)
+	{
+		this.patternTiles = patternTiles.clone();
+		int states = 1;
+		for (int i = 0; i < patternTiles.length; i++)
+		{
+			states *= SlidingTilePuzzleSearchNode.NUM_CELLS;
+		}
+		this.numAbstractStates = states;
+	}
+
+	@Override
+	public int getNumAbstractStates()
+	{
+		return numAbstractStates;
+	}
+
+	@Override
+	public int getAbstractState(SlidingTilePuzzleSearchNode searchNode)
+	{
+		int[] cells = new int[patternTiles.length];
+		for (int cell = 0; cell < SlidingTilePuzzleSearchNode.NUM_CELLS; cell++)
+		{
+			int tile = SlidingTilePuzzleSearchNode.getTile(searchNode.getTiles(), cell);
+			for (int i = 0; i < patternTiles.length; i++)
+			{
+				if (patternTiles[i] == tile)
+				{
+					cells[i] = cell;
+				}
+			}
+		}
+		return encode(cells);
+	}
+
+	@Override
+	public int[] getAbstractGoalStates()
+	{
+		int[] cells = new int[patternTiles.length];
+		for (int i = 0; i < patternTiles.length; i++)
+		{
+			cells[i] = patternTiles[i] - 1;
+		}
+		return new int[] { encode(cells) };
+	}
+
+	@Override
+	public int getMaxNumPredecessors()
+	{
+		return 4 * patternTiles.length;
+	}
+
+	@Override
+	public int getPredecessors(int abstractState, int[] predecessors)
+	{
+		int[] cells = decode(abstractState);
+		int[] neighbors = new int[4];
+		int numPredecessors = 0;
+		for (int i = 0; i < cells.length; i++)
+		{
+			int numNeighbors = SlidingTilePuzzleSearchNode.getNeighborCells(cells[i], neighbors);
+			for (int j = 0; j < numNeighbors; j++)
+			{
+				if (!isOccupied(cells, neighbors[j]))
+				{
+					int originalCell = cells[i];
+					cells[i] = neighbors[j];
+					predecessors[numPredecessors++] = encode(cells);
+					cells[i] = originalCell;
+				}
+			}
+		}
+		return numPredecessors;
+	}
+
+	@Override
+	public long getSignature()
+	{
+		long signature = super.getSignature();
+		for (int patternTile : patternTiles)
+		{
+			signature = signature * 31 + patternTile;
+		}
+		return signature;
+	}
+
+	private static boolean isOccupied(int[] cells, int cell)
+	{
+		for (int occupiedCell : cells)
+		{
+			if (occupiedCell == cell)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int encode(int[] cells)
+	{
+		int abstractState = 0;
+		for (int i = cells.length - 1; i >= 0; i--)
+		{
+			abstractState = abstractState * SlidingTilePuzzleSearchNode.NUM_CELLS + cells[i];
+		}
+		return abstractState;
+	}
+
+	private int[] decode(int abstractState)
+	{
+		int[] cells = new int[patternTiles.length];
+		for (int i = 0; i < cells.length; i++)
+		{
+			cells[i] = abstractState % SlidingTilePuzzleSearchNode.NUM_CELLS;
+			abstractState /= SlidingTilePuzzleSearchNode.NUM_CELLS;
+		}
+		return cells;
+	}
+
+}
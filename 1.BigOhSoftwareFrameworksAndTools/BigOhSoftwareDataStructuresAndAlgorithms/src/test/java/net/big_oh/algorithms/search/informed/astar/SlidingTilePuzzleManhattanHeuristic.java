@@ -0,0 +1,64 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * The Manhattan distance heuristic for the 8-puzzle unit test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class SlidingTilePuzzleManhattanHeuristic extends Heuristic<SlidingTilePuzzleSearchNode>
+{
+
+	@Override
+	protected double calculateH(SlidingTilePuzzleSearchNode searchNode)
+	{
+		return calculateManhattanDistance(searchNode.getTiles());
+	}
+
+	public static int calculateManhattanDistance(long tiles)
+	{
+		int distance = 0;
+		for (int cell = 0; cell < SlidingTilePuzzleSearchNode.NUM_CELLS; cell++)
+		{
+			int tile = SlidingTilePuzzleSearchNode.getTile(tiles, cell);
+			if (tile != 0)
+			{
+				int goalCell = tile - 1;
+				distance += Math.abs(cell / SlidingTilePuzzleSearchNode.WIDTH - goalCell / SlidingTilePuzzleSearchNode.WIDTH) + Math.abs(cell % SlidingTilePuzzleSearchNode.WIDTH - goalCell % SlidingTilePuzzleSearchNode.WIDTH);
+			}
+		}
+		return distance;
+	}
+
+	@Override
+	public boolean isConsistent()
+	{
+		return true;
+	}
+
+}
@@ -0,0 +1,58 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A node generator class for the 8-puzzle unit test problem.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class SlidingTilePuzzleNextNodeGenerator extends NextNodesGenerator<SlidingTilePuzzleSearchNode>
+{
+
+	@Override
+	public Collection<SlidingTilePuzzleSearchNode> getNextSearchNodes(SlidingTilePuzzleSearchNode baseNode)
+	{
+		Collection<SlidingTilePuzzleSearchNode> nextSearchNodes = new ArrayList<SlidingTilePuzzleSearchNode>(4);
+		if (baseNode.isGoalState())
+		{
+			return nextSearchNodes;
+		}
+
+		int[] neighbors = new int[4];
+		int numNeighbors = SlidingTilePuzzleSearchNode.getNeighborCells(baseNode.getBlankCell(), neighbors);
+		for (int i = 0; i < numNeighbors; i++)
+		{
+			nextSearchNodes.add(new SlidingTilePuzzleSearchNode(SlidingTilePuzzleSearchNode.slide(baseNode.getTiles(), neighbors[i]), baseNode.getNodeDepth() + 1));
+		}
+		return nextSearchNodes;
+	}
+
+}
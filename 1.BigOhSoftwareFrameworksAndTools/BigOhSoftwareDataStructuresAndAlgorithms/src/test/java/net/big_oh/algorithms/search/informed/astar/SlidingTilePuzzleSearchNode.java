@@ -0,0 +1,163 @@
+package net.big_oh.algorithms.search.informed.astar;
+
+import java.util.Random;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A testing SearchNode representing a configuration of the 8-puzzle. The
+ * tiles are packed into a long, four bits per cell, with 0 standing for the
+ * blank. In the goal configuration, cell i holds tile i + 1 and the blank
+ * occupies the last cell.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public class SlidingTilePuzzleSearchNode extends AStarSearchNode
+{
+	public static final int WIDTH = 3;
+	public static final int NUM_CELLS = WIDTH * WIDTH;
+	public static final long GOAL_TILES = 0x087654321L;
+
+	private final long tiles;
+	private final int blankCell;
+
+	public SlidingTilePuzzleSearchNode(long tiles, int nodeDepth)
+	{
+		super(nodeDepth);
+		this.tiles = tiles;
+		this.blankCell = findBlankCell(tiles);
+	}
+
+	/**
+	 * @return Returns the configuration reached from the goal configuration by
+	 *         numMoves random moves.
+	 */
+	public static SlidingTilePuzzleSearchNode scramble(int numMoves, long seed)
+	{
+		Random random = new Random(seed);
+		long tiles = GOAL_TILES;
+		int[] neighbors = new int[4];
+		for (int i = 0; i < numMoves; i++)
+		{
+			int numNeighbors = getNeighborCells(findBlankCell(tiles), neighbors);
+			tiles = slide(tiles, neighbors[random.nextInt(numNeighbors)]);
+		}
+		return new SlidingTilePuzzleSearchNode(tiles, 0);
+	}
+
+	/**
+	 * @return Returns the configuration reached by sliding the tile in
+	 *         fromCell into the adjacent blank cell.
+	 */
+	public static long slide(long tiles, int fromCell)
+	{
+		int blankCell = findBlankCell(tiles);
+		long tile = getTile(tiles, fromCell);
+		return (tiles & ~(0xFL << (4 * fromCell))) | (tile << (4 * blankCell));
+	}
+
+	public static int getTile(long tiles, int cell)
+	{
+		return (int) ((tiles >>> (4 * cell)) & 0xF);
+	}
+
+	public static int findBlankCell(long tiles)
+	{
+		for (int cell = 0; cell < NUM_CELLS; cell++)
+		{
+			if (getTile(tiles, cell) == 0)
+			{
+				return cell;
+			}
+		}
+		throw new IllegalArgumentException("The tiles argument holds no blank cell.");
+	}
+
+	/**
+	 * Writes the cells adjacent to cell into neighbors.
+	 * 
+	 * @return Returns the number of neighbors written.
+	 */
+	public static int getNeighborCells(int cell, int[] neighbors)
+	{
+		int numNeighbors = 0;
+		int row = cell / WIDTH;
+		int column = cell % WIDTH;
+		if (row > 0)
+		{
+			neighbors[numNeighbors++] = cell - WIDTH;
+		}
+		if (row < WIDTH - 1)
+		{
+			neighbors[numNeighbors++] = cell + WIDTH;
+		}
+		if (column > 0)
+		{
+			neighbors[numNeighbors++] = cell - 1;
+		}
+		if (column < WIDTH - 1)
+		{
+			neighbors[numNeighbors++] = cell + 1;
+		}
+		return numNeighbors;
+	}
+
+	@Override
+	protected double calculateG()
+	{
+		return getNodeDepth();
+	}
+
+	@Override
+	protected boolean calculateGoalState()
+	{
+		return tiles == GOAL_TILES;
+	}
+
+	@Override
+	public long getStateHash()
+	{
+		return tiles;
+	}
+
+	@Override
+	public boolean isSameState(AStarSearchNode other)
+	{
+		return other instanceof SlidingTilePuzzleSearchNode && tiles == ((SlidingTilePuzzleSearchNode) other).tiles;
+	}
+
+	public long getTiles()
+	{
+		return tiles;
+	}
+
+	public int getBlankCell()
+	{
+		return blankCell;
+	}
+
+}
@@ -45,14 +45,18 @@ public class TravelingSalesmanMaxHeuristic extends Heuristic<TravelingSalesmanSe
 	{
 		Collection<TravelingSalesmanDestination> unvisitedDestinations = tsSearchNode.getUnvisitedDestinations();
 
-		// remaining cost will never exceed twice the cost of traveling from
+		// remaining cost will never exceed the cost of traveling from the
+		// current location to home plus twice the cost of traveling from
 		// each remaining destination to home.
 		double overEstimate = 0;
 		for (TravelingSalesmanDestination unvisitedDestination : unvisitedDestinations) {
 			overEstimate += TravelingSalesmanDestination.getDistance(unvisitedDestination, TravelingSalesmanDestination.HOME_TOWN);
 		}
 		
-		return 2 * overEstimate;
+		TravelingSalesmanDestination lastVisitedDestination = tsSearchNode.getLastVisitedDestination();
+		double costToHome = (lastVisitedDestination == null) ? 0 : TravelingSalesmanDestination.getDistance(lastVisitedDestination, TravelingSalesmanDestination.HOME_TOWN);
+
+		return costToHome + 2 * overEstimate;
 
 	}
 
@@ -1,5 +1,6 @@
 package net.big_oh.algorithms.search.informed.astar;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -75,6 +76,36 @@ public class TravelingSalesmanSearchNode extends AStarSearchNode
 		return unvisitedDestinations.isEmpty() && visitedDestinations.size() > 0 && getLastVisitedDestination() == TravelingSalesmanDestination.HOME_TOWN;
 	}
 
+	/**
+	 * Two nodes represent the same state if they have visited the same set of
+	 * destinations and are currently located at the same destination.
+	 */
+	@Override
+	public long getStateHash()
+	{
+		long visitedMask = 0;
+		for (TravelingSalesmanDestination visited : visitedDestinations)
+		{
+			visitedMask |= 1L << indexOf(visited);
+		}
+
+		TravelingSalesmanDestination lastVisitedDestination = getLastVisitedDestination();
+		int lastVisitedIndex = (lastVisitedDestination == null) ? TravelingSalesmanDestination.ALL_DESTINATIONS.length : indexOf(lastVisitedDestination);
+
+		return (visitedMask << 8) | lastVisitedIndex;
+	}
+
+	@Override
+	public boolean isSameState(AStarSearchNode other)
+	{
+		return other instanceof TravelingSalesmanSearchNode && getStateHash() == other.getStateHash();
+	}
+
+	private static int indexOf(TravelingSalesmanDestination destination)
+	{
+		return Arrays.asList(TravelingSalesmanDestination.ALL_DESTINATIONS).indexOf(destination);
+	}
+
 	public TravelingSalesmanDestination getLastVisitedDestination()
 	{
 		return (visitedDestinations.isEmpty()) ? null : visitedDestinations.get(visitedDestinations.size() - 1);
@@ -0,0 +1,377 @@
+package net.big_oh.datastructures.graph.csr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.algorithms.graph.clique.BronKerboschMaximalCliqueFinder;
+import net.big_oh.algorithms.graph.clique.PivotingBronKerboschMaximalCliqueFinder;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
+import net.big_oh.datastructures.graph.Vertex;
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for the {@link CsrUndirectedGraph} implementation of the
+ * {@link net.big_oh.datastructures.graph.Graph} interface.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class CsrUndirectedGraphUnitTest
+{
+
+	private CsrUndirectedGraph.Builder builder;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		builder = new CsrUndirectedGraph.Builder();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderAddVertex_Illegal()
+	{
+		builder.addVertex(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderAddEdge_Illegal_1()
+	{
+		builder.addEdge("v1", null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderAddEdge_Illegal_2()
+	{
+		builder.addEdge(null, "v2");
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testBuilderAddEdgeByIndex_Illegal()
+	{
+		builder.addVertex("v1");
+		builder.addEdge(0, 1);
+	}
+
+	@Test
+	public void testBuilderAddEdgeByIndex()
+	{
+		builder.addVertex("v1").addVertex("v2").addVertex("v3");
+		builder.addEdge(0, 2).addEdge(2, 0).addEdge(1, 1);
+		CsrUndirectedGraph graph = builder.build();
+
+		assertEquals(1, graph.getEdgeCount());
+		assertTrue(graph.containsEdge(graph.getVertex("v1"), graph.getVertex("v3")));
+		assertEquals(0, graph.getDegree(graph.getVertex("v2")));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAddVertex_Immutable()
+	{
+		CsrUndirectedGraph graph = builder.addVertex("v1").build();
+		graph.addVertex(graph.getVertex("v1"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAddEdge_Immutable()
+	{
+		CsrUndirectedGraph graph = builder.addVertex("v1").addVertex("v2").build();
+		graph.addEdge(graph.getVertex("v1"), graph.getVertex("v2"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSetIdentifier_ReadOnly()
+	{
+		builder.addVertex("v1").build().getVertex(0).setIdentifier("v2");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetAllNeighbors_Illegal_1()
+	{
+		builder.addVertex("v1").build().getAllNeighbors(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetAllNeighbors_Illegal_2()
+	{
+		// a vertex belonging to a different graph
+		CsrVertex foreignVertex = new CsrUndirectedGraph.Builder().addVertex("v1").build().getVertex(0);
+		builder.addVertex("v1").build().getAllNeighbors(foreignVertex);
+	}
+
+	@Test
+	public void testEmptyGraph()
+	{
+		CsrUndirectedGraph graph = builder.build();
+		assertEquals(0, graph.getVertexCount());
+		assertEquals(0, graph.getEdgeCount());
+		assertTrue(graph.getAllVertices().isEmpty());
+		assertFalse(graph.getAllVerticesIterator().hasNext());
+	}
+
+	@Test
+	public void testVertices()
+	{
+		CsrUndirectedGraph graph = builder.addVertex("v1").addEdge("v2", "v3").addVertex("v1").build();
+
+		// vertices are indexed in the order first seen and duplicates collapse
+		assertEquals(3, graph.getVertexCount());
+		assertEquals(3, graph.getAllVertices().size());
+		assertEquals("v1", graph.getVertex(0).getIdentifier());
+		assertEquals("v2", graph.getVertex(1).getIdentifier());
+		assertEquals("v3", graph.getVertex(2).getIdentifier());
+		for (int i = 0; i < 3; i++)
+		{
+			assertEquals(i, graph.getVertex(i).getIndex());
+			assertSame(graph.getVertex(i), graph.getVertex(graph.getVertex(i).getIdentifier()));
+			assertTrue(graph.getAllVertices().contains(graph.getVertex(i)));
+		}
+		assertNull(graph.getVertex("v4"));
+
+		Iterator<CsrVertex> iterator = graph.getAllVerticesIterator();
+		for (int i = 0; i < 3; i++)
+		{
+			assertSame(graph.getVertex(i), iterator.next());
+		}
+		assertFalse(iterator.hasNext());
+
+		// vertices of another graph are never members
+		CsrUndirectedGraph otherGraph = new CsrUndirectedGraph.Builder().addVertex("v1").build();
+		assertFalse(graph.getAllVertices().contains(otherGraph.getVertex(0)));
+
+		// values remain writable
+		graph.getVertex(0).setValue("value");
+		assertEquals("value", graph.getVertex("v1").getValue());
+	}
+
+	@Test
+	public void testGetAllNeighbors()
+	{
+		// a duplicate edge, a reversed duplicate and a self loop
+		CsrUndirectedGraph graph = builder.addVertex("v1").addVertex("v2").addVertex("v3").addVertex("v4").addEdge("v1", "v4").addEdge("v1", "v2").addEdge("v4", "v1").addEdge("v1", "v2").addEdge("v4", "v4").build();
+		CsrVertex v1 = graph.getVertex("v1");
+		CsrVertex v2 = graph.getVertex("v2");
+		CsrVertex v3 = graph.getVertex("v3");
+		CsrVertex v4 = graph.getVertex("v4");
+
+		assertEquals(2, graph.getEdgeCount());
+
+		// confirm expected properties for v1 neighbors
+		Set<CsrVertex> v1Neighbors = graph.getAllNeighbors(v1);
+		assertEquals(2, v1Neighbors.size());
+		assertTrue(v1Neighbors.contains(v2));
+		assertTrue(v1Neighbors.contains(v4));
+		assertFalse(v1Neighbors.contains(v1));
+		assertFalse(v1Neighbors.contains(v3));
+
+		// neighbors are sorted by index
+		Iterator<CsrVertex> iterator = v1Neighbors.iterator();
+		assertSame(v2, iterator.next());
+		assertSame(v4, iterator.next());
+		assertFalse(iterator.hasNext());
+
+		// confirm expected properties for the remaining neighbors
+		assertEquals(1, graph.getAllNeighbors(v2).size());
+		assertTrue(graph.getAllNeighbors(v2).contains(v1));
+		assertTrue(graph.getAllNeighbors(v3).isEmpty());
+		assertEquals(1, graph.getAllNeighbors(v4).size());
+		assertTrue(graph.getAllNeighbors(v4).contains(v1));
+
+		// the int-index views agree
+		assertEquals(2, graph.getDegree(0));
+		assertEquals(1, graph.getNeighborIndex(0, 0));
+		assertEquals(3, graph.getNeighborIndex(0, 1));
+		assertTrue(graph.containsEdge(0, 3));
+		assertTrue(graph.containsEdge(3, 0));
+		assertFalse(graph.containsEdge(0, 2));
+		assertFalse(graph.containsEdge(3, 3));
+	}
+
+	@Test
+	public void testNeighborAccessPaths()
+	{
+		CsrUndirectedGraph graph = builder.addEdge("v1", "v3").addEdge("v1", "v2").addEdge("v3", "v4").addEdge("v2", "v1").build();
+		CsrVertex v1 = graph.getVertex("v1");
+		CsrVertex v2 = graph.getVertex("v2");
+		CsrVertex v3 = graph.getVertex("v3");
+		CsrVertex v4 = graph.getVertex("v4");
+
+		assertEquals(2, graph.getDegree(v1));
+		assertEquals(1, graph.getDegree(v2));
+		assertTrue(graph.containsEdge(v1, v2));
+		assertTrue(graph.containsEdge(v4, v3));
+		assertFalse(graph.containsEdge(v1, v4));
+
+		// visitors and cursors see neighbors in ascending order of index
+		final List<CsrVertex> visited = new ArrayList<CsrVertex>();
+		assertTrue(graph.forEachNeighbor(v1, new NeighborVisitor<CsrVertex>()
+		{
+			public boolean visit(CsrVertex neighbor)
+			{
+				visited.add(neighbor);
+				return true;
+			}
+		}));
+		assertEquals(2, visited.size());
+		assertSame(v3, visited.get(0));
+		assertSame(v2, visited.get(1));
+
+		NeighborCursor<CsrVertex> cursor = graph.newNeighborCursor();
+		cursor.reset(v3);
+		assertSame(v1, cursor.next());
+		assertSame(v4, cursor.next());
+		assertFalse(cursor.hasNext());
+		cursor.reset(v2);
+		assertSame(v1, cursor.next());
+		assertFalse(cursor.hasNext());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testContainsEdge_Illegal()
+	{
+		CsrVertex foreignVertex = new CsrUndirectedGraph.Builder().addVertex("v1").build().getVertex(0);
+		CsrUndirectedGraph graph = builder.addVertex("v1").build();
+		graph.containsEdge(graph.getVertex(0), foreignVertex);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetNeighborIndex_Illegal()
+	{
+		builder.addEdge("v1", "v2").build().getNeighborIndex(0, 1);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testNeighborIterator_ReadOnly()
+	{
+		CsrUndirectedGraph graph = builder.addEdge("v1", "v2").build();
+		Iterator<CsrVertex> iterator = graph.getAllNeighbors(graph.getVertex(0)).iterator();
+		iterator.next();
+		iterator.remove();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetAllNeighbors_ReadOnly()
+	{
+		CsrUndirectedGraph graph = builder.addEdge("v1", "v2").addVertex("v3").build();
+		graph.getAllNeighbors(graph.getVertex(0)).add(graph.getVertex(2));
+	}
+
+	/**
+	 * Builds the same random graphs as a CSR graph and as a JUNG graph and
+	 * confirms that their neighborhoods and maximal cliques agree.
+	 */
+	@Test
+	public void testAgreesWithJungUndirectedGraph()
+	{
+		Random random = new Random(22);
+		for (int trial = 0; trial < 5; trial++)
+		{
+			int numVertices = 40 + 10 * trial;
+			JungUndirectedGraph jungGraph = new JungUndirectedGraph();
+			JungVertex[] jungVertices = new JungVertex[numVertices];
+			CsrUndirectedGraph.Builder csrBuilder = new CsrUndirectedGraph.Builder();
+			for (int i = 0; i < numVertices; i++)
+			{
+				jungVertices[i] = new JungVertex("v" + i);
+				jungGraph.addVertex(jungVertices[i]);
+				csrBuilder.addVertex("v" + i);
+			}
+			for (int i = 0; i < numVertices; i++)
+			{
+				for (int j = 0; j < numVertices; j++)
+				{
+					if (i != j && random.nextDouble() < 0.1)
+					{
+						// edges go in both directions, so duplicates are common
+						if (!jungGraph.getAllNeighbors(jungVertices[i]).contains(jungVertices[j]))
+						{
+							jungGraph.addEdge(jungVertices[i], jungVertices[j]);
+						}
+						csrBuilder.addEdge("v" + i, "v" + j);
+					}
+				}
+			}
+			CsrUndirectedGraph csrGraph = csrBuilder.build();
+
+			assertEquals(numVertices, csrGraph.getVertexCount());
+			for (int i = 0; i < numVertices; i++)
+			{
+				assertEquals(toIdentifiers(jungGraph.getAllNeighbors(jungVertices[i])), toIdentifiers(csrGraph.getAllNeighbors(csrGraph.getVertex("v" + i))));
+			}
+
+			assertEquals(toIdentifierSets(new BronKerboschMaximalCliqueFinder<JungVertex>().findMaximalCliques(jungGraph, 2)), toIdentifierSets(new PivotingBronKerboschMaximalCliqueFinder<CsrVertex>().findMaximalCliques(csrGraph, 2)));
+		}
+	}
+
+	private static Set<Object> toIdentifiers(Set<? extends Vertex> vertices)
+	{
+		Set<Object> identifiers = new HashSet<Object>();
+		for (Vertex v : vertices)
+		{
+			identifiers.add(v.getIdentifier());
+		}
+		return identifiers;
+	}
+
+	private static <V extends Vertex> Set<Set<Object>> toIdentifierSets(Set<Set<V>> cliques)
+	{
+		Set<Set<Object>> identifierSets = new HashSet<Set<Object>>();
+		for (Set<V> clique : cliques)
+		{
+			identifierSets.add(toIdentifiers(clique));
+		}
+		return identifierSets;
+	}
+
+}
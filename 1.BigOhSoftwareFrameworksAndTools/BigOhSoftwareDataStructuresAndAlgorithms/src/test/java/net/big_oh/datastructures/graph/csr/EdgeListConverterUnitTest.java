@@ -0,0 +1,194 @@
+package net.big_oh.datastructures.graph.csr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import net.big_oh.datastructures.graph.csr.EdgeListConverter.IdentifierType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for {@link EdgeListConverter}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class EdgeListConverterUnitTest
+{
+
+	private File directory;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = File.createTempFile("csr", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (File file : directory.listFiles())
+		{
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConvert_Illegal()
+	{
+		try
+		{
+			EdgeListConverter.convert(writeEdgeList("0 1\n"), new File(directory, "graph.csr"), null);
+		}
+		catch (IOException ioe)
+		{
+			fail(ioe.getMessage());
+		}
+	}
+
+	@Test
+	public void testConvert_IntegerIdentifiers() throws IOException
+	{
+		File edgeList = writeEdgeList("# a comment\n% another comment\n\n0 1\n1\t2 7.5\n2,0\n1 0\n3 3\n  5  \n");
+		MappedCsrUndirectedGraph graph = EdgeListConverter.convert(edgeList, new File(directory, "graph.csr"), IdentifierType.INTEGER);
+
+		// vertex 4 is implied by vertex 5, and the self loop on 3 is dropped
+		assertFalse(graph.hasIdentifierDictionary());
+		assertEquals(6, graph.getVertexCount());
+		assertEquals(3, graph.getEdgeCount());
+		assertEquals(Integer.valueOf(5), graph.getVertex(5).getIdentifier());
+		assertEquals(2, graph.getDegree(0));
+		assertEquals(0, graph.getDegree(3));
+		assertEquals(0, graph.getDegree(4));
+		assertTrue(graph.containsEdge(0, 2));
+		assertTrue(graph.containsEdge(1, 2));
+		assertFalse(graph.containsEdge(3, 3));
+
+		// only the edge list and the graph file remain
+		assertEquals(2, directory.listFiles().length);
+	}
+
+	@Test
+	public void testConvert_StringIdentifiers() throws IOException
+	{
+		File edgeList = writeEdgeList("bob alice\ncarol bob\némile alice\nalice bob\ndave\n");
+		MappedCsrUndirectedGraph graph = EdgeListConverter.convert(edgeList, new File(directory, "graph.csr"), IdentifierType.STRING);
+
+		assertTrue(graph.hasIdentifierDictionary());
+		assertEquals(5, graph.getVertexCount());
+		assertEquals(3, graph.getEdgeCount());
+
+		// vertices are indexed in order of first appearance
+		String[] identifiers = { "bob", "alice", "carol", "émile", "dave" };
+		for (int i = 0; i < identifiers.length; i++)
+		{
+			assertEquals(identifiers[i], graph.getVertex(i).getIdentifier());
+			assertEquals(i, graph.getVertex(identifiers[i]).getIndex());
+		}
+		assertNull(graph.getVertex("eve"));
+		assertNull(graph.getVertex("al"));
+		assertNull(graph.getVertex(Integer.valueOf(0)));
+
+		assertTrue(graph.containsEdge(graph.getVertex("alice"), graph.getVertex("émile")));
+		assertEquals(0, graph.getDegree(graph.getVertex("dave")));
+	}
+
+	@Test
+	public void testConvert_EmptyEdgeList() throws IOException
+	{
+		MappedCsrUndirectedGraph graph = EdgeListConverter.convert(writeEdgeList("# nothing\n"), new File(directory, "graph.csr"), IdentifierType.STRING);
+		assertEquals(0, graph.getVertexCount());
+		assertEquals(0, graph.getEdgeCount());
+		assertNull(graph.getVertex("a"));
+	}
+
+	@Test
+	public void testConvert_ReplacesExistingFile() throws IOException
+	{
+		File graphFile = new File(directory, "graph.csr");
+		EdgeListConverter.convert(writeEdgeList("0 1\n"), graphFile, IdentifierType.INTEGER);
+		MappedCsrUndirectedGraph graph = EdgeListConverter.convert(writeEdgeList("0 1\n1 2\n"), graphFile, IdentifierType.INTEGER);
+		assertEquals(2, graph.getEdgeCount());
+		assertEquals(2, MappedCsrUndirectedGraph.open(graphFile).getEdgeCount());
+	}
+
+	@Test
+	public void testConvert_IllegalIdentifier() throws IOException
+	{
+		File graphFile = new File(directory, "graph.csr");
+		try
+		{
+			EdgeListConverter.convert(writeEdgeList("0 1\n1 -2\n"), graphFile, IdentifierType.INTEGER);
+			fail("Expected an IOException");
+		}
+		catch (IOException ioe)
+		{
+			assertTrue(ioe.getMessage().startsWith("Line 2 "));
+		}
+
+		// neither a partial graph nor temporary files are left behind
+		assertFalse(graphFile.exists());
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	private File writeEdgeList(String text) throws IOException
+	{
+		File file = File.createTempFile("edges", ".txt", directory);
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try
+		{
+			out.write(text);
+		}
+		finally
+		{
+			out.close();
+		}
+		return file;
+	}
+
+}
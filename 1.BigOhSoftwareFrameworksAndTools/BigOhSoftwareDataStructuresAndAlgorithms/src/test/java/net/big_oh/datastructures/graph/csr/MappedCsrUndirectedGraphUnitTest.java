@@ -0,0 +1,367 @@
+package net.big_oh.datastructures.graph.csr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.algorithms.graph.clique.BronKerboschMaximalCliqueFinder;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
+import net.big_oh.datastructures.graph.Vertex;
+import net.big_oh.datastructures.graph.csr.EdgeListConverter.IdentifierType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for the {@link MappedCsrUndirectedGraph} implementation of the
+ * {@link net.big_oh.datastructures.graph.Graph} interface. Most tests map
+ * their graphs in 16 byte chunks, so that values and identifiers are read
+ * across chunk boundaries.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class MappedCsrUndirectedGraphUnitTest
+{
+
+	private static final int SMALL_CHUNK_SHIFT = 4;
+
+	private File directory;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = File.createTempFile("csr", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (File file : directory.listFiles())
+		{
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOpen_Illegal() throws IOException
+	{
+		MappedCsrUndirectedGraph.open(null);
+	}
+
+	@Test
+	public void testOpen_Garbage() throws IOException
+	{
+		File file = new File(directory, "garbage.csr");
+		FileOutputStream out = new FileOutputStream(file);
+		try
+		{
+			out.write(new byte[MappedCsrUndirectedGraph.HEADER_SIZE]);
+		}
+		finally
+		{
+			out.close();
+		}
+
+		try
+		{
+			MappedCsrUndirectedGraph.open(file);
+			fail("Expected an IOException");
+		}
+		catch (IOException ioe)
+		{
+			assertTrue(ioe.getMessage().endsWith("does not hold a CSR graph."));
+		}
+	}
+
+	@Test
+	public void testOpen_Truncated() throws IOException
+	{
+		File file = new File(directory, "graph.csr");
+		EdgeListConverter.convert(writeEdgeList("a b\nb c\n"), file, IdentifierType.STRING);
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try
+		{
+			randomAccessFile.setLength(file.length() - 1);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+
+		try
+		{
+			MappedCsrUndirectedGraph.open(file);
+			fail("Expected an IOException");
+		}
+		catch (IOException ioe)
+		{
+			assertTrue(ioe.getMessage().endsWith("is truncated."));
+		}
+	}
+
+	@Test
+	public void testOpen_BadOffsets() throws IOException
+	{
+		File file = new File(directory, "graph.csr");
+		EdgeListConverter.convert(writeEdgeList("0 1\n1 2\n"), file, IdentifierType.INTEGER);
+
+		// overwrite the header's targets count
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try
+		{
+			randomAccessFile.seek(16);
+			randomAccessFile.writeLong(2);
+		}
+		finally
+		{
+			randomAccessFile.close();
+		}
+
+		try
+		{
+			MappedCsrUndirectedGraph.open(file);
+			fail("Expected an IOException");
+		}
+		catch (IOException ioe)
+		{
+			assertTrue(ioe.getMessage().endsWith("is truncated."));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAddEdge_Immutable() throws IOException
+	{
+		MappedCsrUndirectedGraph graph = convert("0 1\n", IdentifierType.INTEGER);
+		graph.addEdge(graph.getVertex(0), graph.getVertex(1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSetIdentifier_ReadOnly() throws IOException
+	{
+		convert("0 1\n", IdentifierType.INTEGER).getVertex(0).setIdentifier(Integer.valueOf(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetAllNeighbors_Illegal() throws IOException
+	{
+		MappedCsrVertex foreignVertex = convert("0 1\n", IdentifierType.INTEGER).getVertex(0);
+		convert("0 1\n", IdentifierType.INTEGER).getAllNeighbors(foreignVertex);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetVertex_Illegal() throws IOException
+	{
+		convert("0 1\n", IdentifierType.INTEGER).getVertex(2);
+	}
+
+	@Test
+	public void testVertices() throws IOException
+	{
+		MappedCsrUndirectedGraph graph = convert("a b\nb c\nd\n", IdentifierType.STRING);
+
+		assertEquals(4, graph.getVertexCount());
+		assertEquals(4, graph.getAllVertices().size());
+
+		// handles to the same vertex are equal and share its value
+		MappedCsrVertex b = graph.getVertex("b");
+		assertEquals(b, graph.getVertex(1));
+		assertEquals(b.hashCode(), graph.getVertex(1).hashCode());
+		assertFalse(b.equals(graph.getVertex(0)));
+		assertFalse(b.equals(convert("a b\nb c\nd\n", IdentifierType.STRING).getVertex(1)));
+		assertNull(b.getValue());
+		b.setValue("value");
+		assertEquals("value", graph.getVertex(1).getValue());
+		b.setValue(null);
+		assertNull(graph.getVertex(1).getValue());
+
+		Iterator<MappedCsrVertex> iterator = graph.getAllVerticesIterator();
+		for (String identifier : new String[] { "a", "b", "c", "d" })
+		{
+			MappedCsrVertex v = iterator.next();
+			assertEquals(identifier, v.getIdentifier());
+			assertTrue(graph.getAllVertices().contains(v));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testNeighborAccessPaths() throws IOException
+	{
+		MappedCsrUndirectedGraph graph = convert("0 3\n0 1\n3 2\n1 0\n", IdentifierType.INTEGER);
+		MappedCsrVertex v0 = graph.getVertex(0);
+
+		Set<MappedCsrVertex> neighbors = graph.getAllNeighbors(v0);
+		assertEquals(2, neighbors.size());
+		assertTrue(neighbors.contains(graph.getVertex(1)));
+		assertTrue(neighbors.contains(graph.getVertex(3)));
+		assertFalse(neighbors.contains(graph.getVertex(2)));
+
+		// neighbors are sorted by index
+		Iterator<MappedCsrVertex> iterator = neighbors.iterator();
+		assertEquals(1, iterator.next().getIndex());
+		assertEquals(3, iterator.next().getIndex());
+		assertFalse(iterator.hasNext());
+
+		assertEquals(1, graph.getNeighborIndex(0, 0));
+		assertEquals(3, graph.getNeighborIndex(0, 1));
+		assertTrue(graph.containsEdge(graph.getVertex(2), graph.getVertex(3)));
+		assertFalse(graph.containsEdge(graph.getVertex(1), graph.getVertex(2)));
+
+		final List<MappedCsrVertex> visited = new ArrayList<MappedCsrVertex>();
+		assertFalse(graph.forEachNeighbor(v0, new NeighborVisitor<MappedCsrVertex>()
+		{
+			public boolean visit(MappedCsrVertex neighbor)
+			{
+				visited.add(neighbor);
+				return false;
+			}
+		}));
+		assertEquals(1, visited.size());
+		assertEquals(graph.getVertex(1), visited.get(0));
+
+		NeighborCursor<MappedCsrVertex> cursor = graph.newNeighborCursor();
+		cursor.reset(graph.getVertex(3));
+		assertEquals(0, cursor.next().getIndex());
+		assertEquals(2, cursor.next().getIndex());
+		assertFalse(cursor.hasNext());
+	}
+
+	/**
+	 * Converts random edge lists and confirms that the mapped graphs match
+	 * in-heap CSR graphs built from the same edges, including their maximal
+	 * cliques.
+	 */
+	@Test
+	public void testAgreesWithCsrUndirectedGraph() throws IOException
+	{
+		Random random = new Random(24);
+		for (int trial = 0; trial < 4; trial++)
+		{
+			int numVertices = 30 + 20 * trial;
+			StringBuilder edgeList = new StringBuilder();
+			CsrUndirectedGraph.Builder builder = new CsrUndirectedGraph.Builder();
+			for (int i = 0; i < numVertices; i++)
+			{
+				builder.addVertex("vertex" + i);
+				edgeList.append("vertex").append(i).append('\n');
+			}
+			for (int e = 0; e < numVertices * 4; e++)
+			{
+				int u = random.nextInt(numVertices);
+				int v = random.nextInt(numVertices);
+				builder.addEdge("vertex" + u, "vertex" + v);
+				edgeList.append("vertex").append(u).append(' ').append("vertex").append(v).append('\n');
+			}
+			CsrUndirectedGraph expected = builder.build();
+			MappedCsrUndirectedGraph actual = convert(edgeList.toString(), IdentifierType.STRING);
+
+			assertEquals(expected.getVertexCount(), actual.getVertexCount());
+			assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+			for (int i = 0; i < numVertices; i++)
+			{
+				assertEquals(expected.getVertex(i).getIdentifier(), actual.getVertex(i).getIdentifier());
+				assertEquals(i, actual.getVertex("vertex" + i).getIndex());
+				assertEquals(expected.getDegree(i), actual.getDegree(i));
+				for (int j = 0; j < expected.getDegree(i); j++)
+				{
+					assertEquals(expected.getNeighborIndex(i, j), actual.getNeighborIndex(i, j));
+				}
+				for (int j = 0; j < numVertices; j++)
+				{
+					assertEquals(expected.containsEdge(i, j), actual.containsEdge(i, j));
+				}
+			}
+
+			assertEquals(toIdentifierSets(new BronKerboschMaximalCliqueFinder<CsrVertex>().findMaximalCliques(expected, 2)), toIdentifierSets(new BronKerboschMaximalCliqueFinder<MappedCsrVertex>().findMaximalCliques(actual, 2)));
+		}
+	}
+
+	private MappedCsrUndirectedGraph convert(String edgeList, IdentifierType identifierType) throws IOException
+	{
+		return EdgeListConverter.convert(writeEdgeList(edgeList), File.createTempFile("graph", ".csr", directory), identifierType, SMALL_CHUNK_SHIFT);
+	}
+
+	private File writeEdgeList(String text) throws IOException
+	{
+		File file = File.createTempFile("edges", ".txt", directory);
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try
+		{
+			out.write(text);
+		}
+		finally
+		{
+			out.close();
+		}
+		return file;
+	}
+
+	private static <V extends Vertex> Set<Set<Object>> toIdentifierSets(Set<Set<V>> cliques)
+	{
+		Set<Set<Object>> identifierSets = new HashSet<Set<Object>>();
+		for (Set<V> clique : cliques)
+		{
+			Set<Object> identifiers = new HashSet<Object>();
+			for (V v : clique)
+			{
+				identifiers.add(v.getIdentifier());
+			}
+			identifierSets.add(identifiers);
+		}
+		return identifierSets;
+	}
+
+}
@@ -4,10 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
 import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
 import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
 
@@ -272,4 +277,181 @@ public class JungUndirectedGraphUnitTest
 		assertTrue(allVerticesInGraph.isEmpty());
 	}
 
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#getDegree(JungVertex)}
+	 * .
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetDegree_Illegal()
+	{
+		graph.getDegree(null);
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#getDegree(JungVertex)}
+	 * and
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#containsEdge(JungVertex, JungVertex)}
+	 * .
+	 */
+	@Test
+	public void testGetDegreeAndContainsEdge()
+	{
+		// a vertex outside of the graph has no neighbors
+		assertEquals(0, graph.getDegree(v1));
+		assertFalse(graph.containsEdge(v1, v2));
+
+		graph.addVertex(v1);
+		graph.addVertex(v2);
+		graph.addVertex(v3);
+		graph.addVertex(v4);
+
+		// parallel edges and self loops add no neighbors
+		graph.addEdge(v1, v2);
+		graph.addEdge(v2, v1);
+		graph.addEdge(v1, v4);
+		graph.addEdge(v4, v4);
+
+		assertEquals(2, graph.getDegree(v1));
+		assertEquals(1, graph.getDegree(v2));
+		assertEquals(0, graph.getDegree(v3));
+		assertEquals(1, graph.getDegree(v4));
+
+		assertTrue(graph.containsEdge(v1, v2));
+		assertTrue(graph.containsEdge(v2, v1));
+		assertTrue(graph.containsEdge(v4, v1));
+		assertFalse(graph.containsEdge(v2, v4));
+		assertFalse(graph.containsEdge(v1, v3));
+		assertFalse(graph.containsEdge(v4, v4));
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#containsEdge(JungVertex, JungVertex)}
+	 * on neighborhoods large enough to be indexed.
+	 */
+	@Test
+	public void testContainsEdge_HighDegree()
+	{
+		List<JungVertex> leaves = new ArrayList<JungVertex>();
+		graph.addVertex(v1);
+		graph.addVertex(v2);
+		for (int i = 0; i < 100; i++)
+		{
+			JungVertex leaf = new JungVertex("leaf" + i);
+			graph.addVertex(leaf);
+			graph.addEdge(v1, leaf);
+			graph.addEdge(leaf, v1);
+			leaves.add(leaf);
+		}
+
+		assertEquals(100, graph.getDegree(v1));
+		assertEquals(100, graph.getAllNeighbors(v1).size());
+		for (JungVertex leaf : leaves)
+		{
+			assertTrue(graph.containsEdge(v1, leaf));
+			assertTrue(graph.containsEdge(leaf, v1));
+			assertFalse(graph.containsEdge(v2, leaf));
+		}
+		assertFalse(graph.containsEdge(v1, v2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#forEachNeighbor(JungVertex, NeighborVisitor)}
+	 * .
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testForEachNeighbor_Illegal()
+	{
+		graph.addVertex(v1);
+		graph.forEachNeighbor(v1, null);
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#forEachNeighbor(JungVertex, NeighborVisitor)}
+	 * .
+	 */
+	@Test
+	public void testForEachNeighbor()
+	{
+		graph.addVertex(v1);
+		graph.addVertex(v2);
+		graph.addVertex(v3);
+		graph.addVertex(v4);
+		graph.addEdge(v1, v2);
+		graph.addEdge(v1, v3);
+		graph.addEdge(v4, v1);
+
+		final List<JungVertex> visited = new ArrayList<JungVertex>();
+		assertTrue(graph.forEachNeighbor(v1, new NeighborVisitor<JungVertex>()
+		{
+			public boolean visit(JungVertex neighbor)
+			{
+				visited.add(neighbor);
+				return true;
+			}
+		}));
+		assertEquals(3, visited.size());
+		assertTrue(graph.getAllNeighbors(v1).containsAll(visited));
+
+		// stop after the first neighbor
+		visited.clear();
+		assertFalse(graph.forEachNeighbor(v1, new NeighborVisitor<JungVertex>()
+		{
+			public boolean visit(JungVertex neighbor)
+			{
+				visited.add(neighbor);
+				return false;
+			}
+		}));
+		assertEquals(1, visited.size());
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#newNeighborCursor()}
+	 * .
+	 */
+	@Test
+	public void testNewNeighborCursor()
+	{
+		graph.addVertex(v1);
+		graph.addVertex(v2);
+		graph.addVertex(v3);
+		graph.addVertex(v4);
+		graph.addEdge(v1, v2);
+		graph.addEdge(v1, v3);
+		graph.addEdge(v3, v4);
+
+		// a single cursor serves every vertex
+		NeighborCursor<JungVertex> cursor = graph.newNeighborCursor();
+		assertFalse(cursor.hasNext());
+		for (JungVertex v : graph.getAllVertices())
+		{
+			Set<JungVertex> expectedNeighbors = graph.getAllNeighbors(v);
+			for (cursor.reset(v); cursor.hasNext();)
+			{
+				assertTrue(expectedNeighbors.remove(cursor.next()));
+			}
+			assertTrue(expectedNeighbors.isEmpty());
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph#newNeighborCursor()}
+	 * .
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void testNewNeighborCursor_Exhausted()
+	{
+		graph.addVertex(v1);
+		NeighborCursor<JungVertex> cursor = graph.newNeighborCursor();
+		cursor.reset(v1);
+		cursor.next();
+	}
+
 }
@@ -0,0 +1,293 @@
+package net.big_oh.datastructures.graph.loader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.Vertex;
+import net.big_oh.datastructures.graph.csr.CsrUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A unit test for {@link ParallelGraphLoader}.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+public class ParallelGraphLoaderUnitTest
+{
+
+	private File directory;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		directory = File.createTempFile("loader", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		for (File file : directory.listFiles())
+		{
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testConstructorRejectsNoWorkers()
+	{
+		try
+		{
+			new ParallelGraphLoader(0);
+			fail();
+		}
+		catch (IllegalArgumentException iae)
+		{
+			// expected
+		}
+	}
+
+	@Test
+	public void testLoadRejectsNullArguments() throws Exception
+	{
+		File file = write("a b\n");
+		ParallelGraphLoader loader = new ParallelGraphLoader(1);
+		try
+		{
+			loader.load(null, GraphFileFormat.EDGE_LIST, new CsrGraphAssembler());
+			fail();
+		}
+		catch (IllegalArgumentException iae)
+		{
+			// expected
+		}
+		try
+		{
+			loader.load(file, null, new CsrGraphAssembler());
+			fail();
+		}
+		catch (IllegalArgumentException iae)
+		{
+			// expected
+		}
+		try
+		{
+			loader.load(file, GraphFileFormat.EDGE_LIST, null);
+			fail();
+		}
+		catch (IllegalArgumentException iae)
+		{
+			// expected
+		}
+	}
+
+	@Test
+	public void testLoadEdgeList() throws Exception
+	{
+		File file = write("# a comment\r\n% another comment\r\na b\r\nb,c extra columns\n\n  c\ta  \nd\nb a\na a\nété a");
+
+		GraphLoadResult<CsrUndirectedGraph> result = new ParallelGraphLoader(2).load(file, GraphFileFormat.EDGE_LIST, new CsrGraphAssembler());
+		CsrUndirectedGraph graph = result.getGraph();
+
+		assertEquals(5, graph.getVertexCount());
+		assertEquals(4, graph.getEdgeCount());
+		assertNotNull(graph.getVertex("d"));
+		assertEquals(0, graph.getDegree(graph.getVertex("d")));
+		assertEquals(edges("a b", "b c", "a c", "a été"), edgesOf(graph));
+
+		// duplicates and self loops are counted as read
+		assertEquals(5, result.getNumVertices());
+		assertEquals(6, result.getNumEdges());
+		assertEquals(file.length(), result.getNumBytes());
+	}
+
+	@Test
+	public void testLoadAdjacencyList() throws Exception
+	{
+		File file = write("a b c d\nb c\n# a comment\ne\nd, a\n");
+
+		CsrUndirectedGraph graph = new ParallelGraphLoader(1).load(file, GraphFileFormat.ADJACENCY_LIST, new CsrGraphAssembler()).getGraph();
+
+		assertEquals(5, graph.getVertexCount());
+		assertEquals(edges("a b", "a c", "a d", "b c"), edgesOf(graph));
+	}
+
+	@Test
+	public void testLoadIntoJungGraph() throws Exception
+	{
+		File file = write("1 2\n2 3\n3 1\n4 5\n");
+
+		JungUndirectedGraph graph = new ParallelGraphLoader(2).load(file, GraphFileFormat.EDGE_LIST, new JungGraphAssembler()).getGraph();
+
+		assertEquals(5, graph.getVertexCount());
+		assertEquals(edges("1 2", "2 3", "1 3", "4 5"), edgesOf(graph));
+	}
+
+	@Test
+	public void testLoadEmptyFile() throws Exception
+	{
+		File file = write("");
+
+		GraphLoadResult<CsrUndirectedGraph> result = new ParallelGraphLoader(4).load(file, GraphFileFormat.EDGE_LIST, new CsrGraphAssembler());
+
+		assertEquals(0, result.getGraph().getVertexCount());
+		assertEquals(0, result.getNumBytes());
+	}
+
+	@Test
+	public void testLoadMissingFile() throws Exception
+	{
+		try
+		{
+			new ParallelGraphLoader(1).load(new File(directory, "missing.txt"), GraphFileFormat.EDGE_LIST, new CsrGraphAssembler());
+			fail();
+		}
+		catch (IOException ioe)
+		{
+			// expected
+		}
+	}
+
+	@Test
+	public void testLoadLinesLongerThanBuffer() throws Exception
+	{
+		StringBuilder text = new StringBuilder("hub");
+		Set<String> expected = new HashSet<String>();
+		for (int i = 0; i < 200; i++)
+		{
+			text.append(' ').append("spoke").append(i);
+			expected.add(edge("hub", "spoke" + i));
+		}
+		text.append("\nspoke0 spoke1\n");
+		expected.add(edge("spoke0", "spoke1"));
+		File file = write(text.toString());
+
+		CsrUndirectedGraph graph = new ParallelGraphLoader(2, 64, 16).load(file, GraphFileFormat.ADJACENCY_LIST, new CsrGraphAssembler()).getGraph();
+
+		assertEquals(201, graph.getVertexCount());
+		assertEquals(expected, edgesOf(graph));
+	}
+
+	@Test
+	public void testLoadAcrossManyRanges() throws Exception
+	{
+		Random random = new Random(25);
+		StringBuilder text = new StringBuilder();
+		CsrUndirectedGraph.Builder builder = new CsrUndirectedGraph.Builder();
+		for (int i = 0; i < 2000; i++)
+		{
+			String from = "v" + random.nextInt(300);
+			String to = "v" + random.nextInt(300);
+			text.append(from).append(random.nextBoolean() ? " " : "\t").append(to).append(random.nextBoolean() ? "\n" : "\r\n");
+			builder.addEdge(from, to);
+		}
+		CsrUndirectedGraph expected = builder.build();
+		File file = write(text.toString());
+
+		for (int numWorkers = 1; numWorkers <= 4; numWorkers *= 2)
+		{
+			GraphLoadResult<CsrUndirectedGraph> result = new ParallelGraphLoader(numWorkers, 7, 16).load(file, GraphFileFormat.EDGE_LIST, new CsrGraphAssembler());
+
+			assertEquals(expected.getVertexCount(), result.getGraph().getVertexCount());
+			assertEquals(edgesOf(expected), edgesOf(result.getGraph()));
+			assertEquals(2000, result.getNumEdges());
+			assertEquals(numWorkers, result.getNumWorkers());
+			assertTrue(result.getParseThroughput() >= 0);
+		}
+	}
+
+	private File write(String text) throws IOException
+	{
+		File file = File.createTempFile("graph", ".txt", directory);
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try
+		{
+			writer.write(text);
+		}
+		finally
+		{
+			writer.close();
+		}
+		return file;
+	}
+
+	private static Set<String> edges(String... pairs)
+	{
+		Set<String> edges = new HashSet<String>();
+		for (String pair : pairs)
+		{
+			String[] identifiers = pair.split(" ");
+			edges.add(edge(identifiers[0], identifiers[1]));
+		}
+		return edges;
+	}
+
+	private static String edge(String from, String to)
+	{
+		return (from.compareTo(to) < 0) ? from + "|" + to : to + "|" + from;
+	}
+
+	private static <V extends Vertex> Set<String> edgesOf(Graph<V> graph)
+	{
+		Set<String> edges = new HashSet<String>();
+		for (V v : graph.getAllVertices())
+		{
+			for (V neighbor : graph.getAllNeighbors(v))
+			{
+				edges.add(edge(v.getIdentifier().toString(), neighbor.getIdentifier().toString()));
+			}
+		}
+		return edges;
+	}
+
+}
@@ -0,0 +1,134 @@
+package net.big_oh.algorithms.graph.clique.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.algorithms.graph.clique.BronKerboschMaximalCliqueFinder;
+import net.big_oh.datastructures.graph.csr.CsrUndirectedGraph;
+import net.big_oh.datastructures.graph.csr.CsrVertex;
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Measures the time and allocation of the basic Bron–Kerbosch clique finder,
+ * which reads neighborhoods through degree, containsEdge(..) and cursor
+ * queries, on the JUNG and CSR representations of the same random graphs. Run
+ * through {@link
+ * net.big_oh.algorithms.search.informed.astar.benchmark.AStarBenchmarks} so
+ * that gc.alloc.rate.norm reports the bytes allocated per operation.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BronKerboschGraphAccessBenchmark
+{
+
+	private static final int MIN_CLIQUE_SIZE = 3;
+
+	@Param( { "dense", "sparse" })
+	public String graphType;
+
+	private JungUndirectedGraph jungGraph;
+	private CsrUndirectedGraph csrGraph;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		int numVertices;
+		double edgeProbability;
+		if ("dense".equals(graphType))
+		{
+			numVertices = 120;
+			edgeProbability = 0.3;
+		}
+		else if ("sparse".equals(graphType))
+		{
+			numVertices = 2000;
+			edgeProbability = 0.01;
+		}
+		else
+		{
+			throw new IllegalArgumentException("Unknown graphType: " + graphType);
+		}
+
+		Random random = new Random(1);
+		jungGraph = new JungUndirectedGraph();
+		JungVertex[] vertices = new JungVertex[numVertices];
+		CsrUndirectedGraph.Builder builder = new CsrUndirectedGraph.Builder();
+		for (int i = 0; i < numVertices; i++)
+		{
+			vertices[i] = new JungVertex(Integer.valueOf(i));
+			jungGraph.addVertex(vertices[i]);
+			builder.addVertex(Integer.valueOf(i));
+		}
+		for (int i = 0; i < numVertices; i++)
+		{
+			for (int j = i + 1; j < numVertices; j++)
+			{
+				if (random.nextDouble() < edgeProbability)
+				{
+					jungGraph.addEdge(vertices[i], vertices[j]);
+					builder.addEdge(Integer.valueOf(i), Integer.valueOf(j));
+				}
+			}
+		}
+		csrGraph = builder.build();
+	}
+
+	@Benchmark
+	public int jungGraph()
+	{
+		return new BronKerboschMaximalCliqueFinder<JungVertex>().findMaximalCliques(jungGraph, MIN_CLIQUE_SIZE).size();
+	}
+
+	@Benchmark
+	public int csrGraph()
+	{
+		return new BronKerboschMaximalCliqueFinder<CsrVertex>().findMaximalCliques(csrGraph, MIN_CLIQUE_SIZE).size();
+	}
+
+}
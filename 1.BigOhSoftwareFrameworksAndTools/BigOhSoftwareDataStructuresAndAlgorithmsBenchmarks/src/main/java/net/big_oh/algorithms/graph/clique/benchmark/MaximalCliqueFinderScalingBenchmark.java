@@ -0,0 +1,171 @@
+package net.big_oh.algorithms.graph.clique.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.algorithms.graph.clique.ParallelBronKerboschMaximalCliqueFinder;
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Measures how the parallel maximal clique finder scales with its number of
+ * workers, on a large sparse graph with planted cliques (many cheap outer-loop
+ * steps) and on a small dense random graph (few expensive steps, which must be
+ * split and stolen to keep workers busy).
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MaximalCliqueFinderScalingBenchmark
+{
+
+	private static final int MIN_CLIQUE_SIZE = 3;
+
+	@Param( { "1", "2", "4", "8", "16" })
+	public int numWorkers;
+
+	@Param( { "sparse", "dense" })
+	public String graphType;
+
+	private JungUndirectedGraph graph;
+	private ParallelBronKerboschMaximalCliqueFinder<JungVertex> cliqueFinder;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(1);
+		if ("sparse".equals(graphType))
+		{
+			graph = buildPlantedCliqueGraph(random, 20000, 20, 500, 16);
+		}
+		else if ("dense".equals(graphType))
+		{
+			graph = buildRandomGraph(random, 120, 0.5);
+		}
+		else
+		{
+			throw new IllegalArgumentException("Unknown graphType: " + graphType);
+		}
+		cliqueFinder = new ParallelBronKerboschMaximalCliqueFinder<JungVertex>(numWorkers);
+	}
+
+	@Benchmark
+	public int parallelBronKerbosch()
+	{
+		return cliqueFinder.findMaximalCliques(graph, MIN_CLIQUE_SIZE).size();
+	}
+
+	/**
+	 * @return Returns a graph with random edges of the given average degree,
+	 *         overlaid with cliques on randomly chosen vertices.
+	 */
+	private static JungUndirectedGraph buildPlantedCliqueGraph(Random random, int numVertices, int averageDegree, int numCliques, int cliqueSize)
+	{
+		JungUndirectedGraph graph = new JungUndirectedGraph();
+		List<JungVertex> vertices = addVertices(graph, numVertices);
+
+		for (long i = 0; i < (long) numVertices * averageDegree / 2; i++)
+		{
+			graph.addEdge(vertices.get(random.nextInt(numVertices)), vertices.get(random.nextInt(numVertices)));
+		}
+
+		for (int c = 0; c < numCliques; c++)
+		{
+			List<JungVertex> members = new ArrayList<JungVertex>(cliqueSize);
+			for (int i = 0; i < cliqueSize; i++)
+			{
+				members.add(vertices.get(random.nextInt(numVertices)));
+			}
+			for (int i = 0; i < cliqueSize; i++)
+			{
+				for (int j = i + 1; j < cliqueSize; j++)
+				{
+					graph.addEdge(members.get(i), members.get(j));
+				}
+			}
+		}
+
+		return graph;
+	}
+
+	/**
+	 * @return Returns a G(n, p) random graph.
+	 */
+	private static JungUndirectedGraph buildRandomGraph(Random random, int numVertices, double edgeProbability)
+	{
+		JungUndirectedGraph graph = new JungUndirectedGraph();
+		List<JungVertex> vertices = addVertices(graph, numVertices);
+
+		for (int i = 0; i < numVertices; i++)
+		{
+			for (int j = i + 1; j < numVertices; j++)
+			{
+				if (random.nextDouble() < edgeProbability)
+				{
+					graph.addEdge(vertices.get(i), vertices.get(j));
+				}
+			}
+		}
+
+		return graph;
+	}
+
+	private static List<JungVertex> addVertices(JungUndirectedGraph graph, int numVertices)
+	{
+		List<JungVertex> vertices = new ArrayList<JungVertex>(numVertices);
+		for (int i = 0; i < numVertices; i++)
+		{
+			JungVertex v = new JungVertex(Integer.valueOf(i));
+			graph.addVertex(v);
+			vertices.add(v);
+		}
+		return vertices;
+	}
+
+}
@@ -0,0 +1,72 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearchNode;
+import net.big_oh.algorithms.search.informed.astar.NextNodesGenerator;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Counts the calls made to another generator. Every search engine in the
+ * package generates the successors of a node exactly when it expands the node,
+ * so the count is the number of expansions, however the engine itself reports
+ * (or does not report) them. The count is safe to update from several
+ * threads.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ * @param <SearchNodeType>
+ */
+final class CountingNextNodesGenerator<SearchNodeType extends AStarSearchNode> extends NextNodesGenerator<SearchNodeType>
+{
+
+	private final NextNodesGenerator<SearchNodeType> nextNodesGenerator;
+	private final AtomicLong numExpansions = new AtomicLong();
+
+	CountingNextNodesGenerator(NextNodesGenerator<SearchNodeType> nextNodesGenerator)
+	{
+		this.nextNodesGenerator = nextNodesGenerator;
+	}
+
+	@Override
+	public Collection<SearchNodeType> getNextSearchNodes(SearchNodeType baseNode)
+	{
+		numExpansions.incrementAndGet();
+		return nextNodesGenerator.getNextSearchNodes(baseNode);
+	}
+
+	/**
+	 * @return Returns the number of calls made since the previous call to this
+	 *         method.
+	 */
+	long drainNumExpansions()
+	{
+		return numExpansions.getAndSet(0);
+	}
+
+}
@@ -0,0 +1,156 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarEvaluationMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.ExternalMemoryAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.IterativeDeepeningAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.LongStateAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.LongStateAStarSearchResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Benchmarks the search engines suited to permutation puzzles against
+ * 15-puzzle instances of increasing difficulty.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FifteenPuzzleBenchmark
+{
+
+	@Param( { "30", "45", "60" })
+	public int numScrambleMoves;
+
+	@Param( { "1", "2", "3" })
+	public long seed;
+
+	private FifteenPuzzleProblem problem;
+	private CountingNextNodesGenerator<FifteenPuzzleSearchNode> nextNodesGenerator;
+	private File spillDirectory;
+
+	private AStarSearch<FifteenPuzzleSearchNode> graphSearch;
+	private AStarSearch<FifteenPuzzleSearchNode> lazyGraphSearch;
+	private IterativeDeepeningAStarSearch<FifteenPuzzleSearchNode> iterativeDeepeningSearch;
+	private LongStateAStarSearch longStateSearch;
+	private ExternalMemoryAStarSearch<FifteenPuzzleSearchNode> externalMemorySearch;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		problem = new FifteenPuzzleProblem(numScrambleMoves, seed);
+		Heuristic<FifteenPuzzleSearchNode> heuristic = problem.newHeuristic();
+		nextNodesGenerator = new CountingNextNodesGenerator<FifteenPuzzleSearchNode>(problem.newNextNodesGenerator());
+
+		spillDirectory = File.createTempFile("astar-benchmark", "");
+		spillDirectory.delete();
+		spillDirectory.mkdir();
+
+		graphSearch = new AStarSearch<FifteenPuzzleSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH);
+		lazyGraphSearch = new AStarSearch<FifteenPuzzleSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH, AStarEvaluationMode.LAZY, null);
+		iterativeDeepeningSearch = new IterativeDeepeningAStarSearch<FifteenPuzzleSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, true);
+		longStateSearch = new LongStateAStarSearch(AStarSearchType.MIN, problem.newLongStateSearchProblem(), problem.newLongStateHeuristic());
+		externalMemorySearch = new ExternalMemoryAStarSearch<FifteenPuzzleSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, problem.newSerializer(), spillDirectory, 1 << 14);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		for (File file : spillDirectory.listFiles())
+		{
+			file.delete();
+		}
+		spillDirectory.delete();
+	}
+
+	@Benchmark
+	public double aStarGraphSearch(ExpansionCounters counters)
+	{
+		double cost = graphSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double aStarLazyGraphSearch(ExpansionCounters counters)
+	{
+		double cost = lazyGraphSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double iterativeDeepeningAStarSearch(ExpansionCounters counters)
+	{
+		double cost = iterativeDeepeningSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double longStateAStarSearch(ExpansionCounters counters)
+	{
+		LongStateAStarSearchResult result = longStateSearch.doSearch(problem.getStartTiles());
+		counters.expansions += result.getNumStatesExpanded();
+		return result.getPathCost();
+	}
+
+	@Benchmark
+	public double externalMemoryAStarSearch(ExpansionCounters counters) throws IOException
+	{
+		double cost = externalMemorySearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+}
@@ -0,0 +1,298 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearchNodeSerializer;
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.LongStateHeuristic;
+import net.big_oh.algorithms.search.informed.astar.LongStateSearchProblem;
+import net.big_oh.algorithms.search.informed.astar.NextNodesGenerator;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * An instance of the 15-puzzle, obtained by a reproducible random walk of
+ * configurable length from the goal configuration. Configurations are packed
+ * into a long holding four bits per cell, so that the same instance can be
+ * solved by the node-based search engines and by the
+ * {@link net.big_oh.algorithms.search.informed.astar.LongStateAStarSearch}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class FifteenPuzzleProblem
+{
+
+	static final int WIDTH = 4;
+	static final int NUM_CELLS = WIDTH * WIDTH;
+
+	/**
+	 * Tile i + 1 in cell i, and the blank in the last cell.
+	 */
+	static final long GOAL_TILES = 0x0FEDCBA987654321L;
+
+	private static final int[][] NEIGHBOR_CELLS = new int[NUM_CELLS][];
+
+	static
+	{
+		for (int cell = 0; cell < NUM_CELLS; cell++)
+		{
+			int row = cell / WIDTH;
+			int column = cell % WIDTH;
+			List<Integer> neighbors = new ArrayList<Integer>(4);
+			if (row > 0)
+			{
+				neighbors.add(Integer.valueOf(cell - WIDTH));
+			}
+			if (row < WIDTH - 1)
+			{
+				neighbors.add(Integer.valueOf(cell + WIDTH));
+			}
+			if (column > 0)
+			{
+				neighbors.add(Integer.valueOf(cell - 1));
+			}
+			if (column < WIDTH - 1)
+			{
+				neighbors.add(Integer.valueOf(cell + 1));
+			}
+			NEIGHBOR_CELLS[cell] = new int[neighbors.size()];
+			for (int i = 0; i < neighbors.size(); i++)
+			{
+				NEIGHBOR_CELLS[cell][i] = neighbors.get(i).intValue();
+			}
+		}
+	}
+
+	private final long startTiles;
+
+	/**
+	 * @param numScrambleMoves
+	 *            The length of the random walk. Walks never undo their previous
+	 *            move, but may still return to earlier configurations, so the
+	 *            optimal solution may be shorter than the walk.
+	 * @param seed
+	 *            Determines the moves of the random walk.
+	 * @throws IllegalArgumentException
+	 *             Thrown if numScrambleMoves is negative.
+	 */
+	public FifteenPuzzleProblem(int numScrambleMoves, long seed) throws IllegalArgumentException
+	{
+		if (numScrambleMoves < 0)
+		{
+			throw new IllegalArgumentException("The numScrambleMoves argument must not be negative.");
+		}
+
+		Random random = new Random(seed);
+		long tiles = GOAL_TILES;
+		int blankCell = findBlankCell(tiles);
+		int previousBlankCell = -1;
+		for (int i = 0; i < numScrambleMoves; i++)
+		{
+			int[] neighbors = NEIGHBOR_CELLS[blankCell];
+			int nextBlankCell;
+			do
+			{
+				nextBlankCell = neighbors[random.nextInt(neighbors.length)];
+			}
+			while (nextBlankCell == previousBlankCell);
+
+			tiles = slide(tiles, blankCell, nextBlankCell);
+			previousBlankCell = blankCell;
+			blankCell = nextBlankCell;
+		}
+		this.startTiles = tiles;
+	}
+
+	public long getStartTiles()
+	{
+		return startTiles;
+	}
+
+	public FifteenPuzzleSearchNode newStartNode()
+	{
+		return new FifteenPuzzleSearchNode(startTiles, 0);
+	}
+
+	/**
+	 * @return Returns the (consistent) Manhattan distance heuristic.
+	 */
+	public Heuristic<FifteenPuzzleSearchNode> newHeuristic()
+	{
+		return new Heuristic<FifteenPuzzleSearchNode>()
+		{
+			@Override
+			protected double calculateH(FifteenPuzzleSearchNode searchNode)
+			{
+				return calculateManhattanDistance(searchNode.getTiles());
+			}
+
+			@Override
+			public boolean isConsistent()
+			{
+				return true;
+			}
+		};
+	}
+
+	public NextNodesGenerator<FifteenPuzzleSearchNode> newNextNodesGenerator()
+	{
+		return new NextNodesGenerator<FifteenPuzzleSearchNode>()
+		{
+			@Override
+			public Collection<FifteenPuzzleSearchNode> getNextSearchNodes(FifteenPuzzleSearchNode baseNode)
+			{
+				long tiles = baseNode.getTiles();
+				int blankCell = findBlankCell(tiles);
+				int[] neighbors = NEIGHBOR_CELLS[blankCell];
+
+				List<FifteenPuzzleSearchNode> nextNodes = new ArrayList<FifteenPuzzleSearchNode>(neighbors.length);
+				for (int neighbor : neighbors)
+				{
+					nextNodes.add(new FifteenPuzzleSearchNode(slide(tiles, blankCell, neighbor), baseNode.getNodeDepth() + 1));
+				}
+				return nextNodes;
+			}
+		};
+	}
+
+	public LongStateSearchProblem newLongStateSearchProblem()
+	{
+		return new LongStateSearchProblem()
+		{
+			@Override
+			public boolean isGoalState(long state)
+			{
+				return state == GOAL_TILES;
+			}
+
+			@Override
+			public int getMaxNumSuccessors()
+			{
+				return 4;
+			}
+
+			@Override
+			public int getSuccessors(long state, long[] successors, double[] stepCosts)
+			{
+				int blankCell = findBlankCell(state);
+				int[] neighbors = NEIGHBOR_CELLS[blankCell];
+				for (int i = 0; i < neighbors.length; i++)
+				{
+					successors[i] = slide(state, blankCell, neighbors[i]);
+					stepCosts[i] = 1.0;
+				}
+				return neighbors.length;
+			}
+		};
+	}
+
+	public LongStateHeuristic newLongStateHeuristic()
+	{
+		return new LongStateHeuristic()
+		{
+			@Override
+			public double calculateH(long state)
+			{
+				return calculateManhattanDistance(state);
+			}
+
+			@Override
+			public boolean isConsistent()
+			{
+				return true;
+			}
+		};
+	}
+
+	public AStarSearchNodeSerializer<FifteenPuzzleSearchNode> newSerializer()
+	{
+		return new AStarSearchNodeSerializer<FifteenPuzzleSearchNode>()
+		{
+			@Override
+			public int getMaxRecordSize()
+			{
+				return 8 + 4;
+			}
+
+			@Override
+			public void write(FifteenPuzzleSearchNode searchNode, ByteBuffer buffer)
+			{
+				buffer.putLong(searchNode.getTiles());
+				buffer.putInt(searchNode.getNodeDepth());
+			}
+
+			@Override
+			public FifteenPuzzleSearchNode read(ByteBuffer buffer)
+			{
+				long tiles = buffer.getLong();
+				return new FifteenPuzzleSearchNode(tiles, buffer.getInt());
+			}
+		};
+	}
+
+	static int findBlankCell(long tiles)
+	{
+		for (int cell = 0; cell < NUM_CELLS; cell++)
+		{
+			if (((tiles >>> (4 * cell)) & 0xF) == 0)
+			{
+				return cell;
+			}
+		}
+		throw new IllegalArgumentException("The tiles argument holds no blank cell.");
+	}
+
+	/**
+	 * @return Returns the configuration reached by sliding the tile in
+	 *         fromCell into the adjacent blank cell.
+	 */
+	private static long slide(long tiles, int blankCell, int fromCell)
+	{
+		long tile = (tiles >>> (4 * fromCell)) & 0xF;
+		return (tiles & ~(0xFL << (4 * fromCell))) | (tile << (4 * blankCell));
+	}
+
+	private static int calculateManhattanDistance(long tiles)
+	{
+		int distance = 0;
+		for (int cell = 0; cell < NUM_CELLS; cell++)
+		{
+			int tile = (int) ((tiles >>> (4 * cell)) & 0xF);
+			if (tile != 0)
+			{
+				int goalCell = tile - 1;
+				distance += Math.abs(cell / WIDTH - goalCell / WIDTH) + Math.abs(cell % WIDTH - goalCell % WIDTH);
+			}
+		}
+		return distance;
+	}
+
+}
@@ -0,0 +1,80 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearchNode;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A search node of a {@link FifteenPuzzleProblem}. Since every move costs one,
+ * a node's g value is its depth.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class FifteenPuzzleSearchNode extends AStarSearchNode
+{
+
+	private final long tiles;
+
+	FifteenPuzzleSearchNode(long tiles, int nodeDepth)
+	{
+		super(nodeDepth);
+		this.tiles = tiles;
+	}
+
+	@Override
+	protected double calculateG()
+	{
+		return getNodeDepth();
+	}
+
+	@Override
+	protected boolean calculateGoalState()
+	{
+		return tiles == FifteenPuzzleProblem.GOAL_TILES;
+	}
+
+	@Override
+	public long getStateHash()
+	{
+		return tiles;
+	}
+
+	@Override
+	public boolean isSameState(AStarSearchNode other)
+	{
+		return other instanceof FifteenPuzzleSearchNode && tiles == ((FifteenPuzzleSearchNode) other).tiles;
+	}
+
+	/**
+	 * @return Returns the configuration, packed four bits per cell.
+	 */
+	public long getTiles()
+	{
+		return tiles;
+	}
+
+}
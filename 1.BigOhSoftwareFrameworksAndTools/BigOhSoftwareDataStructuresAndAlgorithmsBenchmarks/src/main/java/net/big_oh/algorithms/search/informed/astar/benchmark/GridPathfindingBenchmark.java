@@ -0,0 +1,189 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.BidirectionalAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.IncrementalAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.IncrementalAStarSearchResult;
+import net.big_oh.algorithms.search.informed.astar.ParallelAStarSearch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Benchmarks the search engines suited to path finding against random grids
+ * of increasing size, including the incremental engine's replanning after a
+ * single cell changes.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GridPathfindingBenchmark
+{
+
+	private static final double OBSTACLE_DENSITY = 0.25;
+
+	@Param( { "64", "256" })
+	public int size;
+
+	@Param( { "1", "2", "3" })
+	public long seed;
+
+	private GridProblem problem;
+	private CountingNextNodesGenerator<GridSearchNode> nextNodesGenerator;
+
+	private AStarSearch<GridSearchNode> graphSearch;
+	private BidirectionalAStarSearch<GridSearchNode> bidirectionalSearch;
+	private ParallelAStarSearch<GridSearchNode> parallelSearch;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		problem = new GridProblem(size, OBSTACLE_DENSITY, seed);
+		Heuristic<GridSearchNode> heuristic = problem.newHeuristic();
+		nextNodesGenerator = new CountingNextNodesGenerator<GridSearchNode>(problem.newNextNodesGenerator());
+
+		graphSearch = new AStarSearch<GridSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH);
+		bidirectionalSearch = new BidirectionalAStarSearch<GridSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, heuristic, nextNodesGenerator);
+		parallelSearch = new ParallelAStarSearch<GridSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator);
+	}
+
+	@Benchmark
+	public double aStarGraphSearch(ExpansionCounters counters)
+	{
+		double cost = graphSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double bidirectionalAStarSearch(ExpansionCounters counters)
+	{
+		double cost = bidirectionalSearch.doSearch(problem.newStartNode(), problem.newGoalNode()).getPathCost();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double parallelAStarSearch(ExpansionCounters counters)
+	{
+		double cost = parallelSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	/**
+	 * Plans a path from scratch with the incremental engine.
+	 */
+	@Benchmark
+	public double incrementalAStarSearch(ExpansionCounters counters)
+	{
+		IncrementalAStarSearchResult<Integer> result = new IncrementalAStarSearch<Integer>(problem, problem.getStartCell(), problem.getGoalCell()).computePath();
+		counters.expansions += result.getNumStatesExpanded();
+		return result.getPathCost();
+	}
+
+	/**
+	 * Replans after toggling a single cell near the current path.
+	 */
+	@Benchmark
+	public double incrementalAStarReplan(ReplanState state, ExpansionCounters counters)
+	{
+		IncrementalAStarSearchResult<Integer> result = state.toggleCellAndReplan();
+		counters.expansions += result.getNumStatesExpanded();
+		return result.getPathCost();
+	}
+
+	/**
+	 * A grid of its own, so that blocking cells does not disturb the other
+	 * benchmarks, along with an incremental search that has already planned a
+	 * path through it.
+	 */
+	@State(Scope.Thread)
+	public static class ReplanState
+	{
+		private GridProblem grid;
+		private IncrementalAStarSearch<Integer> search;
+		private Random random;
+		private int toggledCell = -1;
+
+		@Setup(Level.Trial)
+		public void setUp(GridPathfindingBenchmark benchmark)
+		{
+			grid = new GridProblem(benchmark.size, OBSTACLE_DENSITY, benchmark.seed);
+			search = new IncrementalAStarSearch<Integer>(grid, grid.getStartCell(), grid.getGoalCell());
+			search.computePath();
+			random = new Random(benchmark.seed);
+		}
+
+		/**
+		 * Alternately blocks a random cell of the current path and unblocks it
+		 * again, so that the grid never drifts far from its initial layout.
+		 */
+		private IncrementalAStarSearchResult<Integer> toggleCellAndReplan()
+		{
+			if (toggledCell < 0)
+			{
+				IncrementalAStarSearchResult<Integer> result = search.computePath();
+				if (result.getPath().size() > 2)
+				{
+					toggledCell = result.getPath().get(1 + random.nextInt(result.getPath().size() - 2)).intValue();
+					grid.setBlocked(toggledCell, true, search);
+				}
+			}
+			else
+			{
+				grid.setBlocked(toggledCell, false, search);
+				toggledCell = -1;
+			}
+			return search.computePath();
+		}
+	}
+
+}
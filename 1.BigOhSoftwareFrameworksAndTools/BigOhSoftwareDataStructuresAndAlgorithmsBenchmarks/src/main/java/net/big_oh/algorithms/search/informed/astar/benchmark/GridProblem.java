@@ -0,0 +1,287 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.IncrementalAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.IncrementalSearchGraph;
+import net.big_oh.algorithms.search.informed.astar.NextNodesGenerator;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A path finding problem on a square, four-connected grid in which a random
+ * (but reproducible) fraction of the cells is blocked. Paths lead from the top
+ * left cell to the bottom right cell, and every step costs one. Cells are
+ * identified by their index (row * size + column).<br/>
+ * <br/>
+ * The grid doubles as an {@link IncrementalSearchGraph}, in which steps into
+ * or out of blocked cells cost {@link Double#POSITIVE_INFINITY}.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class GridProblem extends IncrementalSearchGraph<Integer>
+{
+
+	private final int size;
+	private final boolean[] blocked;
+	private final int startCell;
+	private final int goalCell;
+
+	/**
+	 * @param size
+	 *            The number of rows and columns.
+	 * @param obstacleDensity
+	 *            The fraction of cells to block.
+	 * @param seed
+	 *            Determines which cells are blocked. Seeds that leave the goal
+	 *            cell unreachable are skipped deterministically.
+	 * @throws IllegalArgumentException
+	 *             Thrown if size is less than two or obstacleDensity is not
+	 *             less than one half.
+	 */
+	public GridProblem(int size, double obstacleDensity, long seed) throws IllegalArgumentException
+	{
+		if (size < 2)
+		{
+			throw new IllegalArgumentException("The size argument must not be less than two.");
+		}
+		if (obstacleDensity < 0.0 || obstacleDensity >= 0.5)
+		{
+			throw new IllegalArgumentException("The obstacleDensity argument must be at least zero and less than one half.");
+		}
+
+		this.size = size;
+		this.blocked = new boolean[size * size];
+		this.startCell = 0;
+		this.goalCell = size * size - 1;
+
+		Random random = new Random(seed);
+		do
+		{
+			for (int cell = 0; cell < blocked.length; cell++)
+			{
+				blocked[cell] = cell != startCell && cell != goalCell && random.nextDouble() < obstacleDensity;
+			}
+		}
+		while (getShortestPathLength() < 0);
+	}
+
+	public int getSize()
+	{
+		return size;
+	}
+
+	public int getStartCell()
+	{
+		return startCell;
+	}
+
+	public int getGoalCell()
+	{
+		return goalCell;
+	}
+
+	public boolean isBlocked(int cell)
+	{
+		return blocked[cell];
+	}
+
+	/**
+	 * Blocks or unblocks a cell and reports the cost changes of all adjacent
+	 * steps to search (if not null).
+	 */
+	public void setBlocked(int cell, boolean isBlocked, IncrementalAStarSearch<Integer> search)
+	{
+		if (blocked[cell] == isBlocked)
+		{
+			return;
+		}
+
+		blocked[cell] = isBlocked;
+		if (search != null)
+		{
+			for (Integer neighbor : getSuccessors(Integer.valueOf(cell)))
+			{
+				search.notifyEdgeCostChanged(Integer.valueOf(cell), neighbor);
+				search.notifyEdgeCostChanged(neighbor, Integer.valueOf(cell));
+			}
+		}
+	}
+
+	public GridSearchNode newStartNode()
+	{
+		return new GridSearchNode(startCell, goalCell, 0);
+	}
+
+	/**
+	 * @return Returns a node at the goal cell whose target is the start cell,
+	 *         from which a backward search may begin.
+	 */
+	public GridSearchNode newGoalNode()
+	{
+		return new GridSearchNode(goalCell, startCell, 0);
+	}
+
+	/**
+	 * @return Returns the Manhattan distance heuristic toward the target cell
+	 *         of each node.
+	 */
+	public Heuristic<GridSearchNode> newHeuristic()
+	{
+		return new Heuristic<GridSearchNode>()
+		{
+			@Override
+			protected double calculateH(GridSearchNode searchNode)
+			{
+				return estimateCost(searchNode.getCell(), searchNode.getTargetCell());
+			}
+
+			@Override
+			public boolean isConsistent()
+			{
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * @return Returns a generator of the unblocked neighbors of a node. Since
+	 *         steps cost the same in both directions, the generator serves
+	 *         forward and backward searches alike.
+	 */
+	public NextNodesGenerator<GridSearchNode> newNextNodesGenerator()
+	{
+		return new NextNodesGenerator<GridSearchNode>()
+		{
+			@Override
+			public Collection<GridSearchNode> getNextSearchNodes(GridSearchNode baseNode)
+			{
+				List<GridSearchNode> nextNodes = new ArrayList<GridSearchNode>(4);
+				if (baseNode.isGoalState())
+				{
+					return nextNodes;
+				}
+
+				for (Integer neighbor : getSuccessors(Integer.valueOf(baseNode.getCell())))
+				{
+					if (!blocked[neighbor.intValue()])
+					{
+						nextNodes.add(new GridSearchNode(neighbor.intValue(), baseNode.getTargetCell(), baseNode.getNodeDepth() + 1));
+					}
+				}
+				return nextNodes;
+			}
+		};
+	}
+
+	@Override
+	public Collection<Integer> getSuccessors(Integer state)
+	{
+		int cell = state.intValue();
+		int row = cell / size;
+		int column = cell % size;
+
+		List<Integer> neighbors = new ArrayList<Integer>(4);
+		if (row > 0)
+		{
+			neighbors.add(Integer.valueOf(cell - size));
+		}
+		if (row < size - 1)
+		{
+			neighbors.add(Integer.valueOf(cell + size));
+		}
+		if (column > 0)
+		{
+			neighbors.add(Integer.valueOf(cell - 1));
+		}
+		if (column < size - 1)
+		{
+			neighbors.add(Integer.valueOf(cell + 1));
+		}
+		return neighbors;
+	}
+
+	@Override
+	public Collection<Integer> getPredecessors(Integer state)
+	{
+		return getSuccessors(state);
+	}
+
+	@Override
+	public double getCost(Integer from, Integer to)
+	{
+		return (blocked[from.intValue()] || blocked[to.intValue()]) ? Double.POSITIVE_INFINITY : 1.0;
+	}
+
+	@Override
+	public double estimateCost(Integer from, Integer to)
+	{
+		return estimateCost(from.intValue(), to.intValue());
+	}
+
+	private double estimateCost(int fromCell, int toCell)
+	{
+		return Math.abs(fromCell / size - toCell / size) + Math.abs(fromCell % size - toCell % size);
+	}
+
+	/**
+	 * @return Returns the length of the shortest path from the start cell to
+	 *         the goal cell, found by a breadth first search, or -1 if there is
+	 *         none.
+	 */
+	public int getShortestPathLength()
+	{
+		int[] distances = new int[blocked.length];
+		Arrays.fill(distances, -1);
+		int[] frontier = new int[blocked.length];
+		int head = 0;
+		int tail = 0;
+
+		distances[startCell] = 0;
+		frontier[tail++] = startCell;
+		while (head < tail)
+		{
+			int cell = frontier[head++];
+			for (Integer neighbor : getSuccessors(Integer.valueOf(cell)))
+			{
+				int neighborCell = neighbor.intValue();
+				if (!blocked[neighborCell] && distances[neighborCell] < 0)
+				{
+					distances[neighborCell] = distances[cell] + 1;
+					frontier[tail++] = neighborCell;
+				}
+			}
+		}
+		return distances[goalCell];
+	}
+
+}
@@ -0,0 +1,239 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearchNodeSerializer;
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.NextNodesGenerator;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A traveling salesman problem over a configurable number of cities placed at
+ * random (but reproducible) positions in a square. The salesman starts in city
+ * zero, must visit every other city once and then return to city zero.<br/>
+ * <br/>
+ * The problem is the scalable counterpart of the five-city traveling salesman
+ * fixture used by the unit tests and shares its shape: a node records the
+ * cities visited so far, the cities still to visit and the cost of the path
+ * taken, and two nodes represent the same state if they have visited the same
+ * cities and are located at the same city.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class TourProblem
+{
+
+	static final int HOME_CITY = 0;
+
+	/**
+	 * The largest number of cities whose visited set fits in a state hash.
+	 */
+	public static final int MAX_NUM_CITIES = 48;
+
+	private static final double SQUARE_SIZE = 1000.0;
+
+	private final int numCities;
+	private final double[][] distances;
+
+	/**
+	 * The length of the shortest edge leaving each city, from which the
+	 * heuristic is built.
+	 */
+	private final double[] shortestEdges;
+
+	/**
+	 * @param numCities
+	 * @param seed
+	 *            Determines the positions of the cities.
+	 * @throws IllegalArgumentException
+	 *             Thrown if numCities is less than two or greater than
+	 *             {@link #MAX_NUM_CITIES}.
+	 */
+	public TourProblem(int numCities, long seed) throws IllegalArgumentException
+	{
+		if (numCities < 2 || numCities > MAX_NUM_CITIES)
+		{
+			throw new IllegalArgumentException("The numCities argument must be between 2 and " + MAX_NUM_CITIES + ".");
+		}
+
+		this.numCities = numCities;
+
+		Random random = new Random(seed);
+		double[] x = new double[numCities];
+		double[] y = new double[numCities];
+		for (int city = 0; city < numCities; city++)
+		{
+			x[city] = random.nextDouble() * SQUARE_SIZE;
+			y[city] = random.nextDouble() * SQUARE_SIZE;
+		}
+
+		this.distances = new double[numCities][numCities];
+		this.shortestEdges = new double[numCities];
+		for (int from = 0; from < numCities; from++)
+		{
+			shortestEdges[from] = Double.POSITIVE_INFINITY;
+			for (int to = 0; to < numCities; to++)
+			{
+				distances[from][to] = Math.hypot(x[from] - x[to], y[from] - y[to]);
+				if (from != to)
+				{
+					shortestEdges[from] = Math.min(shortestEdges[from], distances[from][to]);
+				}
+			}
+		}
+	}
+
+	public int getNumCities()
+	{
+		return numCities;
+	}
+
+	public double getDistance(int fromCity, int toCity)
+	{
+		return distances[fromCity][toCity];
+	}
+
+	/**
+	 * @return Returns a node located at the home city that has visited no
+	 *         other city yet.
+	 */
+	public TourSearchNode newStartNode()
+	{
+		long unvisitedCities = ((1L << numCities) - 1) & ~(1L << HOME_CITY);
+		return new TourSearchNode(this, new int[0], unvisitedCities, 0.0);
+	}
+
+	/**
+	 * @return Returns a consistent heuristic: the rest of the tour leaves the
+	 *         current city and every unvisited city exactly once, and each of
+	 *         those steps costs at least the shortest edge leaving its city.
+	 *         The heuristic serves the nodes of any problem.
+	 */
+	public static Heuristic<TourSearchNode> newHeuristic()
+	{
+		return new Heuristic<TourSearchNode>()
+		{
+			@Override
+			protected double calculateH(TourSearchNode searchNode)
+			{
+				double[] shortestEdges = searchNode.getProblem().shortestEdges;
+				double h = shortestEdges[searchNode.getCurrentCity()];
+				long unvisitedCities = searchNode.getUnvisitedCities();
+				while (unvisitedCities != 0)
+				{
+					h += shortestEdges[Long.numberOfTrailingZeros(unvisitedCities)];
+					unvisitedCities &= unvisitedCities - 1;
+				}
+				return h;
+			}
+
+			@Override
+			public boolean isConsistent()
+			{
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * @return Returns a generator that serves the nodes of any problem.
+	 */
+	public static NextNodesGenerator<TourSearchNode> newNextNodesGenerator()
+	{
+		return new NextNodesGenerator<TourSearchNode>()
+		{
+			@Override
+			public Collection<TourSearchNode> getNextSearchNodes(TourSearchNode baseNode)
+			{
+				List<TourSearchNode> nextNodes = new ArrayList<TourSearchNode>(Long.bitCount(baseNode.getUnvisitedCities()));
+				if (baseNode.isGoalState())
+				{
+					return nextNodes;
+				}
+
+				long unvisitedCities = baseNode.getUnvisitedCities();
+				if (unvisitedCities == 0)
+				{
+					nextNodes.add(baseNode.visit(HOME_CITY));
+				}
+				while (unvisitedCities != 0)
+				{
+					nextNodes.add(baseNode.visit(Long.numberOfTrailingZeros(unvisitedCities)));
+					unvisitedCities &= unvisitedCities - 1;
+				}
+				return nextNodes;
+			}
+		};
+	}
+
+	/**
+	 * @return Returns a serializer that preserves the complete path of a node.
+	 */
+	public AStarSearchNodeSerializer<TourSearchNode> newSerializer()
+	{
+		return new AStarSearchNodeSerializer<TourSearchNode>()
+		{
+			@Override
+			public int getMaxRecordSize()
+			{
+				return 8 + 8 + 4 + numCities + 1;
+			}
+
+			@Override
+			public void write(TourSearchNode searchNode, ByteBuffer buffer)
+			{
+				buffer.putLong(searchNode.getUnvisitedCities());
+				buffer.putDouble(searchNode.getG());
+				int[] visitedCities = searchNode.getVisitedCities();
+				buffer.putInt(visitedCities.length);
+				for (int city : visitedCities)
+				{
+					buffer.put((byte) city);
+				}
+			}
+
+			@Override
+			public TourSearchNode read(ByteBuffer buffer)
+			{
+				long unvisitedCities = buffer.getLong();
+				double g = buffer.getDouble();
+				int[] visitedCities = new int[buffer.getInt()];
+				for (int i = 0; i < visitedCities.length; i++)
+				{
+					visitedCities[i] = buffer.get();
+				}
+				return new TourSearchNode(TourProblem.this, visitedCities, unvisitedCities, g);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,122 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearchNode;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * A search node of a {@link TourProblem}, representing a partial tour that
+ * starts at the home city.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+public final class TourSearchNode extends AStarSearchNode
+{
+
+	private final TourProblem problem;
+	private final int[] visitedCities;
+	private final long unvisitedCities;
+	private final double cost;
+
+	TourSearchNode(TourProblem problem, int[] visitedCities, long unvisitedCities, double cost)
+	{
+		super(visitedCities.length);
+		this.problem = problem;
+		this.visitedCities = visitedCities;
+		this.unvisitedCities = unvisitedCities;
+		this.cost = cost;
+	}
+
+	/**
+	 * @return Returns the node reached by traveling from the current city to
+	 *         city.
+	 */
+	TourSearchNode visit(int city)
+	{
+		int[] nextVisitedCities = new int[visitedCities.length + 1];
+		System.arraycopy(visitedCities, 0, nextVisitedCities, 0, visitedCities.length);
+		nextVisitedCities[visitedCities.length] = city;
+		return new TourSearchNode(problem, nextVisitedCities, unvisitedCities & ~(1L << city), cost + problem.getDistance(getCurrentCity(), city));
+	}
+
+	@Override
+	protected double calculateG()
+	{
+		return cost;
+	}
+
+	@Override
+	protected boolean calculateGoalState()
+	{
+		return unvisitedCities == 0 && visitedCities.length > 0 && getCurrentCity() == TourProblem.HOME_CITY;
+	}
+
+	/**
+	 * Two nodes represent the same state if they have visited the same set of
+	 * cities and are currently located at the same city.
+	 */
+	@Override
+	public long getStateHash()
+	{
+		return (unvisitedCities << 8) | (visitedCities.length == 0 ? 0xFF : getCurrentCity());
+	}
+
+	@Override
+	public boolean isSameState(AStarSearchNode other)
+	{
+		return other instanceof TourSearchNode && problem == ((TourSearchNode) other).problem && getStateHash() == other.getStateHash();
+	}
+
+	public TourProblem getProblem()
+	{
+		return problem;
+	}
+
+	public int getCurrentCity()
+	{
+		return (visitedCities.length == 0) ? TourProblem.HOME_CITY : visitedCities[visitedCities.length - 1];
+	}
+
+	/**
+	 * @return Returns the cities visited so far, in order, not including the
+	 *         home city the tour started from.
+	 */
+	public int[] getVisitedCities()
+	{
+		return visitedCities.clone();
+	}
+
+	/**
+	 * @return Returns a bit mask with one bit set for each city still to be
+	 *         visited.
+	 */
+	public long getUnvisitedCities()
+	{
+		return unvisitedCities;
+	}
+
+}
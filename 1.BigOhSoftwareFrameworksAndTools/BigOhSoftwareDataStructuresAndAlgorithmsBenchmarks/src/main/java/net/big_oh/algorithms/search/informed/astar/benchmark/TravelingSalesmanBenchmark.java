@@ -0,0 +1,208 @@
+package net.big_oh.algorithms.search.informed.astar.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.algorithms.search.informed.astar.AStarSearch;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchMode;
+import net.big_oh.algorithms.search.informed.astar.AStarSearch.AStarSearchType;
+import net.big_oh.algorithms.search.informed.astar.AStarSearchResult;
+import net.big_oh.algorithms.search.informed.astar.AStarSearchService;
+import net.big_oh.algorithms.search.informed.astar.AnytimeAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.ExternalMemoryAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.Heuristic;
+import net.big_oh.algorithms.search.informed.astar.MemoryBoundedAStarSearch;
+import net.big_oh.algorithms.search.informed.astar.ParallelAStarSearch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Benchmarks the search engines that take a single start node against
+ * traveling salesman problems of increasing size.
+ * 
+ * @author davewingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TravelingSalesmanBenchmark
+{
+
+	/**
+	 * The number of problems, one per consecutive seed, submitted to the search
+	 * service at a time.
+	 */
+	private static final int SERVICE_BATCH_SIZE = 8;
+
+	@Param( { "8", "10", "12" })
+	public int numCities;
+
+	@Param( { "1", "2", "3" })
+	public long seed;
+
+	private TourProblem problem;
+	private Heuristic<TourSearchNode> heuristic;
+	private CountingNextNodesGenerator<TourSearchNode> nextNodesGenerator;
+	private File spillDirectory;
+
+	private AStarSearch<TourSearchNode> treeSearch;
+	private AStarSearch<TourSearchNode> graphSearch;
+	private AnytimeAStarSearch<TourSearchNode> anytimeSearch;
+	private MemoryBoundedAStarSearch<TourSearchNode> memoryBoundedSearch;
+	private ParallelAStarSearch<TourSearchNode> parallelSearch;
+	private ExternalMemoryAStarSearch<TourSearchNode> externalMemorySearch;
+
+	private List<TourSearchNode> serviceStartNodes;
+	private CountingNextNodesGenerator<TourSearchNode> serviceNextNodesGenerator;
+	private AStarSearchService<TourSearchNode> searchService;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		problem = new TourProblem(numCities, seed);
+		heuristic = TourProblem.newHeuristic();
+		nextNodesGenerator = new CountingNextNodesGenerator<TourSearchNode>(TourProblem.newNextNodesGenerator());
+
+		spillDirectory = File.createTempFile("astar-benchmark", "");
+		spillDirectory.delete();
+		spillDirectory.mkdir();
+
+		treeSearch = new AStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.TREE);
+		graphSearch = new AStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH);
+		anytimeSearch = new AnytimeAStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, AStarSearchMode.GRAPH, 3.0, 0.5);
+		memoryBoundedSearch = new MemoryBoundedAStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, 1 << 16);
+		parallelSearch = new ParallelAStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator);
+		externalMemorySearch = new ExternalMemoryAStarSearch<TourSearchNode>(AStarSearchType.MIN, heuristic, nextNodesGenerator, problem.newSerializer(), spillDirectory, 1 << 12);
+
+		serviceStartNodes = new ArrayList<TourSearchNode>(SERVICE_BATCH_SIZE);
+		for (int i = 0; i < SERVICE_BATCH_SIZE; i++)
+		{
+			serviceStartNodes.add(new TourProblem(numCities, seed + i).newStartNode());
+		}
+		serviceNextNodesGenerator = new CountingNextNodesGenerator<TourSearchNode>(TourProblem.newNextNodesGenerator());
+		searchService = new AStarSearchService<TourSearchNode>(AStarSearchType.MIN, TourProblem.newHeuristic(), serviceNextNodesGenerator, AStarSearchMode.GRAPH, Runtime.getRuntime().availableProcessors(), 1 << 20);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		searchService.shutdown();
+		for (File file : spillDirectory.listFiles())
+		{
+			file.delete();
+		}
+		spillDirectory.delete();
+	}
+
+	@Benchmark
+	public double aStarTreeSearch(ExpansionCounters counters)
+	{
+		double cost = treeSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double aStarGraphSearch(ExpansionCounters counters)
+	{
+		double cost = graphSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double anytimeAStarSearch(ExpansionCounters counters)
+	{
+		double cost = anytimeSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double memoryBoundedAStarSearch(ExpansionCounters counters)
+	{
+		double cost = memoryBoundedSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double parallelAStarSearch(ExpansionCounters counters)
+	{
+		double cost = parallelSearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	@Benchmark
+	public double externalMemoryAStarSearch(ExpansionCounters counters) throws IOException
+	{
+		double cost = externalMemorySearch.doSearch(problem.newStartNode()).getGoalNode().getG();
+		counters.expansions += nextNodesGenerator.drainNumExpansions();
+		return cost;
+	}
+
+	/**
+	 * Solves a batch of problems (one per consecutive seed) concurrently.
+	 * Since the service's heuristic memo outlives each batch, this measures
+	 * the steady state in which hot h values are shared between queries.
+	 */
+	@Benchmark
+	public double searchServiceBatch(ExpansionCounters counters) throws InterruptedException, ExecutionException
+	{
+		double totalCost = 0;
+		for (Future<AStarSearchResult<TourSearchNode>> future : searchService.submitAll(serviceStartNodes))
+		{
+			totalCost += future.get().getGoalNode().getG();
+		}
+		counters.expansions += serviceNextNodesGenerator.drainNumExpansions();
+		return totalCost;
+	}
+
+}
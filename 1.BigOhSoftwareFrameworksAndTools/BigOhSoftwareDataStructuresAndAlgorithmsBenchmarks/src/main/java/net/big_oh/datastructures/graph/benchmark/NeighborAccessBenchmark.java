@@ -0,0 +1,305 @@
+package net.big_oh.datastructures.graph.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.big_oh.datastructures.graph.Graph;
+import net.big_oh.datastructures.graph.NeighborCursor;
+import net.big_oh.datastructures.graph.NeighborVisitor;
+import net.big_oh.datastructures.graph.Vertex;
+import net.big_oh.datastructures.graph.csr.CsrUndirectedGraph;
+import net.big_oh.datastructures.graph.csr.CsrVertex;
+import net.big_oh.datastructures.graph.jung.sparse.JungUndirectedGraph;
+import net.big_oh.datastructures.graph.jung.sparse.JungVertex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ Copyright (c) 2009 Dave Wingate dba Big-Oh Software (www.big-oh.net)
+
+ Permission is hereby granted, free of charge, to any person
+ obtaining a copy of this software and associated documentation
+ files (the "Software"), to deal in the Software without
+ restriction, including without limitation the rights to use,
+ copy, modify, merge, publish, distribute, sublicense, and/or sell
+ copies of the Software, and to permit persons to whom the
+ Software is furnished to do so, subject to the following
+ conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+/**
+ * Compares the ways of reading neighborhoods through the
+ * {@link net.big_oh.datastructures.graph.Graph} interface: copying them with
+ * getAllNeighbors(..) versus the allocation-free degree, containsEdge(..),
+ * visitor and cursor access paths. Each operation touches every vertex of a
+ * sparse random graph once. Run through {@link
+ * net.big_oh.algorithms.search.informed.astar.benchmark.AStarBenchmarks} so
+ * that gc.alloc.rate.norm reports the bytes allocated per operation.
+ * 
+ * @author dwingate
+ * @version Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NeighborAccessBenchmark
+{
+
+	private static final int NUM_VERTICES = 10000;
+	private static final int AVERAGE_DEGREE = 16;
+
+	@Param( { "jung", "csr" })
+	public String graphType;
+
+	private Workload<?> workload;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(1);
+		int[] edgeSources = new int[NUM_VERTICES * AVERAGE_DEGREE / 2];
+		int[] edgeTargets = new int[edgeSources.length];
+		for (int e = 0; e < edgeSources.length; e++)
+		{
+			edgeSources[e] = random.nextInt(NUM_VERTICES);
+			edgeTargets[e] = random.nextInt(NUM_VERTICES);
+		}
+
+		if ("jung".equals(graphType))
+		{
+			JungUndirectedGraph graph = new JungUndirectedGraph();
+			JungVertex[] vertices = new JungVertex[NUM_VERTICES];
+			for (int i = 0; i < NUM_VERTICES; i++)
+			{
+				vertices[i] = new JungVertex(Integer.valueOf(i));
+				graph.addVertex(vertices[i]);
+			}
+			for (int e = 0; e < edgeSources.length; e++)
+			{
+				graph.addEdge(vertices[edgeSources[e]], vertices[edgeTargets[e]]);
+			}
+			workload = new Workload<JungVertex>(graph, vertices, random);
+		}
+		else if ("csr".equals(graphType))
+		{
+			CsrUndirectedGraph.Builder builder = new CsrUndirectedGraph.Builder();
+			for (int i = 0; i < NUM_VERTICES; i++)
+			{
+				builder.addVertex(Integer.valueOf(i));
+			}
+			for (int e = 0; e < edgeSources.length; e++)
+			{
+				builder.addEdge(Integer.valueOf(edgeSources[e]), Integer.valueOf(edgeTargets[e]));
+			}
+			CsrUndirectedGraph graph = builder.build();
+			workload = new Workload<CsrVertex>(graph, graph.getAllVertices().toArray(new CsrVertex[NUM_VERTICES]), random);
+		}
+		else
+		{
+			throw new IllegalArgumentException("Unknown graphType: " + graphType);
+		}
+	}
+
+	@Benchmark
+	public long scanGetAllNeighbors()
+	{
+		return workload.scanGetAllNeighbors();
+	}
+
+	@Benchmark
+	public long scanForEachNeighbor()
+	{
+		return workload.scanForEachNeighbor();
+	}
+
+	@Benchmark
+	public long scanNeighborCursor()
+	{
+		return workload.scanNeighborCursor();
+	}
+
+	@Benchmark
+	public long sumGetAllNeighborsSize()
+	{
+		return workload.sumGetAllNeighborsSize();
+	}
+
+	@Benchmark
+	public long sumGetDegree()
+	{
+		return workload.sumGetDegree();
+	}
+
+	@Benchmark
+	public int probeGetAllNeighbors()
+	{
+		return workload.probeGetAllNeighbors();
+	}
+
+	@Benchmark
+	public int probeContainsEdge()
+	{
+		return workload.probeContainsEdge();
+	}
+
+	/**
+	 * Binds the graph's vertex type, so that each access path can be written
+	 * once for both graph implementations.
+	 */
+	private static final class Workload<V extends Vertex>
+	{
+		private final Graph<V> graph;
+		private final V[] vertices;
+		private final V[] probeTargets;
+		private final NeighborCursor<V> cursor;
+		private final CountingVisitor<V> visitor = new CountingVisitor<V>();
+
+		private Workload(Graph<V> graph, V[] vertices, Random random)
+		{
+			this.graph = graph;
+			this.vertices = vertices;
+			this.cursor = graph.newNeighborCursor();
+
+			// probe each vertex against one of its neighbors half of the time
+			// and against a random vertex otherwise
+			this.probeTargets = vertices.clone();
+			for (int i = 0; i < vertices.length; i++)
+			{
+				int degree = graph.getDegree(vertices[i]);
+				if (degree > 0 && random.nextBoolean())
+				{
+					cursor.reset(vertices[i]);
+					for (int skip = random.nextInt(degree); skip > 0; skip--)
+					{
+						cursor.next();
+					}
+					probeTargets[i] = cursor.next();
+				}
+				else
+				{
+					probeTargets[i] = vertices[random.nextInt(vertices.length)];
+				}
+			}
+		}
+
+		private long scanGetAllNeighbors()
+		{
+			long sum = 0;
+			for (V v : vertices)
+			{
+				for (V neighbor : graph.getAllNeighbors(v))
+				{
+					sum += neighbor.hashCode();
+				}
+			}
+			return sum;
+		}
+
+		private long scanForEachNeighbor()
+		{
+			visitor.sum = 0;
+			for (V v : vertices)
+			{
+				graph.forEachNeighbor(v, visitor);
+			}
+			return visitor.sum;
+		}
+
+		private long scanNeighborCursor()
+		{
+			long sum = 0;
+			for (V v : vertices)
+			{
+				for (cursor.reset(v); cursor.hasNext();)
+				{
+					sum += cursor.next().hashCode();
+				}
+			}
+			return sum;
+		}
+
+		private long sumGetAllNeighborsSize()
+		{
+			long sum = 0;
+			for (V v : vertices)
+			{
+				sum += graph.getAllNeighbors(v).size();
+			}
+			return sum;
+		}
+
+		private long sumGetDegree()
+		{
+			long sum = 0;
+			for (V v : vertices)
+			{
+				sum += graph.getDegree(v);
+			}
+			return sum;
+		}
+
+		private int probeGetAllNeighbors()
+		{
+			int numEdges = 0;
+			for (int i = 0; i < vertices.length; i++)
+			{
+				if (graph.getAllNeighbors(vertices[i]).contains(probeTargets[i]))
+				{
+					numEdges++;
+				}
+			}
+			return numEdges;
+		}
+
+		private int probeContainsEdge()
+		{
+			int numEdges = 0;
+			for (int i = 0; i < vertices.length; i++)
+			{
+				if (graph.containsEdge(vertices[i], probeTargets[i]))
+				{
+					numEdges++;
+				}
+			}
+			return numEdges;
+		}
+	}
+
+	private static final class CountingVisitor<V extends Vertex> implements NeighborVisitor<V>
+	{
+		private long sum;
+
+		public boolean visit(V neighbor)
+		{
+			sum += neighbor.hashCode();
+			return true;
+		}
+	}
+
+}